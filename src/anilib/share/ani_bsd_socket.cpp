@@ -363,6 +363,54 @@ EXIT:
   KNI_ReturnInt(result);
 }
 
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_socket_Protocol_writeGathered() {
+  int result = -1;
+  SocketBufferParameter *p;
+
+  if (!ANI_Start()) {
+    ANI_Wait();
+    KNI_ReturnInt(-1);
+  }
+
+  p = (SocketBufferParameter *) ANI_GetParameterBlock(NULL);
+  if (p == NULL) {
+    int len1 = KNI_GetParameterAsInt(4);
+    int len2 = KNI_GetParameterAsInt(7);
+    p = new_buffer_parameter(/*fd*/ KNI_GetParameterAsInt(1),
+                             /*buffer_size*/ len1 + len2);
+    // The parameter block may have been truncated: copy only what fits.
+    if (len1 > p->buffer_size) {
+      len1 = p->buffer_size;
+    }
+    if (len2 > p->buffer_size - len1) {
+      len2 = p->buffer_size - len1;
+    }
+    KNI_StartHandles(1);
+    KNI_DeclareHandle(buffer_object);
+    KNI_GetParameterAsObject(2, buffer_object);
+    KNI_GetRawArrayRegion(buffer_object, /*offset*/ KNI_GetParameterAsInt(3),
+                          len1, (jbyte *) p->buffer);
+    KNI_GetParameterAsObject(5, buffer_object);
+    KNI_GetRawArrayRegion(buffer_object, /*offset*/ KNI_GetParameterAsInt(6),
+                          len2, (jbyte *) p->buffer + len1);
+    KNI_EndHandles();
+
+    if (!ANI_UseFunction(asynchronous_socket_write,
+                         /*try_non_blocking*/ KNI_FALSE)) {
+      try_count ++;
+      ANI_BlockThread();
+      goto EXIT;
+    }
+  }
+
+  result = p->buffer_size;
+
+EXIT:
+  ANI_End();
+  KNI_ReturnInt(result);
+}
+
 KNIEXPORT KNI_RETURNTYPE_INT
 Java_com_sun_cldc_io_j2me_socket_Protocol_writeByte() {
   int result = -1;
@@ -401,6 +449,77 @@ Java_com_sun_cldc_io_j2me_socket_Protocol_available0() {
   return (jint) 0; // IMPL_NOTE: use select() .....
 }
 
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_socket_Protocol_listen0() {
+  struct sockaddr_in local_sin;
+  int fd;
+
+  init_sockets();
+
+  fd = socket(AF_INET, SOCK_STREAM, 0);
+  if (fd < 0) {
+    KNI_ReturnInt(-1);
+  }
+  memset(&local_sin, 0, sizeof(local_sin));
+  local_sin.sin_family = AF_INET;
+  local_sin.sin_addr.s_addr = htonl(INADDR_ANY);
+  local_sin.sin_port = htons((short)KNI_GetParameterAsInt(1));
+  if (bind(fd, (struct sockaddr *) &local_sin, sizeof(local_sin)) != 0 ||
+      listen(fd, KNI_GetParameterAsInt(2)) != 0) {
+    closesocket(fd);
+    fd = -1;
+  }
+  KNI_ReturnInt(fd);
+}
+
+typedef struct {
+  int fd;
+  int result;
+} SocketAcceptParameter;
+
+static jboolean
+asynchronous_socket_accept(void *parameter, jboolean is_non_blocking) {
+  SocketAcceptParameter *p = (SocketAcceptParameter *) parameter;
+  p->result = accept(p->fd, NULL, NULL);
+  if (p->result < 0) {
+    if (GET_LAST_ERROR() == EWOULDBLOCK && is_non_blocking) {
+      return KNI_FALSE;
+    }
+  }
+  return KNI_TRUE;
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_socket_Protocol_accept0() {
+  int result = -1;
+  SocketAcceptParameter *p;
+
+  if (!ANI_Start()) {
+    ANI_Wait();
+    KNI_ReturnInt(-1);
+  }
+
+  p = (SocketAcceptParameter *) ANI_GetParameterBlock(NULL);
+  if (p == NULL) {
+    p = (SocketAcceptParameter *)
+        ANI_AllocateParameterBlock(sizeof(SocketAcceptParameter));
+    p->fd = KNI_GetParameterAsInt(1);
+    p->result = -1;
+
+    if (!ANI_UseFunction(asynchronous_socket_accept,
+                         /*try_non_blocking*/ KNI_FALSE)) {
+      ANI_BlockThread();
+      goto EXIT;
+    }
+  }
+
+  result = p->result;
+
+EXIT:
+  ANI_End();
+  KNI_ReturnInt(result);
+}
+
 KNIEXPORT KNI_RETURNTYPE_VOID
 Java_com_sun_cldc_io_j2me_socket_Protocol_close0() {
   jint sock = KNI_GetParameterAsInt(1);
@@ -270,10 +270,66 @@ public class Helper {
     }
 
     /*
-     * Cached variables for byteToCharArray
+     * Converters used by byteToCharArray and charToByteArray, cached as
+     * pairs of encoding name and converter. The arrays are replaced and
+     * never modified, so they are read without a lock. Converters that
+     * keep state synchronize in bytesToChars/charsToBytes themselves.
      */
-    private static String lastReaderEncoding;
-    private static StreamReader  lastReader;
+    private static final int MAX_CACHED_ENCODINGS = 8;
+    private static Object[] readerCache = new Object[0];
+    private static Object[] writerCache = new Object[0];
+
+    /**
+     * Get the cached reader for an encoding
+     *
+     * @param  enc             The character encoding
+     * @return                 A reader shared by all callers
+     * @exception UnsupportedEncodingException  If the encoding is not known
+     */
+    private static StreamReader getCachedReader(String enc) throws UnsupportedEncodingException {
+        Object[] cache = readerCache;
+        for (int i = 0; i < cache.length; i += 2) {
+            if (enc.equals(cache[i])) {
+                return (StreamReader)cache[i + 1];
+            }
+        }
+
+        StreamReader reader = getStreamReaderPrim(enc);
+        if (cache.length < MAX_CACHED_ENCODINGS * 2) {
+            Object[] newCache = new Object[cache.length + 2];
+            System.arraycopy(cache, 0, newCache, 0, cache.length);
+            newCache[cache.length] = enc;
+            newCache[cache.length + 1] = reader;
+            readerCache = newCache;
+        }
+        return reader;
+    }
+
+    /**
+     * Get the cached writer for an encoding
+     *
+     * @param  enc             The character encoding
+     * @return                 A writer shared by all callers
+     * @exception UnsupportedEncodingException  If the encoding is not known
+     */
+    private static StreamWriter getCachedWriter(String enc) throws UnsupportedEncodingException {
+        Object[] cache = writerCache;
+        for (int i = 0; i < cache.length; i += 2) {
+            if (enc.equals(cache[i])) {
+                return (StreamWriter)cache[i + 1];
+            }
+        }
+
+        StreamWriter writer = getStreamWriterPrim(enc);
+        if (cache.length < MAX_CACHED_ENCODINGS * 2) {
+            Object[] newCache = new Object[cache.length + 2];
+            System.arraycopy(cache, 0, newCache, 0, cache.length);
+            newCache[cache.length] = enc;
+            newCache[cache.length + 1] = writer;
+            writerCache = newCache;
+        }
+        return writer;
+    }
 
     /**
      * Convert a byte array to a char array
@@ -285,7 +341,7 @@ public class Helper {
      * @return                 A new char array
      * @exception UnsupportedEncodingException  If the encoding is not known
      */
-    public static synchronized char[] byteToCharArray(byte[] buffer, int offset, int length, String enc) throws UnsupportedEncodingException {
+    public static char[] byteToCharArray(byte[] buffer, int offset, int length, String enc) throws UnsupportedEncodingException {
         if (offset < 0) {
             throw new IndexOutOfBoundsException(
 /* #ifdef VERBOSE_EXCEPTIONS */
@@ -318,49 +374,16 @@ public class Helper {
             return value;
         }
 
-        /* If we don't have a cached reader then make one */
-        if (lastReaderEncoding == null || !lastReaderEncoding.equals(enc)) {
-            lastReader = getStreamReaderPrim(enc);
-            lastReaderEncoding = enc;
-        }
+        StreamReader reader = getCachedReader(enc);
 
         /* Ask the reader for the size the output will be */
-        int size = lastReader.sizeOf(buffer, offset, length);
-
-        /* Allocate a buffer of that size */
-        char[] outbuf = new char[size];
+        char[] outbuf = new char[reader.sizeOf(buffer, offset, length)];
 
-        /* Open the reader on a ByteArrayInputStream */
-        lastReader.open(new ByteArrayInputStream(buffer, offset, length), enc);
-
-        try {
-            /* Read the input */
-            int numread = lastReader.read(outbuf, 0, size);
-            if (numread<size) {
-                // this may happen only if the last character is truncated
-                // (say, it should be of 3 bytes, but there are only 2).
-                lastReader.read(outbuf, numread, size-numread);
-            }
-            /* Close the reader */
-            lastReader.close();
-        } catch(IOException x) {
-            throw new RuntimeException(
-/* #ifdef VERBOSE_EXCEPTIONS */
-/// skipped                       "IOException reading reader "+x.getMessage()
-/* #endif */
-            );
-        }
-
-        /* And return the buffer */
+        /* Convert straight into the buffer and return it */
+        reader.bytesToChars(buffer, offset, length, outbuf, 0);
         return outbuf;
     }
 
-    /*
-     * Cached variables for charToByteArray
-     */
-    private static String lastWriterEncoding;
-    private static StreamWriter lastWriter;
-
     /**
      * Convert a char array to a byte array
      *
@@ -371,7 +394,7 @@ public class Helper {
      * @return                 A new byte array
      * @exception UnsupportedEncodingException  If the encoding is not known
      */
-    public static synchronized byte[] charToByteArray(char[] buffer, int offset, int length, String enc) throws UnsupportedEncodingException {
+    public static byte[] charToByteArray(char[] buffer, int offset, int length, String enc) throws UnsupportedEncodingException {
 
         //Because most cases use ISO8859_1 encoding, we can optimize this case.
         if(enc.compareTo("ISO8859_1") == 0) {
@@ -384,41 +407,21 @@ public class Helper {
             return value;
         }
 
-        /* If we don't have a cached writer then make one */
-        if(lastWriterEncoding == null || !lastWriterEncoding.equals(enc)) {
-            lastWriter = getStreamWriterPrim(enc);
-            lastWriterEncoding = enc;
-        }
+        StreamWriter writer = getCachedWriter(enc);
 
         /* Ask the writer for the size the output will be */
-        int size = lastWriter.sizeOf(buffer, offset, length);
-
-        /* Get the output stream */
-        ByteArrayOutputStream os = new ByteArrayOutputStream(size);
+        byte[] outbuf = new byte[writer.sizeOf(buffer, offset, length)];
 
-        /* Open the writer */
-        lastWriter.open(os, enc);
+        /* Convert straight into the buffer */
+        int size = writer.charsToBytes(buffer, offset, length, outbuf, 0);
 
-        try {
-            /* Convert */
-            lastWriter.write(buffer, offset, length);
-            /* Close the writer */
-            lastWriter.close();
-        } catch(IOException x) {
-            throw new RuntimeException(
-/* #ifdef VERBOSE_EXCEPTIONS */
-/// skipped                       "IOException writing writer "+x.getMessage()
-/* #endif */
-            );
+        /* Return the array, trimmed if the estimate was too large */
+        if (size != outbuf.length) {
+            byte[] trimmed = new byte[size];
+            System.arraycopy(outbuf, 0, trimmed, 0, size);
+            outbuf = trimmed;
         }
-
-        /* Close the output stream */
-        try {
-            os.close();
-        } catch(IOException x) {};
-
-        /* Return the array */
-        return os.toByteArray();
+        return outbuf;
     }
 
     /**
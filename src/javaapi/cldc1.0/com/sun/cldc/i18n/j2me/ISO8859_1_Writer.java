@@ -85,4 +85,17 @@ public class ISO8859_1_Writer extends StreamWriter {
         return length;
     }
 
+    /**
+     * Convert an array of chars to bytes. This writer keeps no state,
+     * so no lock is taken.
+     */
+    public int charsToBytes(char[] src, int srcOff, int srcLen,
+                            byte[] dst, int dstOff) {
+        for (int i = 0; i < srcLen; i++) {
+            char c = src[srcOff + i];
+            dst[dstOff + i] = (c <= 255) ? (byte)c : (byte)'?';
+        }
+        return srcLen;
+    }
+
 }
@@ -56,6 +56,25 @@ public class Protocol implements ConnectionBaseInterface, StreamConnection {
     /** Output stream open flag */
     protected boolean osopen = false;
 
+    /** Default size of the read-ahead buffer */
+    static final int DEFAULT_BUFFER_SIZE = 512;
+
+    /** Size of the input stream read-ahead buffer, 0 if unbuffered */
+    int readBufferSize = DEFAULT_BUFFER_SIZE;
+
+    /**
+     * Size of the output stream write buffer, 0 if unbuffered.  Writes
+     * are not buffered by default, so that a request written before a
+     * blocking read goes out without an explicit flush().
+     */
+    int writeBufferSize = 0;
+
+    /** Default length of the queue of pending connections of a server */
+    static final int DEFAULT_BACKLOG = 50;
+
+    /** Length of the queue of pending connections of a server */
+    int backlog = DEFAULT_BACKLOG;
+
     /**
      * Open the connection
      */
@@ -72,7 +91,16 @@ public class Protocol implements ConnectionBaseInterface, StreamConnection {
     /**
      * Open the connection
      * @param name the target for the connection. It must be in this
-     *        format: "//<name or IP number>:<port number>"
+     *        format: "//<name or IP number>:<port number>", optionally
+     *        followed by ";readbuffer=<size>" and/or ";writebuffer=<size>"
+     *        to size the stream buffers of this connection (0 disables
+     *        buffering). Reads are buffered by default; writes are only
+     *        buffered when ";writebuffer=<size>" is given.
+     *        "//:<port number>" opens a server socket that listens on
+     *        the port and returns a StreamConnectionNotifier;
+     *        ";backlog=<length>" sets the length of its queue of pending
+     *        connections, and the buffer sizes apply to the accepted
+     *        connections.
      * @param mode read/write mode of the connection (currently ignored).
      * @param timeouts A flag to indicate that the called wants timeout
      *        exceptions (currently ignored).
@@ -97,7 +125,13 @@ public class Protocol implements ConnectionBaseInterface, StreamConnection {
         String hostname = name.substring(2, i);
         int port;
         try {
-            port = Integer.parseInt(name.substring(i+1));
+            int params = name.indexOf(';', i);
+            if (params < 0) {
+                port = Integer.parseInt(name.substring(i+1));
+            } else {
+                port = Integer.parseInt(name.substring(i+1, params));
+                parseParameters(name.substring(params + 1));
+            }
         } catch (NumberFormatException e) {
             throw new IOException(
 /* #ifdef VERBOSE_EXCEPTIONS */
@@ -105,6 +139,9 @@ public class Protocol implements ConnectionBaseInterface, StreamConnection {
 /* #endif */
             );
         }
+        if (hostname.length() == 0) {
+            return new ServerSocketNotifier(this, port, mode);
+        }
         // cstring is always NUL terminated (note the extra byte allocated).
         // This avoids awkward char array manipulation in C code.
         byte cstring[] = new byte[hostname.length() + 1];
@@ -125,11 +162,47 @@ public class Protocol implements ConnectionBaseInterface, StreamConnection {
         return this;
      }
 
+    /**
+     * Parse the buffer size parameters of the connection name.
+     * @param params the part of the name after the first ';'
+     * @exception NumberFormatException if a size is not a number
+     * @exception IOException if a parameter is not recognized
+     */
+    private void parseParameters(String params) throws IOException {
+        int start = 0;
+        while (start < params.length()) {
+            int end = params.indexOf(';', start);
+            if (end < 0) {
+                end = params.length();
+            }
+            String param = params.substring(start, end);
+            int eq = param.indexOf('=');
+            String key = (eq < 0) ? param : param.substring(0, eq);
+            int size = (eq < 0) ? -1 : Integer.parseInt(param.substring(eq + 1));
+            if (size < 0) {
+                throw new NumberFormatException();
+            } else if (key.equals("readbuffer")) {
+                readBufferSize = size;
+            } else if (key.equals("writebuffer")) {
+                writeBufferSize = size;
+            } else if (key.equals("backlog")) {
+                backlog = size;
+            } else {
+                throw new IOException(
+/* #ifdef VERBOSE_EXCEPTIONS */
+/// skipped                       "bad socket connection name: unknown parameter"
+/* #endif */
+                );
+            }
+            start = end + 1;
+        }
+    }
+
     /**
      * Open the connection
      * @param handle an already formed socket handle
      * <p>
-     * This function is only used by com.sun.cldc.io.j2me.socketserver;
+     * This function is only used by ServerSocketNotifier.
      */
     public void open(int handle, int mode) throws IOException {
         this.handle = handle;
@@ -266,8 +339,28 @@ public class Protocol implements ConnectionBaseInterface, StreamConnection {
     protected static native int readByte(int handle);
     protected static native int writeBuf(int handle, byte b[], int off,
                                           int len);
+    /**
+     * Writes len1 bytes of b1 followed by len2 bytes of b2 with a single
+     * system call where the platform allows it.
+     * @return the total number of bytes written, which may be less than
+     *         len1 + len2, or -1 if an error occurred
+     */
+    protected static native int writeGathered(int handle,
+                                              byte b1[], int off1, int len1,
+                                              byte b2[], int off2, int len2);
     protected static native int writeByte(int handle, int b);
     protected static native int available0(int handle);
+    /**
+     * Opens a server socket listening on the port.
+     * @return the socket handle, or -1 if an error occurred
+     */
+    protected static native int listen0(int port, int backlog);
+    /**
+     * Accepts a connection on a server socket, blocking the calling
+     * thread until there is one.
+     * @return the handle of the connection, or -1 if an error occurred
+     */
+    protected static native int accept0(int handle);
     protected static native void close0(int handle);
 }
 
@@ -286,6 +379,21 @@ class PrivateInputStream extends InputStream {
      */
     boolean eof = false;
 
+    /**
+     * Read-ahead buffer, or null if the connection is unbuffered
+     */
+    private byte buf[];
+
+    /**
+     * Index of the next byte to be read from the buffer
+     */
+    private int pos;
+
+    /**
+     * Number of valid bytes in the buffer
+     */
+    private int count;
+
     /**
      * Constructor
      * @param pointer to the connection object
@@ -294,6 +402,9 @@ class PrivateInputStream extends InputStream {
      */
     /* public */ PrivateInputStream(Protocol parent) throws IOException {
         this.parent = parent;
+        if (parent.readBufferSize > 0) {
+            buf = new byte[parent.readBufferSize];
+        }
     }
 
     /**
@@ -326,10 +437,19 @@ class PrivateInputStream extends InputStream {
     synchronized public int read() throws IOException {
         int res;
         ensureOpen();
+        if (pos < count) {
+            return buf[pos++] & 0xff;
+        }
         if (eof) {
             return -1;
         }
-        res = parent.readByte(parent.handle);
+        if (buf == null) {
+            res = parent.readByte(parent.handle);
+        } else if (fill()) {
+            res = buf[pos++] & 0xff;
+        } else {
+            res = -1;
+        }
         if (res == -1) {
             eof = true;
         }
@@ -339,6 +459,22 @@ class PrivateInputStream extends InputStream {
         return res;
     }
 
+    /**
+     * Refill the read-ahead buffer with whatever the socket has available,
+     * waiting for at least one byte.
+     *
+     * @return     <code>false</code> if the end of the stream was reached.
+     */
+    private boolean fill() {
+        pos = 0;
+        count = parent.readBuf(parent.handle, buf, 0, buf.length);
+        if (count < 0) {
+            count = 0;
+            return false;
+        }
+        return true;
+    }
+
     /**
      * Reads up to <code>len</code> bytes of data from the input stream into
      * an array of bytes.
@@ -360,7 +496,7 @@ class PrivateInputStream extends InputStream {
     synchronized public int read(byte b[], int off, int len)
             throws IOException {
         ensureOpen();
-        if (eof) {
+        if (eof && pos == count) {
             return -1;
         }
         if (len == 0) {
@@ -370,21 +506,38 @@ class PrivateInputStream extends InputStream {
         // so that the native code doesn't need to do it
         int test = b[off] + b[off + len - 1];
 
-        int n = 0;
-        while (n < len) {
-            int count = parent.readBuf(parent.handle, b, off + n, len - n);
-            if (count == -1) {
-                eof = true;
-                if (n == 0) {
-                    n = -1;
-                }
-                break;
+        // Take what has been read ahead first
+        int n = count - pos;
+        if (n > 0) {
+            if (n > len) {
+                n = len;
             }
-            n += count;
-            if (n == len) {
-                break;
+            System.arraycopy(buf, pos, b, off, n);
+            pos += n;
+        }
+        while (n < len && !eof) {
+            if (buf != null && len - n < buf.length) {
+                // Small read: read ahead as much as is available
+                if (!fill()) {
+                    eof = true;
+                    break;
+                }
+                int copy = count < len - n ? count : len - n;
+                System.arraycopy(buf, 0, b, off + n, copy);
+                pos = copy;
+                n += copy;
+            } else {
+                int res = parent.readBuf(parent.handle, b, off + n, len - n);
+                if (res == -1) {
+                    eof = true;
+                    break;
+                }
+                n += res;
             }
         }
+        if (n == 0 && eof) {
+            n = -1;
+        }
         if (parent == null) {
             throw new InterruptedIOException();
         }
@@ -401,7 +554,7 @@ class PrivateInputStream extends InputStream {
      */
     synchronized public int available() throws IOException {
         ensureOpen();
-        return parent.available0(parent.handle);
+        return (count - pos) + parent.available0(parent.handle);
     }
 
     /**
@@ -429,6 +582,16 @@ class PrivateOutputStream extends OutputStream {
      */
     private Protocol parent;
 
+    /**
+     * Write buffer, or null if the connection is unbuffered
+     */
+    private byte buf[];
+
+    /**
+     * Number of bytes waiting in the buffer
+     */
+    private int count;
+
     /**
      * Constructor
      * @param pointer to the connection object
@@ -437,6 +600,9 @@ class PrivateOutputStream extends OutputStream {
      */
     /* public */ PrivateOutputStream(Protocol parent) throws IOException {
         this.parent = parent;
+        if (parent.writeBufferSize > 0) {
+            buf = new byte[parent.writeBufferSize];
+        }
     }
 
     /**
@@ -469,6 +635,13 @@ class PrivateOutputStream extends OutputStream {
      */
     synchronized public void write(int b) throws IOException {
         ensureOpen();
+        if (buf != null) {
+            buf[count++] = (byte)b;
+            if (count == buf.length) {
+                flushBuffer();
+            }
+            return;
+        }
         while (true) {
             int res = parent.writeByte(parent.handle, b);
             if (res != 0) {
@@ -505,6 +678,24 @@ class PrivateOutputStream extends OutputStream {
         // so that the native code doesn't need to do it
         int test = b[off] + b[off + len - 1];
 
+        if (buf != null) {
+            if (len < buf.length) {
+                if (len > buf.length - count) {
+                    flushBuffer();
+                }
+                System.arraycopy(b, off, buf, count, len);
+                count += len;
+                if (count == buf.length) {
+                    flushBuffer();
+                }
+            } else {
+                // Send what's buffered (e.g., a record header) and the
+                // payload together
+                writeGathered(b, off, len);
+            }
+            return;
+        }
+
         int n = 0;
         while (true) {
             n += parent.writeBuf(parent.handle, b, off + n, len - n);
@@ -514,6 +705,77 @@ class PrivateOutputStream extends OutputStream {
         }
     }
 
+    /**
+     * Flushes this output stream, writing out the buffered bytes.
+     *
+     * @exception  IOException  if an I/O error occurs.
+     */
+    synchronized public void flush() throws IOException {
+        ensureOpen();
+        if (count > 0) {
+            flushBuffer();
+        }
+    }
+
+    /**
+     * Write out the whole buffer.
+     *
+     * @exception  IOException  if the socket reported an error.
+     */
+    private void flushBuffer() throws IOException {
+        int n = 0;
+        while (n < count) {
+            int res = parent.writeBuf(parent.handle, buf, n, count - n);
+            if (res < 0) {
+                count = 0;
+                throwWriteFailed();
+            }
+            n += res;
+        }
+        count = 0;
+    }
+
+    /**
+     * Write out the buffer followed by <code>len</code> bytes of
+     * <code>b</code>, using one system call for both if possible.
+     *
+     * @exception  IOException  if the socket reported an error.
+     */
+    private void writeGathered(byte b[], int off, int len)
+            throws IOException {
+        int start = 0;
+        int n = 0;
+        while (start < count) {
+            int res = parent.writeGathered(parent.handle, buf, start,
+                                           count - start, b, off, len);
+            if (res < 0) {
+                count = 0;
+                throwWriteFailed();
+            }
+            start += res;
+            if (start > count) {
+                n = start - count;
+                start = count;
+            }
+        }
+        count = 0;
+        while (n < len) {
+            int res = parent.writeBuf(parent.handle, b, off + n, len - n);
+            if (res < 0) {
+                throwWriteFailed();
+            }
+            n += res;
+        }
+    }
+
+    private static void throwWriteFailed() throws IOException {
+        throw new IOException(
+/* #ifdef VERBOSE_EXCEPTIONS */
+/// skipped                   "write failed"
+/* #endif */
+        );
+    }
+
     /**
      * Close the stream.
      *
@@ -522,9 +784,13 @@ class PrivateOutputStream extends OutputStream {
     public void close() throws IOException {
         if (parent != null) {
             ensureOpen();
-            parent.realClose();
-            parent.osopen = false;
-            parent = null;
+            try {
+                flush();
+            } finally {
+                parent.realClose();
+                parent.osopen = false;
+                parent = null;
+            }
         }
     }
 
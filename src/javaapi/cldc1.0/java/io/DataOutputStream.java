@@ -26,6 +26,8 @@
 
 package java.io;
 
+import com.sun.cldchi.jvm.JVM;
+
 /**
  * A data input stream lets an application write primitive Java data
  * types to an output stream in a portable way. An application can
@@ -43,6 +45,17 @@ class DataOutputStream extends OutputStream implements DataOutput {
      */
     protected OutputStream out;
 
+    /**
+     * Largest scratch buffer for <code>writeUTF</code> that is kept
+     * between calls.
+     */
+    private static final int UTF_BUFFER_LIMIT = 4096;
+
+    /**
+     * Scratch buffer for the bytes of <code>writeUTF</code>, or null.
+     */
+    private byte utfBuffer[];
+
     /**
      * Creates a new data output stream to write data to the specified
      * underlying output stream.
@@ -243,44 +256,31 @@ class DataOutputStream extends OutputStream implements DataOutput {
      * @exception  IOException  if an I/O error occurs.
      */
     static final int writeUTF(String str, DataOutput out) throws IOException {
-        int strlen = str.length();
-        int utflen = 0;
-        char[] charr = new char[strlen];
-        int c, count = 0;
+        int utflen = JVM.utfLength(str);
 
-        str.getChars(0, strlen, charr, 0);
-
-        for (int i = 0; i < strlen; i++) {
-            c = charr[i];
-            if ((c >= 0x0001) && (c <= 0x007F)) {
-                utflen++;
-            } else if (c > 0x07FF) {
-                utflen += 3;
-            } else {
-                utflen += 2;
-            }
-        }
-
-        if (utflen > 65535)
+        if (utflen > 65535) {
             throw new UTFDataFormatException();
+        }
 
-        byte[] bytearr = new byte[utflen+2];
-        bytearr[count++] = (byte) ((utflen >>> 8) & 0xFF);
-        bytearr[count++] = (byte) ((utflen >>> 0) & 0xFF);
-        for (int i = 0; i < strlen; i++) {
-            c = charr[i];
-            if ((c >= 0x0001) && (c <= 0x007F)) {
-                bytearr[count++] = (byte) c;
-            } else if (c > 0x07FF) {
-                bytearr[count++] = (byte) (0xE0 | ((c >> 12) & 0x0F));
-                bytearr[count++] = (byte) (0x80 | ((c >>  6) & 0x3F));
-                bytearr[count++] = (byte) (0x80 | ((c >>  0) & 0x3F));
-            } else {
-                bytearr[count++] = (byte) (0xC0 | ((c >>  6) & 0x1F));
-                bytearr[count++] = (byte) (0x80 | ((c >>  0) & 0x3F));
-            }
+        // Take the buffer of a DataOutputStream, so that concurrent
+        // calls don't share it
+        DataOutputStream dout = null;
+        byte[] bytearr = null;
+        if (out instanceof DataOutputStream) {
+            dout = (DataOutputStream)out;
+            bytearr = dout.utfBuffer;
+            dout.utfBuffer = null;
+        }
+        if (bytearr == null || bytearr.length < utflen + 2) {
+            bytearr = new byte[utflen + 2];
+        }
+        bytearr[0] = (byte) ((utflen >>> 8) & 0xFF);
+        bytearr[1] = (byte) ((utflen >>> 0) & 0xFF);
+        JVM.encodeUTF(str, bytearr, 2);
+        out.write(bytearr, 0, utflen + 2);
+        if (dout != null && bytearr.length <= UTF_BUFFER_LIMIT) {
+            dout.utfBuffer = bytearr;
         }
-        out.write(bytearr);
 
         return utflen + 2;
     }
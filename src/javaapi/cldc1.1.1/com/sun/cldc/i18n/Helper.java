@@ -27,6 +27,8 @@
 package com.sun.cldc.i18n;
 
 import java.io.*;
+import com.sun.cldc.i18n.j2me.UTF_8_Reader;
+import com.sun.cldc.i18n.j2me.UTF_8_Writer;
 
 /**
  * This class provides general helper functions for the J2ME environment.
@@ -281,10 +283,70 @@ public class Helper {
     }
 
     /*
-     * Cached variables for byteToCharArray
+     * Converters used by byteToCharArray and charToByteArray, cached as
+     * pairs of encoding name and converter. The arrays are replaced and
+     * never modified, so they are read without a lock. Converters that
+     * keep state synchronize in bytesToChars/charsToBytes themselves.
      */
-    private static String lastReaderEncoding;
-    private static StreamReader  lastReader;
+    private static final int MAX_CACHED_ENCODINGS = 8;
+    private static Object[] readerCache = new Object[0];
+    private static Object[] writerCache = new Object[0];
+
+    /**
+     * Get the cached reader for an encoding
+     *
+     * @param  enc             The character encoding
+     * @return                 A reader shared by all callers
+     * @exception UnsupportedEncodingException  If the encoding is not known
+     */
+    private static StreamReader getCachedReader(String enc)
+        throws UnsupportedEncodingException {
+
+        Object[] cache = readerCache;
+        for (int i = 0; i < cache.length; i += 2) {
+            if (enc.equals(cache[i])) {
+                return (StreamReader)cache[i + 1];
+            }
+        }
+
+        StreamReader reader = getStreamReaderPrim(enc);
+        if (cache.length < MAX_CACHED_ENCODINGS * 2) {
+            Object[] newCache = new Object[cache.length + 2];
+            System.arraycopy(cache, 0, newCache, 0, cache.length);
+            newCache[cache.length] = enc;
+            newCache[cache.length + 1] = reader;
+            readerCache = newCache;
+        }
+        return reader;
+    }
+
+    /**
+     * Get the cached writer for an encoding
+     *
+     * @param  enc             The character encoding
+     * @return                 A writer shared by all callers
+     * @exception UnsupportedEncodingException  If the encoding is not known
+     */
+    private static StreamWriter getCachedWriter(String enc)
+        throws UnsupportedEncodingException {
+
+        Object[] cache = writerCache;
+        for (int i = 0; i < cache.length; i += 2) {
+            if (enc.equals(cache[i])) {
+                return (StreamWriter)cache[i + 1];
+            }
+        }
+
+        StreamWriter writer = getStreamWriterPrim(enc);
+        if (cache.length < MAX_CACHED_ENCODINGS * 2) {
+            Object[] newCache = new Object[cache.length + 2];
+            System.arraycopy(cache, 0, newCache, 0, cache.length);
+            newCache[cache.length] = enc;
+            newCache[cache.length + 1] = writer;
+            writerCache = newCache;
+        }
+        return writer;
+    }
 
     /**
      * Convert a byte array to a char array
@@ -296,7 +358,7 @@ public class Helper {
      * @return                 A new char array
      * @exception UnsupportedEncodingException  If the encoding is not known
      */
-    public static synchronized char[] byteToCharArray(byte[] buffer, int offset,
+    public static char[] byteToCharArray(byte[] buffer, int offset,
         int length, String enc) throws UnsupportedEncodingException {
 
         if (offset < 0) {
@@ -333,44 +395,23 @@ public class Helper {
             return value;
         }
 
-        /* If we don't have a cached reader then make one */
-        if (lastReaderEncoding == null || !lastReaderEncoding.equals(enc)) {
-            lastReader = getStreamReaderPrim(enc);
-            lastReaderEncoding = enc;
+        if (isUTF8(enc)) {
+            char[] value = new char[UTF_8_Reader.decodedLength(buffer, offset,
+                                                               length)];
+            UTF_8_Reader.decode(buffer, offset, length, value, 0);
+            return value;
         }
 
-        /* Ask the reader for the size the output will be */
-        int size = lastReader.sizeOf(buffer, offset, length);
-
-        /* Allocate a buffer of that size */
-        char[] outbuf = new char[size];
-
-        /* Open the reader on a ByteArrayInputStream */
-        lastReader.open(new ByteArrayInputStream(buffer, offset, length), enc);
+        StreamReader reader = getCachedReader(enc);
 
-        try {
-            /* Read the input */
-            lastReader.read(outbuf, 0, size);
-            /* Close the reader */
-            lastReader.close();
-        } catch(IOException x) {
-            throw new RuntimeException(
-/* #ifdef VERBOSE_EXCEPTIONS */
-/// skipped                       "IOException reading reader " +x.getMessage()
-/* #endif */
-            );
-        }
+        /* Ask the reader for the size the output will be */
+        char[] outbuf = new char[reader.sizeOf(buffer, offset, length)];
 
-        /* And return the buffer */
+        /* Convert straight into the buffer and return it */
+        reader.bytesToChars(buffer, offset, length, outbuf, 0);
         return outbuf;
     }
 
-    /*
-     * Cached variables for charToByteArray
-     */
-    private static String lastWriterEncoding;
-    private static StreamWriter lastWriter;
-
     /**
      * Convert a char array to a byte array
      *
@@ -381,9 +422,34 @@ public class Helper {
      * @return                 A new byte array
      * @exception UnsupportedEncodingException  If the encoding is not known
      */
-    public static synchronized byte[] charToByteArray(char[] buffer, int offset,
+    public static byte[] charToByteArray(char[] buffer, int offset,
         int length, String enc) throws UnsupportedEncodingException {
-        
+
+        if (offset < 0) {
+            throw new IndexOutOfBoundsException(
+/* #ifdef VERBOSE_EXCEPTIONS */
+/// skipped                       Integer.toString(offset)
+/* #endif */
+            );
+        }
+
+        if (length < 0) {
+            throw new IndexOutOfBoundsException(
+/* #ifdef VERBOSE_EXCEPTIONS */
+/// skipped                       Integer.toString(length)
+/* #endif */
+            );
+        }
+
+        /* Note: offset or length might be near -1>>>1 */
+        if (offset > buffer.length - length) {
+            throw new IndexOutOfBoundsException(
+/* #ifdef VERBOSE_EXCEPTIONS */
+/// skipped                       Integer.toString(offset + length)
+/* #endif */
+            );
+        }
+
         //Because most cases use ISO8859_1 encoding, we can optimize this case.
         if(enc.compareTo("ISO8859_1") == 0) {
             char c;
@@ -395,42 +461,41 @@ public class Helper {
             return value;
         }
 
-        /* If we don't have a cached writer then make one */
-        if (lastWriterEncoding == null || !lastWriterEncoding.equals(enc)) {
-            lastWriter = getStreamWriterPrim(enc);
-            lastWriterEncoding = enc;
+        if (isUTF8(enc)) {
+            byte[] value = new byte[UTF_8_Writer.encodedLength(buffer, offset,
+                                                               length)];
+            UTF_8_Writer.encode(buffer, offset, length, value, 0);
+            return value;
         }
 
-        /* Ask the writer for the size the output will be */
-        int size = lastWriter.sizeOf(buffer, offset, length);
+        StreamWriter writer = getCachedWriter(enc);
 
-        /* Get the output stream */
-        ByteArrayOutputStream os = new ByteArrayOutputStream(size);
+        /* Ask the writer for the size the output will be */
+        byte[] outbuf = new byte[writer.sizeOf(buffer, offset, length)];
 
-        /* Open the writer */
-        lastWriter.open(os, enc);
+        /* Convert straight into the buffer */
+        int size = writer.charsToBytes(buffer, offset, length, outbuf, 0);
 
-        try {
-            /* Convert */
-            lastWriter.write(buffer, offset, length);
-            /* Close the writer */
-            lastWriter.close();
-        } catch(IOException x) {
-            throw new RuntimeException(
-/* #ifdef VERBOSE_EXCEPTIONS */
-/// skipped                       "IOException writing writer " 
-/// skipped                       +x.getMessage()
-/* #endif */
-            );
+        /* Return the array, trimmed if the estimate was too large */
+        if (size != outbuf.length) {
+            byte[] trimmed = new byte[size];
+            System.arraycopy(outbuf, 0, trimmed, 0, size);
+            outbuf = trimmed;
         }
+        return outbuf;
+    }
 
-        /* Close the output stream */
-        try {
-            os.close();
-        } catch(IOException x) {};
-
-        /* Return the array */
-        return os.toByteArray();
+    /**
+     * Tell whether an encoding name refers to UTF-8, without
+     * normalizing it.
+     *
+     * @param enc encoding name
+     *
+     * @return true if the encoding is UTF-8
+     */
+    private static boolean isUTF8(String enc) {
+        return enc.equalsIgnoreCase("UTF-8") || enc.equalsIgnoreCase("UTF8")
+            || enc.equalsIgnoreCase("UTF_8");
     }
 
     /**
@@ -460,6 +525,11 @@ public class Helper {
             return "ISO8859_1";
         }
 
+        // Alias used by J2SE.
+        if (internalName.equals("UTF8")) {
+            return "UTF_8";
+        }
+
         /*
          * Since IANA character encoding names can start with a digit
          * and that some Reader class names that do not match the standard
@@ -75,4 +75,41 @@ public abstract class StreamWriter extends Writer {
      */
     public abstract int sizeOf(char[] array, int offset, int length);
 
+    /**
+     * Convert an array of chars to bytes without going through the
+     * output stream. <code>dst</code> must have room for the number of
+     * bytes returned by <code>sizeOf</code>.
+     * <p>
+     * This implementation opens the writer on a
+     * <code>ByteArrayOutputStream</code> and is synchronized on the
+     * writer. Writers that keep no state between calls should override
+     * it so that one instance can be shared by all threads.
+     *
+     * @param  src     The char array
+     * @param  srcOff  The offset of the first char
+     * @param  srcLen  The number of chars to convert
+     * @param  dst     The byte array
+     * @param  dstOff  The offset of the first byte to store
+     * @return         The number of bytes stored
+     */
+    public synchronized int charsToBytes(char[] src, int srcOff, int srcLen,
+                                         byte[] dst, int dstOff) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream(srcLen);
+        try {
+            open(os, null);
+            write(src, srcOff, srcLen);
+            close();
+        } catch(IOException x) {
+            throw new RuntimeException(
+/* #ifdef VERBOSE_EXCEPTIONS */
+/// skipped                       "IOException writing writer "
+/// skipped                       +x.getMessage()
+/* #endif */
+            );
+        }
+        byte[] bytes = os.toByteArray();
+        System.arraycopy(bytes, 0, dst, dstOff, bytes.length);
+        return bytes.length;
+    }
+
 }
@@ -87,4 +87,16 @@ public class ISO8859_1_Reader extends StreamReader {
         return length;
     }
 
+    /**
+     * Convert an array of bytes to chars. This reader keeps no state,
+     * so no lock is taken.
+     */
+    public int bytesToChars(byte[] src, int srcOff, int srcLen,
+                            char[] dst, int dstOff) {
+        for (int i = 0; i < srcLen; i++) {
+            dst[dstOff + i] = (char)(src[srcOff + i] & 0xFF);
+        }
+        return srcLen;
+    }
+
 }
@@ -0,0 +1,251 @@
+/*
+ *   
+ *
+ * Copyright  1990-2007 Sun Microsystems, Inc. All Rights Reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License version
+ * 2 only, as published by the Free Software Foundation.
+ * 
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License version 2 for more details (a copy is
+ * included at /legal/license.txt).
+ * 
+ * You should have received a copy of the GNU General Public License
+ * version 2 along with this work; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA
+ * 
+ * Please contact Sun Microsystems, Inc., 4150 Network Circle, Santa
+ * Clara, CA 95054 or visit www.sun.com if you need additional
+ * information or have any questions.
+ */
+
+
+package com.sun.cldc.i18n.j2me;
+
+import java.io.*;
+import com.sun.cldc.i18n.*;
+
+/**
+ * UTF-8 class for input stream readers. Whole buffers are decoded
+ * by a single native call; malformed input is replaced by U+FFFD.
+ */
+public class UTF_8_Reader extends StreamReader {
+
+    private static final int BBUF_LEN = 256;
+
+    /** Bytes read from the stream that are not yet decoded */
+    private byte bbuf[] = new byte[BBUF_LEN];
+
+    /** Number of valid bytes in bbuf */
+    private int bcount;
+
+    /**
+     * Decoded characters that did not fit into the caller's buffer.
+     * At most one truncated sequence is decoded here, so four
+     * characters are always enough.
+     */
+    private char spill[] = new char[4];
+
+    /** Index of the next character to return from spill */
+    private int spillPos;
+
+    /** Number of valid characters in spill */
+    private int spillCount;
+
+    /** Buffer used by read() */
+    private char single[] = new char[1];
+
+    /**
+     * Open the reader
+     */
+    public Reader open(InputStream in, String enc)
+        throws UnsupportedEncodingException {
+
+        bcount = 0;
+        spillPos = spillCount = 0;
+        return super.open(in, enc);
+    }
+
+    /**
+     * Read a single character.
+     *
+     * @exception  IOException  If an I/O error occurs
+     */
+    synchronized public int read() throws IOException {
+        if (spillPos < spillCount) {
+            return spill[spillPos++];
+        }
+        if (bcount == 0) {
+            int b = in.read();
+            if (b < 0x80) {
+                /* ASCII or end of stream */
+                return b;
+            }
+            bbuf[bcount++] = (byte)b;
+        }
+        return (read(single, 0, 1) == 1) ? single[0] : -1;
+    }
+
+    /**
+     * Read characters into a portion of an array.
+     *
+     * @exception  IOException  If an I/O error occurs
+     */
+    synchronized public int read(char cbuf[], int off, int len)
+        throws IOException {
+
+        if (off < 0 || len < 0 || off > cbuf.length - len) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        int count = 0;
+        while (spillPos < spillCount && count < len) {
+            cbuf[off + count++] = spill[spillPos++];
+        }
+
+        while (count < len) {
+            /*
+             * A UTF-8 sequence never decodes to more characters than it
+             * has bytes, so reading no more than the remaining room lets
+             * the native decode straight into the caller's buffer.
+             */
+            int room = len - count;
+            int nbytes = room - bcount;
+            if (nbytes < 1) {
+                nbytes = 1;
+            }
+            if (nbytes > BBUF_LEN - bcount) {
+                nbytes = BBUF_LEN - bcount;
+            }
+            nbytes = in.read(bbuf, bcount, nbytes);
+
+            int complete;
+            if (nbytes == -1) {
+                if (bcount == 0) {
+                    return (count == 0) ? -1 : count;
+                }
+                /* A truncated sequence at the end is decoded as malformed */
+                complete = bcount;
+            } else {
+                bcount += nbytes;
+                complete = bcount - incompleteTail(bbuf, bcount);
+                if (complete == 0) {
+                    continue;
+                }
+            }
+
+            if (complete <= room) {
+                count += decode(bbuf, 0, complete, cbuf, off + count);
+            } else {
+                spillCount = decode(bbuf, 0, complete, spill, 0);
+                spillPos = 0;
+                while (spillPos < spillCount && count < len) {
+                    cbuf[off + count++] = spill[spillPos++];
+                }
+            }
+
+            bcount -= complete;
+            if (bcount > 0) {
+                System.arraycopy(bbuf, complete, bbuf, 0, bcount);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Tell whether this stream is ready to be read.
+     */
+    public boolean ready() {
+        return spillPos < spillCount || super.ready();
+    }
+
+    /**
+     * Reset the stream.
+     *
+     * @exception  IOException  If an I/O error occurs
+     */
+    public void reset() throws IOException {
+        super.reset();
+        bcount = 0;
+        spillPos = spillCount = 0;
+    }
+
+    /**
+     * Get the size in chars of an array of bytes
+     */
+    public int sizeOf(byte[] array, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > array.length - length) {
+            throw new IndexOutOfBoundsException();
+        }
+        return decodedLength(array, offset, length);
+    }
+
+    /**
+     * Convert an array of bytes to chars. The conversion does not use
+     * the reader's buffers, so no lock is taken.
+     */
+    public int bytesToChars(byte[] src, int srcOff, int srcLen,
+                            char[] dst, int dstOff) {
+        if (srcOff < 0 || srcLen < 0 || srcOff > src.length - srcLen ||
+                dstOff < 0 || dstOff > dst.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        /* srcLen chars always fit; otherwise count them first */
+        if (dst.length - dstOff < srcLen &&
+                dst.length - dstOff < decodedLength(src, srcOff, srcLen)) {
+            throw new IndexOutOfBoundsException();
+        }
+        return decode(src, srcOff, srcLen, dst, dstOff);
+    }
+
+    /**
+     * Get the number of bytes at the end of a buffer that start
+     * a multi-byte sequence but do not complete it.
+     *
+     * @param  b    The byte buffer
+     * @param  end  The index after the last valid byte
+     * @return      The number of trailing bytes to keep for later
+     */
+    private static int incompleteTail(byte b[], int end) {
+        for (int i = 1; i <= 3 && i <= end; i++) {
+            int c = b[end - i] & 0xFF;
+            if ((c & 0xC0) != 0x80) {
+                int need = (c >= 0xF8) ? 1 :
+                           (c >= 0xF0) ? 4 :
+                           (c >= 0xE0) ? 3 :
+                           (c >= 0xC0) ? 2 : 1;
+                return (need > i) ? i : 0;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Decode UTF-8 bytes into characters. Malformed and truncated
+     * sequences are replaced by U+FFFD, supplementary characters are
+     * stored as surrogate pairs. The caller must check the array
+     * bounds, and <code>dst</code> must have room for
+     * <code>srcLen</code> characters.
+     *
+     * @param  src     The UTF-8 bytes
+     * @param  srcOff  The offset of the first byte
+     * @param  srcLen  The number of bytes to decode
+     * @param  dst     The character buffer
+     * @param  dstOff  The offset of the first character to store
+     * @return         The number of characters stored
+     */
+    public static native int decode(byte src[], int srcOff, int srcLen,
+                                    char dst[], int dstOff);
+
+    /**
+     * Get the number of characters <code>decode</code> would store
+     * for the given bytes. The caller must check the array bounds.
+     */
+    public static native int decodedLength(byte src[], int srcOff,
+                                           int srcLen);
+}
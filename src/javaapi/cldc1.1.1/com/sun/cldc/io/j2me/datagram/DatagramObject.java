@@ -0,0 +1,422 @@
+/*
+ *
+ *
+ * Copyright  1990-2007 Sun Microsystems, Inc. All Rights Reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License version
+ * 2 only, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License version 2 for more details (a copy is
+ * included at /legal/license.txt).
+ *
+ * You should have received a copy of the GNU General Public License
+ * version 2 along with this work; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA
+ *
+ * Please contact Sun Microsystems, Inc., 4150 Network Circle, Santa
+ * Clara, CA 95054 or visit www.sun.com if you need additional
+ * information or have any questions.
+ */
+
+package com.sun.cldc.io.j2me.datagram;
+
+import java.io.*;
+import javax.microedition.io.*;
+import com.sun.cldchi.jvm.JVM;
+
+/**
+ * Datagram of the J2ME datagram protocol.
+ * <p>
+ * The data is read and written in place in the datagram buffer, and the
+ * address is kept as an IP number and a port. The address string is only
+ * built when it is asked for, so a datagram can be sent and received over
+ * and over without allocating anything.
+ */
+class DatagramObject implements Datagram {
+
+    /** Data buffer */
+    byte buffer[];
+
+    /** Offset of the data in the buffer */
+    int offset;
+
+    /** Length of the data */
+    int length;
+
+    /** Read/write pointer, relative to offset */
+    private int pointer;
+
+    /** IP number of the address, valid if hasAddress is set */
+    int ipNumber;
+
+    /** Port of the address, valid if hasAddress is set */
+    int port;
+
+    /** True if the datagram has an address */
+    boolean hasAddress;
+
+    /** The address in string form, or null if it has to be built */
+    private String address;
+
+    /**
+     * Create a datagram.
+     * @param buf the data buffer
+     * @param len the length of the data
+     */
+    DatagramObject(byte buf[], int len) {
+        setData(buf, 0, len);
+    }
+
+    /**
+     * Set the address to an IP number and port.
+     */
+    void setAddress(int ipNumber, int port) {
+        if (!hasAddress || this.ipNumber != ipNumber || this.port != port) {
+            this.ipNumber = ipNumber;
+            this.port = port;
+            hasAddress = true;
+            address = null;
+        }
+    }
+
+    /**
+     * Get the address of the datagram.
+     *
+     * @return the address in string form, or null if no address was set
+     */
+    public String getAddress() {
+        if (!hasAddress) {
+            return null;
+        }
+        if (address == null) {
+            StringBuffer sb = new StringBuffer(32);
+            sb.append(Protocol.PREFIX);
+            sb.append((ipNumber >>> 24) & 0xff).append('.');
+            sb.append((ipNumber >>> 16) & 0xff).append('.');
+            sb.append((ipNumber >>>  8) & 0xff).append('.');
+            sb.append((ipNumber >>>  0) & 0xff).append(':');
+            sb.append(port);
+            address = sb.toString();
+        }
+        return address;
+    }
+
+    /**
+     * Get the contents of the data buffer.
+     *
+     * @return the data buffer as a byte array
+     */
+    public byte[] getData() {
+        return buffer;
+    }
+
+    /**
+     * Get the length of the datagram.
+     *
+     * @return the length state variable
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Get the offset.
+     *
+     * @return the offset state variable
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Set datagram address.
+     *
+     * @param addr the new target address as a URL
+     * @exception IllegalArgumentException if the address is not valid
+     * @exception IOException if a some kind of I/O error occurs
+     */
+    public void setAddress(String addr) throws IOException {
+        if (addr == null || !addr.startsWith(Protocol.PREFIX)) {
+            throw new IllegalArgumentException();
+        }
+        int i = addr.indexOf(':', Protocol.PREFIX.length());
+        if (i <= Protocol.PREFIX.length()) {
+            throw new IllegalArgumentException();
+        }
+        int newPort;
+        try {
+            newPort = Integer.parseInt(addr.substring(i + 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException();
+        }
+        if (newPort < 0 || newPort > 0xffff) {
+            throw new IllegalArgumentException();
+        }
+        String host = addr.substring(Protocol.PREFIX.length(), i);
+        setAddress(Protocol.getIpNumber(host), newPort);
+        address = addr;
+    }
+
+    /**
+     * Set datagram address, copying the address from another datagram.
+     *
+     * @param reference the datagram whose address will be copied
+     * @exception IllegalArgumentException if the address is not valid
+     */
+    public void setAddress(Datagram reference) {
+        if (reference instanceof DatagramObject) {
+            DatagramObject d = (DatagramObject)reference;
+            if (!d.hasAddress) {
+                throw new IllegalArgumentException();
+            }
+            setAddress(d.ipNumber, d.port);
+            address = d.address;
+        } else {
+            try {
+                setAddress(reference.getAddress());
+            } catch (IOException e) {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+
+    /**
+     * Set the <code>length</code> state variable.
+     *
+     * @param len the new length of the datagram
+     * @exception IllegalArgumentException if the length or length plus offset
+     *            fall outside the buffer
+     */
+    public void setLength(int len) {
+        if (len < 0 || len > buffer.length - offset) {
+            throw new IllegalArgumentException();
+        }
+        length = len;
+    }
+
+    /**
+     * Set the <code>buffer</code>, <code>offset</code> and <code>length</code>
+     * state variables. The buffer is not copied.
+     *
+     * @param buf  the data buffer
+     * @param off  the offset into the data buffer
+     * @param len  the length of the data in the buffer
+     * @exception IllegalArgumentException if the length or offset
+     *                or offset plus length fall outside the
+     *                buffer, or if the buffer parameter is invalid
+     */
+    public void setData(byte[] buf, int off, int len) {
+        if (buf == null || off < 0 || len < 0 || len > buf.length - off) {
+            throw new IllegalArgumentException();
+        }
+        buffer = buf;
+        offset = off;
+        length = len;
+        pointer = 0;
+    }
+
+    /**
+     * Zero the <code>read/write pointer</code> as well as the
+     * <code>offset</code> and <code>length</code> state variables.
+     */
+    public void reset() {
+        offset = 0;
+        length = 0;
+        pointer = 0;
+    }
+
+    /*
+     * DataInput. Reading continues while the pointer is less than the length.
+     */
+
+    /**
+     * Check that n more bytes can be read.
+     * @return the buffer index of the first byte
+     */
+    private int readPosition(int n) throws EOFException {
+        if (n > length - pointer) {
+            throw new EOFException();
+        }
+        int pos = offset + pointer;
+        pointer += n;
+        return pos;
+    }
+
+    public void readFully(byte b[]) throws IOException {
+        readFully(b, 0, b.length);
+    }
+
+    public void readFully(byte b[], int off, int len) throws IOException {
+        if ((off | len | (off + len) | (b.length - (off + len))) < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        System.arraycopy(buffer, readPosition(len), b, off, len);
+    }
+
+    public int skipBytes(int n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        if (n > length - pointer) {
+            n = length - pointer;
+        }
+        pointer += n;
+        return n;
+    }
+
+    public boolean readBoolean() throws IOException {
+        return buffer[readPosition(1)] != 0;
+    }
+
+    public byte readByte() throws IOException {
+        return buffer[readPosition(1)];
+    }
+
+    public int readUnsignedByte() throws IOException {
+        return buffer[readPosition(1)] & 0xff;
+    }
+
+    public short readShort() throws IOException {
+        return (short)readUnsignedShort();
+    }
+
+    public int readUnsignedShort() throws IOException {
+        int pos = readPosition(2);
+        return ((buffer[pos] & 0xff) << 8) | (buffer[pos + 1] & 0xff);
+    }
+
+    public char readChar() throws IOException {
+        return (char)readUnsignedShort();
+    }
+
+    public int readInt() throws IOException {
+        int pos = readPosition(4);
+        return ((buffer[pos]     & 0xff) << 24) |
+               ((buffer[pos + 1] & 0xff) << 16) |
+               ((buffer[pos + 2] & 0xff) <<  8) |
+               ((buffer[pos + 3] & 0xff) <<  0);
+    }
+
+    public long readLong() throws IOException {
+        return ((long)readInt() << 32) | (readInt() & 0xffffffffL);
+    }
+
+    public float readFloat() throws IOException {
+        return Float.intBitsToFloat(readInt());
+    }
+
+    public double readDouble() throws IOException {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    public String readUTF() throws IOException {
+        int utflen = readUnsignedShort();
+        String str = JVM.decodeUTF(buffer, readPosition(utflen), utflen);
+        if (str == null) {
+            throw new UTFDataFormatException();
+        }
+        return str;
+    }
+
+    /*
+     * DataOutput. Writing extends the length past the pointer.
+     */
+
+    /**
+     * Check that n more bytes can be written.
+     * @return the buffer index of the first byte
+     */
+    private int writePosition(int n) {
+        int pos = offset + pointer;
+        if (n > buffer.length - pos) {
+            throw new IndexOutOfBoundsException();
+        }
+        pointer += n;
+        if (pointer > length) {
+            length = pointer;
+        }
+        return pos;
+    }
+
+    public void write(int b) throws IOException {
+        buffer[writePosition(1)] = (byte)b;
+    }
+
+    public void write(byte b[]) throws IOException {
+        write(b, 0, b.length);
+    }
+
+    public void write(byte b[], int off, int len) throws IOException {
+        if ((off | len | (off + len) | (b.length - (off + len))) < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        System.arraycopy(b, off, buffer, writePosition(len), len);
+    }
+
+    public void writeBoolean(boolean v) throws IOException {
+        buffer[writePosition(1)] = v ? (byte)1 : (byte)0;
+    }
+
+    public void writeByte(int v) throws IOException {
+        buffer[writePosition(1)] = (byte)v;
+    }
+
+    public void writeShort(int v) throws IOException {
+        int pos = writePosition(2);
+        buffer[pos]     = (byte)(v >>> 8);
+        buffer[pos + 1] = (byte)(v >>> 0);
+    }
+
+    public void writeChar(int v) throws IOException {
+        writeShort(v);
+    }
+
+    public void writeInt(int v) throws IOException {
+        int pos = writePosition(4);
+        buffer[pos]     = (byte)(v >>> 24);
+        buffer[pos + 1] = (byte)(v >>> 16);
+        buffer[pos + 2] = (byte)(v >>>  8);
+        buffer[pos + 3] = (byte)(v >>>  0);
+    }
+
+    public void writeLong(long v) throws IOException {
+        writeInt((int)(v >>> 32));
+        writeInt((int)v);
+    }
+
+    public void writeFloat(float v) throws IOException {
+        writeInt(Float.floatToIntBits(v));
+    }
+
+    public void writeDouble(double v) throws IOException {
+        writeLong(Double.doubleToLongBits(v));
+    }
+
+    public void writeChars(String s) throws IOException {
+        int len = s.length();
+        int pos = writePosition(len * 2);
+        for (int i = 0; i < len; i++) {
+            char c = s.charAt(i);
+            buffer[pos++] = (byte)(c >>> 8);
+            buffer[pos++] = (byte)(c >>> 0);
+        }
+    }
+
+    public void writeUTF(String str) throws IOException {
+        int utflen = JVM.utfLength(str);
+        if (utflen > 65535) {
+            throw new UTFDataFormatException();
+        }
+
+        int pos = writePosition(utflen + 2);
+        buffer[pos]     = (byte)(utflen >>> 8);
+        buffer[pos + 1] = (byte)(utflen >>> 0);
+        JVM.encodeUTF(str, buffer, pos + 2);
+    }
+}
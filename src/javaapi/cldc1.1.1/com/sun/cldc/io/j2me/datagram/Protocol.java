@@ -0,0 +1,584 @@
+/*
+ *
+ *
+ * Copyright  1990-2007 Sun Microsystems, Inc. All Rights Reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License version
+ * 2 only, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License version 2 for more details (a copy is
+ * included at /legal/license.txt).
+ *
+ * You should have received a copy of the GNU General Public License
+ * version 2 along with this work; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA
+ *
+ * Please contact Sun Microsystems, Inc., 4150 Network Circle, Santa
+ * Clara, CA 95054 or visit www.sun.com if you need additional
+ * information or have any questions.
+ */
+
+package com.sun.cldc.io.j2me.datagram;
+
+import java.io.*;
+import javax.microedition.io.*;
+import com.sun.cldc.io.*;
+
+/**
+ * Connection to the J2ME datagram (UDP) API.
+ * <p>
+ * In addition to <code>DatagramConnection</code>, this class provides
+ * <code>sendBatch</code> and <code>receiveBatch</code>, which move several
+ * datagrams per system call where the platform allows it (sendmmsg() and
+ * recvmmsg() on Linux).
+ */
+public class Protocol implements ConnectionBaseInterface, DatagramConnection {
+
+    /** Prefix of datagram addresses */
+    static final String PREFIX = "datagram://";
+
+    /** Maximum length of an IPv4 UDP datagram */
+    static final int MAXIMUM_LENGTH = 65507;
+
+    /** Nominal length: the UDP payload of an Ethernet frame */
+    static final int NOMINAL_LENGTH = 1472;
+
+    /** Number of ints per datagram in the batch parameter array */
+    private static final int BATCH_PARAMS = 4;
+
+    /** Socket object used by native code */
+    int handle;
+
+    /** Connection open flag */
+    private boolean copen = false;
+
+    /** Default address, valid in client mode */
+    private int ipNumber;
+
+    /** Default port, valid in client mode */
+    private int port;
+
+    /** True if the connection was opened with a host (client mode) */
+    private boolean clientMode;
+
+    /** Receive lock, so that a blocked receive doesn't block senders */
+    private final Object receiveLock = new Object();
+
+    /** Sender address of receive(), written by native code */
+    private final int peer[] = new int[2];
+
+    /** Batch buffers and parameters of sendBatch(), reused between calls */
+    private Object sendBuffers[];
+    private int sendParams[];
+
+    /** Batch buffers and parameters of receiveBatch(), reused between calls */
+    private Object receiveBuffers[];
+    private int receiveParams[];
+
+    /** Last host name resolved by getIpNumber() and its IP number */
+    private static String lastHost;
+    private static int lastIpNumber;
+
+    /**
+     * Open the connection
+     */
+    public void open(String name, int mode, boolean timeouts)
+        throws IOException
+    {
+        throw new RuntimeException(
+/* #ifdef VERBOSE_EXCEPTIONS */
+/// skipped                   "Should not be called"
+/* #endif */
+        );
+    }
+
+    /**
+     * Open the connection
+     * @param name the target for the connection. It must be in the
+     *        format "//<name or IP number>:<port number>" to send to
+     *        a server (client mode), or "//:<port number>" to receive
+     *        on a port (server mode). The port may be omitted in server
+     *        mode to receive on a dynamically allocated port.
+     * @param mode read/write mode of the connection (currently ignored).
+     * @param timeouts A flag to indicate that the called wants timeout
+     *        exceptions (currently ignored).
+     */
+    public Connection openPrim(String name, int mode, boolean timeouts)
+            throws IOException {
+        if (!name.startsWith("//")) {
+            throw new IOException(
+/* #ifdef VERBOSE_EXCEPTIONS */
+/// skipped                       "bad datagram connection name: " + name
+/* #endif */
+            );
+        }
+        int i = name.indexOf(':');
+        if (i < 0) {
+            throw new IOException(
+/* #ifdef VERBOSE_EXCEPTIONS */
+/// skipped                       "bad datagram connection name: port missing"
+/* #endif */
+            );
+        }
+        String hostname = name.substring(2, i);
+        String portname = name.substring(i + 1);
+        clientMode = hostname.length() > 0;
+        try {
+            if (portname.length() == 0 && !clientMode) {
+                port = 0;
+            } else {
+                port = Integer.parseInt(portname);
+            }
+        } catch (NumberFormatException e) {
+            port = -1;
+        }
+        if (port < 0 || port > 0xffff) {
+            throw new IOException(
+/* #ifdef VERBOSE_EXCEPTIONS */
+/// skipped                       "bad datagram connection name: bad port"
+/* #endif */
+            );
+        }
+        if (clientMode) {
+            ipNumber = getIpNumber(hostname);
+        }
+        // In client mode the reply-to port is dynamically allocated
+        if ((this.handle = open0(clientMode ? 0 : port)) < 0) {
+            int errorCode = this.handle & 0x7fffffff;
+            throw new IOException(
+/* #ifdef VERBOSE_EXCEPTIONS */
+/// skipped                       "connection failed: error = " + errorCode
+/* #endif */
+            );
+        }
+        copen = true;
+        return this;
+    }
+
+    /**
+     * Get the IP number of a host.
+     * @param hostname the name or IP number of the host
+     * @return the IP number, most significant byte first
+     * @exception IOException if the host is unknown
+     */
+    static synchronized int getIpNumber(String hostname) throws IOException {
+        if (!hostname.equals(lastHost)) {
+            // cstring is always NUL terminated (note the extra byte
+            // allocated). This avoids awkward char array manipulation
+            // in C code.
+            byte cstring[] = new byte[hostname.length() + 1];
+            for (int n=0; n<hostname.length(); n++) {
+                cstring[n] = (byte)(hostname.charAt(n));
+            }
+            int ip = getIpNumber0(cstring);
+            if (ip == 0) {
+                throw new IOException(
+/* #ifdef VERBOSE_EXCEPTIONS */
+/// skipped                       "unknown host: " + hostname
+/* #endif */
+                );
+            }
+            lastIpNumber = ip;
+            lastHost = hostname;
+        }
+        return lastIpNumber;
+    }
+
+    /**
+     * Ensure connection is open
+     */
+    void ensureOpen() throws IOException {
+        if (!copen) {
+            throw new IOException(
+/* #ifdef VERBOSE_EXCEPTIONS */
+/// skipped                       "Connection closed"
+/* #endif */
+            );
+        }
+    }
+
+    /**
+     * Get the maximum length a datagram can be.
+     *
+     * @return    The maximum length of a datagram.
+     * @exception IOException  If an I/O error occurs.
+     */
+    public int getMaximumLength() throws IOException {
+        return MAXIMUM_LENGTH;
+    }
+
+    /**
+     * Get the nominal length of a datagram.
+     *
+     * @return    The nominal length of a datagram.
+     * @exception IOException  If an I/O error occurs.
+     */
+    public int getNominalLength() throws IOException {
+        return NOMINAL_LENGTH;
+    }
+
+    /**
+     * Get the datagram of this connection, and check its address.
+     */
+    private DatagramObject checkDatagram(Datagram dgram, boolean sending) {
+        DatagramObject dh = (DatagramObject)dgram;
+        if (sending && !dh.hasAddress) {
+            throw new IllegalArgumentException(
+/* #ifdef VERBOSE_EXCEPTIONS */
+/// skipped                       "datagram has no address"
+/* #endif */
+            );
+        }
+        return dh;
+    }
+
+    /**
+     * Check that a buffer, offset and length read from a datagram
+     * describe a valid range. The datagram may be changed by another
+     * thread, so the natives are only given values checked here.
+     *
+     * @param     buf          the data buffer.
+     * @param     off          the offset of the data in the buffer.
+     * @param     len          the length of the data.
+     * @exception IllegalArgumentException if the range falls outside
+     *                         the buffer.
+     */
+    private static void checkData(byte buf[], int off, int len) {
+        if (buf == null || off < 0 || len < 0 || len > buf.length - off) {
+            throw new IllegalArgumentException(
+/* #ifdef VERBOSE_EXCEPTIONS */
+/// skipped                       "datagram data out of range"
+/* #endif */
+            );
+        }
+    }
+
+    /**
+     * Send a datagram.
+     *
+     * @param     dgram        A datagram.
+     * @exception IOException  If an I/O error occurs.
+     */
+    public void send(Datagram dgram) throws IOException {
+        DatagramObject dh = checkDatagram(dgram, true);
+        byte buf[] = dh.buffer;
+        int off = dh.offset;
+        int len = dh.length;
+        checkData(buf, off, len);
+        synchronized (this) {
+            ensureOpen();
+            if (send0(handle, dh.ipNumber, dh.port, buf, off, len) < 0) {
+                throwIOFailed("send failed");
+            }
+        }
+    }
+
+    /**
+     * Receive a datagram. At most <code>length</code> bytes are received
+     * at <code>offset</code> of the datagram buffer, and the length and
+     * address of the datagram are set to those of the received data.
+     *
+     * @param     dgram        A datagram.
+     * @exception IOException  If an I/O error occurs.
+     */
+    public void receive(Datagram dgram) throws IOException {
+        DatagramObject dh = checkDatagram(dgram, false);
+        byte buf[] = dh.buffer;
+        int off = dh.offset;
+        int len = dh.length;
+        checkData(buf, off, len);
+        synchronized (receiveLock) {
+            ensureOpen();
+            int n = receive0(handle, peer, buf, off, len);
+            if (n < 0) {
+                throwIOFailed("receive failed");
+            }
+            dh.length = n;
+            dh.setAddress(peer[0], peer[1]);
+        }
+    }
+
+    /**
+     * Send <code>count</code> datagrams from <code>dgrams</code>,
+     * starting at index <code>off</code>, in order. This is the same as
+     * calling <code>send</code> for each of them, but several datagrams
+     * are sent with a single system call where the platform allows it.
+     *
+     * @param     dgrams       datagrams of this connection.
+     * @param     off          index of the first datagram to send.
+     * @param     count        number of datagrams to send.
+     * @exception IOException  If an I/O error occurs; the datagrams
+     *                         before the failed one have been sent.
+     */
+    public void sendBatch(Datagram dgrams[], int off, int count)
+            throws IOException {
+        if ((off | count | (off + count) | (dgrams.length - (off + count)))
+                < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        synchronized (this) {
+            ensureOpen();
+            if (sendBuffers == null || sendBuffers.length < count) {
+                sendBuffers = new Object[count];
+                sendParams = new int[count * BATCH_PARAMS];
+            }
+            for (int i = 0; i < count; i++) {
+                DatagramObject dh = checkDatagram(dgrams[off + i], true);
+                byte buf[] = dh.buffer;
+                int bufOff = dh.offset;
+                int bufLen = dh.length;
+                checkData(buf, bufOff, bufLen);
+                sendBuffers[i] = buf;
+                int p = i * BATCH_PARAMS;
+                sendParams[p]     = bufOff;
+                sendParams[p + 1] = bufLen;
+                sendParams[p + 2] = dh.ipNumber;
+                sendParams[p + 3] = dh.port;
+            }
+            try {
+                int sent = 0;
+                while (sent < count) {
+                    int n = sendBatch0(handle, sendBuffers, sendParams,
+                                       sent, count - sent);
+                    if (n <= 0) {
+                        throwIOFailed("send failed");
+                    }
+                    sent += n;
+                }
+            } finally {
+                // Don't keep the datagram buffers reachable
+                for (int i = 0; i < count; i++) {
+                    sendBuffers[i] = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Receive up to <code>count</code> datagrams into <code>dgrams</code>,
+     * starting at index <code>off</code>. This method blocks until at
+     * least one datagram is received, then also receives the datagrams
+     * that are already queued, without blocking, up to <code>count</code>.
+     * Each datagram is filled as by <code>receive</code>.
+     *
+     * @param     dgrams       datagrams of this connection.
+     * @param     off          index of the first datagram to fill.
+     * @param     count        maximum number of datagrams to receive.
+     * @return                 the number of datagrams received, at
+     *                         least 1 unless <code>count</code> is 0.
+     * @exception IOException  If an I/O error occurs.
+     */
+    public int receiveBatch(Datagram dgrams[], int off, int count)
+            throws IOException {
+        if ((off | count | (off + count) | (dgrams.length - (off + count)))
+                < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (count == 0) {
+            return 0;
+        }
+        synchronized (receiveLock) {
+            ensureOpen();
+            if (receiveBuffers == null || receiveBuffers.length < count) {
+                receiveBuffers = new Object[count];
+                receiveParams = new int[count * BATCH_PARAMS];
+            }
+            for (int i = 0; i < count; i++) {
+                DatagramObject dh = checkDatagram(dgrams[off + i], false);
+                byte buf[] = dh.buffer;
+                int bufOff = dh.offset;
+                int bufLen = dh.length;
+                checkData(buf, bufOff, bufLen);
+                receiveBuffers[i] = buf;
+                int p = i * BATCH_PARAMS;
+                receiveParams[p]     = bufOff;
+                receiveParams[p + 1] = bufLen;
+            }
+            int n;
+            try {
+                n = receiveBatch0(handle, receiveBuffers, receiveParams,
+                                  count);
+            } finally {
+                // Don't keep the datagram buffers reachable
+                for (int i = 0; i < count; i++) {
+                    receiveBuffers[i] = null;
+                }
+            }
+            if (n <= 0) {
+                throwIOFailed("receive failed");
+            }
+            for (int i = 0; i < n; i++) {
+                DatagramObject dh = (DatagramObject)dgrams[off + i];
+                int p = i * BATCH_PARAMS;
+                dh.length = receiveParams[p + 1];
+                dh.setAddress(receiveParams[p + 2], receiveParams[p + 3]);
+            }
+            return n;
+        }
+    }
+
+    /**
+     * Throw an IOException for a failed native operation.
+     */
+    private static void throwIOFailed(String message) throws IOException {
+        throw new IOException(
+/* #ifdef VERBOSE_EXCEPTIONS */
+/// skipped               message
+/* #endif */
+        );
+    }
+
+    /**
+     * Create a new datagram object.
+     *
+     * @param  size            The length of the buffer needed
+     * @return                 A new datagram
+     * @exception IOException  If an I/O error occurs.
+     * @exception IllegalArgumentException if the length is negative or
+     *                         larger than the maximum length
+     */
+    public Datagram newDatagram(int size) throws IOException {
+        return newDatagram(new byte[checkSize(size)], size);
+    }
+
+    /**
+     * Create a new datagram object.
+     *
+     * @param  size            The length of the buffer needed
+     * @param  addr            The I/O address to which the datagram
+     *                         will be sent
+     * @return                 A new datagram
+     * @exception IOException  If an I/O error occurs.
+     * @exception IllegalArgumentException if the length is negative or
+     *                         larger than the maximum length, or if the
+     *                         address parameter is invalid
+     */
+    public Datagram newDatagram(int size, String addr) throws IOException {
+        return newDatagram(new byte[checkSize(size)], size, addr);
+    }
+
+    /**
+     * Create a new datagram object.
+     *
+     * @param  buf             The buffer to be used in the datagram
+     * @param  size            The length of the buffer to be allocated
+     *                         for the datagram
+     * @return                 A new datagram
+     * @exception IOException  If an I/O error occurs.
+     * @exception IllegalArgumentException if the length is negative or
+     *                         larger than the maximum length or the given
+     *                         buffer's length, or if the buffer
+     *                         parameter is invalid
+     */
+    public Datagram newDatagram(byte[] buf, int size) throws IOException {
+        ensureOpen();
+        DatagramObject dh = new DatagramObject(buf, checkSize(size));
+        if (clientMode) {
+            dh.setAddress(ipNumber, port);
+        }
+        return dh;
+    }
+
+    /**
+     * Create a new datagram object.
+     *
+     * @param  buf             The buffer to be used in the datagram
+     * @param  size            The length of the buffer to be used
+     * @param  addr            The I/O address to which the datagram
+     *                         will be sent
+     * @return                 A new datagram
+     * @exception IOException  If an I/O error occurs.
+     * @exception IllegalArgumentException if the length is negative or
+     *                         larger than the maximum length or the given
+     *                         buffer's length, or if the address or
+     *                         buffer parameters is invalid
+     */
+    public Datagram newDatagram(byte[] buf, int size, String addr)
+            throws IOException {
+        ensureOpen();
+        DatagramObject dh = new DatagramObject(buf, checkSize(size));
+        dh.setAddress(addr);
+        return dh;
+    }
+
+    /**
+     * Check the length of a new datagram.
+     */
+    private static int checkSize(int size) {
+        if (size < 0 || size > MAXIMUM_LENGTH) {
+            throw new IllegalArgumentException();
+        }
+        return size;
+    }
+
+    /**
+     * Close the connection.
+     *
+     * @exception  IOException  if an I/O error occurs when closing the
+     *                          connection.
+     */
+    synchronized public void close() throws IOException {
+        if (copen) {
+            copen = false;
+            close0(this.handle);
+        }
+    }
+
+    /**
+     * Opens a UDP socket bound to the given port, or to a dynamically
+     * allocated port if port is 0.
+     * @return the socket handle, or a negative value if an error occurred
+     */
+    protected static native int open0(int port);
+
+    /**
+     * Resolves a NUL terminated host name.
+     * @return the IP number, most significant byte first, or 0 if the
+     *         host is unknown
+     */
+    protected static native int getIpNumber0(byte hostname[]);
+
+    /**
+     * Sends len bytes of b to the given address.
+     * @return the number of bytes sent, or -1 if an error occurred
+     */
+    protected static native int send0(int handle, int ipNumber, int port,
+                                      byte b[], int off, int len);
+
+    /**
+     * Receives one datagram into at most len bytes of b. The IP number
+     * and port of the sender are stored into peer[0] and peer[1].
+     * @return the length of the received data, or -1 if an error occurred
+     */
+    protected static native int receive0(int handle, int peer[],
+                                         byte b[], int off, int len);
+
+    /**
+     * Sends count datagrams starting at index first. The byte array
+     * buffers[i] holds datagram i, and its offset, length, IP number and
+     * port are params[4*i] to params[4*i+3].
+     * @return the number of datagrams sent, which may be less than count,
+     *         or -1 if an error occurred
+     */
+    protected static native int sendBatch0(int handle, Object buffers[],
+                                           int params[], int first,
+                                           int count);
+
+    /**
+     * Receives up to count datagrams, blocking until there is one. The
+     * byte array buffers[i] receives datagram i at offset params[4*i],
+     * with at most params[4*i+1] bytes. The received length, IP number
+     * and port are stored into params[4*i+1] to params[4*i+3].
+     * @return the number of datagrams received, or -1 if an error occurred
+     */
+    protected static native int receiveBatch0(int handle, Object buffers[],
+                                              int params[], int count);
+
+    protected static native void close0(int handle);
+}
@@ -0,0 +1,129 @@
+/*
+ *
+ *
+ * Copyright  1990-2007 Sun Microsystems, Inc. All Rights Reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License version
+ * 2 only, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License version 2 for more details (a copy is
+ * included at /legal/license.txt).
+ *
+ * You should have received a copy of the GNU General Public License
+ * version 2 along with this work; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA
+ *
+ * Please contact Sun Microsystems, Inc., 4150 Network Circle, Santa
+ * Clara, CA 95054 or visit www.sun.com if you need additional
+ * information or have any questions.
+ */
+
+package com.sun.cldc.io.j2me.socket;
+
+import java.io.*;
+import javax.microedition.io.*;
+
+/**
+ * Server socket of the J2ME socket API, opened with "socket://:<port>".
+ * <p>
+ * The socket is non-blocking: <code>acceptAndOpen</code> blocks only the
+ * calling thread while there's no pending connection, and several threads
+ * may wait for connections on the same notifier.
+ */
+class ServerSocketNotifier implements StreamConnectionNotifier {
+
+    /** Server socket object used by native code */
+    private int handle;
+
+    /** Connection open flag */
+    private boolean copen = false;
+
+    /** Access mode of the accepted connections */
+    private int mode;
+
+    /** Stream buffer sizes of the accepted connections */
+    private int readBufferSize;
+    private int writeBufferSize;
+
+    /**
+     * Open a server socket.
+     * @param template the connection that holds the parameters of the
+     *        accepted connections, and the backlog
+     * @param port the port to listen on
+     * @param mode the access mode of the accepted connections
+     * @exception IOException if the socket can't be opened
+     */
+    ServerSocketNotifier(Protocol template, int port, int mode)
+            throws IOException {
+        if ((this.handle = Protocol.listen0(port, template.backlog)) < 0) {
+            int errorCode = this.handle & 0x7fffffff;
+            throw new IOException(
+/* #ifdef VERBOSE_EXCEPTIONS */
+/// skipped                       "listen failed: error = " + errorCode
+/* #endif */
+            );
+        }
+        copen = true;
+        this.mode = mode;
+        readBufferSize = template.readBufferSize;
+        writeBufferSize = template.writeBufferSize;
+    }
+
+    /**
+     * Ensure connection is open
+     */
+    void ensureOpen() throws IOException {
+        if (!copen) {
+            throw new IOException(
+/* #ifdef VERBOSE_EXCEPTIONS */
+/// skipped                       "Connection closed"
+/* #endif */
+            );
+        }
+    }
+
+    /**
+     * Returns a <code>StreamConnection</code> object that represents
+     * a server side socket connection.
+     *
+     * @return     a socket to communicate with a client.
+     * @exception  IOException  if an I/O error occurs.
+     */
+    public StreamConnection acceptAndOpen() throws IOException {
+        ensureOpen();
+        int h = Protocol.accept0(handle);
+        if (h < 0) {
+            ensureOpen();
+            throw new IOException(
+/* #ifdef VERBOSE_EXCEPTIONS */
+/// skipped                       "accept failed"
+/* #endif */
+            );
+        }
+        Protocol con = new Protocol();
+        con.readBufferSize = readBufferSize;
+        con.writeBufferSize = writeBufferSize;
+        con.open(h, mode);
+        return con;
+    }
+
+    /**
+     * Close the connection. Threads waiting in <code>acceptAndOpen</code>
+     * are woken up and get an <code>IOException</code>.
+     *
+     * @exception  IOException  if an I/O error occurs when closing the
+     *                          connection.
+     */
+    synchronized public void close() throws IOException {
+        if (copen) {
+            copen = false;
+            Protocol.close0(handle);
+        }
+    }
+}
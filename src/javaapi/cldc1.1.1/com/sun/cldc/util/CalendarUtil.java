@@ -0,0 +1,112 @@
+/*
+ *   
+ *
+ * Copyright  1990-2007 Sun Microsystems, Inc. All Rights Reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License version
+ * 2 only, as published by the Free Software Foundation.
+ * 
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License version 2 for more details (a copy is
+ * included at /legal/license.txt).
+ * 
+ * You should have received a copy of the GNU General Public License
+ * version 2 along with this work; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA
+ * 
+ * Please contact Sun Microsystems, Inc., 4150 Network Circle, Santa
+ * Clara, CA 95054 or visit www.sun.com if you need additional
+ * information or have any questions.
+ */
+
+package com.sun.cldc.util;
+
+import com.sun.cldc.util.j2me.CalendarImpl;
+
+/**
+ * Converts and formats times without creating a calendar, a date or
+ * any other object.  The conversion is done by
+ * <code>com.sun.cldc.util.j2me.CalendarImpl</code>, which applications
+ * cannot access directly.
+ */
+public final class CalendarUtil {
+    /**
+     * The maximum number of characters written by
+     * <code>appendISO8601()</code>.
+     */
+    public static final int MAX_ISO8601_LENGTH =
+        CalendarImpl.MAX_ISO8601_LENGTH;
+
+    private CalendarUtil() {
+    }
+
+    /**
+     * Returns the date of a time as a packed integer: day of month
+     * (bit 0-4), 0-based month (bit 5-8) and signed year (bit 9->),
+     * 0 representing 1 BC.
+     *
+     * @param millis the time in local wall millis, i.e. milliseconds from
+     *               the epoch with the zone and DST offsets added
+     * @return the packed date.
+     */
+    public static int getPackedDate(long millis) {
+        return CalendarImpl.getPackedDate(millis);
+    }
+
+    /**
+     * Returns the time of day of a time as a packed integer: millis
+     * (bit 0-9), seconds (bit 10-15), minutes (bit 16-21) and hours
+     * (bit 22-26).
+     *
+     * @param millis the time in local wall millis, i.e. milliseconds from
+     *               the epoch with the zone and DST offsets added
+     * @return the packed time of day.
+     */
+    public static int getPackedTime(long millis) {
+        return CalendarImpl.getPackedTime(millis);
+    }
+
+    /**
+     * Writes a time in the ISO 8601 extended format
+     * <blockquote><pre>yyyy-MM-ddThh:mm:ss.SSS+hh:mm</pre></blockquote>
+     * to a character array.  The offset is written as <code>Z</code> if
+     * the zone offset is zero.
+     *
+     * @param millis     the time in milliseconds from the epoch.
+     * @param zoneOffset the offset to add to GMT to get local time, in
+     *                   milliseconds.
+     * @param dst        the destination array, with room for
+     *                   <code>MAX_ISO8601_LENGTH</code> characters from
+     *                   <code>offset</code>.
+     * @param offset     start position in the destination array.
+     * @return the position in the destination array after the last
+     *         character written.
+     * @exception ArrayIndexOutOfBoundsException if the time does not fit
+     *            in the destination array.
+     */
+    public static int appendISO8601(long millis, int zoneOffset,
+                                    char[] dst, int offset) {
+        return CalendarImpl.appendISO8601(millis, zoneOffset, dst, offset);
+    }
+
+    /**
+     * Appends a time in the ISO 8601 extended format to a string buffer.
+     * The format is the one written by
+     * <code>appendISO8601(long, int, char[], int)</code>.
+     *
+     * @param millis     the time in milliseconds from the epoch.
+     * @param zoneOffset the offset to add to GMT to get local time, in
+     *                   milliseconds.
+     * @param sb         the string buffer.
+     * @return the string buffer.
+     */
+    public static StringBuffer appendISO8601(long millis, int zoneOffset,
+                                             StringBuffer sb) {
+        return CalendarImpl.appendISO8601(millis, zoneOffset, sb);
+    }
+}
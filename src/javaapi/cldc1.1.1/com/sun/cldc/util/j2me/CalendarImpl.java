@@ -75,6 +75,11 @@ public class CalendarImpl extends Calendar {
      */
     private static final long gregorianCutover = -12219292800000L;
 
+    /**
+     * The gregorianCutover as days from the standard epoch.
+     */
+    private static final long gregorianCutoverDay = gregorianCutover / ONE_DAY;
+
     /**
      * The year of the gregorianCutover, with 0 representing
      * 1 BC, -1 representing 2 BC, etc.
@@ -169,36 +174,82 @@ public class CalendarImpl extends Calendar {
      * whichever is in effect
      */
     private final void timeToFields(long theTime) {
-        int dayOfYear, weekCount, rawYear;
+        long day = floorDivide(theTime, ONE_DAY);
+        long date = dayToDate(day);
+        int rawYear = (int)(date >> 9);
+
+        // If year is < 1 we are in BC
+        this.fields[YEAR] = (rawYear < 1) ? 1 - rawYear : rawYear;
+
+        // 0-based
+        this.fields[MONTH] = ((int)date >> 5) & 0xf;
+        this.fields[DATE] = (int)date & 0x1f;
+        this.fields[DAY_OF_WEEK] = julianDayToDayOfWeek(EPOCH_JULIAN_DAY + day);
+    }
+
+    /**
+     * The last day converted by dayToDate() in the upper 32 bits and its
+     * packed date in the lower 32 bits.  Both are kept in one field so
+     * that they are always read together.  Initially January 1, 1970.
+     */
+    private static long dateCache = (1970 << 9) | (JANUARY << 5) | 1;
+
+    /**
+     * Converts a day, counted from January 1, 1970, to the date packed
+     * as by <code>getPackedDate()</code> but with a <code>long</code>
+     * year, 0 representing 1 BC, -1 representing 2 BC, etc.  Consecutive
+     * calls for the same day are answered from a cache.
+     */
+    private static long dayToDate(long day) {
+        long cache = dateCache;
+        if ((int)(cache >> 32) == day) {
+            return (int)cache;
+        }
+        long date = computeDate(day);
+        if ((int)day == day && (int)date == date) {
+            dateCache = (day << 32) | (date & 0xffffffffL);
+        }
+        return date;
+    }
+
+    /**
+     * Converts a day, counted from January 1, 1970, to the packed date
+     * returned by dayToDate().
+     */
+    private static long computeDate(long day) {
+        int dayOfYear, rawYear;
         boolean isLeap;
 
-        // Compute the year, month, and day of month from the given millis
-        if (theTime >= gregorianCutover) {
+        // Compute the year, month, and day of month from the given day
+        if (day >= gregorianCutoverDay) {
 
             // The Gregorian epoch day is zero for Monday January 1, year 1.
             long gregorianEpochDay =
-                millisToJulianDay(theTime) - JAN_1_1_JULIAN_DAY;
+                EPOCH_JULIAN_DAY + day - JAN_1_1_JULIAN_DAY;
 
             // Here we convert from the day number to the multiple radix
             // representation.  We use 400-year, 100-year, and 4-year cycles.
             // For example, the 4-year cycle has 4 years + 1 leap day; giving
             // 1461 == 365*4 + 1 days.
-            int[] rem = new int[1];
 
             // 400-year cycle length
-            int n400 = floorDivide(gregorianEpochDay, 146097, rem);
+            int n400 = (int)floorDivide(gregorianEpochDay, 146097);
+            int rem = (int)(gregorianEpochDay - n400 * 146097L);
 
             // 100-year cycle length
-            int n100 = floorDivide(rem[0], 36524, rem);
+            int n100 = rem / 36524;
+            rem %= 36524;
 
             // 4-year cycle length
-            int n4 = floorDivide(rem[0], 1461, rem);
+            int n4 = rem / 1461;
+            rem %= 1461;
 
-            int n1 = floorDivide(rem[0], 365, rem);
+            int n1 = rem / 365;
+            rem %= 365;
             rawYear = 400*n400 + 100*n100 + 4*n4 + n1;
 
             // zero-based day of year
-            dayOfYear = rem[0];
+            dayOfYear = rem;
 
             // Dec 31 at end of 4- or 400-yr cycle
             if (n100 == 4 || n1 == 4) {
@@ -210,14 +261,11 @@ public class CalendarImpl extends Calendar {
             // equiv. to (rawYear%4 == 0)
             isLeap =
                 ((rawYear&0x3) == 0) && (rawYear%100 != 0 || rawYear%400 == 0);
-
-            // Gregorian day zero is a Monday
-            this.fields[DAY_OF_WEEK] = (int)((gregorianEpochDay+1) % 7);
         } else {
             // The Julian epoch day (not the same as Julian Day)
             // is zero on Saturday December 30, 0 (Gregorian).
             long julianEpochDay =
-                millisToJulianDay(theTime) - (JAN_1_1_JULIAN_DAY - 2);
+                EPOCH_JULIAN_DAY + day - (JAN_1_1_JULIAN_DAY - 2);
 
             rawYear = (int) floorDivide(4*julianEpochDay + 1464, 1461);
 
@@ -234,9 +282,6 @@ public class CalendarImpl extends Calendar {
 
             // equiv. to (rawYear%4 == 0)
             isLeap = ((rawYear&0x3) == 0);
-
-            // Julian calendar day zero is a Saturday
-            this.fields[DAY_OF_WEEK] = (int)((julianEpochDay-1) % 7);
         }
 
         // Common Julian/Gregorian calculation
@@ -254,19 +299,221 @@ public class CalendarImpl extends Calendar {
         int date_field = dayOfYear -
             (isLeap ? LEAP_NUM_DAYS[month_field] : NUM_DAYS[month_field]) + 1;
 
-        // Normalize day of week
-        this.fields[DAY_OF_WEEK] += (this.fields[DAY_OF_WEEK] < 0) ? (SUNDAY+7) : SUNDAY;
+        return ((long)rawYear << 9) | ((month_field + JANUARY) << 5) | date_field;
+    }
+
+    /**
+     * Returns the date of a time as a packed integer, without creating a
+     * calendar.  The date is packed as follows:
+     * <br>
+     * date: day of month (bit 0-4), month (bit 5-8), year (bit 9->)
+     * <br>
+     * The month is 0-based and the year is signed, 0 representing 1 BC,
+     * -1 representing 2 BC, etc.  Years that do not fit in the 23 bits
+     * available are truncated.  Consecutive calls for times on the same
+     * day only do the conversion once.
+     *
+     * @param millis the time in local wall millis, i.e. milliseconds from
+     *               the epoch with the zone and DST offsets added
+     * @return the packed date.
+     */
+    public static int getPackedDate(long millis) {
+        return (int)dayToDate(floorDivide(millis, ONE_DAY));
+    }
+
+    /**
+     * Returns the time of day of a time as a packed integer, without
+     * creating a calendar.  The time is packed as follows:
+     * <br>
+     * time: millis (bit 0-9), seconds (bit 10-15), minutes (bit 16-21),
+     * hours (bit 22-26)
+     *
+     * @param millis the time in local wall millis, i.e. milliseconds from
+     *               the epoch with the zone and DST offsets added
+     * @return the packed time of day.
+     */
+    public static int getPackedTime(long millis) {
+        int millisInDay = (int)(millis - floorDivide(millis, ONE_DAY) * ONE_DAY);
+        int seconds = millisInDay / ONE_SECOND;
+        int minutes = seconds / 60;
+        int hours = minutes / 60;
+        return (hours << 22) | ((minutes - hours * 60) << 16) |
+               ((seconds - minutes * 60) << 10) |
+               (millisInDay - seconds * ONE_SECOND);
+    }
 
-        this.fields[YEAR] = rawYear;
+    /**
+     * The maximum number of characters written by
+     * <code>appendISO8601()</code>.
+     */
+    public static final int MAX_ISO8601_LENGTH = 35;
 
-        // If year is < 1 we are in BC
-        if (this.fields[YEAR] < 1) {
-            this.fields[YEAR] = 1 - this.fields[YEAR];
+    /**
+     * Writes a time in the ISO 8601 extended format
+     * <blockquote><pre>yyyy-MM-ddThh:mm:ss.SSS+hh:mm</pre></blockquote>
+     * to a character array, without creating a calendar or any other
+     * object.  Years from 0000 through 9999 are written as four digits,
+     * other years as a sign followed by at least four digits.  The offset
+     * is written as <code>Z</code> if the zone offset is zero.
+     *
+     * @param millis     the time in milliseconds from the epoch.
+     * @param zoneOffset the offset to add to GMT to get local time, in
+     *                   milliseconds.
+     * @param dst        the destination array, with room for
+     *                   <code>MAX_ISO8601_LENGTH</code> characters from
+     *                   <code>offset</code>.
+     * @param offset     start position in the destination array.
+     * @return the position in the destination array after the last
+     *         character written.
+     * @exception ArrayIndexOutOfBoundsException if the time does not fit
+     *            in the destination array.
+     */
+    public static int appendISO8601(long millis, int zoneOffset,
+                                    char[] dst, int offset) {
+        long localMillis = toLocalMillis(millis, zoneOffset);
+        long date = dayToDate(floorDivide(localMillis, ONE_DAY));
+        int time = getPackedTime(localMillis);
+
+        long year = date >> 9;
+        if (year < 0 || year > 9999) {
+            dst[offset++] = (year < 0) ? '-' : '+';
+            if (year < 0) {
+                year = -year;
+            }
+            int digits = 4;
+            for (long y = year / 10000; y > 0; y /= 10) {
+                digits++;
+            }
+            offset = putDigits(dst, offset, year, digits);
+        } else {
+            offset = putDigits(dst, offset, year, 4);
+        }
+        dst[offset++] = '-';
+        offset = putDigits(dst, offset, (((int)date >> 5) & 0xf) + 1, 2);
+        dst[offset++] = '-';
+        offset = putDigits(dst, offset, (int)date & 0x1f, 2);
+        dst[offset++] = 'T';
+        offset = putDigits(dst, offset, time >> 22, 2);
+        dst[offset++] = ':';
+        offset = putDigits(dst, offset, (time >> 16) & 0x3f, 2);
+        dst[offset++] = ':';
+        offset = putDigits(dst, offset, (time >> 10) & 0x3f, 2);
+        dst[offset++] = '.';
+        offset = putDigits(dst, offset, time & 0x3ff, 3);
+
+        int zoneMinutes = zoneOffset / ONE_MINUTE;
+        if (zoneMinutes == 0) {
+            dst[offset++] = 'Z';
+        } else {
+            if (zoneMinutes < 0) {
+                dst[offset++] = '-';
+                zoneMinutes = -zoneMinutes;
+            } else {
+                dst[offset++] = '+';
+            }
+            offset = putDigits(dst, offset, zoneMinutes / 60, 2);
+            dst[offset++] = ':';
+            offset = putDigits(dst, offset, zoneMinutes % 60, 2);
         }
+        return offset;
+    }
 
-        // 0-based
-        this.fields[MONTH] = month_field + JANUARY;
-        this.fields[DATE] = date_field;
+    /**
+     * Appends a time in the ISO 8601 extended format to a string buffer,
+     * without creating a calendar or any other object.  The format is the
+     * one written by <code>appendISO8601(long, int, char[], int)</code>.
+     *
+     * @param millis     the time in milliseconds from the epoch.
+     * @param zoneOffset the offset to add to GMT to get local time, in
+     *                   milliseconds.
+     * @param sb         the string buffer.
+     * @return the string buffer.
+     */
+    public static StringBuffer appendISO8601(long millis, int zoneOffset,
+                                             StringBuffer sb) {
+        long localMillis = toLocalMillis(millis, zoneOffset);
+        long date = dayToDate(floorDivide(localMillis, ONE_DAY));
+        int time = getPackedTime(localMillis);
+
+        long year = date >> 9;
+        if (year < 0 || year > 9999) {
+            sb.append((year < 0) ? '-' : '+');
+            if (year < 0) {
+                year = -year;
+            }
+            int digits = 4;
+            for (long y = year / 10000; y > 0; y /= 10) {
+                digits++;
+            }
+            appendDigits(sb, year, digits);
+        } else {
+            appendDigits(sb, year, 4);
+        }
+        appendDigits(sb.append('-'), (((int)date >> 5) & 0xf) + 1, 2);
+        appendDigits(sb.append('-'), (int)date & 0x1f, 2);
+        appendDigits(sb.append('T'), time >> 22, 2);
+        appendDigits(sb.append(':'), (time >> 16) & 0x3f, 2);
+        appendDigits(sb.append(':'), (time >> 10) & 0x3f, 2);
+        appendDigits(sb.append('.'), time & 0x3ff, 3);
+
+        int zoneMinutes = zoneOffset / ONE_MINUTE;
+        if (zoneMinutes == 0) {
+            sb.append('Z');
+        } else {
+            if (zoneMinutes < 0) {
+                sb.append('-');
+                zoneMinutes = -zoneMinutes;
+            } else {
+                sb.append('+');
+            }
+            appendDigits(sb, zoneMinutes / 60, 2);
+            appendDigits(sb.append(':'), zoneMinutes % 60, 2);
+        }
+        return sb;
+    }
+
+    /**
+     * Adds a zone offset to a time, pinning the result to Long.MIN_VALUE
+     * or Long.MAX_VALUE instead of letting it wrap around, as
+     * computeFields() does.
+     */
+    private static long toLocalMillis(long millis, int zoneOffset) {
+        long localMillis = millis + zoneOffset;
+        if (millis > 0 && localMillis < 0 && zoneOffset > 0) {
+            localMillis = Long.MAX_VALUE;
+        } else if (millis < 0 && localMillis > 0 && zoneOffset < 0) {
+            localMillis = Long.MIN_VALUE;
+        }
+        return localMillis;
+    }
+
+    /**
+     * Writes the given number of least significant decimal digits of a
+     * non-negative number to a character array.
+     */
+    private static int putDigits(char[] dst, int offset, long number,
+                                 int digits) {
+        int end = offset + digits;
+        for (int i = end - 1; i >= offset; i--) {
+            dst[i] = (char)('0' + (int)(number % 10));
+            number /= 10;
+        }
+        return end;
+    }
+
+    /**
+     * Appends the given number of least significant decimal digits of a
+     * non-negative number to a string buffer.
+     */
+    private static void appendDigits(StringBuffer sb, long number,
+                                     int digits) {
+        long scale = 1;
+        for (int i = 1; i < digits; i++) {
+            scale *= 10;
+        }
+        for (; scale > 0; scale /= 10) {
+            sb.append((char)('0' + (int)(number / scale % 10)));
+        }
     }
 
     /*
@@ -538,8 +785,8 @@ public class CalendarImpl extends Calendar {
         // Normalize the millisInDay to 0..ONE_DAY-1.  If the millis is out
         // of range, then we must call timeToFields() to recompute our
         // fields.
-        int[] normalizedMillisInDay = new int[1];
-        floorDivide(millis, (int)ONE_DAY, normalizedMillisInDay);
+        int normalizedMillisInDay =
+            (int)(millis - floorDivide(millis, ONE_DAY) * ONE_DAY);
 
         // We need to have the month, the day, and the day of the week.
         // Calling timeToFields will compute the MONTH and DATE fields.
@@ -561,7 +808,7 @@ public class CalendarImpl extends Calendar {
                                  this.fields[MONTH],
                                  this.fields[DATE],
                                  dow,
-                                 normalizedMillisInDay[0]) -
+                                 normalizedMillisInDay) -
                                  zoneOffset;
         // Note: Because we pass in wall millisInDay, rather than
         // standard millisInDay, we interpret "1:00 am" on the day
@@ -588,9 +835,9 @@ public class CalendarImpl extends Calendar {
 
         // If the month is out of range, adjust it into range
         if (month < 0 || month > 11) {
-            int[] rem = new int[1];
-            year += floorDivide(month, 12, rem);
-            month = rem[0];
+            int years = floorDivide(month, 12);
+            year += years;
+            month -= years * 12;
         }
 
         boolean isLeap = year%4 == 0;
@@ -712,56 +959,4 @@ public class CalendarImpl extends Calendar {
             numerator / denominator :
             ((numerator + 1) / denominator) - 1;
     }
-
-    /**
-     * Divide two integers, returning the floor of the quotient, and
-     * the modulus remainder.
-     * <p>
-     * Unlike the built-in division, this is mathematically well-behaved.
-     * E.g., <code>-1/4</code> => 0 and <code>-1%4</code> => -1,
-     * but <code>floorDivide(-1,4)</code> => -1 with <code>remainder[0]</code> => 3.
-     * @param numerator the numerator
-     * @param denominator a divisor which must be > 0
-     * @param remainder an array of at least one element in which the value
-     * <code>numerator mod denominator</code> is returned. Unlike <code>numerator
-     * % denominator</code>, this will always be non-negative.
-     * @return the floor of the quotient.
-     */
-    private static final int
-        floorDivide(int numerator, int denominator, int[] remainder) {
-
-        if (numerator >= 0) {
-            remainder[0] = numerator % denominator;
-            return numerator / denominator;
-        }
-        int quotient = ((numerator + 1) / denominator) - 1;
-        remainder[0] = numerator - (quotient * denominator);
-        return quotient;
-    }
-
-    /**
-     * Divide two integers, returning the floor of the quotient, and
-     * the modulus remainder.
-     * <p>
-     * Unlike the built-in division, this is mathematically well-behaved.
-     * E.g., <code>-1/4</code> => 0 and <code>-1%4</code> => -1,
-     * but <code>floorDivide(-1,4)</code> => -1 with <code>remainder[0]</code> => 3.
-     * @param numerator the numerator
-     * @param denominator a divisor which must be > 0
-     * @param remainder an array of at least one element in which the value
-     * <code>numerator mod denominator</code> is returned. Unlike <code>numerator
-     * % denominator</code>, this will always be non-negative.
-     * @return the floor of the quotient.
-     */
-    private static final int
-        floorDivide(long numerator, int denominator, int[] remainder) {
-
-        if (numerator >= 0) {
-            remainder[0] = (int)(numerator % denominator);
-            return (int)(numerator / denominator);
-        }
-        int quotient = (int)(((numerator + 1) / denominator) - 1);
-        remainder[0] = (int)(numerator - (quotient * denominator));
-        return quotient;
-    }
 }
@@ -580,8 +580,14 @@ public final class StringBuffer {
      * @see     java.lang.StringBuffer#append(java.lang.String)
      * @since   CLDC 1.1
      */
-    public StringBuffer append(float f) {
-        return append(String.valueOf(f));
+    public synchronized StringBuffer append(float f) {
+        int newcount = FloatingDecimal.putFloatChars(f, value, count);
+        if (newcount < 0) {
+            expandCapacity(count - newcount);
+            newcount = FloatingDecimal.putFloatChars(f, value, count);
+        }
+        count = newcount;
+        return this;
     }
 
     /**
@@ -598,8 +604,14 @@ public final class StringBuffer {
      * @see     java.lang.StringBuffer#append(java.lang.String)
      * @since   CLDC 1.1
      */
-    public StringBuffer append(double d) {
-        return append(String.valueOf(d));
+    public synchronized StringBuffer append(double d) {
+        int newcount = FloatingDecimal.putDoubleChars(d, value, count);
+        if (newcount < 0) {
+            expandCapacity(count - newcount);
+            newcount = FloatingDecimal.putDoubleChars(d, value, count);
+        }
+        count = newcount;
+        return this;
     }
 
     /**
@@ -0,0 +1,234 @@
+/*
+ *   
+ *
+ * Copyright  1990-2007 Sun Microsystems, Inc. All Rights Reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License version
+ * 2 only, as published by the Free Software Foundation.
+ * 
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License version 2 for more details (a copy is
+ * included at /legal/license.txt).
+ * 
+ * You should have received a copy of the GNU General Public License
+ * version 2 along with this work; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA
+ * 
+ * Please contact Sun Microsystems, Inc., 4150 Network Circle, Santa
+ * Clara, CA 95054 or visit www.sun.com if you need additional
+ * information or have any questions.
+ */
+
+package java.util;
+
+/**
+ * This class represents a timer task queue: a priority queue of TimerTasks,
+ * ordered on nextExecutionTime.  Each Timer object has one of these, which it
+ * shares with its TimerThread.  Internally this class uses a heap, which
+ * offers log(n) performance for the add, removeMin and rescheduleMin
+ * operations, and constant time performance for the getMin operation.
+ */
+class TaskQueue {
+    /**
+     * Priority queue represented as a balanced binary heap: the two children
+     * of queue[n] are queue[2*n] and queue[2*n+1].  The priority queue is
+     * ordered on the nextExecutionTime field: The TimerTask with the lowest
+     * nextExecutionTime is in queue[1] (assuming the queue is nonempty).  For
+     * each node n in the heap, and each descendant of n, d,
+     * n.nextExecutionTime <= d.nextExecutionTime. 
+     */
+    private TimerTask[] queue = new TimerTask[4];
+
+    /**
+     * The number of tasks in the priority queue.  (The tasks are stored in
+     * queue[1] up to queue[size]).
+     */
+    private int size = 0;
+
+    /**
+     * This flag is set to false by the reaper to inform us that there
+     * are no more live references to our Timer object.  Once this flag
+     * is true and there are no more tasks in our queue, there is no
+     * work left for us to do, so we terminate gracefully.
+     */
+    boolean newTasksMayBeScheduled = true;
+
+    /**
+     * Adds a new task to the priority queue.
+     * @param task to add to the current queue
+     */
+    void add(TimerTask task) {
+        // Grow backing store if necessary
+        if (++size == queue.length) {
+            TimerTask[] newQueue = new TimerTask[2*queue.length];
+            System.arraycopy(queue, 0, newQueue, 0, size);
+            queue = newQueue;
+        }
+
+        queue[size] = task;
+        fixUp(size);
+
+        if (task.isUserClock) {
+            userClockTaskAdded();
+        }
+    }
+
+    /**
+     * Return the "head task" of the priority queue.  (The head task is an
+     * task with the lowest nextExecutionTime.)
+     * @return the minimum head task of the queue.
+     */
+    TimerTask getMin() {
+        return queue[1];
+    }
+
+    /**
+     * Remove the head task from the priority queue.
+     */
+    void removeMin() {
+        final TimerTask task = queue[1];
+
+        queue[1] = queue[size];
+        queue[size--] = null;  // Drop extra reference to prevent memory leak
+        fixDown(1);
+
+        if (task.isUserClock) {
+            userClockTaskRemoved();
+        }
+    }
+
+    /**
+     * Sets the nextExecutionTime associated with the head task to the 
+     * specified value, and adjusts priority queue accordingly.
+     * @param newTime new time to apply to head task execution.
+     */
+    void rescheduleMin(long newTime) {
+        final TimerTask task = queue[1];
+
+        task.nextExecutionTime = newTime;
+        fixDown(1);
+
+        if (task.isUserClock) {
+            // Only the first execution is scheduled against the user clock. 
+            // Subsequent executions are scheduled based on delays.
+            task.isUserClock = false;
+            userClockTaskRemoved();
+        }
+    }
+
+    /**
+     * Returns true if the priority queue contains no elements.
+     * @return true if queue is empty.
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all elements from the priority queue.
+     */
+    void clear() {
+        // Null out task references to prevent memory leak
+        for (int i = 1; i <= size; i++)
+            queue[i] = null;
+
+        size = 0;
+        userClockTaskCount = 0;
+    }
+
+    /**
+     * Establishes the heap invariant (described above) assuming the heap
+     * satisfies the invariant except possibly for the leaf-node indexed by k
+     * (which may have a nextExecutionTime less than its parent's).
+     *
+     * This method functions by "promoting" queue[k] up the hierarchy
+     * (by swapping it with its parent) repeatedly until queue[k]'s
+     * nextExecutionTime is greater than or equal to that of its parent.
+     * @param k index of queued task to be promoted up in the queue.
+     */
+    private void fixUp(int k) {
+        while (k > 1) {
+            int j = k >> 1;
+            if (queue[j].nextExecutionTime <= queue[k].nextExecutionTime)
+                break;
+            TimerTask tmp = queue[j];  queue[j] = queue[k]; queue[k] = tmp;
+            k = j;
+        }
+    }
+
+    /**
+     * Establishes the heap invariant (described above) in the subtree
+     * rooted at k, which is assumed to satisfy the heap invariant except
+     * possibly for node k itself (which may have a nextExecutionTime greater
+     * than its children's).
+     *
+     * This method functions by "demoting" queue[k] down the hierarchy
+     * (by swapping it with its smaller child) repeatedly until queue[k]'s
+     * nextExecutionTime is less than or equal to those of its children.
+     * @param k index of queued task to be demoted in the queue.
+     */
+    private void fixDown(int k) {
+        int j;
+        while ((j = k << 1) <= size) {
+            if (j < size &&
+                queue[j].nextExecutionTime > queue[j+1].nextExecutionTime)
+                j++; // j indexes smallest kid
+            if (queue[k].nextExecutionTime <= queue[j].nextExecutionTime)
+                break;
+            TimerTask tmp = queue[j];  queue[j] = queue[k]; queue[k] = tmp;
+            k = j;
+        }
+    }
+
+    /**
+     * The amount of active tasks scheduled against the user 
+     * clock in this queue.
+     */
+    private int userClockTaskCount = 0;
+
+    void userClockTaskAdded() {
+        userClockTaskCount++;
+    }
+
+    void userClockTaskRemoved() {
+        userClockTaskCount--;
+    }
+
+    boolean hasUserClockTasks() {
+        return userClockTaskCount > 0;
+    }
+
+    void checkUserClockChange() {
+        if (!hasUserClockTasks()) {
+            return;
+        }
+
+        final long userClockSkew = Timer.userClockSkew();
+        if (userClockSkew == 0) {
+            return;
+        }
+
+        if (userClockSkew < 0) {
+            for (int i = 1; i <= size; i++) {
+                TimerTask task = queue[i];
+                if (task != null && task.isUserClock) {
+                    task.nextExecutionTime -= userClockSkew;
+                    fixUp(i);
+                }
+            }
+        } else {
+            for (int i = size; i >= 1; i--) {
+                TimerTask task = queue[i];
+                if (task != null && task.isUserClock) {
+                    task.nextExecutionTime -= userClockSkew;
+                    fixDown(i);
+                }
+            }
+        }
+    }
+}
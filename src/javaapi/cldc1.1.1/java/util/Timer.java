@@ -79,7 +79,7 @@ public class Timer {
      * and the timer thread consumes, executing timer tasks as appropriate,
      * and removing them from the queue when they're obsolete.
      */
-    private TaskQueue queue = new TaskQueue();
+    private final TaskQueue queue;
 
     /**
      * The timer thread.
@@ -98,6 +98,13 @@ public class Timer {
      */
     private static long userClockOffset = System.currentTimeMillis();
 
+    /**
+     * Name of the system property that selects the task queue of new
+     * timers.  The value "wheel" selects a timing wheel, anything else
+     * the default binary heap.
+     */
+    private static final String QUEUE_PROPERTY = "java.util.Timer.queue";
+
     /**
      * Creates a new timer.  The associated thread does <i>not</i> run as
      * a daemon thread, which may prevent an application from terminating.
@@ -106,6 +113,17 @@ public class Timer {
      * @see #cancel()
      */
     public Timer() {
+        this("wheel".equals(System.getProperty(QUEUE_PROPERTY)));
+    }
+
+    /**
+     * Creates a new timer with the given kind of task queue.
+     *
+     * @param useTimingWheel true to keep the tasks in a
+     *        <code>TimingWheelQueue</code>, false to use the binary heap
+     */
+    Timer(boolean useTimingWheel) {
+        queue = useTimingWheel ? new TimingWheelQueue() : new TaskQueue();
     }
 
     /**
@@ -564,210 +582,3 @@ class TimerThread extends Thread {
         }
     }
 }
-
-/**
- * This class represents a timer task queue: a priority queue of TimerTasks,
- * ordered on nextExecutionTime.  Each Timer object has one of these, which it
- * shares with its TimerThread.  Internally this class uses a heap, which
- * offers log(n) performance for the add, removeMin and rescheduleMin
- * operations, and constant time performance for the getMin operation.
- */
-class TaskQueue {
-    /**
-     * Priority queue represented as a balanced binary heap: the two children
-     * of queue[n] are queue[2*n] and queue[2*n+1].  The priority queue is
-     * ordered on the nextExecutionTime field: The TimerTask with the lowest
-     * nextExecutionTime is in queue[1] (assuming the queue is nonempty).  For
-     * each node n in the heap, and each descendant of n, d,
-     * n.nextExecutionTime <= d.nextExecutionTime. 
-     */
-    private TimerTask[] queue = new TimerTask[4];
-
-    /**
-     * The number of tasks in the priority queue.  (The tasks are stored in
-     * queue[1] up to queue[size]).
-     */
-    private int size = 0;
-
-    /**
-     * This flag is set to false by the reaper to inform us that there
-     * are no more live references to our Timer object.  Once this flag
-     * is true and there are no more tasks in our queue, there is no
-     * work left for us to do, so we terminate gracefully.
-     */
-    boolean newTasksMayBeScheduled = true;
-
-    /**
-     * Adds a new task to the priority queue.
-     * @param task to add to the current queue
-     */
-    void add(TimerTask task) {
-        // Grow backing store if necessary
-        if (++size == queue.length) {
-            TimerTask[] newQueue = new TimerTask[2*queue.length];
-            System.arraycopy(queue, 0, newQueue, 0, size);
-            queue = newQueue;
-        }
-
-        queue[size] = task;
-        fixUp(size);
-
-        if (task.isUserClock) {
-            userClockTaskAdded();
-        }
-    }
-
-    /**
-     * Return the "head task" of the priority queue.  (The head task is an
-     * task with the lowest nextExecutionTime.)
-     * @return the minimum head task of the queue.
-     */
-    TimerTask getMin() {
-        return queue[1];
-    }
-
-    /**
-     * Remove the head task from the priority queue.
-     */
-    void removeMin() {
-        final TimerTask task = queue[1];
-
-        queue[1] = queue[size];
-        queue[size--] = null;  // Drop extra reference to prevent memory leak
-        fixDown(1);
-
-        if (task.isUserClock) {
-            userClockTaskRemoved();
-        }
-    }
-
-    /**
-     * Sets the nextExecutionTime associated with the head task to the 
-     * specified value, and adjusts priority queue accordingly.
-     * @param newTime new time to apply to head task execution.
-     */
-    void rescheduleMin(long newTime) {
-        final TimerTask task = queue[1];
-
-        task.nextExecutionTime = newTime;
-        fixDown(1);
-
-        if (task.isUserClock) {
-            // Only the first execution is scheduled against the user clock. 
-            // Subsequent executions are scheduled based on delays.
-            task.isUserClock = false;
-            userClockTaskRemoved();
-        }
-    }
-
-    /**
-     * Returns true if the priority queue contains no elements.
-     * @return true if queue is empty.
-     */
-    boolean isEmpty() {
-        return size == 0;
-    }
-
-    /**
-     * Removes all elements from the priority queue.
-     */
-    void clear() {
-        // Null out task references to prevent memory leak
-        for (int i = 1; i <= size; i++)
-            queue[i] = null;
-
-        size = 0;
-        userClockTaskCount = 0;
-    }
-
-    /**
-     * Establishes the heap invariant (described above) assuming the heap
-     * satisfies the invariant except possibly for the leaf-node indexed by k
-     * (which may have a nextExecutionTime less than its parent's).
-     *
-     * This method functions by "promoting" queue[k] up the hierarchy
-     * (by swapping it with its parent) repeatedly until queue[k]'s
-     * nextExecutionTime is greater than or equal to that of its parent.
-     * @param k index of queued task to be promoted up in the queue.
-     */
-    private void fixUp(int k) {
-        while (k > 1) {
-            int j = k >> 1;
-            if (queue[j].nextExecutionTime <= queue[k].nextExecutionTime)
-                break;
-            TimerTask tmp = queue[j];  queue[j] = queue[k]; queue[k] = tmp;
-            k = j;
-        }
-    }
-
-    /**
-     * Establishes the heap invariant (described above) in the subtree
-     * rooted at k, which is assumed to satisfy the heap invariant except
-     * possibly for node k itself (which may have a nextExecutionTime greater
-     * than its children's).
-     *
-     * This method functions by "demoting" queue[k] down the hierarchy
-     * (by swapping it with its smaller child) repeatedly until queue[k]'s
-     * nextExecutionTime is less than or equal to those of its children.
-     * @param k index of queued task to be demoted in the queue.
-     */
-    private void fixDown(int k) {
-        int j;
-        while ((j = k << 1) <= size) {
-            if (j < size &&
-                queue[j].nextExecutionTime > queue[j+1].nextExecutionTime)
-                j++; // j indexes smallest kid
-            if (queue[k].nextExecutionTime <= queue[j].nextExecutionTime)
-                break;
-            TimerTask tmp = queue[j];  queue[j] = queue[k]; queue[k] = tmp;
-            k = j;
-        }
-    }
-
-    /**
-     * The amount of active tasks scheduled against the user 
-     * clock in this queue.
-     */
-    private int userClockTaskCount = 0;
-
-    private void userClockTaskAdded() {
-        userClockTaskCount++;
-    }
-
-    private void userClockTaskRemoved() {
-        userClockTaskCount--;
-    }
-
-    boolean hasUserClockTasks() {
-        return userClockTaskCount > 0;
-    }
-
-    void checkUserClockChange() {
-        if (!hasUserClockTasks()) {
-            return;
-        }
-
-        final long userClockSkew = Timer.userClockSkew();
-        if (userClockSkew == 0) {
-            return;
-        }
-
-        if (userClockSkew < 0) {
-            for (int i = 1; i <= size; i++) {
-                TimerTask task = queue[i];
-                if (task != null && task.isUserClock) {
-                    task.nextExecutionTime -= userClockSkew;
-                    fixUp(i);
-                }
-            }
-        } else {
-            for (int i = size; i >= 1; i--) {
-                TimerTask task = queue[i];
-                if (task != null && task.isUserClock) {
-                    task.nextExecutionTime -= userClockSkew;
-                    fixDown(i);
-                }
-            }
-        }
-    }
-}
@@ -87,6 +87,22 @@ public abstract class TimerTask implements Runnable {
      */
     boolean isUserClock;
 
+    /**
+     * The timing wheel this task is queued in, or null.  Tasks queued in
+     * the default binary heap don't use this and the links below.
+     */
+    TimingWheelQueue queue;
+
+    /**
+     * Links to the neighbouring tasks in the timing wheel slot.
+     */
+    TimerTask next, prev;
+
+    /**
+     * Index of the timing wheel slot holding this task.
+     */
+    int slot;
+
     /**
      * Creates a new timer task.
      */
@@ -121,11 +137,18 @@ public abstract class TimerTask implements Runnable {
      *         executions from taking place.)
      */
     public boolean cancel() {
+        boolean result;
+        TimingWheelQueue wheel;
         synchronized (lock) {
-            boolean result = (state == SCHEDULED);
+            result = (state == SCHEDULED);
             state = CANCELLED;
-            return result;
+            wheel = queue;
+        }
+        if (wheel != null) {
+            // Don't wait for the task to reach the head of the wheel
+            wheel.remove(this);
         }
+        return result;
     }
 
     /**
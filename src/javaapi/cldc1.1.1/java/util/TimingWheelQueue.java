@@ -0,0 +1,389 @@
+/*
+ *   
+ *
+ * Copyright  1990-2007 Sun Microsystems, Inc. All Rights Reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License version
+ * 2 only, as published by the Free Software Foundation.
+ * 
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License version 2 for more details (a copy is
+ * included at /legal/license.txt).
+ * 
+ * You should have received a copy of the GNU General Public License
+ * version 2 along with this work; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA
+ * 
+ * Please contact Sun Microsystems, Inc., 4150 Network Circle, Santa
+ * Clara, CA 95054 or visit www.sun.com if you need additional
+ * information or have any questions.
+ */
+
+package java.util;
+
+/**
+ * A TaskQueue implemented as a hierarchical timing wheel.  Adding and
+ * cancelling a task take constant time, and a cancelled task is unlinked
+ * right away instead of staying queued until it reaches the head, which
+ * suits timers that schedule many timeouts and cancel most of them.
+ *
+ * The wheel time (cursor) never passes the current time or the earliest
+ * queued task.  Level 0 has a slot for each millisecond of the current
+ * 256 ms block; levels 1, 2 and 3 have 64 slots each, one per block of
+ * 2^8, 2^14 and 2^20 ms that follows the cursor's block on the level
+ * below.  Tasks more than 2^26 ms away wait in an overflow list.  When the
+ * cursor enters a new block, the tasks of the matching upper slot are
+ * moved down a level, so every task is moved at most a few times.
+ */
+class TimingWheelQueue extends TaskQueue {
+    /** Number of wheel levels, not counting the overflow list. */
+    private static final int LEVELS = 4;
+
+    /** First time bit used by each level; the last entry is the span. */
+    private static final int[] SHIFT = { 0, 8, 14, 20, 26 };
+
+    /** First slot of each level in slots[]; the last entry is overflow. */
+    private static final int[] BASE = { 0, 256, 320, 384, 448 };
+
+    /** Slot of the tasks that are too far away for the wheel. */
+    private static final int OVERFLOW = 448;
+
+    /**
+     * Doubly linked lists of tasks (through TimerTask.next and prev),
+     * one per slot.
+     */
+    private final TimerTask[] slots = new TimerTask[OVERFLOW + 1];
+
+    /** One bit per non-empty slot, not counting the overflow slot. */
+    private final long[] occupied = new long[OVERFLOW / 64];
+
+    /** Current wheel time, in the format of Timer.monotonicTimeMillis. */
+    private long cursor = Timer.monotonicTimeMillis();
+
+    /** The number of tasks in the wheel. */
+    private int size = 0;
+
+    /** Cached earliest task, or null if it must be looked up again. */
+    private TimerTask min;
+
+    void add(TimerTask task) {
+        place(task);
+        size++;
+        if (min != null && task.nextExecutionTime < min.nextExecutionTime) {
+            min = task;
+        }
+        if (task.isUserClock) {
+            userClockTaskAdded();
+        }
+    }
+
+    TimerTask getMin() {
+        advance(Timer.monotonicTimeMillis());
+        if (min == null && size > 0) {
+            min = findMin();
+        }
+        return min;
+    }
+
+    void removeMin() {
+        final TimerTask task = getMin();
+        unlink(task);
+        size--;
+        min = null;
+        if (task.isUserClock) {
+            userClockTaskRemoved();
+        }
+    }
+
+    void rescheduleMin(long newTime) {
+        final TimerTask task = getMin();
+        unlink(task);
+        task.nextExecutionTime = newTime;
+        place(task);
+        min = null;
+        if (task.isUserClock) {
+            // Only the first execution is scheduled against the user clock.
+            task.isUserClock = false;
+            userClockTaskRemoved();
+        }
+    }
+
+    /**
+     * Removes a cancelled task from the wheel, if it is still queued.
+     * Called by TimerTask.cancel without holding any lock.
+     * @param task the cancelled task
+     */
+    void remove(TimerTask task) {
+        synchronized (this) {
+            if (task.queue != this) {
+                return;
+            }
+            unlink(task);
+            size--;
+            if (task == min) {
+                min = null;
+            }
+            if (task.isUserClock) {
+                userClockTaskRemoved();
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        for (int i = 0; i <= OVERFLOW; i++) {
+            TimerTask task = slots[i];
+            slots[i] = null;
+            while (task != null) {
+                TimerTask next = task.next;
+                task.next = task.prev = null;
+                task.queue = null;
+                task = next;
+            }
+        }
+        for (int i = 0; i < occupied.length; i++) {
+            occupied[i] = 0;
+        }
+        size = 0;
+        min = null;
+        super.clear();
+    }
+
+    void checkUserClockChange() {
+        if (!hasUserClockTasks()) {
+            return;
+        }
+
+        final long userClockSkew = Timer.userClockSkew();
+        if (userClockSkew == 0) {
+            return;
+        }
+
+        // Take out all user clock tasks first, then put them back with
+        // their adjusted times, so that no task is visited twice.
+        TimerTask moved = null;
+        for (int i = 0; i <= OVERFLOW; i++) {
+            TimerTask task = slots[i];
+            while (task != null) {
+                TimerTask next = task.next;
+                if (task.isUserClock) {
+                    unlink(task);
+                    task.nextExecutionTime -= userClockSkew;
+                    task.next = moved;
+                    moved = task;
+                }
+                task = next;
+            }
+        }
+        while (moved != null) {
+            TimerTask next = moved.next;
+            moved.next = null;
+            place(moved);
+            moved = next;
+        }
+        min = null;
+    }
+
+    /**
+     * Links the task into the slot that covers its execution time.  A task
+     * that is already due goes to the cursor's slot.
+     */
+    private void place(TimerTask task) {
+        long time = task.nextExecutionTime;
+        if (time < cursor) {
+            time = cursor;
+        }
+        final long diff = time ^ cursor;
+        int slot;
+        if (diff >= (1L << SHIFT[LEVELS])) {
+            slot = OVERFLOW;
+        } else {
+            int level = 0;
+            while (diff >= (1L << SHIFT[level + 1])) {
+                level++;
+            }
+            slot = BASE[level] + index(level, time);
+            occupied[slot >> 6] |= 1L << (slot & 63);
+        }
+
+        TimerTask head = slots[slot];
+        task.next = head;
+        task.prev = null;
+        if (head != null) {
+            head.prev = task;
+        }
+        slots[slot] = task;
+        task.slot = slot;
+        task.queue = this;
+    }
+
+    private void unlink(TimerTask task) {
+        final int slot = task.slot;
+        final TimerTask next = task.next;
+        final TimerTask prev = task.prev;
+        if (prev == null) {
+            slots[slot] = next;
+            if (next == null && slot != OVERFLOW) {
+                occupied[slot >> 6] &= ~(1L << (slot & 63));
+            }
+        } else {
+            prev.next = next;
+        }
+        if (next != null) {
+            next.prev = prev;
+        }
+        task.next = task.prev = null;
+        task.queue = null;
+    }
+
+    /**
+     * Moves the cursor forward to <code>now</code>, but not past the
+     * earliest queued task, cascading the slots of the blocks it enters.
+     */
+    private void advance(long now) {
+        while (cursor < now) {
+            if (slots[index(0, cursor)] != null) {
+                return;
+            }
+            final long next = nextSlotTime();
+            if (next < 0 || next > now) {
+                // Nothing is queued in between, no slot needs cascading
+                cursor = now;
+                return;
+            }
+            final long diff = cursor ^ next;
+            cursor = next;
+            if (diff >= (1L << SHIFT[LEVELS])) {
+                cascade(OVERFLOW);
+            }
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if (diff >= (1L << SHIFT[level])) {
+                    cascade(BASE[level] + index(level, cursor));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the start time of the first non-empty slot after the
+     * cursor's, or -1 if the wheel is empty.
+     */
+    private long nextSlotTime() {
+        for (int level = 0; level < LEVELS; level++) {
+            final int slot = nextOccupied(BASE[level] + index(level, cursor) + 1,
+                                          BASE[level + 1]);
+            if (slot >= 0) {
+                final long span = (1L << SHIFT[level + 1]) - 1;
+                return (cursor & ~span) +
+                    ((long)(slot - BASE[level]) << SHIFT[level]);
+            }
+        }
+        if (slots[OVERFLOW] != null) {
+            return (cursor | ((1L << SHIFT[LEVELS]) - 1)) + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the earliest task.  All tasks in a level 0 slot other than
+     * the cursor's have the same execution time; the cursor's slot may
+     * also hold overdue tasks, and upper slots cover whole blocks.
+     */
+    private TimerTask findMin() {
+        for (int level = 0; level < LEVELS; level++) {
+            final int current = BASE[level] + index(level, cursor);
+            final int slot = nextOccupied(level == 0 ? current : current + 1,
+                                          BASE[level + 1]);
+            if (slot >= 0) {
+                if (level == 0 && slot != current) {
+                    return slots[slot];
+                }
+                return earliest(slots[slot]);
+            }
+        }
+        return earliest(slots[OVERFLOW]);
+    }
+
+    private void cascade(int slot) {
+        TimerTask task = slots[slot];
+        if (task == null) {
+            return;
+        }
+        slots[slot] = null;
+        if (slot != OVERFLOW) {
+            occupied[slot >> 6] &= ~(1L << (slot & 63));
+        }
+        while (task != null) {
+            final TimerTask next = task.next;
+            place(task);
+            task = next;
+        }
+    }
+
+    private static TimerTask earliest(TimerTask task) {
+        TimerTask result = task;
+        for (; task != null; task = task.next) {
+            if (task.nextExecutionTime < result.nextExecutionTime) {
+                result = task;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the first non-empty slot in [from, to), or -1.  Levels start
+     * on a word boundary of the occupied bitmap.
+     */
+    private int nextOccupied(int from, int to) {
+        while (from < to) {
+            final long word = occupied[from >> 6] >>> (from & 63);
+            if (word != 0) {
+                final int slot = from + lowestBit(word);
+                return slot < to ? slot : -1;
+            }
+            from = (from | 63) + 1;
+        }
+        return -1;
+    }
+
+    private static int index(int level, long time) {
+        return (int)(time >> SHIFT[level]) & (BASE[level + 1] - BASE[level] - 1);
+    }
+
+    private static int lowestBit(long word) {
+        int n = 0;
+        int bits = (int)word;
+        if (bits == 0) {
+            n = 32;
+            bits = (int)(word >>> 32);
+        }
+        if ((bits & 0xffff) == 0) {
+            n += 16;
+            bits >>>= 16;
+        }
+        if ((bits & 0xff) == 0) {
+            n += 8;
+            bits >>>= 8;
+        }
+        if ((bits & 0xf) == 0) {
+            n += 4;
+            bits >>>= 4;
+        }
+        if ((bits & 0x3) == 0) {
+            n += 2;
+            bits >>>= 2;
+        }
+        if ((bits & 0x1) == 0) {
+            n += 1;
+        }
+        return n;
+    }
+}
@@ -27,6 +27,7 @@
 package javax.microedition.io;
 
 import java.io.*;
+import java.util.Hashtable;
 import com.sun.cldc.io.*;
 
 /**
@@ -139,6 +140,19 @@ public class Connector {
      */
     private static String classRootFallback;
 
+    /**
+     * The protocol classes found so far, keyed by protocol name.  Static
+     * fields are private to each isolate, so every isolate fills its own
+     * cache and it goes away when the isolate exits.
+     */
+    private static final Hashtable protocolClasses = new Hashtable();
+
+    /**
+     * The last name opened, followed by its protocol name and target.
+     * The array is replaced as a whole and never modified.
+     */
+    private static String[] lastOpened;
+
     /**
      * Class initializer.
      */
@@ -273,69 +287,83 @@ public class Connector {
             );
         }
 
-        /* Look for : as in "http:", "file:", or whatever */
-        int colon = name.indexOf(':');
+        try {
+            String protocol;
 
-        /* Test for null argument */
-        if (colon < 1) {
-            throw new IllegalArgumentException(
+            String[] last = lastOpened;
+            if (last != null && last[0].equals(name)) {
+                /* Same name as the last open, reuse its parts */
+                protocol = last[1];
+                name = last[2];
+            } else {
+                String fullName = name;
+
+                /* Look for : as in "http:", "file:", or whatever */
+                int colon = name.indexOf(':');
+
+                /* Test for null argument */
+                if (colon < 1) {
+                    throw new IllegalArgumentException(
 /* #ifdef VERBOSE_EXCEPTIONS */
 /// skipped                       "no ':' in URL"
 /* #endif */
-            );
-        }
-
-        try {
-            String protocol;
+                    );
+                }
 
-            /* Strip off the protocol name */
-            protocol = name.substring(0, colon);
-
-            /* sanity check the protocol name */
-            char[] chars = protocol.toCharArray();
-            for (int i = 0; i < chars.length; ++i) {
-                char c = chars[i];
-                /* only allow characters that are valid in RFC 2396
-                   alpha *( alpha | digit | "+" | "-" | "." )
-                */
-                if ( ('A' <= c && c <= 'Z') ||
-                     ('a' <= c && c <= 'z') ||
-                     ( (i > 0) && (
-                         ('0' <= c && c <= '9') ||
-                         c == '+' ||
-                         c == '-' ||
-                         c == '.'))) {
-                    continue;
+                /* Strip off the protocol name */
+                protocol = name.substring(0, colon);
+
+                /* sanity check the protocol name */
+                char[] chars = protocol.toCharArray();
+                for (int i = 0; i < chars.length; ++i) {
+                    char c = chars[i];
+                    /* only allow characters that are valid in RFC 2396
+                       alpha *( alpha | digit | "+" | "-" | "." )
+                    */
+                    if ( ('A' <= c && c <= 'Z') ||
+                         ('a' <= c && c <= 'z') ||
+                         ( (i > 0) && (
+                             ('0' <= c && c <= '9') ||
+                             c == '+' ||
+                             c == '-' ||
+                             c == '.'))) {
+                        continue;
+                    }
+                    throw new IllegalArgumentException("Invalid protocol name");
                 }
-                throw new IllegalArgumentException("Invalid protocol name");
-            }
 
-            /* Strip off the rest of the string */
-            name = name.substring(colon+1);
+                /* Strip off the rest of the string */
+                name = name.substring(colon+1);
 
-            /* Convert all the '-' characters in the protocol */
-            /* name to '_' characters (dashes are not allowed */
-            /* in class names).  This operation creates garbage */
-            /* only if the protocol name actually contains dashes */
-            protocol = protocol.replace('-', '_');
+                /* Convert all the '-' characters in the protocol */
+                /* name to '_' characters (dashes are not allowed */
+                /* in class names).  This operation creates garbage */
+                /* only if the protocol name actually contains dashes */
+                protocol = protocol.replace('-', '_');
+
+                lastOpened = new String[] { fullName, protocol, name };
+            }
 
             /* Use the platform and protocol names to look up */
-            /* a class to implement the connection */
-            Class clazz;
-            try {
-                clazz =
-                    Class.forName(classRoot +
-                              "." + platform +
-                              "." + protocol + ".Protocol");
-            } catch (ClassNotFoundException exc) {
-                if (classRootFallback != null) {
+            /* a class to implement the connection, once per protocol */
+            Class clazz = (Class)protocolClasses.get(protocol);
+            if (clazz == null) {
+                try {
                     clazz =
-                        Class.forName(classRootFallback +
-                              "." + platform +
-                              "." + protocol + ".Protocol");
-                } else {
-                    throw exc;
+                        Class.forName(classRoot +
+                                  "." + platform +
+                                  "." + protocol + ".Protocol");
+                } catch (ClassNotFoundException exc) {
+                    if (classRootFallback != null) {
+                        clazz =
+                            Class.forName(classRootFallback +
+                                  "." + platform +
+                                  "." + protocol + ".Protocol");
+                    } else {
+                        throw exc;
+                    }
                 }
+                protocolClasses.put(protocol, clazz);
             }
 
             /* Construct a new instance of the protocol */
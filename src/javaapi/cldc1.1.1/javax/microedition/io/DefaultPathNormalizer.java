@@ -36,6 +36,10 @@ class DefaultPathNormalizer implements PathNormalizer {
       return "/";
     }
 
+    if (!hasDotSegments(path)) {
+      return path;
+    }
+
     // Remove Dot Segments, as specified by RFC 3986, section 5.2.4
     {
       Stack segments = new Stack();
@@ -69,14 +73,35 @@ class DefaultPathNormalizer implements PathNormalizer {
         p = q;
       } while (p < path.length());
 
-      String normalizedPath = "";
+      StringBuffer sb = new StringBuffer(path.length());
+      for (int i = 0; i < segments.size(); i++) {
+        sb.append((String)segments.elementAt(i));
+      }
+      return sb.toString();
+    }
+  }
+
+  // Returns true if the path has a ".", "..", "/." or "/.." segment, 
+  // using the same segment boundaries as normalize(). Paths without dot 
+  // segments are already normalized.
+  //
+  private static boolean hasDotSegments(String path) {
+    int n = path.length();
+    int p = 0;
+    do {
+      int q = path.indexOf('/', p + 1);
+      if (q == -1) {
+        q = n;
+      }
 
-      while (!segments.empty()) {
-        String s = (String)segments.pop();
-        normalizedPath = s + normalizedPath;
+      int d = (path.charAt(p) == '/') ? p + 1 : p;
+      if (q > d && q - d <= 2 && path.charAt(d) == '.' 
+          && (q - d == 1 || path.charAt(d + 1) == '.')) {
+        return true;
       }
+      p = q;
+    } while (p < n);
 
-      return normalizedPath;
-    }
+    return false;
   }
 }
@@ -51,14 +51,29 @@ public abstract class GCFPermission extends Permission {
   // triggers construction of one more subclass instance.
   private static final Hashtable map = new Hashtable();
 
+  // Recently parsed URIs. Permissions for the same URI string are created
+  // over and over again by permission checks, and they can share one parse
+  // since the parser is not modified after construction.
+  private static final int PARSER_CACHE_SIZE = 32;
+  private static final Hashtable parsers = new Hashtable();
+
   private static String normalize(String uri, 
                                   PortRangeNormalizer portRangeNormalizer,
                                   PathNormalizer pathNormalizer,
                                   boolean normalizeAuthority) {
-    URIParser p = new URIParser(uri, 
-                                portRangeNormalizer,
-                                pathNormalizer, 
-                                normalizeAuthority);
+    URIParser p = (uri == null) ? null : (URIParser)parsers.get(uri);
+    if (p == null || !p.isParsedWith(portRangeNormalizer, 
+                                     pathNormalizer, 
+                                     normalizeAuthority)) {
+      p = new URIParser(uri, 
+                        portRangeNormalizer,
+                        pathNormalizer, 
+                        normalizeAuthority);
+      if (parsers.size() >= PARSER_CACHE_SIZE) {
+        parsers.clear();
+      }
+      parsers.put(uri, p);
+    }
     
     Thread t = Thread.currentThread();
     // NOTE: the mapping can be non-empty at this point if the previous
@@ -182,7 +197,10 @@ public abstract class GCFPermission extends Permission {
     }
 
     if (thisHost.startsWith("*")) {
-      return thatHost.endsWith(thisHost.substring(1));
+      // Same as thatHost.endsWith(thisHost.substring(1))
+      int n = thisHost.length() - 1;
+      return thatHost.regionMatches(false, thatHost.length() - n, 
+                                    thisHost, 1, n);
     }
 
     return false;    
@@ -127,23 +127,36 @@ class URIParser {
   private static final int PORT_MAX = 65535;
   private static final int[] ALL_PORTS = new int[] { PORT_MIN, PORT_MAX };
 
+  // Components that are copied verbatim from the input are recorded as
+  // [start, end) offsets into it, and only materialized as strings when
+  // they are asked for. A start of -1 means that the component is absent.
+
   // Components of all URIs: [<scheme>:]<scheme-specific-part>[#<fragment>]
   private String scheme;		// null ==> relative URI
   private String fragment;
+  private int fragmentStart = -1;
+  private int fragmentEnd;
 
   // Hierarchical URI components: [//<authority>]<path>[?<query>]
   private String authority;		// Registry or server
 
   private String userInfo;
+  private int userInfoStart = -1;
+  private int userInfoEnd;
   private String host;		// null ==> registry-based
   private int[] portrange = ALL_PORTS;
   private String portrangeString;
 
   // Remaining components of hierarchical URIs
   private String path;		// null ==> opaque
+  private int pathStart = -1;
+  private int pathEnd;
   private String query;
+  private int queryStart = -1;
+  private int queryEnd;
 
   private String schemeSpecificPart;
+  private int sspStart;         // offset in the normalized URI
 
   private final String input; // URI input string
   private final PortRangeNormalizer portRangeNormalizer; 
@@ -153,6 +166,10 @@ class URIParser {
       // true if authority should be normalized
   private String normalized;  // normalized URI
 
+  // The normalized URI is built in buf[0, count) while parsing
+  private char[] buf;
+  private int count;
+
   URIParser(String s, 
             PortRangeNormalizer portRangeNormalizer, 
             PathNormalizer pathNormalizer,
@@ -164,8 +181,21 @@ class URIParser {
     this.portRangeNormalizer = portRangeNormalizer;
     this.pathNormalizer = pathNormalizer;
     this.normalizeAuthority = normalizeAuthority;
-    normalized = "";
+    buf = new char[s.length() + 16];
     parse();
+    normalized = new String(buf, 0, count);
+    buf = null;
+  }
+
+  // Returns true if this parser was created with the given normalizers,
+  // so that its results can be shared for the same input string
+  //
+  boolean isParsedWith(PortRangeNormalizer portRangeNormalizer, 
+                       PathNormalizer pathNormalizer,
+                       boolean normalizeAuthority) {
+    return this.portRangeNormalizer == portRangeNormalizer 
+        && this.pathNormalizer == pathNormalizer
+        && this.normalizeAuthority == normalizeAuthority;
   }
 
   // -- Field accessor methods --
@@ -178,6 +208,9 @@ class URIParser {
     return scheme;
   }
   public String getFragment() {
+    if (fragment == null && fragmentStart >= 0) {
+      fragment = substring(fragmentStart, fragmentEnd);
+    }
     return fragment;
   }
 
@@ -189,6 +222,9 @@ class URIParser {
   }
 
   public String getUserInfo() {
+    if (userInfo == null && userInfoStart >= 0) {
+      userInfo = substring(userInfoStart, userInfoEnd);
+    }
     return userInfo;
   }
 
@@ -204,13 +240,22 @@ class URIParser {
   // Remaining components of hierarchical URIs
   // null ==> opaque
   public String getPath() {
+    if (path == null && pathStart >= 0) {
+      path = substring(pathStart, pathEnd);
+    }
     return path;		
   }
   public String getQuery() {
+    if (query == null && queryStart >= 0) {
+      query = substring(queryStart, queryEnd);
+    }
     return query;
   }
 
   public String getSchemeSpecificPart() {
+    if (schemeSpecificPart == null) {
+      schemeSpecificPart = normalized.substring(sspStart);
+    }
     return schemeSpecificPart;
   }
 
@@ -392,12 +437,49 @@ class URIParser {
     checkChars(p, p + 1, lowMask, highMask, what);
   }
 
+  // -- Building the normalized URI --
+
+  private void ensureCapacity(int n) {
+    if (count + n > buf.length) {
+      char[] newBuf = new char[Math.max(buf.length * 2, count + n)];
+      System.arraycopy(buf, 0, newBuf, 0, count);
+      buf = newBuf;
+    }
+  }
+
   private void append(String s) {
-    normalized = normalized + s;
+    int n = s.length();
+    ensureCapacity(n);
+    s.getChars(0, n, buf, count);
+    count += n;
   }
 
-  private String normalizedSubstring(int n) {
-    return normalized.substring(n);
+  private void append(char c) {
+    ensureCapacity(1);
+    buf[count++] = c;
+  }
+
+  // Append the input chars in [start, end)
+  //
+  private void append(int start, int end) {
+    ensureCapacity(end - start);
+    input.getChars(start, end, buf, count);
+    count += end - start;
+  }
+
+  // Append a non-negative number in decimal
+  //
+  private void appendNumber(int value) {
+    int digits = 1;
+    for (int v = value; v >= 10; v /= 10) {
+      digits++;
+    }
+    ensureCapacity(digits);
+    for (int i = count + digits - 1; i >= count; i--) {
+      buf[i] = (char)('0' + value % 10);
+      value /= 10;
+    }
+    count += digits;
   }
 
   // -- Parsing --
@@ -415,7 +497,8 @@ class URIParser {
       checkChars(1, p, L_SCHEME, H_SCHEME, "scheme name");
       scheme = substring(0, p).toLowerCase();
       // normalize scheme to lowecase as prescribed by RFC 3986
-      append(scheme + ":");
+      append(scheme);
+      append(':');
       p++;			// Skip ':'
 
       ssp = p;
@@ -437,7 +520,7 @@ class URIParser {
         p = parseFragment(p, n);
       }
 
-      schemeSpecificPart = normalizedSubstring(ssp);
+      sspStart = ssp;
 
       normalizePercentEncoded();
     } else {
@@ -447,31 +530,29 @@ class URIParser {
 
   //
   // RFC 3986 requires that hexadecimal digits in percent-encoding 
-  // triplets are normalized to use uppercase letters.
+  // triplets are normalized to use uppercase letters. This is done in
+  // place; the scheme-specific part keeps the original letters.
   //
   private void normalizePercentEncoded() {
-    int n = normalized.length();
+    int n = count;
     int p = 0;
-    int q = p;
-    String s = "";
     while (p + 2 < n) {
-      if (normalized.charAt(p) == '%' && 
-          match(normalized.charAt(p + 1), L_HEXDIG, H_HEXDIG)
-          && match(normalized.charAt(p + 2), L_HEXDIG, H_HEXDIG)) {
-        String triplet = normalized.substring(p, p + 3).toUpperCase();
-        s += normalized.substring(q, p) + triplet;
+      if (buf[p] == '%' && 
+          match(buf[p + 1], L_HEXDIG, H_HEXDIG)
+          && match(buf[p + 2], L_HEXDIG, H_HEXDIG)) {
+        for (int i = p + 1; i <= p + 2; i++) {
+          char c = buf[i];
+          if (c >= 'a' && c <= 'f') {
+            if (schemeSpecificPart == null) {
+              schemeSpecificPart = new String(buf, sspStart, n - sspStart);
+            }
+            buf[i] = (char)(c - 'a' + 'A');
+          }
+        }
         p += 2;
-        q = p + 1;
       }
       p++;
     }
-    if (q < n) {
-      s += normalized.substring(q, n);
-    }
-    if (!normalized.toUpperCase().equals(s.toUpperCase())) {
-      fail("Internal parser error: normalization failed");
-    }
-    normalized = s;
   }
 
   // 
@@ -490,7 +571,8 @@ class URIParser {
       }
       int q = scan(p, n, "", "/");
 
-      append("//");
+      append('/');
+      append('/');
 
       p = parseAuthority(p, q);
       if (p != q && !at(p, n, '/')) {
@@ -508,11 +590,14 @@ class URIParser {
     //
     // pchar         = unreserved / pct-encoded / sub-delims / ":" / "@"
     checkChars(p, n, L_PATH, H_PATH, "path");
-    path = substring(p, n);
     if (pathNormalizer != null) {
-      path = pathNormalizer.normalize(path);
+      path = pathNormalizer.normalize(substring(p, n));
+      append(path);
+    } else {
+      pathStart = p;
+      pathEnd = n;
+      append(p, n);
     }
-    append(path);
     p = n;
     return p;
   }
@@ -526,11 +611,12 @@ class URIParser {
     int q = scan(p, n, L_USERINFO, H_USERINFO);
 
     if (q > p && at(q, n, '@')) {
-      userInfo = substring(p, q);
+      userInfoStart = p;
+      userInfoEnd = q;
+      append(p, q);
+      append('@');
       // skip '@'
       p = q + 1;
-
-      append(userInfo + "@");
     }
 
     p = parseHost(p, n);
@@ -616,14 +702,14 @@ class URIParser {
 
       try {
         if (r > p) {
-          low = Integer.parseInt(substring(p, r));
+          low = parseInt(p, r);
           if (r >= n) {
             high = low;
           }
         } 
           
         if (r + 1 < n) {
-          high = Integer.parseInt(substring(r + 1, n));
+          high = parseInt(r + 1, n);
         }
       } catch (NumberFormatException x) {
         fail("Malformed port range", p);
@@ -640,15 +726,16 @@ class URIParser {
         norm = portRangeNormalizer.normalize(range);
       } 
 
-      if (norm == null) {
-        if (range[0] == range[1]) {
-          norm = ":" + range[0];
-        } else {
-          norm = ":" + range[0] + "-" + range[1];
+      if (norm != null) {
+        append(norm);
+      } else {
+        append(':');
+        appendNumber(range[0]);
+        if (range[0] != range[1]) {
+          append('-');
+          appendNumber(range[1]);
         }
       }
-       
-      append(norm);
     } else if (!"".equals(s)) {
       fail("Malformed port range", p);
     }
@@ -660,12 +747,46 @@ class URIParser {
     return p;
   }
 
+  // Parse the input chars in [start, end) as Integer.parseInt() would,
+  // without creating a substring
+  //
+  private int parseInt(int start, int end) throws NumberFormatException {
+    int p = start;
+    boolean negative = at(p, end, '-');
+    if (negative) {
+      p++;
+    }
+    if (p >= end) {
+      throw new NumberFormatException();
+    }
+    int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+    int result = 0;
+    while (p < end) {
+      int digit = Character.digit(charAt(p++), 10);
+      if (digit < 0 || result < limit / 10 
+          || result * 10 < limit + digit) {
+        throw new NumberFormatException();
+      }
+      result = result * 10 - digit;
+    }
+    return negative ? result : -result;
+  }
+
   // Scan a string of decimal digits whose value fits in a byte
   //
   private int scanByte(int start, int n) throws IllegalArgumentException {
     int p = start;
     int q = scan(p, n, L_DIGIT, H_DIGIT);
     if (q <= p) return q;
+    if (q - p <= 3) {
+      // At most three digits, no leading zeroes
+      if (q - p > 1 && charAt(p) == '0') return p;
+      int value = 0;
+      for (int i = p; i < q; i++) {
+        value = value * 10 + (charAt(i) - '0');
+      }
+      return (value > 255) ? p : q;
+    }
     String s = substring(p, q);
     int value = Integer.parseInt(s);
     if (value > 255) return p;
@@ -934,8 +1055,10 @@ class URIParser {
   // query         = *( pchar / "/" / "?" )
   private int parseQuery(int start, int n) {
     checkChars(start, n, L_QUERY, H_QUERY, "query component");
-    query = substring(start, n);
-    append("?" + query);
+    queryStart = start;
+    queryEnd = n;
+    append('?');
+    append(start, n);
     return n;
   }
 
@@ -943,31 +1066,34 @@ class URIParser {
   // fragment      = *( pchar / "/" / "?" )
   private int parseFragment(int start, int n) {
     checkChars(start, n, L_QUERY, H_QUERY, "fragment component");
-    fragment = substring(start, n);
-    append("#" + fragment);
+    fragmentStart = start;
+    fragmentEnd = n;
+    append('#');
+    append(start, n);
     return n;
   }
 
   void checkNoFragment() {
-    if (fragment != null && !"".equals(fragment)) {
+    if (fragmentEnd > fragmentStart && fragmentStart >= 0) {
       fail("Fragment component not allowed");
     }
   }
 
   void checkNoUserInfo() {
-    if (userInfo != null && !"".equals(userInfo)) {
+    if (userInfoEnd > userInfoStart && userInfoStart >= 0) {
       fail("Userinfo component not allowed");
     }
   }
 
   void checkNoPath() {
-    if (path != null && !"".equals(path)) {
+    if (pathStart >= 0 ? pathEnd > pathStart 
+                       : path != null && !"".equals(path)) {
       fail("Path component not allowed");
     }
   }
 
   void checkNoQuery() {
-    if (query != null && !"".equals(query)) {
+    if (queryEnd > queryStart && queryStart >= 0) {
       fail("Query component not allowed");
     }
   }
@@ -110,4 +110,43 @@ public abstract class StreamReader extends Reader {
      */
     public abstract int sizeOf(byte[] array, int offset, int length);
 
+    /**
+     * Convert an array of bytes to chars without going through the
+     * input stream. <code>dst</code> must have room for the number of
+     * chars returned by <code>sizeOf</code>.
+     * <p>
+     * This implementation opens the reader on a
+     * <code>ByteArrayInputStream</code> and is synchronized on the
+     * reader. Readers that keep no state between calls should override
+     * it so that one instance can be shared by all threads.
+     *
+     * @param  src     The byte array
+     * @param  srcOff  The offset of the first byte
+     * @param  srcLen  The number of bytes to convert
+     * @param  dst     The char array
+     * @param  dstOff  The offset of the first char to store
+     * @return         The number of chars stored
+     */
+    public synchronized int bytesToChars(byte[] src, int srcOff, int srcLen,
+                                         char[] dst, int dstOff) {
+        try {
+            open(new ByteArrayInputStream(src, srcOff, srcLen), null);
+            int count = 0;
+            int n;
+            while (count < dst.length - dstOff &&
+                   (n = read(dst, dstOff + count,
+                             dst.length - dstOff - count)) > 0) {
+                count += n;
+            }
+            close();
+            return count;
+        } catch(IOException x) {
+            throw new RuntimeException(
+/* #ifdef VERBOSE_EXCEPTIONS */
+/// skipped                       "IOException reading reader " +x.getMessage()
+/* #endif */
+            );
+        }
+    }
+
 }
@@ -0,0 +1,191 @@
+/*
+ *   
+ *
+ * Copyright  1990-2007 Sun Microsystems, Inc. All Rights Reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License version
+ * 2 only, as published by the Free Software Foundation.
+ * 
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License version 2 for more details (a copy is
+ * included at /legal/license.txt).
+ * 
+ * You should have received a copy of the GNU General Public License
+ * version 2 along with this work; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA
+ * 
+ * Please contact Sun Microsystems, Inc., 4150 Network Circle, Santa
+ * Clara, CA 95054 or visit www.sun.com if you need additional
+ * information or have any questions.
+ */
+
+
+package com.sun.cldc.i18n.j2me;
+
+import java.io.*;
+import com.sun.cldc.i18n.*;
+
+/**
+ * UTF-8 class for output stream writers. Whole buffers are encoded
+ * by a single native call; unpaired surrogates are written as '?'.
+ */
+public class UTF_8_Writer extends StreamWriter {
+
+    /** Characters encoded per native call; each takes up to 3 bytes */
+    private static final int CHUNK_LEN = 128;
+
+    /** Encoded bytes waiting to be written to the stream */
+    private byte bbuf[] = new byte[CHUNK_LEN * 3];
+
+    /** High surrogate held back until its low surrogate arrives, or 0 */
+    private char pendingHigh;
+
+    /** Buffer used by write(int) */
+    private char single[] = new char[1];
+
+    /**
+     * Open the writer
+     */
+    public Writer open(OutputStream out, String enc)
+        throws UnsupportedEncodingException {
+
+        pendingHigh = 0;
+        return super.open(out, enc);
+    }
+
+    /**
+     * Write a single character.
+     *
+     * @exception  IOException  If an I/O error occurs
+     */
+    synchronized public void write(int c) throws IOException {
+        if (c < 0x80 && pendingHigh == 0) {
+            out.write(c);
+        } else {
+            single[0] = (char)c;
+            write(single, 0, 1);
+        }
+    }
+
+    /**
+     * Write a portion of an array of characters.
+     *
+     * @param  cbuf  Buffer of characters to be written
+     * @param  off   Offset from which to start reading characters
+     * @param  len   Number of characters to be written
+     *
+     * @exception  IOException  If an I/O error occurs
+     */
+    synchronized public void write(char cbuf[], int off, int len)
+        throws IOException {
+
+        if (off < 0 || len < 0 || off > cbuf.length - len) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return;
+        }
+
+        if (pendingHigh != 0) {
+            char c = cbuf[off];
+            if (c >= 0xDC00 && c <= 0xDFFF) {
+                int cp = ((pendingHigh - 0xD800) << 10) + (c - 0xDC00)
+                       + 0x10000;
+                bbuf[0] = (byte)(0xF0 | (cp >> 18));
+                bbuf[1] = (byte)(0x80 | ((cp >> 12) & 0x3F));
+                bbuf[2] = (byte)(0x80 | ((cp >> 6) & 0x3F));
+                bbuf[3] = (byte)(0x80 | (cp & 0x3F));
+                out.write(bbuf, 0, 4);
+                off++;
+                len--;
+            } else {
+                out.write('?');
+            }
+            pendingHigh = 0;
+        }
+
+        while (len > 0) {
+            int n = (len > CHUNK_LEN) ? CHUNK_LEN : len;
+            char last = cbuf[off + n - 1];
+            if (last >= 0xD800 && last <= 0xDBFF) {
+                /* Keep a high surrogate together with its low surrogate */
+                if (--n == 0) {
+                    pendingHigh = last;
+                    return;
+                }
+            }
+            out.write(bbuf, 0, encode(cbuf, off, n, bbuf, 0));
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Close the writer and the output stream.
+     *
+     * @exception  IOException  If an I/O error occurs
+     */
+    public void close() throws IOException {
+        if (out != null && pendingHigh != 0) {
+            pendingHigh = 0;
+            out.write('?');
+        }
+        super.close();
+    }
+
+    /**
+     * Get the size in bytes of an array of chars
+     */
+    public int sizeOf(char[] array, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > array.length - length) {
+            throw new IndexOutOfBoundsException();
+        }
+        return encodedLength(array, offset, length);
+    }
+
+    /**
+     * Convert an array of chars to bytes. The conversion does not use
+     * the writer's buffers, so no lock is taken.
+     */
+    public int charsToBytes(char[] src, int srcOff, int srcLen,
+                            byte[] dst, int dstOff) {
+        if (srcOff < 0 || srcLen < 0 || srcOff > src.length - srcLen ||
+                dstOff < 0 || dstOff > dst.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        /* Three bytes per char always fit; otherwise count them first */
+        if ((dst.length - dstOff) / 3 < srcLen &&
+                dst.length - dstOff < encodedLength(src, srcOff, srcLen)) {
+            throw new IndexOutOfBoundsException();
+        }
+        return encode(src, srcOff, srcLen, dst, dstOff);
+    }
+
+    /**
+     * Encode characters as UTF-8. Surrogate pairs are encoded as one
+     * four-byte sequence, unpaired surrogates as '?'. The caller must
+     * check the array bounds, and <code>dst</code> must have room for
+     * three bytes per character.
+     *
+     * @param  src     The characters
+     * @param  srcOff  The offset of the first character
+     * @param  srcLen  The number of characters to encode
+     * @param  dst     The byte buffer
+     * @param  dstOff  The offset of the first byte to store
+     * @return         The number of bytes stored
+     */
+    public static native int encode(char src[], int srcOff, int srcLen,
+                                    byte dst[], int dstOff);
+
+    /**
+     * Get the number of bytes <code>encode</code> would store for the
+     * given characters. The caller must check the array bounds.
+     */
+    public static native int encodedLength(char src[], int srcOff,
+                                           int srcLen);
+}
@@ -227,9 +227,8 @@ public class TimeZoneImpl extends TimeZone {
 
         // Compare the date to the starting and ending rules.+1 = date>rule, -1
         // = date<rule, 0 = date==rule.
-        int startCompare = compareToRule(month, monthLength, day, dayOfWeek, millis,
-                                         startMode, startMonth, startDayOfWeek,
-                                         startDay, startTime);
+        int startCompare = compareToStartRule(month, monthLength, day,
+                                              dayOfWeek, millis);
         int endCompare = 0;
 
         // We don't always have to compute endCompare.  For many instances,
@@ -256,9 +255,8 @@ public class TimeZoneImpl extends TimeZone {
                     ++month;
                 }
             }
-            endCompare = compareToRule(month, monthLength, day, dayOfWeek, millis,
-                                       endMode, endMonth, endDayOfWeek,
-                                       endDay, endTime);
+            endCompare = compareToEndRule(month, monthLength, day,
+                                          dayOfWeek, millis);
         }
 
         // Check for both the northern and southern hemisphere cases.  We
@@ -275,21 +273,68 @@ public class TimeZoneImpl extends TimeZone {
     }
 
     /**
-     * Compare a given date in the year to a rule. Return 1, 0, or -1, depending
-     * on whether the date is after, equal to, or before the rule date. The
-     * millis are compared directly against the ruleMillis, so any
-     * standard-daylight adjustments must be handled by the caller.
+     * Compare a given date in the year to the start rule. Return 1, 0, or
+     * -1, depending on whether the date is after, equal to, or before the
+     * rule date. The millis are compared directly against the startTime,
+     * so any standard-daylight adjustments must be handled by the caller.
      *
      * @return  1 if the date is after the rule date, -1 if the date is before
      *          the rule date, or 0 if the date is equal to the rule date.
      */
-    private static int compareToRule(int month, int monthLen, int dayOfMonth,
-                                     int dayOfWeek, int millis,
-                                     int ruleMode, int ruleMonth, int ruleDayOfWeek,
-                                     int ruleDay, int ruleMillis) {
-        if (month < ruleMonth) return -1;
-        else if (month > ruleMonth) return 1;
+    private int compareToStartRule(int month, int monthLen, int dayOfMonth,
+                                   int dayOfWeek, int millis) {
+        if (month < startMonth) return -1;
+        else if (month > startMonth) return 1;
+
+        int layout = monthLayout(monthLen, dayOfMonth, dayOfWeek);
+        int cache = startRuleCache;
+        if ((cache & 0xff) != layout) {
+            cache = (ruleDayOfMonth(monthLen, dayOfMonth, dayOfWeek,
+                                    startMode, startDayOfWeek, startDay) << 8)
+                    | layout;
+            startRuleCache = cache;
+        }
+        return compareToDay(dayOfMonth, millis, cache >> 8, startTime);
+    }
+
+    /**
+     * Compare a given date in the year to the end rule.  This method is
+     * exactly analogous to compareToStartRule().
+     * @see compareToStartRule
+     */
+    private int compareToEndRule(int month, int monthLen, int dayOfMonth,
+                                 int dayOfWeek, int millis) {
+        if (month < endMonth) return -1;
+        else if (month > endMonth) return 1;
+
+        int layout = monthLayout(monthLen, dayOfMonth, dayOfWeek);
+        int cache = endRuleCache;
+        if ((cache & 0xff) != layout) {
+            cache = (ruleDayOfMonth(monthLen, dayOfMonth, dayOfWeek,
+                                    endMode, endDayOfWeek, endDay) << 8)
+                    | layout;
+            endRuleCache = cache;
+        }
+        return compareToDay(dayOfMonth, millis, cache >> 8, endTime);
+    }
 
+    /**
+     * Returns a non-zero value identifying the layout of a month: the day
+     * of week of its first day in bits 0-2 and its length in bits 3-7.
+     * The day of month a rule falls on depends on nothing else.
+     */
+    private static int monthLayout(int monthLen, int dayOfMonth,
+                                   int dayOfWeek) {
+        return (monthLen << 3) | (1 + (35 + dayOfWeek - dayOfMonth) % 7);
+    }
+
+    /**
+     * Returns the day of month a rule falls on, in the month of the given
+     * date.
+     */
+    private static int ruleDayOfMonth(int monthLen, int dayOfMonth,
+                                      int dayOfWeek, int ruleMode,
+                                      int ruleDayOfWeek, int ruleDay) {
         int ruleDayOfMonth = 0;
         switch (ruleMode) {
         case DOM_MODE:
@@ -317,7 +362,15 @@ public class TimeZoneImpl extends TimeZone {
             // be >=1 for well-formed rules.
             break;
         }
+        return ruleDayOfMonth;
+    }
 
+    /**
+     * Compare a given day and time in a rule's month to the rule's day and
+     * time.
+     */
+    private static int compareToDay(int dayOfMonth, int millis,
+                                    int ruleDayOfMonth, int ruleMillis) {
         if (dayOfMonth < ruleDayOfMonth) return -1;
         else if (dayOfMonth > ruleDayOfMonth) return 1;
 
@@ -407,14 +460,79 @@ public class TimeZoneImpl extends TimeZone {
         }
 
 	// check the id string, not the computed string
-        for (int i = 0; i < zones.length; i++) {
-	    TimeZoneImpl tzi = (TimeZoneImpl) zones[i];
+        int i = findZone(ID);
+        if (i >= 0) {
+            return getZone(i);
+        }
 
-	    if (tzi.ID.equals(ID))
-                return zones[i];
+	return parseCustomTimeZone(ID);
+    }
+
+    /**
+     * Returns the index of the zone with the given ID in the zone table,
+     * or -1 if there is no such zone.
+     */
+    private static int findZone(String ID) {
+        int[] index = zoneIndex;
+        if (index == null) {
+            index = buildZoneIndex();
+        }
+        int mask = index.length - 1;
+        for (int h = ID.hashCode() & mask; index[h] != 0; h = (h + 1) & mask) {
+            int i = index[h] - 1;
+            if (zoneIDs[i].equals(ID)) {
+                return i;
             }
+        }
+        return -1;
+    }
 
-	return parseCustomTimeZone(ID);
+    /**
+     * Builds the hash index of the zone table.  The index is kept at most
+     * half full so that probe sequences stay short.
+     */
+    private static int[] buildZoneIndex() {
+        int size = 2;
+        while (size < zoneIDs.length * 2) {
+            size <<= 1;
+        }
+        int[] index = new int[size];
+        int mask = size - 1;
+        for (int i = 0; i < zoneIDs.length; i++) {
+            int h = zoneIDs[i].hashCode() & mask;
+            while (index[h] != 0) {
+                h = (h + 1) & mask;
+            }
+            index[h] = i + 1;
+        }
+        zoneIndex = index;
+        return index;
+    }
+
+    /**
+     * Returns the zone at the given index of the zone table, creating it
+     * on first use.
+     */
+    private static TimeZone getZone(int i) {
+        if (zones == null) {
+            zones = new TimeZone[zoneIDs.length];
+        }
+        TimeZone zone = zones[i];
+        if (zone == null) {
+            int r = i * ZONE_FIELDS;
+            if (zoneRules[r + 2] == 0) {
+                zone = new TimeZoneImpl(zoneRules[r], zoneIDs[i]);
+            } else {
+                zone = new TimeZoneImpl(zoneRules[r], zoneIDs[i],
+                                        zoneRules[r + 1], zoneRules[r + 2],
+                                        zoneRules[r + 3], zoneRules[r + 4],
+                                        zoneRules[r + 5], zoneRules[r + 6],
+                                        zoneRules[r + 7], zoneRules[r + 8],
+                                        zoneRules[r + 9]);
+            }
+            zones[i] = zone;
+        }
+        return zone;
     }
 
     static final String         GMT_ID        = "GMT";
@@ -512,18 +630,16 @@ public class TimeZoneImpl extends TimeZone {
     /** Gets all the available IDs supported.
      * @return  an array of IDs.
      */
-    public synchronized String[] getIDs() {
-        if (ids == null) {
-            ids = new String[zones.length];
-
-	    // use the actual String, rather than the
-	    // derived TimeZone ID
-            for (int i = 0; i < zones.length; i++) {
-		TimeZoneImpl tzi = (TimeZoneImpl) zones[i];
-		ids[i] = tzi.ID;
-	    }
+    public String[] getIDs() {
+        String[] result = ids;
+        if (result == null) {
+            // the zone table must not be handed out, it is also the
+            // lookup table of getInstance()
+            result = new String[zoneIDs.length];
+            System.arraycopy(zoneIDs, 0, result, 0, zoneIDs.length);
+            ids = result;
         }
-        return ids;
+        return result;
     }
 
     // =======================privates===============================
@@ -756,6 +872,16 @@ public class TimeZoneImpl extends TimeZone {
      */
     private int dstSavings;
 
+    /**
+     * The day of month of the start and end rules, shifted left by 8 bits
+     * and tagged with the monthLayout() of the month they were computed
+     * for.  A rule month has the same layout all year, so getOffset()
+     * recomputes these only when the year changes.  Zero if nothing has
+     * been computed yet.
+     */
+    private int startRuleCache;
+    private int endRuleCache;
+
     /**
      * Constants specifying values of startMode and endMode.
      */
@@ -975,12 +1101,22 @@ public class TimeZoneImpl extends TimeZone {
         }
     }
 
-    static TimeZone zones[] = {
+    /*
+     * The zone table.  Zone i has the ID zoneIDs[i] and the ZONE_FIELDS
+     * values of zoneRules[] that start at i * ZONE_FIELDS: the raw offset
+     * followed by the start rule, the end rule and the DST savings, in the
+     * encoded form taken by the constructor.  A start day of 0 means the
+     * zone doesn't use daylight savings time.  Zones are only created from
+     * the table when they are looked up.
+     */
+    private static final int ZONE_FIELDS = 10;
+
+    private static final String zoneIDs[] = {
 
     //----------------------------------------------------------
-    new TimeZoneImpl(0*ONE_HOUR, "GMT"),
+    "GMT",
     // GMT  -(-)    0:00    -   GMT
-    new TimeZoneImpl(0*ONE_HOUR, "UTC"),
+    "UTC",
     /**
      * NOTE: as in this example, most implementations will only include
      * a handful of timezones
@@ -990,352 +1126,284 @@ public class TimeZoneImpl extends TimeZone {
     ////////////////////////////////////////////////////////////
     // America
     //----------------------------------------------------------
-    new TimeZoneImpl(-10*ONE_HOUR, "America/Adak",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "America/Adak",
     // Rule US  1967    max -   Oct lastSun 2:00    0   S
     // Rule US  1987    max -   Apr Sun>=1  2:00    1:00    D
     // America/Adak Alaska(US)  -10:00  US  HA%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-9*ONE_HOUR, "America/Anchorage",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "America/Anchorage",
     // Rule US  1967    max -   Oct lastSun 2:00    0   S
     // Rule US  1987    max -   Apr Sun>=1  2:00    1:00    D
     // America/Anchorage    Alaska(US)  -9:00   US  AK%sT
-    new TimeZoneImpl(-9*ONE_HOUR, "AST",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "AST",
     //----------------------------------------------------------
-    new TimeZoneImpl(-8*ONE_HOUR, "America/Vancouver",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "America/Vancouver",
     // Rule Vanc    1962    max -   Oct lastSun 2:00    0   S
     // Rule Vanc    1987    max -   Apr Sun>=1  2:00    1:00    D
     // America/Vancouver    British Columbia(CA)    -8:00   Vanc    P%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-8*ONE_HOUR, "America/Tijuana",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "America/Tijuana",
     // Rule Mexico  1996    max -   Apr Sun>=1  2:00    1:00    D
     // Rule Mexico  1996    max -   Oct lastSun 2:00    0   S
     // America/Tijuana  Mexico(MX)  -8:00   Mexico  P%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-8*ONE_HOUR, "America/Los_Angeles",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "America/Los_Angeles",
     // Rule US  1967    max -   Oct lastSun 2:00    0   S
     // Rule US  1987    max -   Apr Sun>=1  2:00    1:00    D
     // America/Los_Angeles  US Pacific time, represented by Los Angeles(US) -8:00   US  P%sT
 
-    new TimeZoneImpl(-8*ONE_HOUR, "PST",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "PST",
     //----------------------------------------------------------
-    new TimeZoneImpl(-7*ONE_HOUR, "America/Dawson_Creek"),
+    "America/Dawson_Creek",
     // America/Dawson_Creek British Columbia(CA)    -7:00   -   MST
     //----------------------------------------------------------
-    new TimeZoneImpl(-7*ONE_HOUR, "America/Phoenix"),
+    "America/Phoenix",
     // America/Phoenix  ?(US)   -7:00   -   MST
-    new TimeZoneImpl(-7*ONE_HOUR, "PNT"),
+    "PNT",
     //----------------------------------------------------------
-    new TimeZoneImpl(-7*ONE_HOUR, "America/Edmonton",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "America/Edmonton",
     // Rule Edm 1972    max -   Oct lastSun 2:00    0   S
     // Rule Edm 1987    max -   Apr Sun>=1  2:00    1:00    D
     // America/Edmonton Alberta(CA) -7:00   Edm M%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-7*ONE_HOUR, "America/Mazatlan",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "America/Mazatlan",
     // Rule Mexico  1996    max -   Apr Sun>=1  2:00    1:00    D
     // Rule Mexico  1996    max -   Oct lastSun 2:00    0   S
     // America/Mazatlan Mexico(MX)  -7:00   Mexico  M%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-7*ONE_HOUR, "America/Denver",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "America/Denver",
     // Rule US  1967    max -   Oct lastSun 2:00    0   S
     // Rule US  1987    max -   Apr Sun>=1  2:00    1:00    D
     // America/Denver   US Mountain time, represented by Denver(US) -7:00   US  M%sT
-    new TimeZoneImpl(-7*ONE_HOUR, "MST",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "MST",
     //----------------------------------------------------------
-    new TimeZoneImpl(-6*ONE_HOUR, "America/Belize"),
+    "America/Belize",
     // America/Belize   Belize(BZ)  -6:00   -   C%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-6*ONE_HOUR, "America/Regina"),
+    "America/Regina",
     // America/Regina   Saskatchewan(CA)    -6:00   -   CST
     //----------------------------------------------------------
-    new TimeZoneImpl(-6*ONE_HOUR, "America/Guatemala"),
+    "America/Guatemala",
     // America/Guatemala    Guatemala(GT)   -6:00   -   C%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-6*ONE_HOUR, "America/Tegucigalpa"),
+    "America/Tegucigalpa",
     // America/Tegucigalpa  Honduras(HN)    -6:00   -   C%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-6*ONE_HOUR, "America/El_Salvador"),
+    "America/El_Salvador",
     // America/El_Salvador  El Salvador(SV) -6:00   -   C%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-6*ONE_HOUR, "America/Costa_Rica"),
+    "America/Costa_Rica",
     // America/Costa_Rica   Costa Rica(CR)  -6:00   -   C%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-6*ONE_HOUR, "America/Winnipeg",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "America/Winnipeg",
     // Rule Winn    1966    max -   Oct lastSun 2:00    0   S
     // Rule Winn    1987    max -   Apr Sun>=1  2:00    1:00    D
     // America/Winnipeg Manitoba(CA)    -6:00   Winn    C%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-6*ONE_HOUR, "America/Mexico_City",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "America/Mexico_City",
     // Rule Mexico  1996    max -   Apr Sun>=1  2:00    1:00    D
     // Rule Mexico  1996    max -   Oct lastSun 2:00    0   S
     // America/Mexico_City  Mexico(MX)  -6:00   Mexico  C%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-6*ONE_HOUR, "America/Chicago",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "America/Chicago",
     // Rule US  1967    max -   Oct lastSun 2:00    0   S
     // Rule US  1987    max -   Apr Sun>=1  2:00    1:00    D
     // America/Chicago  US Central time, represented by Chicago(US) -6:00   US  C%sT
-    new TimeZoneImpl(-6*ONE_HOUR, "CST",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "CST",
     //----------------------------------------------------------
-    new TimeZoneImpl(-5*ONE_HOUR, "America/Porto_Acre"),
+    "America/Porto_Acre",
     // America/Porto_Acre   Brazil(BR)  -5:00   -   AST
     //----------------------------------------------------------
-    new TimeZoneImpl(-5*ONE_HOUR, "America/Bogota"),
+    "America/Bogota",
     // America/Bogota   Colombia(CO)    -5:00   -   CO%sT   # Colombia Time
     //----------------------------------------------------------
-    new TimeZoneImpl(-5*ONE_HOUR, "America/Guayaquil"),
+    "America/Guayaquil",
     // America/Guayaquil    Ecuador(EC) -5:00   -   ECT # Ecuador Time
     //----------------------------------------------------------
-    new TimeZoneImpl(-5*ONE_HOUR, "America/Jamaica"),
+    "America/Jamaica",
     // America/Jamaica  Jamaica(JM) -5:00   -   EST
     //----------------------------------------------------------
-    new TimeZoneImpl(-5*ONE_HOUR, "America/Cayman"),
+    "America/Cayman",
     // America/Cayman   Cayman Is(KY)   -5:00   -   EST
     //----------------------------------------------------------
-    new TimeZoneImpl(-5*ONE_HOUR, "America/Managua"),
+    "America/Managua",
     // America/Managua  Nicaragua(NI)   -5:00   -   EST
     //----------------------------------------------------------
-    new TimeZoneImpl(-5*ONE_HOUR, "America/Panama"),
+    "America/Panama",
     // America/Panama   Panama(PA)  -5:00   -   EST
     //----------------------------------------------------------
-    new TimeZoneImpl(-5*ONE_HOUR, "America/Lima"),
+    "America/Lima",
     // America/Lima Peru(PE)    -5:00   -   PE%sT   # Peru Time
     //----------------------------------------------------------
-    new TimeZoneImpl(-5*ONE_HOUR, "America/Indianapolis"),
+    "America/Indianapolis",
     // America/Indianapolis Indiana(US) -5:00   -   EST
-    new TimeZoneImpl(-5*ONE_HOUR, "IET"),
+    "IET",
     //----------------------------------------------------------
-    new TimeZoneImpl(-5*ONE_HOUR, "America/Nassau",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "America/Nassau",
     // Rule Bahamas 1964    max -   Oct lastSun 2:00    0   S
     // Rule Bahamas 1987    max -   Apr Sun>=1  2:00    1:00    D
     // America/Nassau   Bahamas(BS) -5:00   Bahamas E%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-5*ONE_HOUR, "America/Montreal",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "America/Montreal",
     // Rule Mont    1957    max -   Oct lastSun 2:00    0   S
     // Rule Mont    1987    max -   Apr Sun>=1  2:00    1:00    D
     // America/Montreal Ontario, Quebec(CA) -5:00   Mont    E%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-5*ONE_HOUR, "America/Havana",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 0*ONE_HOUR,
-                 Calendar.OCTOBER, 8, -Calendar.SUNDAY, 1*ONE_HOUR, 1*ONE_HOUR),
+    "America/Havana",
     // Rule Cuba    1990    max -   Apr Sun>=1  0:00    1:00    D
     // Rule Cuba    1997    max -   Oct Sun>=8  0:00s   0   S
     // America/Havana   Cuba(CU)    -5:00   Cuba    C%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-5*ONE_HOUR, "America/Port-au-Prince",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 1*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "America/Port-au-Prince",
     // Rule Haiti   1988    max -   Apr Sun>=1  1:00s   1:00    D
     // Rule Haiti   1988    max -   Oct lastSun 1:00s   0   S
     // America/Port-au-Prince   Haiti(HT)   -5:00   Haiti   E%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-5*ONE_HOUR, "America/Grand_Turk",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 0*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR),
+    "America/Grand_Turk",
     // Rule TC  1979    max -   Oct lastSun 0:00    0   S
     // Rule TC  1987    max -   Apr Sun>=1  0:00    1:00    D
     // America/Grand_Turk   Turks and Caicos(TC)    -5:00   TC  E%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-5*ONE_HOUR, "America/New_York",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "America/New_York",
     // Rule US  1967    max -   Oct lastSun 2:00    0   S
     // Rule US  1987    max -   Apr Sun>=1  2:00    1:00    D
     // America/New_York US Eastern time, represented by New York(US)    -5:00   US  E%sT
-    new TimeZoneImpl(-5*ONE_HOUR, "EST",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "EST",
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/Antigua"),
+    "America/Antigua",
     // America/Antigua  Antigua and Barbuda(AG) -4:00   -   AST
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/Anguilla"),
+    "America/Anguilla",
     // America/Anguilla Anguilla(AI)    -4:00   -   AST
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/Curacao"),
+    "America/Curacao",
     // America/Curacao  Curacao(AN) -4:00   -   AST
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/Aruba"),
+    "America/Aruba",
     // America/Aruba    Aruba(AW)   -4:00   -   AST
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/Barbados"),
+    "America/Barbados",
     // America/Barbados Barbados(BB)    -4:00   -   A%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/La_Paz"),
+    "America/La_Paz",
     // America/La_Paz   Bolivia(BO) -4:00   -   BOT # Bolivia Time
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/Manaus"),
+    "America/Manaus",
     // America/Manaus   Brazil(BR)  -4:00   -   WST
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/Dominica"),
+    "America/Dominica",
     // America/Dominica Dominica(DM)    -4:00   -   AST
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/Santo_Domingo"),
+    "America/Santo_Domingo",
     // America/Santo_Domingo    Dominican Republic(DO)  -4:00   -   AST
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/Grenada"),
+    "America/Grenada",
     // America/Grenada  Grenada(GD) -4:00   -   AST
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/Guadeloupe"),
+    "America/Guadeloupe",
     // America/Guadeloupe   Guadeloupe(GP)  -4:00   -   AST
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/Guyana"),
+    "America/Guyana",
     // America/Guyana   Guyana(GY)  -4:00   -   GYT
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/St_Kitts"),
+    "America/St_Kitts",
     // America/St_Kitts St Kitts-Nevis(KN)  -4:00   -   AST
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/St_Lucia"),
+    "America/St_Lucia",
     // America/St_Lucia St Lucia(LC)    -4:00   -   AST
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/Martinique"),
+    "America/Martinique",
     // America/Martinique   Martinique(MQ)  -4:00   -   AST
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/Montserrat"),
+    "America/Montserrat",
     // America/Montserrat   Montserrat(MS)  -4:00   -   AST
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/Puerto_Rico"),
+    "America/Puerto_Rico",
     // America/Puerto_Rico  Puerto Rico(PR) -4:00   -   AST
-    new TimeZoneImpl(-4*ONE_HOUR, "PRT"),
+    "PRT",
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/Port_of_Spain"),
+    "America/Port_of_Spain",
     // America/Port_of_Spain    Trinidad and Tobago(TT) -4:00   -   AST
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/St_Vincent"),
+    "America/St_Vincent",
     // America/St_Vincent   St Vincent and the Grenadines(VC)   -4:00   -   AST
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/Tortola"),
+    "America/Tortola",
     // America/Tortola  British Virgin Is(VG)   -4:00   -   AST
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/St_Thomas"),
+    "America/St_Thomas",
     // America/St_Thomas    Virgin Is(VI)   -4:00   -   AST
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/Caracas"),
+    "America/Caracas",
     // America/Caracas  Venezuela(VE)   -4:00   -   VET
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/Cuiaba",
-                 Calendar.OCTOBER, 1, -Calendar.SUNDAY, 0*ONE_HOUR,
-                 Calendar.FEBRUARY, 11, -Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR),
+    "America/Cuiaba",
     // Rule Brazil  1998    max -   Oct Sun>=1  0:00    1:00    D
     // Rule Brazil  1999    max -   Feb Sun>=11 0:00    0   S
     // America/Cuiaba   Brazil(BR)  -4:00   Brazil  W%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/Halifax",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "America/Halifax",
     // Rule Halifax 1962    max -   Oct lastSun 2:00    0   S
     // Rule Halifax 1987    max -   Apr Sun>=1  2:00    1:00    D
     // America/Halifax  ?(CA)   -4:00   Halifax A%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/Thule",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "America/Thule",
     // Rule Thule   1993    max -   Apr Sun>=1  2:00    1:00    D
     // Rule Thule   1993    max -   Oct lastSun 2:00    0   S
     // America/Thule    ?(GL)   -4:00   Thule   A%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/Asuncion",
-                 Calendar.OCTOBER, 1, 0, 0*ONE_HOUR,
-                 Calendar.MARCH, 1, 0, 0*ONE_HOUR, 1*ONE_HOUR),
+    "America/Asuncion",
     // Rule Para    1996    max -   Mar 1   0:00    0   -
     // Rule Para    1997    max -   Oct 1   0:00    1:00    S
     // America/Asuncion Paraguay(PY)    -4:00   Para    PY%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "America/Santiago",
-                 Calendar.OCTOBER, 9, -Calendar.SUNDAY, 0*ONE_HOUR,
-                 Calendar.MARCH, 9, -Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR),
+    "America/Santiago",
     // Rule Chile   1969    max -   Oct Sun>=9  0:00    1:00    S
     // Rule Chile   1970    max -   Mar Sun>=9  0:00    0   -
     // America/Santiago Chile(CL)   -4:00   Chile   CL%sT
     //----------------------------------------------------------
-    new TimeZoneImpl((int)(-3.5*ONE_HOUR), "America/St_Johns",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "America/St_Johns",
     // Rule StJohns 1960    max -   Oct lastSun 2:00    0   S
     // Rule StJohns 1989    max -   Apr Sun>=1  2:00    1:00    D
     // America/St_Johns Canada(CA)  -3:30   StJohns N%sT
-    new TimeZoneImpl((int)(-3.5*ONE_HOUR), "CNT",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "CNT",
     //----------------------------------------------------------
-    new TimeZoneImpl(-3*ONE_HOUR, "America/Fortaleza"),
+    "America/Fortaleza",
     // America/Fortaleza    Brazil(BR)  -3:00   -   EST
     //----------------------------------------------------------
-    new TimeZoneImpl(-3*ONE_HOUR, "America/Cayenne"),
+    "America/Cayenne",
     // America/Cayenne  French Guiana(GF)   -3:00   -   GFT
     //----------------------------------------------------------
-    new TimeZoneImpl(-3*ONE_HOUR, "America/Paramaribo"),
+    "America/Paramaribo",
     // America/Paramaribo   Suriname(SR)    -3:00   -   SRT
     //----------------------------------------------------------
-    new TimeZoneImpl(-3*ONE_HOUR, "America/Montevideo"),
+    "America/Montevideo",
     // America/Montevideo   Uruguay(UY) -3:00   -   UY%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-3*ONE_HOUR, "America/Buenos_Aires"),
+    "America/Buenos_Aires",
     // America/Buenos_Aires Argentina(AR)   -3:00   -   AR%sT
-    new TimeZoneImpl(-3*ONE_HOUR, "AGT"),
+    "AGT",
     //----------------------------------------------------------
-    new TimeZoneImpl(-3*ONE_HOUR, "America/Godthab",
-                 Calendar.MARCH, -1, Calendar.SATURDAY, 22*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SATURDAY, 22*ONE_HOUR, 1*ONE_HOUR),
+    "America/Godthab",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // America/Godthab  ?(GL)   -3:00   EU  WG%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-3*ONE_HOUR, "America/Miquelon",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "America/Miquelon",
     // Rule Mont    1957    max -   Oct lastSun 2:00    0   S
     // Rule Mont    1987    max -   Apr Sun>=1  2:00    1:00    D
     // America/Miquelon St Pierre and Miquelon(PM)  -3:00   Mont    PM%sT   # Pierre & Miquelon Time
     //----------------------------------------------------------
-    new TimeZoneImpl(-3*ONE_HOUR, "America/Sao_Paulo",
-                 Calendar.OCTOBER, 1, -Calendar.SUNDAY, 0*ONE_HOUR,
-                 Calendar.FEBRUARY, 11, -Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR),
+    "America/Sao_Paulo",
     // Rule Brazil  1998    max -   Oct Sun>=1  0:00    1:00    D
     // Rule Brazil  1999    max -   Feb Sun>=11 0:00    0   S
     // America/Sao_Paulo    Brazil(BR)  -3:00   Brazil  E%sT
-    new TimeZoneImpl(-3*ONE_HOUR, "BET",
-                 Calendar.OCTOBER, 1, -Calendar.SUNDAY, 0*ONE_HOUR,
-                 Calendar.FEBRUARY, 11, -Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR),
+    "BET",
     //----------------------------------------------------------
-    new TimeZoneImpl(-2*ONE_HOUR, "America/Noronha"),
+    "America/Noronha",
     // America/Noronha  Brazil(BR)  -2:00   -   FST
     //----------------------------------------------------------
-    new TimeZoneImpl(-1*ONE_HOUR, "America/Scoresbysund",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 0*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR),
+    "America/Scoresbysund",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // America/Scoresbysund ?(GL)   -1:00   EU  EG%sT
@@ -1343,25 +1411,21 @@ public class TimeZoneImpl extends TimeZone {
     ////////////////////////////////////////////////////////////
     // Antarctica
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "Antarctica/Palmer",
-                 Calendar.OCTOBER, 9, -Calendar.SUNDAY, 0*ONE_HOUR,
-                 Calendar.MARCH, 9, -Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR),
+    "Antarctica/Palmer",
     // Rule ChileAQ 1969    max -   Oct Sun>=9  0:00    1:00    S
     // Rule ChileAQ 1970    max -   Mar Sun>=9  0:00    0   -
     // Antarctica/Palmer    USA - year-round bases(AQ)  -4:00   ChileAQ CL%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(6*ONE_HOUR, "Antarctica/Mawson"),
+    "Antarctica/Mawson",
     // Antarctica/Mawson    Australia - territories(AQ) 6:00    -   MAWT    # Mawson Time
     //----------------------------------------------------------
-    new TimeZoneImpl(8*ONE_HOUR, "Antarctica/Casey"),
+    "Antarctica/Casey",
     // Antarctica/Casey Australia - territories(AQ) 8:00    -   WST # Western (Aus) Standard Time
     //----------------------------------------------------------
-    new TimeZoneImpl(10*ONE_HOUR, "Antarctica/DumontDUrville"),
+    "Antarctica/DumontDUrville",
     // Antarctica/DumontDUrville    France - year-round bases(AQ)   10:00   -   DDUT    # Dumont-d'Urville Time
     //----------------------------------------------------------
-    new TimeZoneImpl(12*ONE_HOUR, "Antarctica/McMurdo",
-                 Calendar.OCTOBER, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.MARCH, 15, -Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Antarctica/McMurdo",
     // Rule NZAQ    1990    max -   Oct Sun>=1  2:00s   1:00    D
     // Rule NZAQ    1990    max -   Mar Sun>=15 2:00s   0   S
     // Antarctica/McMurdo   USA - year-round bases(AQ)  12:00   NZAQ    NZ%sT
@@ -1369,36 +1433,28 @@ public class TimeZoneImpl extends TimeZone {
     ////////////////////////////////////////////////////////////
     // Australia
     //----------------------------------------------------------
-    new TimeZoneImpl(8*ONE_HOUR, "Australia/Perth"),
+    "Australia/Perth",
     // Australia/Perth  Australia(AU)   8:00    -   WST
     //----------------------------------------------------------
-    new TimeZoneImpl((int)(9.5*ONE_HOUR), "Australia/Darwin"),
+    "Australia/Darwin",
     // Australia/Darwin Australia(AU)   9:30    -   CST
-    new TimeZoneImpl((int)(9.5*ONE_HOUR), "ACT"),
+    "ACT",
     //----------------------------------------------------------
-    new TimeZoneImpl((int)(9.5*ONE_HOUR), "Australia/Adelaide",
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Australia/Adelaide",
     // Rule AS  1987    max -   Oct lastSun 2:00s   1:00    -
     // Rule AS  1995    max -   Mar lastSun 2:00s   0   -
     // Australia/Adelaide   South Australia(AU) 9:30    AS  CST
     //----------------------------------------------------------
-    new TimeZoneImpl(10*ONE_HOUR, "Australia/Brisbane"),
+    "Australia/Brisbane",
     // Australia/Brisbane   Australia(AU)   10:00   -   EST
     //----------------------------------------------------------
-    new TimeZoneImpl(10*ONE_HOUR, "Australia/Sydney",
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Australia/Sydney",
     // Rule AN  1987    max -   Oct lastSun 2:00s   1:00    -
     // Rule AN  1996    max -   Mar lastSun 2:00s   0   -
     // Australia/Sydney New South Wales(AU) 10:00   AN  EST
-    new TimeZoneImpl(10*ONE_HOUR, "AET",
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "AET",
     //----------------------------------------------------------
-    new TimeZoneImpl((int)(10.5*ONE_HOUR), "Australia/Lord_Howe",
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 3*ONE_HOUR, (int)(0.5*ONE_HOUR)),
+    "Australia/Lord_Howe",
     // Rule LH  1987    max -   Oct lastSun 2:00s   0:30    -
     // Rule LH  1996    max -   Mar lastSun 2:00s   0   -
     // Australia/Lord_Howe  Lord Howe Island(AU)    10:30   LH  LHST
@@ -1406,49 +1462,39 @@ public class TimeZoneImpl extends TimeZone {
     ////////////////////////////////////////////////////////////
     // Atlantic
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "Atlantic/Bermuda",
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "Atlantic/Bermuda",
     // Rule Bahamas 1964    max -   Oct lastSun 2:00    0   S
     // Rule Bahamas 1987    max -   Apr Sun>=1  2:00    1:00    D
     // Atlantic/Bermuda Bermuda(BM) -4:00   Bahamas A%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-4*ONE_HOUR, "Atlantic/Stanley",
-                 Calendar.SEPTEMBER, 8, -Calendar.SUNDAY, 0*ONE_HOUR,
-                 Calendar.APRIL, 16, -Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR),
+    "Atlantic/Stanley",
     // Rule Falk    1986    max -   Apr Sun>=16 0:00    0   -
     // Rule Falk    1996    max -   Sep Sun>=8  0:00    1:00    S
     // Atlantic/Stanley Falklands(FK)   -4:00   Falk    FK%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-2*ONE_HOUR, "Atlantic/South_Georgia"),
+    "Atlantic/South_Georgia",
     // Atlantic/South_Georgia   South Georgia(GS)   -2:00   -   GST # South Georgia Time
     //----------------------------------------------------------
-    new TimeZoneImpl(-1*ONE_HOUR, "Atlantic/Jan_Mayen"),
+    "Atlantic/Jan_Mayen",
     // Atlantic/Jan_Mayen   ?(NO)   -1:00   -   EGT
     //----------------------------------------------------------
-    new TimeZoneImpl(-1*ONE_HOUR, "Atlantic/Cape_Verde"),
+    "Atlantic/Cape_Verde",
     // Atlantic/Cape_Verde  Cape Verde(CV)  -1:00   -   CVT
     //----------------------------------------------------------
-    new TimeZoneImpl(-1*ONE_HOUR, "Atlantic/Azores",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 0*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR),
+    "Atlantic/Azores",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Atlantic/Azores  Portugal(PT)    -1:00   EU  AZO%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(0*ONE_HOUR, "Atlantic/Reykjavik"),
+    "Atlantic/Reykjavik",
     // Atlantic/Reykjavik   Iceland(IS) 0:00    -   GMT
     //----------------------------------------------------------
-    new TimeZoneImpl(0*ONE_HOUR, "Atlantic/Faeroe",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 1*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 1*ONE_HOUR, 1*ONE_HOUR),
+    "Atlantic/Faeroe",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Atlantic/Faeroe  Denmark, Faeroe Islands, and Greenland(DK)  0:00    EU  WE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(0*ONE_HOUR, "Atlantic/Canary",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 1*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 1*ONE_HOUR, 1*ONE_HOUR),
+    "Atlantic/Canary",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Atlantic/Canary  Spain(ES)   0:00    EU  WE%sT
@@ -1456,456 +1502,364 @@ public class TimeZoneImpl extends TimeZone {
     ////////////////////////////////////////////////////////////
     // Africa
     //----------------------------------------------------------
-    new TimeZoneImpl(0*ONE_HOUR, "Africa/Ouagadougou"),
+    "Africa/Ouagadougou",
     // Africa/Ouagadougou   Burkina Faso(BF)    0:00    -   GMT
     //----------------------------------------------------------
-    new TimeZoneImpl(0*ONE_HOUR, "Africa/Abidjan"),
+    "Africa/Abidjan",
     // Africa/Abidjan   Cote D'Ivoire(CI)   0:00    -   GMT
     //----------------------------------------------------------
-    new TimeZoneImpl(0*ONE_HOUR, "Africa/Accra"),
+    "Africa/Accra",
     // Africa/Accra Ghana(GH)   0:00    -   %s
     //----------------------------------------------------------
-    new TimeZoneImpl(0*ONE_HOUR, "Africa/Banjul"),
+    "Africa/Banjul",
     // Africa/Banjul    Gambia(GM)  0:00    -   GMT
     //----------------------------------------------------------
-    new TimeZoneImpl(0*ONE_HOUR, "Africa/Conakry"),
+    "Africa/Conakry",
     // Africa/Conakry   Guinea(GN)  0:00    -   GMT
     //----------------------------------------------------------
-    new TimeZoneImpl(0*ONE_HOUR, "Africa/Bissau"),
+    "Africa/Bissau",
     // Africa/Bissau    Guinea-Bissau(GW)   0:00    -   GMT
     //----------------------------------------------------------
-    new TimeZoneImpl(0*ONE_HOUR, "Africa/Monrovia"),
+    "Africa/Monrovia",
     // Africa/Monrovia  Liberia(LR) 0:00    -   GMT
     //----------------------------------------------------------
-    new TimeZoneImpl(0*ONE_HOUR, "Africa/Casablanca"),
+    "Africa/Casablanca",
     // Africa/Casablanca    Morocco(MA) 0:00    -   WET
     //----------------------------------------------------------
-    new TimeZoneImpl(0*ONE_HOUR, "Africa/Timbuktu"),
+    "Africa/Timbuktu",
     // Africa/Timbuktu  Mali(ML)    0:00    -   GMT
     //----------------------------------------------------------
-    new TimeZoneImpl(0*ONE_HOUR, "Africa/Nouakchott"),
+    "Africa/Nouakchott",
     // Africa/Nouakchott    Mauritania(MR)  0:00    -   GMT
     //----------------------------------------------------------
-    new TimeZoneImpl(0*ONE_HOUR, "Atlantic/St_Helena"),
+    "Atlantic/St_Helena",
     // Atlantic/St_Helena   St Helena(SH)   0:00    -   GMT
     //----------------------------------------------------------
-    new TimeZoneImpl(0*ONE_HOUR, "Africa/Freetown"),
+    "Africa/Freetown",
     // Africa/Freetown  Sierra Leone(SL)    0:00    -   %s
     //----------------------------------------------------------
-    new TimeZoneImpl(0*ONE_HOUR, "Africa/Dakar"),
+    "Africa/Dakar",
     // Africa/Dakar Senegal(SN) 0:00    -   GMT
     //----------------------------------------------------------
-    new TimeZoneImpl(0*ONE_HOUR, "Africa/Sao_Tome"),
+    "Africa/Sao_Tome",
     // Africa/Sao_Tome  Sao Tome and Principe(ST)   0:00    -   GMT
     //----------------------------------------------------------
-    new TimeZoneImpl(0*ONE_HOUR, "Africa/Lome"),
+    "Africa/Lome",
     // Africa/Lome  Togo(TG)    0:00    -   GMT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Africa/Luanda"),
+    "Africa/Luanda",
     // Africa/Luanda    Angola(AO)  1:00    -   WAT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Africa/Porto-Novo"),
+    "Africa/Porto-Novo",
     // Africa/Porto-Novo    Benin(BJ)   1:00    -   WAT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Africa/Bangui"),
+    "Africa/Bangui",
     // Africa/Bangui    Central African Republic(CF)    1:00    -   WAT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Africa/Kinshasa"),
+    "Africa/Kinshasa",
     // Africa/Kinshasa  Democratic Republic of Congo(CG)    1:00    -   WAT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Africa/Douala"),
+    "Africa/Douala",
     // Africa/Douala    Cameroon(CM)    1:00    -   WAT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Africa/Libreville"),
+    "Africa/Libreville",
     // Africa/Libreville    Gabon(GA)   1:00    -   WAT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Africa/Malabo"),
+    "Africa/Malabo",
     // Africa/Malabo    Equatorial Guinea(GQ)   1:00    -   WAT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Africa/Niamey"),
+    "Africa/Niamey",
     // Africa/Niamey    Niger(NE)   1:00    -   WAT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Africa/Lagos"),
+    "Africa/Lagos",
     // Africa/Lagos Nigeria(NG) 1:00    -   WAT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Africa/Ndjamena"),
+    "Africa/Ndjamena",
     // Africa/Ndjamena  Chad(TD)    1:00    -   WAT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Africa/Tunis"),
+    "Africa/Tunis",
     // Africa/Tunis Tunisia(TN) 1:00    -   CE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Africa/Algiers"),
+    "Africa/Algiers",
     // Africa/Algiers   Algeria(DZ) 1:00    -   CET
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Africa/Tripoli",
-                 Calendar.MARCH, -1, Calendar.THURSDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, 1, -Calendar.THURSDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Africa/Tripoli",
     // Rule Libya   1997    max -   Mar lastThu 2:00s   1:00    S
     // Rule Libya   1997    max -   Oct Thu>=1  2:00s   0   -
     // Africa/Tripoli   Libya(LY)   1:00    Libya   CE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Africa/Windhoek",
-                 Calendar.SEPTEMBER, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "Africa/Windhoek",
     // Rule Namibia 1994    max -   Sep Sun>=1  2:00    1:00    S
     // Rule Namibia 1995    max -   Apr Sun>=1  2:00    0   -
     // Africa/Windhoek  Namibia(NA) 1:00    Namibia WA%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Africa/Bujumbura"),
+    "Africa/Bujumbura",
     // Africa/Bujumbura Burundi(BI) 2:00    -   CAT
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Africa/Gaborone"),
+    "Africa/Gaborone",
     // Africa/Gaborone  Botswana(BW)    2:00    -   CAT
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Africa/Lubumbashi"),
+    "Africa/Lubumbashi",
     // Africa/Lubumbashi    Democratic Republic of Congo(CG)    2:00    -   CAT
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Africa/Maseru"),
+    "Africa/Maseru",
     // Africa/Maseru    Lesotho(LS) 2:00    -   SAST
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Africa/Blantyre"),
+    "Africa/Blantyre",
     // Africa/Blantyre  Malawi(ML)  2:00    -   CAT
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Africa/Maputo"),
+    "Africa/Maputo",
     // Africa/Maputo    Mozambique(MZ)  2:00    -   CAT
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Africa/Kigali"),
+    "Africa/Kigali",
     // Africa/Kigali    Rwanda(RW)  2:00    -   CAT
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Africa/Khartoum"),
+    "Africa/Khartoum",
     // Africa/Khartoum  Sudan(SD)   2:00    -   CA%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Africa/Mbabane"),
+    "Africa/Mbabane",
     // Africa/Mbabane   Swaziland(SZ)   2:00    -   SAST
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Africa/Lusaka"),
+    "Africa/Lusaka",
     // Africa/Lusaka    Zambia(ZM)  2:00    -   CAT
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Africa/Harare"),
+    "Africa/Harare",
     // Africa/Harare    Zimbabwe(ZW)    2:00    -   CAT
-    new TimeZoneImpl(2*ONE_HOUR, "CAT"),
+    "CAT",
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Africa/Johannesburg"),
+    "Africa/Johannesburg",
     // Africa/Johannesburg  South Africa(ZA)    2:00    -   SAST
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Africa/Cairo",
-                 Calendar.APRIL, -1, Calendar.FRIDAY, 1*ONE_HOUR,
-                 Calendar.SEPTEMBER, -1, Calendar.FRIDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Africa/Cairo",
     // Rule Egypt   1995    max -   Apr lastFri 1:00    1:00    S
     // Rule Egypt   1995    max -   Sep lastFri 3:00    0   -
     // Africa/Cairo Egypt(EG)   2:00    Egypt   EE%sT
-    new TimeZoneImpl(2*ONE_HOUR, "ART",
-                 Calendar.APRIL, -1, Calendar.FRIDAY, 1*ONE_HOUR,
-                 Calendar.SEPTEMBER, -1, Calendar.FRIDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "ART",
     //----------------------------------------------------------
-    new TimeZoneImpl(3*ONE_HOUR, "Africa/Djibouti"),
+    "Africa/Djibouti",
     // Africa/Djibouti  Djibouti(DJ)    3:00    -   EAT
     //----------------------------------------------------------
-    new TimeZoneImpl(3*ONE_HOUR, "Africa/Asmera"),
+    "Africa/Asmera",
     // Africa/Asmera    Eritrea(ER) 3:00    -   EAT
     //----------------------------------------------------------
-    new TimeZoneImpl(3*ONE_HOUR, "Africa/Addis_Ababa"),
+    "Africa/Addis_Ababa",
     // Africa/Addis_Ababa   Ethiopia(ET)    3:00    -   EAT
-    new TimeZoneImpl(3*ONE_HOUR, "EAT"),
+    "EAT",
     //----------------------------------------------------------
-    new TimeZoneImpl(3*ONE_HOUR, "Africa/Nairobi"),
+    "Africa/Nairobi",
     // Africa/Nairobi   Kenya(KE)   3:00    -   EAT
     //----------------------------------------------------------
-    new TimeZoneImpl(3*ONE_HOUR, "Africa/Mogadishu"),
+    "Africa/Mogadishu",
     // Africa/Mogadishu Somalia(SO) 3:00    -   EAT
     //----------------------------------------------------------
-    new TimeZoneImpl(3*ONE_HOUR, "Africa/Dar_es_Salaam"),
+    "Africa/Dar_es_Salaam",
     // Africa/Dar_es_Salaam Tanzania(TZ)    3:00    -   EAT
     //----------------------------------------------------------
-    new TimeZoneImpl(3*ONE_HOUR, "Africa/Kampala"),
+    "Africa/Kampala",
     // Africa/Kampala   Uganda(UG)  3:00    -   EAT
 
     ////////////////////////////////////////////////////////////
     // Europe
     //----------------------------------------------------------
-    new TimeZoneImpl(0*ONE_HOUR, "Europe/Dublin",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 1*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 1*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Dublin",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Dublin    ---(IE) 0:00    EU  GMT/IST
     //----------------------------------------------------------
-    new TimeZoneImpl(0*ONE_HOUR, "Europe/Lisbon",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 1*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 1*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Lisbon",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Lisbon    Portugal(PT)    0:00    EU  WE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(0*ONE_HOUR, "Europe/London",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 1*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 1*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/London",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/London    ---(GB) 0:00    EU  GMT/BST
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Europe/Andorra",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Andorra",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Andorra   Andorra(AD) 1:00    EU  CE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Europe/Tirane",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Tirane",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Tirane    Albania(AL) 1:00    EU  CE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Europe/Vienna",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Vienna",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Vienna    Austria(AT) 1:00    EU  CE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Europe/Brussels",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Brussels",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Brussels  Belgium(BE) 1:00    EU  CE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Europe/Zurich",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Zurich",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Zurich    Switzerland(CH) 1:00    EU  CE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Europe/Prague",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Prague",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Prague    Czech Republic(CZ)  1:00    EU  CE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Europe/Berlin",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Berlin",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Berlin    Germany(DE) 1:00    EU  CE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Europe/Copenhagen",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Copenhagen",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Copenhagen    Denmark, Faeroe Islands, and Greenland(DK)  1:00    EU  CE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Europe/Madrid",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Madrid",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Madrid    Spain(ES)   1:00    EU  CE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Europe/Gibraltar",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Gibraltar",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Gibraltar Gibraltar(GI)   1:00    EU  CE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Europe/Budapest",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Budapest",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Budapest  Hungary(HU) 1:00    EU  CE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Europe/Rome",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Rome",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Rome  Italy(IT)   1:00    EU  CE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Europe/Vaduz",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Vaduz",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Vaduz Liechtenstein(LI)   1:00    EU  CE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Europe/Luxembourg",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Luxembourg",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Luxembourg    Luxembourg(LU)  1:00    EU  CE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Europe/Monaco",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Monaco",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Monaco    Monaco(MC)  1:00    EU  CE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Europe/Malta",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Malta",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Malta Malta(MT)   1:00    EU  CE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Europe/Amsterdam",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Amsterdam",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Amsterdam Netherlands(NL) 1:00    EU  CE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Europe/Oslo",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Oslo",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Oslo  Norway(NO)  1:00    EU  CE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Europe/Warsaw",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 1*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Warsaw",
     // Rule W-Eur   1981    max -   Mar lastSun 1:00s   1:00    S
     // Rule W-Eur   1996    max -   Oct lastSun 1:00s   0   -
     // Europe/Warsaw    Poland(PL)  1:00    W-Eur   CE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Europe/Stockholm",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Stockholm",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Stockholm Sweden(SE)  1:00    EU  CE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Europe/Belgrade",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Belgrade",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Belgrade  Yugoslavia(YU)  1:00    EU  CE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(1*ONE_HOUR, "Europe/Paris",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Paris",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Paris France(FR)  1:00    EU  CE%sT
-    new TimeZoneImpl(1*ONE_HOUR, "ECT",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR),
-    new TimeZoneImpl(2*ONE_HOUR, "Europe/Sofia",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 0*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR),
+    "ECT",
+    "Europe/Sofia",
     // Rule E-Eur   1981    max -   Mar lastSun 0:00    1:00    S
     // Rule E-Eur   1996    max -   Oct lastSun 0:00    0   -
     // Europe/Sofia Bulgaria(BG)    2:00    E-Eur   EE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Europe/Minsk",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Minsk",
     // Rule Russia  1993    max -   Mar lastSun 2:00s   1:00    S
     // Rule Russia  1996    max -   Oct lastSun 2:00s   0   -
     // Europe/Minsk Belarus(BY) 2:00    Russia  EE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Europe/Tallinn",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Tallinn",
     // Rule C-Eur   1981    max -   Mar lastSun 2:00s   1:00    S
     // Rule C-Eur   1996    max -   Oct lastSun 2:00s   0   -
     // Europe/Tallinn   Estonia(EE) 2:00    C-Eur   EE%sT
     //----------------------------------------------------------
 
-    new TimeZoneImpl(2*ONE_HOUR, "Europe/Helsinki",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 3*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Helsinki",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Helsinki  Finland(FI) 2:00    EU  EE%sT
     //----------------------------------------------------------
 
-    new TimeZoneImpl(2*ONE_HOUR, "Europe/Athens",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 3*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Athens",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Athens    Greece(GR)  2:00    EU  EE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Europe/Vilnius",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Vilnius",
     // Rule C-Eur   1981    max -   Mar lastSun 2:00s   1:00    S
     // Rule C-Eur   1996    max -   Oct lastSun 2:00s   0   -
     // Europe/Vilnius   Lithuania(LT)   2:00    C-Eur   EE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Europe/Riga",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.SEPTEMBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Riga",
     // Rule Latvia  1992    max -   Mar lastSun 2:00s   1:00    S
     // Rule Latvia  1992    max -   Sep lastSun 2:00s   0   -
     // Europe/Riga  Latvia(LV)  2:00    Latvia  EE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Europe/Chisinau",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 0*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Chisinau",
     // Rule E-Eur   1981    max -   Mar lastSun 0:00    1:00    S
     // Rule E-Eur   1996    max -   Oct lastSun 0:00    0   -
     // Europe/Chisinau  Moldova(MD) 2:00    E-Eur   EE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Europe/Bucharest",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 0*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Bucharest",
     // Rule E-Eur   1981    max -   Mar lastSun 0:00    1:00    S
     // Rule E-Eur   1996    max -   Oct lastSun 0:00    0   -
     // Europe/Bucharest Romania(RO) 2:00    E-Eur   EE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Europe/Kaliningrad",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Kaliningrad",
     // Rule Russia  1993    max -   Mar lastSun 2:00s   1:00    S
     // Rule Russia  1996    max -   Oct lastSun 2:00s   0   -
     // Europe/Kaliningrad   Russia(RU)  2:00    Russia  EE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Europe/Kiev",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 3*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Kiev",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Kiev  Ukraine(UA) 2:00    EU  EE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Europe/Istanbul",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 3*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Istanbul",
     // Rule EU  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EU  1996    max -   Oct lastSun 1:00u   0   -
     // Europe/Istanbul  Turkey(TR)  2:00    EU  EE%sT
-    new TimeZoneImpl(2*ONE_HOUR, "EET",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 3*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "EET",
     //----------------------------------------------------------
-    new TimeZoneImpl(3*ONE_HOUR, "Europe/Simferopol",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 3*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Simferopol",
     // Rule Crimea  1996    max -   Mar lastSun 0:00u   1:00    -
     // Rule Crimea  1996    max -   Oct lastSun 0:00u   0   -
     // Europe/Simferopol    Ukraine(UA) 3:00    Crimea  MSK/MSD
     //----------------------------------------------------------
-    new TimeZoneImpl(3*ONE_HOUR, "Europe/Moscow",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Moscow",
     // Rule Russia  1993    max -   Mar lastSun 2:00s   1:00    S
     // Rule Russia  1996    max -   Oct lastSun 2:00s   0   -
     // Europe/Moscow    Russia(RU)  3:00    Russia  MSK/MSD
     //----------------------------------------------------------
-    new TimeZoneImpl(4*ONE_HOUR, "Europe/Samara",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Europe/Samara",
     // Rule Russia  1993    max -   Mar lastSun 2:00s   1:00    S
     // Rule Russia  1996    max -   Oct lastSun 2:00s   0   -
     // Europe/Samara    Russia(RU)  4:00    Russia  SAM%sT
@@ -1913,283 +1867,237 @@ public class TimeZoneImpl extends TimeZone {
     ////////////////////////////////////////////////////////////
     // Asia
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Asia/Nicosia",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 0*ONE_HOUR,
-                 Calendar.SEPTEMBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR),
+    "Asia/Nicosia",
     // Rule Cyprus  1979    max -   Sep lastSun 0:00    0   -
     // Rule Cyprus  1981    max -   Mar lastSun 0:00    1:00    S
     // Asia/Nicosia Cyprus(CY)  2:00    Cyprus  EE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Asia/Jerusalem",
-                 Calendar.MARCH, 15, -Calendar.FRIDAY, 0*ONE_HOUR,
-                 Calendar.SEPTEMBER, 1, -Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR),
+    "Asia/Jerusalem",
     // Rule Zion    1999    max -   Mar Fri>=15 0:00    1:00    D
     // Rule Zion    1999    max -   Sep Sun>=1  0:00    0   S
     // Asia/Jerusalem   Israel(IL)  2:00    Zion    I%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Asia/Amman",
-                 Calendar.APRIL, 1, -Calendar.FRIDAY, 0*ONE_HOUR,
-                 Calendar.SEPTEMBER, 15, -Calendar.FRIDAY, 1*ONE_HOUR, 1*ONE_HOUR),
+    "Asia/Amman",
     // Rule    Jordan   1993    max -   Apr Fri>=1  0:00    1:00    S
     // Rule    Jordan   1995    max -   Sep Fri>=15 0:00s   0   -
     // Asia/Amman   Jordan(JO)  2:00    Jordan  EE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Asia/Beirut",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 0*ONE_HOUR,
-                 Calendar.SEPTEMBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR),
+    "Asia/Beirut",
     // Rule Lebanon 1993    max -   Mar lastSun 0:00    1:00    S
     // Rule Lebanon 1993    max -   Sep lastSun 0:00    0   -
     // Asia/Beirut  Lebanon(LB) 2:00    Lebanon EE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(2*ONE_HOUR, "Asia/Damascus",
-                 Calendar.APRIL, 1, 0, 0*ONE_HOUR,
-                 Calendar.OCTOBER, 1, 0, 0*ONE_HOUR, 1*ONE_HOUR),
+    "Asia/Damascus",
     // Rule Syria   1994    max -   Apr 1   0:00    1:00    S
     // Rule Syria   1994    max -   Oct 1   0:00    0   -
     // Asia/Damascus    Syria(SY)   2:00    Syria   EE%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(3*ONE_HOUR, "Asia/Bahrain"),
+    "Asia/Bahrain",
     // Asia/Bahrain Bahrain(BH) 3:00    -   AST
     //----------------------------------------------------------
-    new TimeZoneImpl(3*ONE_HOUR, "Asia/Kuwait"),
+    "Asia/Kuwait",
     // Asia/Kuwait  Kuwait(KW)  3:00    -   AST
     //----------------------------------------------------------
-    new TimeZoneImpl(3*ONE_HOUR, "Asia/Qatar"),
+    "Asia/Qatar",
     // Asia/Qatar   Qatar(QA)   3:00    -   AST
     //----------------------------------------------------------
-    new TimeZoneImpl(3*ONE_HOUR, "Asia/Aden"),
+    "Asia/Aden",
     // Asia/Aden    Yemen(YE)   3:00    -   AST
     //----------------------------------------------------------
-    new TimeZoneImpl(3*ONE_HOUR, "Asia/Riyadh"),
+    "Asia/Riyadh",
     // Asia/Riyadh  Saudi Arabia(SA)    3:00    -   AST
     //----------------------------------------------------------
-    new TimeZoneImpl(3*ONE_HOUR, "Asia/Baghdad",
-                 Calendar.APRIL, 1, 0, 3*ONE_HOUR,
-                 Calendar.OCTOBER, 1, 0, 4*ONE_HOUR, 1*ONE_HOUR),
+    "Asia/Baghdad",
     // Rule Iraq    1991    max -   Apr 1   3:00s   1:00    D
     // Rule Iraq    1991    max -   Oct 1   3:00s   0   D
     // Asia/Baghdad Iraq(IQ)    3:00    Iraq    A%sT
     //----------------------------------------------------------
-    new TimeZoneImpl((int)(3.5*ONE_HOUR), "Asia/Tehran",
-                 Calendar.MARCH, 21, 0, 0*ONE_HOUR,
-                 Calendar.SEPTEMBER, 23, 0, 0*ONE_HOUR, 1*ONE_HOUR),
+    "Asia/Tehran",
     // Rule Iran    1997    1999    -   Mar 21  0:00    1:00    S
     // Rule Iran    1997    1999    -   Sep 23  0:00    0   -
     // Asia/Tehran  Iran(IR)    3:30    Iran    IR%sT
-    new TimeZoneImpl((int)(3.5*ONE_HOUR), "MET",
-                 Calendar.MARCH, 21, 0, 0*ONE_HOUR,
-                 Calendar.SEPTEMBER, 23, 0, 0*ONE_HOUR, 1*ONE_HOUR),
+    "MET",
     //----------------------------------------------------------
-    new TimeZoneImpl(4*ONE_HOUR, "Asia/Dubai"),
+    "Asia/Dubai",
     // Asia/Dubai   United Arab Emirates(AE)    4:00    -   GST
     //----------------------------------------------------------
-    new TimeZoneImpl(4*ONE_HOUR, "Asia/Muscat"),
+    "Asia/Muscat",
     // Asia/Muscat  Oman(OM)    4:00    -   GST
     //----------------------------------------------------------
-    new TimeZoneImpl(4*ONE_HOUR, "Asia/Yerevan"),
+    "Asia/Yerevan",
     // Asia/Yerevan Armenia(AM) 4:00    -   AM%sT
-    new TimeZoneImpl(4*ONE_HOUR, "NET"),
+    "NET",
     //----------------------------------------------------------
-    new TimeZoneImpl(4*ONE_HOUR, "Asia/Baku",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 5*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 5*ONE_HOUR, 1*ONE_HOUR),
+    "Asia/Baku",
     // Rule EUAsia  1981    max -   Mar lastSun 1:00u   1:00    S
     // Rule EUAsia  1996    max -   Oct lastSun 1:00u   0   -
     // Asia/Baku    Azerbaijan(AZ)  4:00    EUAsia  AZ%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(4*ONE_HOUR, "Asia/Aqtau",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 0*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR),
+    "Asia/Aqtau",
     // Rule E-EurAsia   1981    max -   Mar lastSun 0:00    1:00    S
     // Rule E-EurAsia   1996    max -   Oct lastSun 0:00    0   -
     // Asia/Aqtau   Kazakhstan(KZ)  4:00    E-EurAsia   AQT%sT
     //----------------------------------------------------------
-    new TimeZoneImpl((int)(4.5*ONE_HOUR), "Asia/Kabul"),
+    "Asia/Kabul",
     // Asia/Kabul   Afghanistan(AF) 4:30    -   AFT
     //----------------------------------------------------------
-    new TimeZoneImpl(5*ONE_HOUR, "Asia/Tbilisi"),
+    "Asia/Tbilisi",
     // Asia/Tbilisi Georgia(GE) 5:00    -   GET
     //----------------------------------------------------------
-    new TimeZoneImpl(5*ONE_HOUR, "Asia/Dushanbe"),
+    "Asia/Dushanbe",
     // Asia/Dushanbe    Tajikistan(TJ)  5:00    -   TJT # Tajikistan Time
     //----------------------------------------------------------
-    new TimeZoneImpl(5*ONE_HOUR, "Asia/Ashkhabad"),
+    "Asia/Ashkhabad",
     // Asia/Ashkhabad   Turkmenistan(TM)    5:00    -   TMT # Turkmenistan Time
     //----------------------------------------------------------
-    new TimeZoneImpl(5*ONE_HOUR, "Asia/Tashkent"),
+    "Asia/Tashkent",
     // Asia/Tashkent    Uzbekistan(UZ)  5:00    -   UZT # Uzbekistan Time
     //----------------------------------------------------------
-    new TimeZoneImpl(5*ONE_HOUR, "Asia/Karachi"),
+    "Asia/Karachi",
     // Asia/Karachi Pakistan(PK)    5:00    -   PKT # Pakistan Time
-    new TimeZoneImpl(5*ONE_HOUR, "PLT"),
+    "PLT",
     //----------------------------------------------------------
-    new TimeZoneImpl(5*ONE_HOUR, "Asia/Bishkek",
-                 Calendar.APRIL, 7, -Calendar.SUNDAY, 0*ONE_HOUR,
-                 Calendar.SEPTEMBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR),
+    "Asia/Bishkek",
     // Rule Kirgiz  1992    max -   Apr Sun>=7  0:00    1:00    S
     // Rule Kirgiz  1991    max -   Sep lastSun 0:00    0   -
     // Asia/Bishkek Kirgizstan(KG)  5:00    Kirgiz  KG%sT   # Kirgizstan Time
     //----------------------------------------------------------
-    new TimeZoneImpl(5*ONE_HOUR, "Asia/Aqtobe",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 0*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR),
+    "Asia/Aqtobe",
     // Rule E-EurAsia   1981    max -   Mar lastSun 0:00    1:00    S
     // Rule E-EurAsia   1996    max -   Oct lastSun 0:00    0   -
     // Asia/Aqtobe  Kazakhstan(KZ)  5:00    E-EurAsia   AQT%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(5*ONE_HOUR, "Asia/Yekaterinburg",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Asia/Yekaterinburg",
     // Rule Russia  1993    max -   Mar lastSun 2:00s   1:00    S
     // Rule Russia  1996    max -   Oct lastSun 2:00s   0   -
     // Asia/Yekaterinburg   Russia(RU)  5:00    Russia  YEK%sT  # Yekaterinburg Time
     //----------------------------------------------------------
-    new TimeZoneImpl((int)(5.5*ONE_HOUR), "Asia/Calcutta"),
+    "Asia/Calcutta",
     // Asia/Calcutta    India(IN)   5:30    -   IST
-    new TimeZoneImpl((int)(5.5*ONE_HOUR), "IST"),
+    "IST",
     //----------------------------------------------------------
-    new TimeZoneImpl((int)(5.75*ONE_HOUR), "Asia/Katmandu"),
+    "Asia/Katmandu",
     // Asia/Katmandu    Nepal(NP)   5:45    -   NPT # Nepal Time
     //----------------------------------------------------------
-    new TimeZoneImpl(6*ONE_HOUR, "Asia/Thimbu"),
+    "Asia/Thimbu",
     // Asia/Thimbu  Bhutan(BT)  6:00    -   BTT # Bhutan Time
     //----------------------------------------------------------
-    new TimeZoneImpl(6*ONE_HOUR, "Asia/Colombo"),
+    "Asia/Colombo",
     // Asia/Colombo Sri Lanka(LK)   6:00    -   LKT
     //----------------------------------------------------------
-    new TimeZoneImpl(6*ONE_HOUR, "Asia/Dacca"),
+    "Asia/Dacca",
     // Asia/Dacca   Bangladesh(BD)  6:00    -   BDT # Bangladesh Time
-    new TimeZoneImpl(6*ONE_HOUR, "BST"),
+    "BST",
     //----------------------------------------------------------
-    new TimeZoneImpl(6*ONE_HOUR, "Asia/Alma-Ata",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 0*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR),
+    "Asia/Alma-Ata",
     // Rule E-EurAsia   1981    max -   Mar lastSun 0:00    1:00    S
     // Rule E-EurAsia   1996    max -   Oct lastSun 0:00    0   -
     // Asia/Alma-Ata    Kazakhstan(KZ)  6:00    E-EurAsia   ALM%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(6*ONE_HOUR, "Asia/Novosibirsk",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Asia/Novosibirsk",
     // Rule Russia  1993    max -   Mar lastSun 2:00s   1:00    S
     // Rule Russia  1996    max -   Oct lastSun 2:00s   0   -
     // Asia/Novosibirsk Russia(RU)  6:00    Russia  NOV%sT
     //----------------------------------------------------------
-    new TimeZoneImpl((int)(6.5*ONE_HOUR), "Asia/Rangoon"),
+    "Asia/Rangoon",
     // Asia/Rangoon Burma / Myanmar(MM) 6:30    -   MMT # Myanmar Time
     //----------------------------------------------------------
-    new TimeZoneImpl(7*ONE_HOUR, "Asia/Jakarta"),
+    "Asia/Jakarta",
     // Asia/Jakarta Indonesia(ID)   7:00    -   JAVT
     //----------------------------------------------------------
-    new TimeZoneImpl(7*ONE_HOUR, "Asia/Phnom_Penh"),
+    "Asia/Phnom_Penh",
     // Asia/Phnom_Penh  Cambodia(KH)    7:00    -   ICT
     //----------------------------------------------------------
-    new TimeZoneImpl(7*ONE_HOUR, "Asia/Vientiane"),
+    "Asia/Vientiane",
     // Asia/Vientiane   Laos(LA)    7:00    -   ICT
     //----------------------------------------------------------
-    new TimeZoneImpl(7*ONE_HOUR, "Asia/Saigon"),
+    "Asia/Saigon",
     // Asia/Saigon  Vietnam(VN) 7:00    -   ICT
-    new TimeZoneImpl(7*ONE_HOUR, "VST"),
+    "VST",
     //----------------------------------------------------------
-    new TimeZoneImpl(7*ONE_HOUR, "Asia/Bangkok"),
+    "Asia/Bangkok",
     // Asia/Bangkok Thailand(TH)    7:00    -   ICT
     //----------------------------------------------------------
-    new TimeZoneImpl(7*ONE_HOUR, "Asia/Krasnoyarsk",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Asia/Krasnoyarsk",
     // Rule Russia  1993    max -   Mar lastSun 2:00s   1:00    S
     // Rule Russia  1996    max -   Oct lastSun 2:00s   0   -
     // Asia/Krasnoyarsk Russia(RU)  7:00    Russia  KRA%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(8*ONE_HOUR, "Asia/Brunei"),
+    "Asia/Brunei",
     // Asia/Brunei  Brunei(BN)  8:00    -   BNT
     //----------------------------------------------------------
-    new TimeZoneImpl(8*ONE_HOUR, "Asia/Hong_Kong"),
+    "Asia/Hong_Kong",
     // Asia/Hong_Kong   China(HK)   8:00    -   C%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(8*ONE_HOUR, "Asia/Ujung_Pandang"),
+    "Asia/Ujung_Pandang",
     // Asia/Ujung_Pandang   Indonesia(ID)   8:00    -   BORT
     //----------------------------------------------------------
-    new TimeZoneImpl(8*ONE_HOUR, "Asia/Ishigaki"),
+    "Asia/Ishigaki",
     // Asia/Ishigaki    Japan(JP)   8:00    -   CST
     //----------------------------------------------------------
-    new TimeZoneImpl(8*ONE_HOUR, "Asia/Macao"),
+    "Asia/Macao",
     // Asia/Macao   Macao(MO)   8:00    -   C%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(8*ONE_HOUR, "Asia/Kuala_Lumpur"),
+    "Asia/Kuala_Lumpur",
     // Asia/Kuala_Lumpur    Malaysia(MY)    8:00    -   MYT # Malaysia Time
     //----------------------------------------------------------
-    new TimeZoneImpl(8*ONE_HOUR, "Asia/Manila"),
+    "Asia/Manila",
     // Asia/Manila  Philippines(PH) 8:00    -   PH%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(8*ONE_HOUR, "Asia/Singapore"),
+    "Asia/Singapore",
     // Asia/Singapore   Singapore(SG)   8:00    -   SGT
     //----------------------------------------------------------
-    new TimeZoneImpl(8*ONE_HOUR, "Asia/Taipei"),
+    "Asia/Taipei",
     // Asia/Taipei  Taiwan(TW)  8:00    -   C%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(8*ONE_HOUR, "Asia/Shanghai"),
+    "Asia/Shanghai",
     // Asia/Shanghai    China(CN)   8:00    -   C%sT
-    new TimeZoneImpl(8*ONE_HOUR, "CTT"),
+    "CTT",
     //----------------------------------------------------------
-    new TimeZoneImpl(8*ONE_HOUR, "Asia/Ulan_Bator",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 0*ONE_HOUR,
-                 Calendar.SEPTEMBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR),
+    "Asia/Ulan_Bator",
     // Rule Mongol  1991    max -   Mar lastSun 0:00    1:00    S
     // Rule Mongol  1997    max -   Sep lastSun 0:00    0   -
     // Asia/Ulan_Bator  Mongolia(MN)    8:00    Mongol  ULA%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(8*ONE_HOUR, "Asia/Irkutsk",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Asia/Irkutsk",
     // Rule Russia  1993    max -   Mar lastSun 2:00s   1:00    S
     // Rule Russia  1996    max -   Oct lastSun 2:00s   0   -
     // Asia/Irkutsk Russia(RU)  8:00    Russia  IRK%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(9*ONE_HOUR, "Asia/Jayapura"),
+    "Asia/Jayapura",
     // Asia/Jayapura    Indonesia(ID)   9:00    -   JAYT
     //----------------------------------------------------------
-    new TimeZoneImpl(9*ONE_HOUR, "Asia/Pyongyang"),
+    "Asia/Pyongyang",
     // Asia/Pyongyang   ?(KP)   9:00    -   KST
     //----------------------------------------------------------
-    new TimeZoneImpl(9*ONE_HOUR, "Asia/Seoul"),
+    "Asia/Seoul",
     // Asia/Seoul   ?(KR)   9:00    -   K%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(9*ONE_HOUR, "Asia/Tokyo"),
+    "Asia/Tokyo",
     // Asia/Tokyo   Japan(JP)   9:00    -   JST
-    new TimeZoneImpl(9*ONE_HOUR, "JST"),
+    "JST",
     //----------------------------------------------------------
-    new TimeZoneImpl(9*ONE_HOUR, "Asia/Yakutsk",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Asia/Yakutsk",
     // Rule Russia  1993    max -   Mar lastSun 2:00s   1:00    S
     // Rule Russia  1996    max -   Oct lastSun 2:00s   0   -
     // Asia/Yakutsk Russia(RU)  9:00    Russia  YAK%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(10*ONE_HOUR, "Asia/Vladivostok",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Asia/Vladivostok",
     // Rule Russia  1993    max -   Mar lastSun 2:00s   1:00    S
     // Rule Russia  1996    max -   Oct lastSun 2:00s   0   -
     // Asia/Vladivostok Russia(RU)  10:00   Russia  VLA%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(11*ONE_HOUR, "Asia/Magadan",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Asia/Magadan",
     // Rule Russia  1993    max -   Mar lastSun 2:00s   1:00    S
     // Rule Russia  1996    max -   Oct lastSun 2:00s   0   -
     // Asia/Magadan Russia(RU)  11:00   Russia  MAG%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(12*ONE_HOUR, "Asia/Kamchatka",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Asia/Kamchatka",
     // Rule Russia  1993    max -   Mar lastSun 2:00s   1:00    S
     // Rule Russia  1996    max -   Oct lastSun 2:00s   0   -
     // Asia/Kamchatka   Russia(RU)  12:00   Russia  PET%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(13*ONE_HOUR, "Asia/Anadyr",
-                 Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Asia/Anadyr",
     // Rule Russia  1993    max -   Mar lastSun 2:00s   1:00    S
     // Rule Russia  1996    max -   Oct lastSun 2:00s   0   -
     // Asia/Anadyr  Russia(RU)  13:00   Russia  ANA%sT
@@ -2197,175 +2105,740 @@ public class TimeZoneImpl extends TimeZone {
     ////////////////////////////////////////////////////////////
     // India
     //----------------------------------------------------------
-    new TimeZoneImpl(3*ONE_HOUR, "Indian/Comoro"),
+    "Indian/Comoro",
     // Indian/Comoro    Comoros(KM) 3:00    -   EAT
     //----------------------------------------------------------
-    new TimeZoneImpl(3*ONE_HOUR, "Indian/Antananarivo"),
+    "Indian/Antananarivo",
     // Indian/Antananarivo  Madagascar(MK)  3:00    -   EAT
     //----------------------------------------------------------
-    new TimeZoneImpl(3*ONE_HOUR, "Indian/Mayotte"),
+    "Indian/Mayotte",
     // Indian/Mayotte   Mayotte(YT) 3:00    -   EAT
     //----------------------------------------------------------
-    new TimeZoneImpl(4*ONE_HOUR, "Indian/Mauritius"),
+    "Indian/Mauritius",
     // Indian/Mauritius Mauritius(MU)   4:00    -   MUT # Mauritius Time
     //----------------------------------------------------------
-    new TimeZoneImpl(4*ONE_HOUR, "Indian/Reunion"),
+    "Indian/Reunion",
     // Indian/Reunion   Reunion(RE) 4:00    -   RET # Reunion Time
     //----------------------------------------------------------
-    new TimeZoneImpl(4*ONE_HOUR, "Indian/Mahe"),
+    "Indian/Mahe",
     // Indian/Mahe  Seychelles(SC)  4:00    -   SCT # Seychelles Time
     //----------------------------------------------------------
-    new TimeZoneImpl(5*ONE_HOUR, "Indian/Kerguelen"),
+    "Indian/Kerguelen",
     // Indian/Kerguelen France - year-round bases(FR)   5:00    -   TFT # ISO code TF Time
     //----------------------------------------------------------
-    new TimeZoneImpl(5*ONE_HOUR, "Indian/Chagos"),
+    "Indian/Chagos",
     // Indian/Chagos    British Indian Ocean Territory(IO)  5:00    -   IOT # BIOT Time
     //----------------------------------------------------------
-    new TimeZoneImpl(5*ONE_HOUR, "Indian/Maldives"),
+    "Indian/Maldives",
     // Indian/Maldives  Maldives(MV)    5:00    -   MVT # Maldives Time
     //----------------------------------------------------------
-    new TimeZoneImpl((int)(6.5*ONE_HOUR), "Indian/Cocos"),
+    "Indian/Cocos",
     // Indian/Cocos Cocos(CC)   6:30    -   CCT # Cocos Islands Time
     //----------------------------------------------------------
-    new TimeZoneImpl(7*ONE_HOUR, "Indian/Christmas"),
+    "Indian/Christmas",
     // Indian/Christmas Australian miscellany(AU)   7:00    -   CXT # Christmas Island Time
 
     ////////////////////////////////////////////////////////////
     // Pacific
     //----------------------------------------------------------
-    new TimeZoneImpl(9*ONE_HOUR, "Pacific/Palau"),
+    "Pacific/Palau",
     // Pacific/Palau    Palau(PW)   9:00    -   PWT # Palau Time
     //----------------------------------------------------------
-    new TimeZoneImpl(10*ONE_HOUR, "Pacific/Truk"),
+    "Pacific/Truk",
     // Pacific/Truk Micronesia(FM)  10:00   -   TRUT    # Truk Time
     //----------------------------------------------------------
-    new TimeZoneImpl(10*ONE_HOUR, "Pacific/Guam"),
+    "Pacific/Guam",
     // Pacific/Guam Guam(GU)    10:00   -   GST
     //----------------------------------------------------------
-    new TimeZoneImpl(10*ONE_HOUR, "Pacific/Saipan"),
+    "Pacific/Saipan",
     // Pacific/Saipan   N Mariana Is(MP)    10:00   -   MPT
     //----------------------------------------------------------
-    new TimeZoneImpl(10*ONE_HOUR, "Pacific/Port_Moresby"),
+    "Pacific/Port_Moresby",
     // Pacific/Port_Moresby Papua New Guinea(PG)    10:00   -   PGT # Papua New Guinea Time
     //----------------------------------------------------------
-    new TimeZoneImpl(11*ONE_HOUR, "Pacific/Ponape"),
+    "Pacific/Ponape",
     // Pacific/Ponape   Micronesia(FM)  11:00   -   PONT    # Ponape Time
     //----------------------------------------------------------
-    new TimeZoneImpl(11*ONE_HOUR, "Pacific/Efate"),
+    "Pacific/Efate",
     // Pacific/Efate    Vanuatu(VU) 11:00   -   VU%sT   # Vanuatu Time
     //----------------------------------------------------------
-    new TimeZoneImpl(11*ONE_HOUR, "Pacific/Guadalcanal"),
+    "Pacific/Guadalcanal",
     // Pacific/Guadalcanal  Solomon Is(SB)  11:00   -   SBT # Solomon Is Time
-    new TimeZoneImpl(11*ONE_HOUR, "SST"),
+    "SST",
     //----------------------------------------------------------
-    new TimeZoneImpl(11*ONE_HOUR, "Pacific/Noumea",
-                 Calendar.NOVEMBER, -1, Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.MARCH, 1, -Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Pacific/Noumea",
     // Rule NC  1997    max -   Mar Sun>=1  2:00s   0   -
     // Rule NC  1997    max -   Nov lastSun 2:00s   1:00    S
     // Pacific/Noumea   New Caledonia(NC)   11:00   NC  NC%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(-11*ONE_HOUR, "Pacific/Niue"),
+    "Pacific/Niue",
     // Pacific/Niue Niue(NU)    -11:00  -   NUT
     //----------------------------------------------------------
-    new TimeZoneImpl(-11*ONE_HOUR, "Pacific/Apia"),
+    "Pacific/Apia",
     // Pacific/Apia W Samoa(WS) -11:00  -   WST # W Samoa Time
-    new TimeZoneImpl(-11*ONE_HOUR, "MIT"),
+    "MIT",
     //----------------------------------------------------------
-    new TimeZoneImpl(-11*ONE_HOUR, "Pacific/Pago_Pago"),
+    "Pacific/Pago_Pago",
     // Pacific/Pago_Pago    American Samoa(US)  -11:00  -   SST # S=Samoa
     //----------------------------------------------------------
-    new TimeZoneImpl(-10*ONE_HOUR, "Pacific/Tahiti"),
+    "Pacific/Tahiti",
     // Pacific/Tahiti   French Polynesia(PF)    -10:00  -   TAHT    # Tahiti Time
     //----------------------------------------------------------
-    new TimeZoneImpl(-10*ONE_HOUR, "Pacific/Fakaofo"),
+    "Pacific/Fakaofo",
     // Pacific/Fakaofo  Tokelau Is(TK)  -10:00  -   TKT # Tokelau Time
     //----------------------------------------------------------
-    new TimeZoneImpl(-10*ONE_HOUR, "Pacific/Honolulu"),
+    "Pacific/Honolulu",
     // Pacific/Honolulu Hawaii(US)  -10:00  -   HST
-    new TimeZoneImpl(-10*ONE_HOUR, "HST"),
+    "HST",
     //----------------------------------------------------------
-    new TimeZoneImpl(-10*ONE_HOUR, "Pacific/Rarotonga",
-                 Calendar.OCTOBER, -1, Calendar.SUNDAY, 0*ONE_HOUR,
-                 Calendar.MARCH, 1, -Calendar.SUNDAY, 0*ONE_HOUR, (int)(0.5*ONE_HOUR)),
+    "Pacific/Rarotonga",
     // Rule Cook    1979    max -   Mar Sun>=1  0:00    0   -
     // Rule Cook    1979    max -   Oct lastSun 0:00    0:30    HS
     // Pacific/Rarotonga    Cook Is(CK) -10:00  Cook    CK%sT
     //----------------------------------------------------------
-    new TimeZoneImpl((int)(-9.5*ONE_HOUR), "Pacific/Marquesas"),
+    "Pacific/Marquesas",
     // Pacific/Marquesas    French Polynesia(PF)    -9:30   -   MART    # Marquesas Time
     //----------------------------------------------------------
-    new TimeZoneImpl(-9*ONE_HOUR, "Pacific/Gambier"),
+    "Pacific/Gambier",
     // Pacific/Gambier  French Polynesia(PF)    -9:00   -   GAMT    # Gambier Time
     //----------------------------------------------------------
-    new TimeZoneImpl((int)(-8.5*ONE_HOUR), "Pacific/Pitcairn"),
+    "Pacific/Pitcairn",
     // Pacific/Pitcairn Pitcairn(PN)    -8:30   -   PNT # Pitcairn Time
     //----------------------------------------------------------
-    new TimeZoneImpl(-6*ONE_HOUR, "Pacific/Galapagos"),
+    "Pacific/Galapagos",
     // Pacific/Galapagos    Ecuador(EC) -6:00   -   GALT    # Galapagos Time
     //----------------------------------------------------------
-    new TimeZoneImpl(-6*ONE_HOUR, "Pacific/Easter",
-                 Calendar.OCTOBER, 9, -Calendar.SUNDAY, 0*ONE_HOUR,
-                 Calendar.MARCH, 9, -Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR),
+    "Pacific/Easter",
     // Rule Chile   1969    max -   Oct Sun>=9  0:00    1:00    S
     // Rule Chile   1970    max -   Mar Sun>=9  0:00    0   -
     // Pacific/Easter   Chile(CL)   -6:00   Chile   EAS%sT
     //----------------------------------------------------------
-    new TimeZoneImpl((int)(11.5*ONE_HOUR), "Pacific/Norfolk"),
+    "Pacific/Norfolk",
     // Pacific/Norfolk  Norfolk(NF) 11:30   -   NFT # Norfolk Time
     //----------------------------------------------------------
-    new TimeZoneImpl(12*ONE_HOUR, "Pacific/Kosrae"),
+    "Pacific/Kosrae",
     // Pacific/Kosrae   Micronesia(FM)  12:00   -   KOST    # Kosrae Time
     //----------------------------------------------------------
-    new TimeZoneImpl(12*ONE_HOUR, "Pacific/Tarawa"),
+    "Pacific/Tarawa",
     // Pacific/Tarawa   Kiribati(KI)    12:00   -   GILT    # Gilbert Is Time
     //----------------------------------------------------------
-    new TimeZoneImpl(12*ONE_HOUR, "Pacific/Majuro"),
+    "Pacific/Majuro",
     // Pacific/Majuro   Marshall Is(MH) 12:00   -   MHT
     //----------------------------------------------------------
-    new TimeZoneImpl(12*ONE_HOUR, "Pacific/Nauru"),
+    "Pacific/Nauru",
     // Pacific/Nauru    Nauru(NR)   12:00   -   NRT
     //----------------------------------------------------------
-    new TimeZoneImpl(12*ONE_HOUR, "Pacific/Funafuti"),
+    "Pacific/Funafuti",
     // Pacific/Funafuti Tuvalu(TV)  12:00   -   TVT # Tuvalu Time
     //----------------------------------------------------------
-    new TimeZoneImpl(12*ONE_HOUR, "Pacific/Wake"),
+    "Pacific/Wake",
     // Pacific/Wake Wake(US)    12:00   -   WAKT    # Wake Time
     //----------------------------------------------------------
-    new TimeZoneImpl(12*ONE_HOUR, "Pacific/Wallis"),
+    "Pacific/Wallis",
     // Pacific/Wallis   Wallis and Futuna(WF)   12:00   -   WFT # Wallis & Futuna Time
     //----------------------------------------------------------
-    new TimeZoneImpl(12*ONE_HOUR, "Pacific/Fiji"),
+    "Pacific/Fiji",
     // Pacific/Fiji Fiji(FJ)    12:00   -   FJT # Fiji Time
     //----------------------------------------------------------
-    new TimeZoneImpl(12*ONE_HOUR, "Pacific/Auckland",
-                 Calendar.OCTOBER, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.MARCH, 15, -Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "Pacific/Auckland",
     // Rule NZ  1990    max -   Oct Sun>=1  2:00s   1:00    D
     // Rule NZ  1990    max -   Mar Sun>=15 2:00s   0   S
     // Pacific/Auckland New Zealand(NZ) 12:00   NZ  NZ%sT
-    new TimeZoneImpl(12*ONE_HOUR, "NST",
-                 Calendar.OCTOBER, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
-                 Calendar.MARCH, 15, -Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR),
+    "NST",
     //----------------------------------------------------------
-    new TimeZoneImpl((int)(12.75*ONE_HOUR), "Pacific/Chatham",
-                 Calendar.OCTOBER, 1, -Calendar.SUNDAY, (int)(2.75*ONE_HOUR),
-                 Calendar.MARCH, 15, -Calendar.SUNDAY, (int)(3.75*ONE_HOUR), 1*ONE_HOUR),
+    "Pacific/Chatham",
     // Rule Chatham 1990    max -   Oct Sun>=1  2:45s   1:00    D
     // Rule Chatham 1991    max -   Mar Sun>=15 2:45s   0   S
     // Pacific/Chatham  New Zealand(NZ) 12:45   Chatham CHA%sT
     //----------------------------------------------------------
-    new TimeZoneImpl(13*ONE_HOUR, "Pacific/Enderbury"),
+    "Pacific/Enderbury",
     // Pacific/Enderbury    Kiribati(KI)    13:00   -   PHOT
     //----------------------------------------------------------
-    new TimeZoneImpl(13*ONE_HOUR, "Pacific/Tongatapu"),
+    "Pacific/Tongatapu",
     // Pacific/Tongatapu    Tonga(TO)   13:00   -   TOT
     //----------------------------------------------------------
-    new TimeZoneImpl(14*ONE_HOUR, "Pacific/Kiritimati"),
+    "Pacific/Kiritimati",
     // Pacific/Kiritimati   Kiribati(KI)    14:00   -   LINT
     ************/
     };
 
+    private static final int zoneRules[] = {
+    0*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // GMT
+    0*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // UTC
+    /**
+     * NOTE: the rules of the zones listed in zoneIDs, in the same order
+     * look for the closing comment which has a string of '*' asterisks
+     *************
+    -10*ONE_HOUR, // America/Adak
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -9*ONE_HOUR, // America/Anchorage
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -9*ONE_HOUR, // AST
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -8*ONE_HOUR, // America/Vancouver
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -8*ONE_HOUR, // America/Tijuana
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -8*ONE_HOUR, // America/Los_Angeles
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -8*ONE_HOUR, // PST
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -7*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Dawson_Creek
+    -7*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Phoenix
+    -7*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // PNT
+    -7*ONE_HOUR, // America/Edmonton
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -7*ONE_HOUR, // America/Mazatlan
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -7*ONE_HOUR, // America/Denver
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -7*ONE_HOUR, // MST
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -6*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Belize
+    -6*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Regina
+    -6*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Guatemala
+    -6*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Tegucigalpa
+    -6*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/El_Salvador
+    -6*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Costa_Rica
+    -6*ONE_HOUR, // America/Winnipeg
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -6*ONE_HOUR, // America/Mexico_City
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -6*ONE_HOUR, // America/Chicago
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -6*ONE_HOUR, // CST
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -5*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Porto_Acre
+    -5*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Bogota
+    -5*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Guayaquil
+    -5*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Jamaica
+    -5*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Cayman
+    -5*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Managua
+    -5*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Panama
+    -5*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Lima
+    -5*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Indianapolis
+    -5*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // IET
+    -5*ONE_HOUR, // America/Nassau
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -5*ONE_HOUR, // America/Montreal
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -5*ONE_HOUR, // America/Havana
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 0*ONE_HOUR,
+        Calendar.OCTOBER, 8, -Calendar.SUNDAY, 1*ONE_HOUR, 1*ONE_HOUR,
+    -5*ONE_HOUR, // America/Port-au-Prince
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 1*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -5*ONE_HOUR, // America/Grand_Turk
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 0*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR,
+    -5*ONE_HOUR, // America/New_York
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -5*ONE_HOUR, // EST
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Antigua
+    -4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Anguilla
+    -4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Curacao
+    -4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Aruba
+    -4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Barbados
+    -4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/La_Paz
+    -4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Manaus
+    -4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Dominica
+    -4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Santo_Domingo
+    -4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Grenada
+    -4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Guadeloupe
+    -4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Guyana
+    -4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/St_Kitts
+    -4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/St_Lucia
+    -4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Martinique
+    -4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Montserrat
+    -4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Puerto_Rico
+    -4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // PRT
+    -4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Port_of_Spain
+    -4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/St_Vincent
+    -4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Tortola
+    -4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/St_Thomas
+    -4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Caracas
+    -4*ONE_HOUR, // America/Cuiaba
+        Calendar.OCTOBER, 1, -Calendar.SUNDAY, 0*ONE_HOUR,
+        Calendar.FEBRUARY, 11, -Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR,
+    -4*ONE_HOUR, // America/Halifax
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -4*ONE_HOUR, // America/Thule
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -4*ONE_HOUR, // America/Asuncion
+        Calendar.OCTOBER, 1, 0, 0*ONE_HOUR,
+        Calendar.MARCH, 1, 0, 0*ONE_HOUR, 1*ONE_HOUR,
+    -4*ONE_HOUR, // America/Santiago
+        Calendar.OCTOBER, 9, -Calendar.SUNDAY, 0*ONE_HOUR,
+        Calendar.MARCH, 9, -Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR,
+    (int)(-3.5*ONE_HOUR), // America/St_Johns
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    (int)(-3.5*ONE_HOUR), // CNT
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -3*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Fortaleza
+    -3*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Cayenne
+    -3*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Paramaribo
+    -3*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Montevideo
+    -3*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Buenos_Aires
+    -3*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // AGT
+    -3*ONE_HOUR, // America/Godthab
+        Calendar.MARCH, -1, Calendar.SATURDAY, 22*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SATURDAY, 22*ONE_HOUR, 1*ONE_HOUR,
+    -3*ONE_HOUR, // America/Miquelon
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -3*ONE_HOUR, // America/Sao_Paulo
+        Calendar.OCTOBER, 1, -Calendar.SUNDAY, 0*ONE_HOUR,
+        Calendar.FEBRUARY, 11, -Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR,
+    -3*ONE_HOUR, // BET
+        Calendar.OCTOBER, 1, -Calendar.SUNDAY, 0*ONE_HOUR,
+        Calendar.FEBRUARY, 11, -Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR,
+    -2*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // America/Noronha
+    -1*ONE_HOUR, // America/Scoresbysund
+        Calendar.MARCH, -1, Calendar.SUNDAY, 0*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR,
+    -4*ONE_HOUR, // Antarctica/Palmer
+        Calendar.OCTOBER, 9, -Calendar.SUNDAY, 0*ONE_HOUR,
+        Calendar.MARCH, 9, -Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR,
+    6*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Antarctica/Mawson
+    8*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Antarctica/Casey
+    10*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Antarctica/DumontDUrville
+    12*ONE_HOUR, // Antarctica/McMurdo
+        Calendar.OCTOBER, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.MARCH, 15, -Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    8*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Australia/Perth
+    (int)(9.5*ONE_HOUR), 0, 0, 0, 0, 0, 0, 0, 0, 0, // Australia/Darwin
+    (int)(9.5*ONE_HOUR), 0, 0, 0, 0, 0, 0, 0, 0, 0, // ACT
+    (int)(9.5*ONE_HOUR), // Australia/Adelaide
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.MARCH, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    10*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Australia/Brisbane
+    10*ONE_HOUR, // Australia/Sydney
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.MARCH, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    10*ONE_HOUR, // AET
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.MARCH, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    (int)(10.5*ONE_HOUR), // Australia/Lord_Howe
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.MARCH, -1, Calendar.SUNDAY, 3*ONE_HOUR, (int)(0.5*ONE_HOUR),
+    -4*ONE_HOUR, // Atlantic/Bermuda
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    -4*ONE_HOUR, // Atlantic/Stanley
+        Calendar.SEPTEMBER, 8, -Calendar.SUNDAY, 0*ONE_HOUR,
+        Calendar.APRIL, 16, -Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR,
+    -2*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Atlantic/South_Georgia
+    -1*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Atlantic/Jan_Mayen
+    -1*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Atlantic/Cape_Verde
+    -1*ONE_HOUR, // Atlantic/Azores
+        Calendar.MARCH, -1, Calendar.SUNDAY, 0*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR,
+    0*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Atlantic/Reykjavik
+    0*ONE_HOUR, // Atlantic/Faeroe
+        Calendar.MARCH, -1, Calendar.SUNDAY, 1*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 1*ONE_HOUR, 1*ONE_HOUR,
+    0*ONE_HOUR, // Atlantic/Canary
+        Calendar.MARCH, -1, Calendar.SUNDAY, 1*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 1*ONE_HOUR, 1*ONE_HOUR,
+    0*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Ouagadougou
+    0*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Abidjan
+    0*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Accra
+    0*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Banjul
+    0*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Conakry
+    0*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Bissau
+    0*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Monrovia
+    0*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Casablanca
+    0*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Timbuktu
+    0*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Nouakchott
+    0*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Atlantic/St_Helena
+    0*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Freetown
+    0*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Dakar
+    0*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Sao_Tome
+    0*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Lome
+    1*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Luanda
+    1*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Porto-Novo
+    1*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Bangui
+    1*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Kinshasa
+    1*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Douala
+    1*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Libreville
+    1*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Malabo
+    1*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Niamey
+    1*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Lagos
+    1*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Ndjamena
+    1*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Tunis
+    1*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Algiers
+    1*ONE_HOUR, // Africa/Tripoli
+        Calendar.MARCH, -1, Calendar.THURSDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, 1, -Calendar.THURSDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    1*ONE_HOUR, // Africa/Windhoek
+        Calendar.SEPTEMBER, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.APRIL, 1, -Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    2*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Bujumbura
+    2*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Gaborone
+    2*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Lubumbashi
+    2*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Maseru
+    2*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Blantyre
+    2*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Maputo
+    2*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Kigali
+    2*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Khartoum
+    2*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Mbabane
+    2*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Lusaka
+    2*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Harare
+    2*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // CAT
+    2*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Johannesburg
+    2*ONE_HOUR, // Africa/Cairo
+        Calendar.APRIL, -1, Calendar.FRIDAY, 1*ONE_HOUR,
+        Calendar.SEPTEMBER, -1, Calendar.FRIDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    2*ONE_HOUR, // ART
+        Calendar.APRIL, -1, Calendar.FRIDAY, 1*ONE_HOUR,
+        Calendar.SEPTEMBER, -1, Calendar.FRIDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    3*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Djibouti
+    3*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Asmera
+    3*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Addis_Ababa
+    3*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // EAT
+    3*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Nairobi
+    3*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Mogadishu
+    3*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Dar_es_Salaam
+    3*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Africa/Kampala
+    0*ONE_HOUR, // Europe/Dublin
+        Calendar.MARCH, -1, Calendar.SUNDAY, 1*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 1*ONE_HOUR, 1*ONE_HOUR,
+    0*ONE_HOUR, // Europe/Lisbon
+        Calendar.MARCH, -1, Calendar.SUNDAY, 1*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 1*ONE_HOUR, 1*ONE_HOUR,
+    0*ONE_HOUR, // Europe/London
+        Calendar.MARCH, -1, Calendar.SUNDAY, 1*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 1*ONE_HOUR, 1*ONE_HOUR,
+    1*ONE_HOUR, // Europe/Andorra
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    1*ONE_HOUR, // Europe/Tirane
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    1*ONE_HOUR, // Europe/Vienna
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    1*ONE_HOUR, // Europe/Brussels
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    1*ONE_HOUR, // Europe/Zurich
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    1*ONE_HOUR, // Europe/Prague
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    1*ONE_HOUR, // Europe/Berlin
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    1*ONE_HOUR, // Europe/Copenhagen
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    1*ONE_HOUR, // Europe/Madrid
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    1*ONE_HOUR, // Europe/Gibraltar
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    1*ONE_HOUR, // Europe/Budapest
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    1*ONE_HOUR, // Europe/Rome
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    1*ONE_HOUR, // Europe/Vaduz
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    1*ONE_HOUR, // Europe/Luxembourg
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    1*ONE_HOUR, // Europe/Monaco
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    1*ONE_HOUR, // Europe/Malta
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    1*ONE_HOUR, // Europe/Amsterdam
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    1*ONE_HOUR, // Europe/Oslo
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    1*ONE_HOUR, // Europe/Warsaw
+        Calendar.MARCH, -1, Calendar.SUNDAY, 1*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    1*ONE_HOUR, // Europe/Stockholm
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    1*ONE_HOUR, // Europe/Belgrade
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    1*ONE_HOUR, // Europe/Paris
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    1*ONE_HOUR, // ECT
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 2*ONE_HOUR, 1*ONE_HOUR,
+    2*ONE_HOUR, // Europe/Sofia
+        Calendar.MARCH, -1, Calendar.SUNDAY, 0*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR,
+    2*ONE_HOUR, // Europe/Minsk
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    2*ONE_HOUR, // Europe/Tallinn
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    2*ONE_HOUR, // Europe/Helsinki
+        Calendar.MARCH, -1, Calendar.SUNDAY, 3*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    2*ONE_HOUR, // Europe/Athens
+        Calendar.MARCH, -1, Calendar.SUNDAY, 3*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    2*ONE_HOUR, // Europe/Vilnius
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    2*ONE_HOUR, // Europe/Riga
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.SEPTEMBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    2*ONE_HOUR, // Europe/Chisinau
+        Calendar.MARCH, -1, Calendar.SUNDAY, 0*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR,
+    2*ONE_HOUR, // Europe/Bucharest
+        Calendar.MARCH, -1, Calendar.SUNDAY, 0*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR,
+    2*ONE_HOUR, // Europe/Kaliningrad
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    2*ONE_HOUR, // Europe/Kiev
+        Calendar.MARCH, -1, Calendar.SUNDAY, 3*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    2*ONE_HOUR, // Europe/Istanbul
+        Calendar.MARCH, -1, Calendar.SUNDAY, 3*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    2*ONE_HOUR, // EET
+        Calendar.MARCH, -1, Calendar.SUNDAY, 3*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    3*ONE_HOUR, // Europe/Simferopol
+        Calendar.MARCH, -1, Calendar.SUNDAY, 3*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    3*ONE_HOUR, // Europe/Moscow
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    4*ONE_HOUR, // Europe/Samara
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    2*ONE_HOUR, // Asia/Nicosia
+        Calendar.MARCH, -1, Calendar.SUNDAY, 0*ONE_HOUR,
+        Calendar.SEPTEMBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR,
+    2*ONE_HOUR, // Asia/Jerusalem
+        Calendar.MARCH, 15, -Calendar.FRIDAY, 0*ONE_HOUR,
+        Calendar.SEPTEMBER, 1, -Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR,
+    2*ONE_HOUR, // Asia/Amman
+        Calendar.APRIL, 1, -Calendar.FRIDAY, 0*ONE_HOUR,
+        Calendar.SEPTEMBER, 15, -Calendar.FRIDAY, 1*ONE_HOUR, 1*ONE_HOUR,
+    2*ONE_HOUR, // Asia/Beirut
+        Calendar.MARCH, -1, Calendar.SUNDAY, 0*ONE_HOUR,
+        Calendar.SEPTEMBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR,
+    2*ONE_HOUR, // Asia/Damascus
+        Calendar.APRIL, 1, 0, 0*ONE_HOUR,
+        Calendar.OCTOBER, 1, 0, 0*ONE_HOUR, 1*ONE_HOUR,
+    3*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Bahrain
+    3*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Kuwait
+    3*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Qatar
+    3*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Aden
+    3*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Riyadh
+    3*ONE_HOUR, // Asia/Baghdad
+        Calendar.APRIL, 1, 0, 3*ONE_HOUR,
+        Calendar.OCTOBER, 1, 0, 4*ONE_HOUR, 1*ONE_HOUR,
+    (int)(3.5*ONE_HOUR), // Asia/Tehran
+        Calendar.MARCH, 21, 0, 0*ONE_HOUR,
+        Calendar.SEPTEMBER, 23, 0, 0*ONE_HOUR, 1*ONE_HOUR,
+    (int)(3.5*ONE_HOUR), // MET
+        Calendar.MARCH, 21, 0, 0*ONE_HOUR,
+        Calendar.SEPTEMBER, 23, 0, 0*ONE_HOUR, 1*ONE_HOUR,
+    4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Dubai
+    4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Muscat
+    4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Yerevan
+    4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // NET
+    4*ONE_HOUR, // Asia/Baku
+        Calendar.MARCH, -1, Calendar.SUNDAY, 5*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 5*ONE_HOUR, 1*ONE_HOUR,
+    4*ONE_HOUR, // Asia/Aqtau
+        Calendar.MARCH, -1, Calendar.SUNDAY, 0*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR,
+    (int)(4.5*ONE_HOUR), 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Kabul
+    5*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Tbilisi
+    5*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Dushanbe
+    5*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Ashkhabad
+    5*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Tashkent
+    5*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Karachi
+    5*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // PLT
+    5*ONE_HOUR, // Asia/Bishkek
+        Calendar.APRIL, 7, -Calendar.SUNDAY, 0*ONE_HOUR,
+        Calendar.SEPTEMBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR,
+    5*ONE_HOUR, // Asia/Aqtobe
+        Calendar.MARCH, -1, Calendar.SUNDAY, 0*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR,
+    5*ONE_HOUR, // Asia/Yekaterinburg
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    (int)(5.5*ONE_HOUR), 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Calcutta
+    (int)(5.5*ONE_HOUR), 0, 0, 0, 0, 0, 0, 0, 0, 0, // IST
+    (int)(5.75*ONE_HOUR), 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Katmandu
+    6*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Thimbu
+    6*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Colombo
+    6*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Dacca
+    6*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // BST
+    6*ONE_HOUR, // Asia/Alma-Ata
+        Calendar.MARCH, -1, Calendar.SUNDAY, 0*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR,
+    6*ONE_HOUR, // Asia/Novosibirsk
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    (int)(6.5*ONE_HOUR), 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Rangoon
+    7*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Jakarta
+    7*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Phnom_Penh
+    7*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Vientiane
+    7*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Saigon
+    7*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // VST
+    7*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Bangkok
+    7*ONE_HOUR, // Asia/Krasnoyarsk
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    8*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Brunei
+    8*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Hong_Kong
+    8*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Ujung_Pandang
+    8*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Ishigaki
+    8*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Macao
+    8*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Kuala_Lumpur
+    8*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Manila
+    8*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Singapore
+    8*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Taipei
+    8*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Shanghai
+    8*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // CTT
+    8*ONE_HOUR, // Asia/Ulan_Bator
+        Calendar.MARCH, -1, Calendar.SUNDAY, 0*ONE_HOUR,
+        Calendar.SEPTEMBER, -1, Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR,
+    8*ONE_HOUR, // Asia/Irkutsk
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    9*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Jayapura
+    9*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Pyongyang
+    9*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Seoul
+    9*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Asia/Tokyo
+    9*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // JST
+    9*ONE_HOUR, // Asia/Yakutsk
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    10*ONE_HOUR, // Asia/Vladivostok
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    11*ONE_HOUR, // Asia/Magadan
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    12*ONE_HOUR, // Asia/Kamchatka
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    13*ONE_HOUR, // Asia/Anadyr
+        Calendar.MARCH, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    3*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Indian/Comoro
+    3*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Indian/Antananarivo
+    3*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Indian/Mayotte
+    4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Indian/Mauritius
+    4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Indian/Reunion
+    4*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Indian/Mahe
+    5*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Indian/Kerguelen
+    5*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Indian/Chagos
+    5*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Indian/Maldives
+    (int)(6.5*ONE_HOUR), 0, 0, 0, 0, 0, 0, 0, 0, 0, // Indian/Cocos
+    7*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Indian/Christmas
+    9*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Palau
+    10*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Truk
+    10*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Guam
+    10*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Saipan
+    10*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Port_Moresby
+    11*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Ponape
+    11*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Efate
+    11*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Guadalcanal
+    11*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // SST
+    11*ONE_HOUR, // Pacific/Noumea
+        Calendar.NOVEMBER, -1, Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.MARCH, 1, -Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    -11*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Niue
+    -11*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Apia
+    -11*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // MIT
+    -11*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Pago_Pago
+    -10*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Tahiti
+    -10*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Fakaofo
+    -10*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Honolulu
+    -10*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // HST
+    -10*ONE_HOUR, // Pacific/Rarotonga
+        Calendar.OCTOBER, -1, Calendar.SUNDAY, 0*ONE_HOUR,
+        Calendar.MARCH, 1, -Calendar.SUNDAY, 0*ONE_HOUR, (int)(0.5*ONE_HOUR),
+    (int)(-9.5*ONE_HOUR), 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Marquesas
+    -9*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Gambier
+    (int)(-8.5*ONE_HOUR), 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Pitcairn
+    -6*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Galapagos
+    -6*ONE_HOUR, // Pacific/Easter
+        Calendar.OCTOBER, 9, -Calendar.SUNDAY, 0*ONE_HOUR,
+        Calendar.MARCH, 9, -Calendar.SUNDAY, 0*ONE_HOUR, 1*ONE_HOUR,
+    (int)(11.5*ONE_HOUR), 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Norfolk
+    12*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Kosrae
+    12*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Tarawa
+    12*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Majuro
+    12*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Nauru
+    12*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Funafuti
+    12*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Wake
+    12*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Wallis
+    12*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Fiji
+    12*ONE_HOUR, // Pacific/Auckland
+        Calendar.OCTOBER, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.MARCH, 15, -Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    12*ONE_HOUR, // NST
+        Calendar.OCTOBER, 1, -Calendar.SUNDAY, 2*ONE_HOUR,
+        Calendar.MARCH, 15, -Calendar.SUNDAY, 3*ONE_HOUR, 1*ONE_HOUR,
+    (int)(12.75*ONE_HOUR), // Pacific/Chatham
+        Calendar.OCTOBER, 1, -Calendar.SUNDAY, (int)(2.75*ONE_HOUR),
+        Calendar.MARCH, 15, -Calendar.SUNDAY, (int)(3.75*ONE_HOUR), 1*ONE_HOUR,
+    13*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Enderbury
+    13*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Tongatapu
+    14*ONE_HOUR, 0, 0, 0, 0, 0, 0, 0, 0, 0, // Pacific/Kiritimati
+    ************/
+    };
+
+    /* The zones created so far, indexed like zoneIDs */
+    private static TimeZone zones[];
+
+    /*
+     * Open addressing hash index of zoneIDs, built on first lookup.  A
+     * non-zero entry is one more than the index of a zone.
+     */
+    private static int zoneIndex[];
+
     private static final void appendTwoDigits(StringBuffer sb, int number) {
         if (number < 10) {
             sb.append('0');
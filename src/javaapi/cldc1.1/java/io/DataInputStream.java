@@ -26,6 +26,8 @@
 
 package java.io;
 
+import com.sun.cldchi.jvm.JVM;
+
 /**
  * A data input stream lets an application read primitive Java data
  * types from an underlying input stream in a machine-independent
@@ -45,6 +47,17 @@ class DataInputStream extends InputStream implements DataInput {
      */
     protected InputStream in;
 
+    /**
+     * Largest scratch buffer for <code>readUTF</code> that is kept
+     * between calls.
+     */
+    private static final int UTF_BUFFER_LIMIT = 4096;
+
+    /**
+     * Scratch buffer for the bytes of <code>readUTF</code>, or null.
+     */
+    private byte utfBuffer[];
+
     /**
      * Creates a <code>DataInputStream</code>
      * and saves its  argument, the input stream
@@ -413,52 +426,57 @@ class DataInputStream extends InputStream implements DataInput {
      */
     public final static String readUTF(DataInput in) throws IOException {
         int utflen = in.readUnsignedShort();
-        char str[] = new char[utflen];
-        byte bytearr [] = new byte[utflen];
-        int c, char2, char3;
-        int count = 0;
-        int strlen = 0;
-
-        in.readFully(bytearr, 0, utflen);
-
-        while (count < utflen) {
-            c = (int) bytearr[count] & 0xff;
-            switch (c >> 4) {
-                case 0: case 1: case 2: case 3: case 4: case 5: case 6: case 7:
-                    /* 0xxxxxxx*/
-                    count++;
-                    str[strlen++] = (char)c;
-                    break;
-                case 12: case 13:
-                    /* 110x xxxx   10xx xxxx*/
-                    count += 2;
-                    if (count > utflen)
-                        throw new UTFDataFormatException();
-                    char2 = (int) bytearr[count-1];
-                    if ((char2 & 0xC0) != 0x80)
-                        throw new UTFDataFormatException();
-                    str[strlen++] = (char)(((c & 0x1F) << 6) | (char2 & 0x3F));
-                    break;
-                case 14:
-                    /* 1110 xxxx  10xx xxxx  10xx xxxx */
-                    count += 3;
-                    if (count > utflen)
-                        throw new UTFDataFormatException();
-                    char2 = (int) bytearr[count-2];
-                    char3 = (int) bytearr[count-1];
-                    if (((char2 & 0xC0) != 0x80) || ((char3 & 0xC0) != 0x80))
-                        throw new UTFDataFormatException();
-                    str[strlen++] = (char)(((c     & 0x0F) << 12) |
-                                           ((char2 & 0x3F) << 6)  |
-                                           ((char3 & 0x3F) << 0));
-                    break;
-                default:
-                    /* 10xx xxxx,  1111 xxxx */
-                    throw new UTFDataFormatException();
+        String str;
+        if (in instanceof DataInputStream) {
+            str = ((DataInputStream)in).readUTFBytes(utflen);
+        } else {
+            byte bytearr[] = new byte[utflen];
+            in.readFully(bytearr, 0, utflen);
+            str = JVM.decodeUTF(bytearr, 0, utflen);
+        }
+        if (str == null) {
+            throw new UTFDataFormatException();
+        }
+        return str;
+    }
+
+    /**
+     * Reads and decodes the <code>utflen</code> bytes of a string in
+     * modified UTF-8 format. A <code>ByteArrayInputStream</code> is
+     * decoded in place, other streams are read into a scratch buffer
+     * that is reused by later calls.
+     *
+     * @param      utflen  the number of bytes.
+     * @return     the string, or <code>null</code> if the bytes are not
+     *             valid modified UTF-8.
+     * @exception  EOFException  if this input stream reaches the end before
+     *             reading all the bytes.
+     * @exception  IOException   if an I/O error occurs.
+     */
+    private String readUTFBytes(int utflen) throws IOException {
+        if (in instanceof ByteArrayInputStream) {
+            ByteArrayInputStream bin = (ByteArrayInputStream)in;
+            synchronized (bin) {
+                int pos = bin.pos;
+                if (utflen <= bin.count - pos) {
+                    bin.pos = pos + utflen;
+                    return JVM.decodeUTF(bin.buf, pos, utflen);
                 }
+            }
+        }
+
+        // Take the buffer, so that concurrent calls don't share it
+        byte bytearr[] = utfBuffer;
+        utfBuffer = null;
+        if (bytearr == null || bytearr.length < utflen) {
+            bytearr = new byte[utflen];
+        }
+        readFully(bytearr, 0, utflen);
+        String str = JVM.decodeUTF(bytearr, 0, utflen);
+        if (bytearr.length <= UTF_BUFFER_LIMIT) {
+            utfBuffer = bytearr;
         }
-        // The number of chars produced may be less than utflen
-        return new String(str, 0, strlen);
+        return str;
     }
 
     /**
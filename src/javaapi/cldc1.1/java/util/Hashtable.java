@@ -90,6 +90,34 @@ class Hashtable {
      */
     private int threshold;
 
+    /**
+     * The previous hash table data while the entries are being moved to
+     * <code>table</code>, or null. The buckets below
+     * <code>migrateIndex</code> haven't been moved yet.
+     */
+    private transient HashtableEntry migrateTable[];
+
+    /**
+     * The number of buckets of <code>migrateTable</code> still to be moved.
+     */
+    private transient int migrateIndex;
+
+    /**
+     * Tables of at least this capacity are rehashed incrementally: the
+     * larger table is allocated at once, and the entries are moved a few
+     * buckets at a time by the following <code>put</code> and
+     * <code>remove</code> calls, so that no single call has to move the
+     * whole table.
+     */
+    private static final int INCREMENTAL_REHASH_CAPACITY = 512;
+
+    /**
+     * The number of buckets moved per <code>put</code> or
+     * <code>remove</code> during an incremental rehash. With at least two
+     * buckets per call, the move ends before the larger table fills up.
+     */
+    private static final int MIGRATE_BUCKETS = 8;
+
     /**
      * The load factor for the hashtable.  In CLDC,
      * the default load factor is 75%.
@@ -156,6 +184,7 @@ class Hashtable {
      * @since   JDK1.0
      */
     public synchronized Enumeration keys() {
+        finishRehash();
         return new HashtableEnumerator(table, true);
     }
 
@@ -170,6 +199,7 @@ class Hashtable {
      * @since   JDK1.0
      */
     public synchronized Enumeration elements() {
+        finishRehash();
         return new HashtableEnumerator(table, false);
     }
 
@@ -199,6 +229,14 @@ class Hashtable {
                 }
             }
         }
+        tab = migrateTable;
+        for (int i = migrateIndex ; i-- > 0 ;) {
+            for (HashtableEntry e = tab[i] ; e != null ; e = e.next) {
+                if (e.value.equals(value)) {
+                    return true;
+                }
+            }
+        }
         return false;
     }
 
@@ -212,15 +250,7 @@ class Hashtable {
      * @since   JDK1.0
      */
     public synchronized boolean containsKey(Object key) {
-        HashtableEntry tab[] = table;
-        int hash = key.hashCode();
-        int index = (hash & 0x7FFFFFFF) % tab.length;
-        for (HashtableEntry e = tab[index] ; e != null ; e = e.next) {
-            if ((e.hash == hash) && e.key.equals(key)) {
-                return true;
-            }
-        }
-        return false;
+        return getEntry(key, key.hashCode()) != null;
     }
 
     /**
@@ -234,12 +264,35 @@ class Hashtable {
      * @since   JDK1.0
      */
     public synchronized Object get(Object key) {
+        HashtableEntry e = getEntry(key, key.hashCode());
+        return e != null ? e.value : null;
+    }
+
+    /**
+     * Finds the entry of a key, in <code>table</code> or in the part of
+     * <code>migrateTable</code> that hasn't been moved yet.
+     *
+     * @param   key    a key in the hashtable.
+     * @param   hash   the hash code of the key.
+     * @return  the entry, or <code>null</code> if the key isn't mapped.
+     */
+    private HashtableEntry getEntry(Object key, int hash) {
         HashtableEntry tab[] = table;
-        int hash = key.hashCode();
         int index = (hash & 0x7FFFFFFF) % tab.length;
         for (HashtableEntry e = tab[index] ; e != null ; e = e.next) {
             if ((e.hash == hash) && e.key.equals(key)) {
-                return e.value;
+                return e;
+            }
+        }
+        tab = migrateTable;
+        if (tab != null) {
+            index = (hash & 0x7FFFFFFF) % tab.length;
+            if (index < migrateIndex) {
+                for (HashtableEntry e = tab[index] ; e != null ; e = e.next) {
+                    if ((e.hash == hash) && e.key.equals(key)) {
+                        return e;
+                    }
+                }
             }
         }
         return null;
@@ -250,10 +303,22 @@ class Hashtable {
      * larger capacity. This method is called automatically when the
      * number of keys in the hashtable exceeds this hashtable's capacity
      * and load factor.
+     * <p>
+     * A table of at least <code>INCREMENTAL_REHASH_CAPACITY</code>
+     * buckets is rehashed incrementally: this method only allocates the
+     * larger table, and the entries are moved a few buckets at a time by
+     * the following <code>put</code> and <code>remove</code> calls.
      *
      * @since   JDK1.0
      */
     protected void rehash() {
+        if (migrateTable == null &&
+                table.length >= INCREMENTAL_REHASH_CAPACITY) {
+            startRehash();
+            return;
+        }
+        finishRehash();
+
         int oldCapacity = table.length;
         HashtableEntry oldTable[] = table;
 
@@ -275,6 +340,59 @@ class Hashtable {
         }
     }
 
+    /**
+     * Starts an incremental rehash into a table with a larger capacity.
+     * The entries are moved by <code>migrate</code>.
+     */
+    private void startRehash() {
+        int oldCapacity = table.length;
+        int newCapacity = oldCapacity * 2 + 1;
+
+        migrateTable = table;
+        migrateIndex = oldCapacity;
+        table = new HashtableEntry[newCapacity];
+        threshold = (newCapacity * loadFactorPercent) / 100;
+    }
+
+    /**
+     * Moves the entries of up to <code>buckets</code> buckets from
+     * <code>migrateTable</code> to <code>table</code>.
+     *
+     * @param   buckets   the maximum number of buckets to move.
+     */
+    private void migrate(int buckets) {
+        HashtableEntry oldTab[] = migrateTable;
+        HashtableEntry newTab[] = table;
+        int newCapacity = newTab.length;
+        int i = migrateIndex;
+        int stop = (buckets < i) ? i - buckets : 0;
+
+        while (i > stop) {
+            for (HashtableEntry old = oldTab[--i] ; old != null ; ) {
+                HashtableEntry e = old;
+                old = old.next;
+
+                int index = (e.hash & 0x7FFFFFFF) % newCapacity;
+                e.next = newTab[index];
+                newTab[index] = e;
+            }
+        }
+
+        migrateIndex = i;
+        if (i == 0) {
+            migrateTable = null;
+        }
+    }
+
+    /**
+     * Completes an incremental rehash, if one is in progress.
+     */
+    private void finishRehash() {
+        if (migrateTable != null) {
+            migrate(migrateIndex);
+        }
+    }
+
     /**
      * Maps the specified <code>key</code> to the specified
      * <code>value</code> in this hashtable. Neither the key nor the
@@ -300,31 +418,33 @@ class Hashtable {
         }
 
         // Makes sure the key is not already in the hashtable.
-        HashtableEntry tab[] = table;
         int hash = key.hashCode();
-        int index = (hash & 0x7FFFFFFF) % tab.length;
-        for (HashtableEntry e = tab[index] ; e != null ; e = e.next) {
-            if ((e.hash == hash) && e.key.equals(key)) {
-                Object old = e.value;
-                e.value = value;
-                return old;
-            }
+        HashtableEntry e = getEntry(key, hash);
+        if (e != null) {
+            Object old = e.value;
+            e.value = value;
+            return old;
         }
 
         if (count >= threshold) {
             // Rehash the table if the threshold is exceeded
             rehash();
-            return put(key, value);
         }
 
         // Creates the new entry.
-        HashtableEntry e = new HashtableEntry();
+        HashtableEntry tab[] = table;
+        int index = (hash & 0x7FFFFFFF) % tab.length;
+        e = new HashtableEntry();
         e.hash = hash;
         e.key = key;
         e.value = value;
         e.next = tab[index];
         tab[index] = e;
         count++;
+
+        if (migrateTable != null) {
+            migrate(MIGRATE_BUCKETS);
+        }
         return null;
     }
 
@@ -338,8 +458,31 @@ class Hashtable {
      * @since   JDK1.0
      */
     public synchronized Object remove(Object key) {
-        HashtableEntry tab[] = table;
         int hash = key.hashCode();
+        Object value = remove(table, key, hash);
+        if (migrateTable != null) {
+            if (value == null) {
+                int index = (hash & 0x7FFFFFFF) % migrateTable.length;
+                if (index < migrateIndex) {
+                    value = remove(migrateTable, key, hash);
+                }
+            }
+            migrate(MIGRATE_BUCKETS);
+        }
+        return value;
+    }
+
+    /**
+     * Removes the key from one of the tables.
+     *
+     * @param   tab   <code>table</code>, or <code>migrateTable</code> if the
+     *                bucket of the key hasn't been moved yet.
+     * @param   key   the key that needs to be removed.
+     * @param   hash  the hash code of the key.
+     * @return  the value to which the key had been mapped,
+     *          or <code>null</code> if the key was not in the table.
+     */
+    private Object remove(HashtableEntry tab[], Object key, int hash) {
         int index = (hash & 0x7FFFFFFF) % tab.length;
         //this loop was reviewed - code is approved!
         for (HashtableEntry e = tab[index], prev = null ; e != null ; prev = e, e = e.next) {
@@ -365,6 +508,8 @@ class Hashtable {
         HashtableEntry tab[] = table;
         for (int index = tab.length; --index >= 0; )
             tab[index] = null;
+        migrateTable = null;
+        migrateIndex = 0;
         count = 0;
     }
 
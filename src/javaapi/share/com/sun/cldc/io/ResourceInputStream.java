@@ -26,6 +26,7 @@
 
 package com.sun.cldc.io;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Vector;
@@ -171,6 +172,68 @@ public class ResourceInputStream extends InputStream {
         return readBytes(fileDecoder, b, off, len);
     }
 
+    /**
+     * Reads exactly <code>len</code> bytes into a byte array. Together
+     * with <code>getLength</code> this reads a whole resource into a
+     * preallocated array with a single call; a stored resource is then
+     * copied in one piece from the JAR file.
+     *
+     * @param b the buffer to read into.
+     * @param off offset to start at in the buffer.
+     * @param len number of bytes to read.
+     * @exception  EOFException  if the end of the stream is reached
+     *             before <code>len</code> bytes are read.
+     * @exception  IOException  if an I/O error occurs.
+     */
+    public void readFully(byte b[], int off, int len) throws IOException {
+        if (fileDecoder == null) {
+            throw new IOException();
+        }
+        if (b == null) {
+            throw new NullPointerException();
+        } else if ((off < 0) || (off > b.length) || (len < 0) ||
+                   ((off + len) > b.length) || ((off + len) < 0)) {
+            throw new IndexOutOfBoundsException();
+        }
+        while (len > 0) {
+            int n = readBytes(fileDecoder, b, off, len);
+            if (n <= 0) {
+                throw new EOFException();
+            }
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Gets the length of the resource, independent of how much of it
+     * has been read.
+     *
+     * @return     the uncompressed length of the resource in bytes.
+     * @exception  IOException  if an I/O error occurs.
+     */
+    public int getLength() throws IOException {
+        if (fileDecoder == null) {
+            throw new IOException();
+        }
+        return entryLength(fileDecoder);
+    }
+
+    /**
+     * Gets the position of the resource data in the file it is stored
+     * in. This is only known for a resource stored without compression.
+     *
+     * @return     the offset of the first byte of the resource in its
+     *             file, or <code>-1</code> if the resource is compressed.
+     * @exception  IOException  if an I/O error occurs.
+     */
+    public int getOffset() throws IOException {
+        if (fileDecoder == null) {
+            throw new IOException();
+        }
+        return entryOffset(fileDecoder);
+    }
+
     public void close() throws IOException {
         fileDecoder = null;
     }
@@ -216,6 +279,8 @@ public class ResourceInputStream extends InputStream {
     // OS-specific interface to underlying file system.
     private static native Object open(String name);
     private static native int bytesRemain(Object fileDecoder);
+    private static native int entryLength(Object fileDecoder);
+    private static native int entryOffset(Object fileDecoder);
     private static native int readByte(Object fileDecoder);
     private static native int readBytes(Object fileDecoder,
                                         byte b[], int off, int len);
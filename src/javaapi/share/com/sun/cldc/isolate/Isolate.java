@@ -629,7 +629,7 @@ public final class Isolate {
         return currentIsolate0();
     }
 
-    private native static Isolate currentIsolate0();
+    native static Isolate currentIsolate0();
 
     /**
      * Returns an array of <code>Isolate</code> objects representing
@@ -936,7 +936,7 @@ public final class Isolate {
      * Determine if this isolate has permission to access the API
      * If not, throw runtime exception
      */
-    private static void securityCheck() {
+    static void securityCheck() {
         if (_API_access_ok == 0) {
             throw new SecurityException("Access to Isolate API not allowed");
         }
@@ -0,0 +1,306 @@
+/*
+ *   
+ *
+ * Copyright  1990-2007 Sun Microsystems, Inc. All Rights Reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License version
+ * 2 only, as published by the Free Software Foundation.
+ * 
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License version 2 for more details (a copy is
+ * included at /legal/license.txt).
+ * 
+ * You should have received a copy of the GNU General Public License
+ * version 2 along with this work; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA
+ * 
+ * Please contact Sun Microsystems, Inc., 4150 Network Circle, Santa
+ * Clara, CA 95054 or visit www.sun.com if you need additional
+ * information or have any questions.
+ */
+
+
+package com.sun.cldc.isolate;
+
+/**
+ * A <code>Link</code> is a one-way channel that passes <code>byte[]</code>
+ * messages from one isolate (the <b>sender</b>) to another isolate (the
+ * <b>receiver</b>). <p>
+ *
+ * A link has two ends. The sending end is returned by
+ * {@link #newLink(Isolate)} in the isolate that creates the link, and the
+ * receiving end is obtained by the receiver with {@link #acceptLink()}.
+ * Each end is an object of its own task, so no Java objects other than
+ * the messages are shared across isolate boundaries, and an isolate
+ * cannot block another isolate by synchronizing on a link. <p>
+ *
+ * Messages are passed by reference: <code>send()</code> hands the array
+ * over to the receiver without copying it. The sender must not modify
+ * the array after it has been sent. A message remains charged to the 
+ * isolate that allocated it, but while it is queued it also counts 
+ * against the memory limit of the receiver, so that a sender cannot make
+ * the receiver exceed its quota. <p>
+ *
+ * Only the calling thread blocks when it waits for a message or for room
+ * in the queue; other threads and isolates keep running. A link is closed
+ * when either end calls {@link #close()}, or when the sender or the
+ * receiver terminates. Messages that were queued before the link was 
+ * closed can still be received. <p>
+ *
+ * The following code is an example of a dispatcher that feeds a worker
+ * isolate:
+ *
+ *<blockquote><pre>
+ *class Dispatcher {
+ *    void dispatch(byte[][] jobs) throws Exception {
+ *        Isolate worker = new Isolate("Worker", new String[0]);
+ *        worker.start();
+ *        Link link = Link.newLink(worker);
+ *        for (int i = 0; i < jobs.length; i++) {
+ *            link.send(jobs[i]);
+ *        }
+ *        link.close();
+ *    }
+ *}
+ *class Worker {
+ *    public static void main(String args[]) throws Exception {
+ *        Link link = Link.acceptLink();
+ *        try {
+ *            for (;;) {
+ *                process(link.receive());
+ *            }
+ *        } catch (IllegalIsolateStateException e) {
+ *            // the dispatcher has closed the link
+ *        }
+ *    }
+ *}</pre></blockquote>
+ */
+public final class Link {
+    /**
+     * The default maximum number of messages that can be queued in a link.
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    // Note: the fields below are accessed by offset in native code (see
+    // LinkObj.hpp), do not reorder them.
+
+    /**
+     * A number that uniquely identifies this link. Both ends of a link
+     * have the same id.
+     */
+    private int      _id;
+
+    /**
+     * Task ids of the sending and the receiving isolates.
+     */
+    private int      _sender;
+    private int      _receiver;
+
+    /**
+     * Set by native code when the link is closed.
+     */
+    private int      _closed;
+
+    /**
+     * Set by native code when the receiving end has been returned by
+     * acceptLink().
+     */
+    private int      _accepted;
+
+    /**
+     * The other end of this link. Never visible to Java code. Cleared
+     * when the task that owns the other end terminates.
+     */
+    private Link     _peer;
+
+    /**
+     * Links to the next Link in the link list of the task that owns
+     * this end. See Task.hpp.
+     */
+    private Link     _next;
+
+    /**
+     * Receiving end only: a circular queue of <code>_count</code> 
+     * pending messages starting at <code>_head</code>, and the total
+     * length of these messages.
+     */
+    private Object[] _messages;
+    private int      _head;
+    private int      _count;
+    private int      _pendingBytes;
+
+    private Link() {}
+
+    /**
+     * Creates a new link from the current isolate to the given isolate,
+     * with room for {@link #DEFAULT_CAPACITY} pending messages.
+     *
+     * @param receiver the isolate that receives the messages
+     * @return the sending end of the new link
+     *
+     * @throws NullPointerException if <code>receiver</code> is 
+     *         <code>null</code>
+     * @throws IllegalIsolateStateException if <code>receiver</code> has
+     *         not been started or has terminated
+     * @throws OutOfMemoryError if the receiver cannot allocate the queue
+     *         of the link
+     */
+    public static Link newLink(Isolate receiver) {
+        return newLink(receiver, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new link from the current isolate to the given isolate.
+     * The queue of the link is allocated by the receiver.
+     *
+     * @param receiver the isolate that receives the messages
+     * @param capacity the maximum number of pending messages. When the 
+     *        queue is full, <code>send()</code> blocks until the receiver
+     *        takes a message.
+     * @return the sending end of the new link
+     *
+     * @throws NullPointerException if <code>receiver</code> is 
+     *         <code>null</code>
+     * @throws IllegalArgumentException if <code>capacity</code> is not
+     *         positive
+     * @throws IllegalIsolateStateException if <code>receiver</code> has
+     *         not been started or has terminated
+     * @throws OutOfMemoryError if the receiver cannot allocate the queue
+     *         of the link
+     */
+    public static Link newLink(Isolate receiver, int capacity) {
+        Isolate.securityCheck();
+        if (receiver == null) {
+            throw new NullPointerException();
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        Link link = new Link();
+        link._id = nativeCreateLinkId();
+        link.open0(receiver, capacity);
+        return link;
+    }
+
+    /**
+     * Returns the receiving end of a link that has been created to the
+     * current isolate, blocking until such a link is created. Each link
+     * is returned only once, in the order the links were created.
+     *
+     * @return the receiving end of a link
+     *
+     * @throws InterruptedException if the calling thread is interrupted
+     *         while it is waiting
+     */
+    public static Link acceptLink() throws InterruptedException {
+        Isolate self = Isolate.currentIsolate0();
+        Link link;
+        synchronized (self) {
+            // accept0() checks for a link and waits in native code, where
+            // thread switch cannot happen. See Isolate.waitForExit().
+            while ((link = accept0(self)) == null) {}
+        }
+        return link;
+    }
+
+    /**
+     * Sends a message to the receiver of this link. The array is passed
+     * by reference; the caller must not modify it afterwards. <p>
+     *
+     * If the queue of the link is full, or the pending messages would 
+     * exceed the memory limit of the receiver, the calling thread blocks
+     * until the receiver takes some messages.
+     *
+     * @param data the message
+     *
+     * @throws NullPointerException if <code>data</code> is 
+     *         <code>null</code>
+     * @throws IllegalIsolateStateException if this is the receiving end,
+     *         or if the link is closed
+     * @throws IsolateResourceError if the message alone exceeds the 
+     *         memory available to the receiver
+     * @throws InterruptedException if the calling thread is interrupted
+     *         while it is waiting
+     */
+    public void send(byte[] data) throws InterruptedException {
+        if (data == null) {
+            throw new NullPointerException();
+        }
+        if (_messages != null) {
+            throw new IllegalIsolateStateException("Receiving end");
+        }
+        while (!send0(data)) {}
+    }
+
+    /**
+     * Receives the next message from this link, blocking until a message
+     * is available.
+     *
+     * @return the message
+     *
+     * @throws IllegalIsolateStateException if this is the sending end, or
+     *         if the link is closed and there are no more messages
+     * @throws InterruptedException if the calling thread is interrupted
+     *         while it is waiting
+     */
+    public byte[] receive() throws InterruptedException {
+        if (_messages == null) {
+            throw new IllegalIsolateStateException("Sending end");
+        }
+        byte[] data;
+        while ((data = receive0()) == null) {}
+        return data;
+    }
+
+    /**
+     * Closes this link. Threads blocked in <code>send()</code> or 
+     * <code>receive()</code> at either end are woken up. Closing a 
+     * closed link has no effect.
+     */
+    public void close() {
+        close0();
+    }
+
+    /**
+     * @return <code>true</code> if this link has not been closed
+     */
+    public boolean isOpen() {
+        return _closed == 0;
+    }
+
+    /**
+     * @return the id of the sending isolate, as returned by 
+     *         {@link Isolate#id()} when the link was created
+     */
+    public int senderId() {
+        return _sender;
+    }
+
+    /**
+     * @return the id of the receiving isolate, as returned by 
+     *         {@link Isolate#id()} when the link was created
+     */
+    public int receiverId() {
+        return _receiver;
+    }
+
+    private static native int nativeCreateLinkId();
+
+    private native void open0(Isolate receiver, int capacity);
+
+    private static native Link accept0(Isolate self) 
+        throws InterruptedException;
+
+    private synchronized native boolean send0(byte[] data) 
+        throws InterruptedException;
+
+    private synchronized native byte[] receive0() 
+        throws InterruptedException;
+
+    private native void close0();
+}
@@ -0,0 +1,298 @@
+/*
+ *   
+ *
+ * Copyright  1990-2007 Sun Microsystems, Inc. All Rights Reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License version
+ * 2 only, as published by the Free Software Foundation.
+ * 
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License version 2 for more details (a copy is
+ * included at /legal/license.txt).
+ * 
+ * You should have received a copy of the GNU General Public License
+ * version 2 along with this work; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA
+ * 
+ * Please contact Sun Microsystems, Inc., 4150 Network Circle, Santa
+ * Clara, CA 95054 or visit www.sun.com if you need additional
+ * information or have any questions.
+ */
+
+
+package com.sun.cldc.util;
+
+/**
+ * A hashtable that maps <code>int</code> keys to non-<code>null</code>
+ * objects.
+ * <p>
+ * The table uses open addressing with linear probing: the keys and the
+ * values are kept in two parallel arrays, so a mapping costs no object
+ * allocation and a lookup follows no pointers. A free slot has a
+ * <code>null</code> value.
+ * <p>
+ * The table is not synchronized. Synchronize on the table when it is
+ * shared between threads.
+ * <p>
+ * The mappings are visited with a cursor, which is the index of an
+ * occupied slot:
+ * <p><blockquote><pre>
+ *     for (int i = table.next(-1); i >= 0; i = table.next(i)) {
+ *         int key = table.keyAt(i);
+ *         Object value = table.valueAt(i);
+ *     }
+ * </pre></blockquote>
+ * The table must not be modified while a cursor is in use.
+ */
+public class IntHashtable {
+    /** The keys, valid where the value is not null */
+    private int keys[];
+
+    /** The values, null in free slots */
+    private Object values[];
+
+    /** The number of mappings */
+    private int count;
+
+    /** The table is grown when count reaches this threshold */
+    private int threshold;
+
+    /** 32 minus log2 of the capacity, see hash() */
+    private int shift;
+
+    /** The largest capacity, a power of two */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /**
+     * Constructs a new, empty table with room for the given number of
+     * mappings before the table needs to be grown.
+     *
+     * @param      initialCapacity   the number of mappings.
+     * @exception  IllegalArgumentException  if the initial capacity is less
+     *             than zero
+     */
+    public IntHashtable(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        int capacity = 4;
+        shift = 30;
+        while (capacity < MAXIMUM_CAPACITY &&
+               capacity / 4 * 3 <= initialCapacity) {
+            capacity <<= 1;
+            shift--;
+        }
+        keys = new int[capacity];
+        values = new Object[capacity];
+        threshold = capacity / 4 * 3;
+    }
+
+    /**
+     * Constructs a new, empty table with a default capacity.
+     */
+    public IntHashtable() {
+        this(8);
+    }
+
+    /**
+     * Returns the slot where the search for a key starts.
+     */
+    private int hash(int key) {
+        return (key * 0x9E3779B9) >>> shift;
+    }
+
+    /**
+     * Returns the slot of a key, or -1 if the key is not mapped.
+     */
+    private int find(int key) {
+        int mask = values.length - 1;
+        for (int i = hash(key); values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of mappings in this table.
+     *
+     * @return  the number of mappings.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Tests if this table maps no keys to values.
+     *
+     * @return  <code>true</code> if this table is empty.
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Tests if the specified key is mapped in this table.
+     *
+     * @param   key   possible key.
+     * @return  <code>true</code> if the key is mapped.
+     */
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped.
+     *
+     * @param   key   a key in the table.
+     * @return  the value, or <code>null</code> if the key is not mapped.
+     */
+    public Object get(int key) {
+        int i = find(key);
+        return (i >= 0) ? values[i] : null;
+    }
+
+    /**
+     * Maps the specified key to the specified value in this table.
+     *
+     * @param      key     the key.
+     * @param      value   the value.
+     * @return     the previous value of the key, or <code>null</code> if
+     *             it did not have one.
+     * @exception  NullPointerException  if the value is <code>null</code>.
+     */
+    public Object put(int key, Object value) {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        int mask = values.length - 1;
+        int i = hash(key);
+        for (; values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                Object old = values[i];
+                values[i] = value;
+                return old;
+            }
+        }
+        if (count >= threshold) {
+            grow();
+            return put(key, value);
+        }
+        keys[i] = key;
+        values[i] = value;
+        count++;
+        return null;
+    }
+
+    /**
+     * Removes the key (and its corresponding value) from this table.
+     *
+     * @param   key   the key that needs to be removed.
+     * @return  the value to which the key had been mapped, or
+     *          <code>null</code> if the key did not have a mapping.
+     */
+    public Object remove(int key) {
+        int i = find(key);
+        if (i < 0) {
+            return null;
+        }
+        Object old = values[i];
+
+        // Move later keys of the same probe sequence into the hole, so that
+        // lookups don't need to skip deleted slots.
+        int mask = values.length - 1;
+        int hole = i;
+        for (i = (i + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+            int home = hash(keys[i]);
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                keys[hole] = keys[i];
+                values[hole] = values[i];
+                hole = i;
+            }
+        }
+        values[hole] = null;
+        count--;
+        return old;
+    }
+
+    /**
+     * Removes all mappings from this table.
+     */
+    public void clear() {
+        Object tab[] = values;
+        for (int i = tab.length; --i >= 0; ) {
+            tab[i] = null;
+        }
+        count = 0;
+    }
+
+    /**
+     * Returns the cursor of the first mapping after the given cursor.
+     *
+     * @param   cursor   a cursor returned by this method, or -1 to start
+     *                   from the beginning.
+     * @return  the cursor of the next mapping, or -1 if there are no
+     *          more mappings.
+     */
+    public int next(int cursor) {
+        Object tab[] = values;
+        while (++cursor < tab.length) {
+            if (tab[cursor] != null) {
+                return cursor;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the key of the mapping at a cursor.
+     *
+     * @param   cursor   a cursor returned by <code>next</code>.
+     * @return  the key.
+     */
+    public int keyAt(int cursor) {
+        return keys[cursor];
+    }
+
+    /**
+     * Returns the value of the mapping at a cursor.
+     *
+     * @param   cursor   a cursor returned by <code>next</code>.
+     * @return  the value.
+     */
+    public Object valueAt(int cursor) {
+        return values[cursor];
+    }
+
+    /**
+     * Doubles the capacity of this table.
+     */
+    private void grow() {
+        int oldKeys[] = keys;
+        Object oldValues[] = values;
+        int capacity = oldValues.length * 2;
+        int mask = capacity - 1;
+
+        keys = new int[capacity];
+        values = new Object[capacity];
+        threshold = capacity / 4 * 3;
+        shift--;
+
+        for (int j = oldValues.length; --j >= 0; ) {
+            if (oldValues[j] != null) {
+                int i = hash(oldKeys[j]);
+                while (values[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ *   
+ *
+ * Copyright  1990-2007 Sun Microsystems, Inc. All Rights Reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License version
+ * 2 only, as published by the Free Software Foundation.
+ * 
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License version 2 for more details (a copy is
+ * included at /legal/license.txt).
+ * 
+ * You should have received a copy of the GNU General Public License
+ * version 2 along with this work; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA
+ * 
+ * Please contact Sun Microsystems, Inc., 4150 Network Circle, Santa
+ * Clara, CA 95054 or visit www.sun.com if you need additional
+ * information or have any questions.
+ */
+
+
+package com.sun.cldc.util;
+
+/**
+ * A hashtable that maps <code>int</code> keys to <code>int</code> values.
+ * <p>
+ * The table uses open addressing with linear probing like
+ * <code>IntHashtable</code>. A free slot has the key 0, so the mapping of
+ * the key 0 itself is kept outside the arrays.
+ * <p>
+ * The table is not synchronized. Synchronize on the table when it is
+ * shared between threads.
+ * <p>
+ * The mappings are visited with a cursor, see
+ * <code>IntHashtable.next</code>. The table must not be modified while a
+ * cursor is in use.
+ */
+public class IntIntHashtable {
+    /** The keys, 0 in free slots */
+    private int keys[];
+
+    /** The values */
+    private int values[];
+
+    /** The value of the key 0, valid if hasZeroKey is set */
+    private int zeroValue;
+
+    /** True if the key 0 is mapped */
+    private boolean hasZeroKey;
+
+    /** The number of mappings */
+    private int count;
+
+    /** The table is grown when count reaches this threshold */
+    private int threshold;
+
+    /** 32 minus log2 of the capacity, see hash() */
+    private int shift;
+
+    /** The largest capacity, a power of two */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /**
+     * Constructs a new, empty table with room for the given number of
+     * mappings before the table needs to be grown.
+     *
+     * @param      initialCapacity   the number of mappings.
+     * @exception  IllegalArgumentException  if the initial capacity is less
+     *             than zero
+     */
+    public IntIntHashtable(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        int capacity = 4;
+        shift = 30;
+        while (capacity < MAXIMUM_CAPACITY &&
+               capacity / 4 * 3 <= initialCapacity) {
+            capacity <<= 1;
+            shift--;
+        }
+        keys = new int[capacity];
+        values = new int[capacity];
+        threshold = capacity / 4 * 3;
+    }
+
+    /**
+     * Constructs a new, empty table with a default capacity.
+     */
+    public IntIntHashtable() {
+        this(8);
+    }
+
+    /**
+     * Returns the slot where the search for a key starts.
+     */
+    private int hash(int key) {
+        return (key * 0x9E3779B9) >>> shift;
+    }
+
+    /**
+     * Returns the slot of a non-zero key, or -1 if the key is not mapped.
+     */
+    private int find(int key) {
+        int mask = keys.length - 1;
+        for (int i = hash(key); keys[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of mappings in this table.
+     *
+     * @return  the number of mappings.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Tests if this table maps no keys to values.
+     *
+     * @return  <code>true</code> if this table is empty.
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Tests if the specified key is mapped in this table.
+     *
+     * @param   key   possible key.
+     * @return  <code>true</code> if the key is mapped.
+     */
+    public boolean containsKey(int key) {
+        return (key == 0) ? hasZeroKey : find(key) >= 0;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped.
+     *
+     * @param   key            a key in the table.
+     * @param   defaultValue   the value to return if the key is not mapped.
+     * @return  the value of the key, or <code>defaultValue</code>.
+     */
+    public int get(int key, int defaultValue) {
+        if (key == 0) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int i = find(key);
+        return (i >= 0) ? values[i] : defaultValue;
+    }
+
+    /**
+     * Maps the specified key to the specified value in this table.
+     *
+     * @param   key     the key.
+     * @param   value   the value.
+     * @return  <code>true</code> if the key was not mapped before.
+     */
+    public boolean put(int key, int value) {
+        if (key == 0) {
+            boolean added = !hasZeroKey;
+            if (added) {
+                hasZeroKey = true;
+                count++;
+            }
+            zeroValue = value;
+            return added;
+        }
+        int mask = keys.length - 1;
+        int i = hash(key);
+        for (; keys[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return false;
+            }
+        }
+        if (count >= threshold) {
+            grow();
+            return put(key, value);
+        }
+        keys[i] = key;
+        values[i] = value;
+        count++;
+        return true;
+    }
+
+    /**
+     * Removes the key (and its corresponding value) from this table.
+     *
+     * @param   key   the key that needs to be removed.
+     * @return  <code>true</code> if the key had a mapping.
+     */
+    public boolean remove(int key) {
+        if (key == 0) {
+            boolean removed = hasZeroKey;
+            if (removed) {
+                hasZeroKey = false;
+                count--;
+            }
+            return removed;
+        }
+        int i = find(key);
+        if (i < 0) {
+            return false;
+        }
+
+        // Move later keys of the same probe sequence into the hole, so that
+        // lookups don't need to skip deleted slots.
+        int mask = keys.length - 1;
+        int hole = i;
+        for (i = (i + 1) & mask; keys[i] != 0; i = (i + 1) & mask) {
+            int home = hash(keys[i]);
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                keys[hole] = keys[i];
+                values[hole] = values[i];
+                hole = i;
+            }
+        }
+        keys[hole] = 0;
+        count--;
+        return true;
+    }
+
+    /**
+     * Removes all mappings from this table.
+     */
+    public void clear() {
+        int tab[] = keys;
+        for (int i = tab.length; --i >= 0; ) {
+            tab[i] = 0;
+        }
+        hasZeroKey = false;
+        count = 0;
+    }
+
+    /**
+     * Returns the cursor of the first mapping after the given cursor.
+     * The key 0 has the cursor just past the last slot.
+     *
+     * @param   cursor   a cursor returned by this method, or -1 to start
+     *                   from the beginning.
+     * @return  the cursor of the next mapping, or -1 if there are no
+     *          more mappings.
+     */
+    public int next(int cursor) {
+        int tab[] = keys;
+        while (++cursor < tab.length) {
+            if (tab[cursor] != 0) {
+                return cursor;
+            }
+        }
+        return (cursor == tab.length && hasZeroKey) ? cursor : -1;
+    }
+
+    /**
+     * Returns the key of the mapping at a cursor.
+     *
+     * @param   cursor   a cursor returned by <code>next</code>.
+     * @return  the key.
+     */
+    public int keyAt(int cursor) {
+        return (cursor == keys.length) ? 0 : keys[cursor];
+    }
+
+    /**
+     * Returns the value of the mapping at a cursor.
+     *
+     * @param   cursor   a cursor returned by <code>next</code>.
+     * @return  the value.
+     */
+    public int valueAt(int cursor) {
+        return (cursor == keys.length) ? zeroValue : values[cursor];
+    }
+
+    /**
+     * Doubles the capacity of this table.
+     */
+    private void grow() {
+        int oldKeys[] = keys;
+        int oldValues[] = values;
+        int capacity = oldKeys.length * 2;
+        int mask = capacity - 1;
+
+        keys = new int[capacity];
+        values = new int[capacity];
+        threshold = capacity / 4 * 3;
+        shift--;
+
+        for (int j = oldKeys.length; --j >= 0; ) {
+            int key = oldKeys[j];
+            if (key != 0) {
+                int i = hash(key);
+                while (keys[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ *   
+ *
+ * Copyright  1990-2007 Sun Microsystems, Inc. All Rights Reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License version
+ * 2 only, as published by the Free Software Foundation.
+ * 
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License version 2 for more details (a copy is
+ * included at /legal/license.txt).
+ * 
+ * You should have received a copy of the GNU General Public License
+ * version 2 along with this work; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA
+ * 
+ * Please contact Sun Microsystems, Inc., 4150 Network Circle, Santa
+ * Clara, CA 95054 or visit www.sun.com if you need additional
+ * information or have any questions.
+ */
+
+
+package com.sun.cldc.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A <code>ByteArrayOutputStream</code> that keeps the data in fixed-size
+ * segments instead of one array.
+ * <p>
+ * The stream grows by appending a segment, so the data written so far
+ * is never copied, and the peak heap use is the size of the data rather
+ * than up to three times it. <code>writeTo</code> writes the segments
+ * directly to another stream; only <code>toByteArray</code> and
+ * <code>toString</code> copy the data into one array. <code>reset</code>
+ * keeps the segments for reuse.
+ * <p>
+ * The inherited <code>buf</code> and <code>count</code> fields are not
+ * used.
+ */
+public class SegmentedByteArrayOutputStream extends ByteArrayOutputStream {
+
+    /** The default segment size */
+    private static final int DEFAULT_SEGMENT_SIZE = 4096;
+
+    /** The size of each segment */
+    private final int segmentSize;
+
+    /** The segments, allocated as needed and kept by reset() */
+    private byte segments[][];
+
+    /** The number of allocated segments */
+    private int allocated;
+
+    /** The index of the segment being filled */
+    private int current;
+
+    /** The number of bytes in the segment being filled */
+    private int pos;
+
+    /** The number of bytes written */
+    private int size;
+
+    /**
+     * Creates a new segmented output stream with the default segment
+     * size.
+     */
+    public SegmentedByteArrayOutputStream() {
+        this(DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a new segmented output stream.
+     *
+     * @param   segmentSize   the size of each segment, in bytes.
+     * @exception  IllegalArgumentException if the size is not positive.
+     */
+    public SegmentedByteArrayOutputStream(int segmentSize) {
+        super(0);
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.segmentSize = segmentSize;
+        segments = new byte[4][];
+    }
+
+    /**
+     * Returns a segment with free space, moving to the next segment if
+     * the current one is full.
+     */
+    private byte[] segment() {
+        if (current < allocated && pos < segmentSize) {
+            return segments[current];
+        }
+        if (current < allocated) {
+            current++;
+            pos = 0;
+        }
+        if (current == allocated) {
+            if (allocated == segments.length) {
+                byte newSegments[][] = new byte[allocated * 2][];
+                System.arraycopy(segments, 0, newSegments, 0, allocated);
+                segments = newSegments;
+            }
+            segments[allocated++] = new byte[segmentSize];
+        }
+        return segments[current];
+    }
+
+    /**
+     * Writes the specified byte to this output stream.
+     *
+     * @param   b   the byte to be written.
+     */
+    public synchronized void write(int b) {
+        byte seg[] = segment();
+        seg[pos++] = (byte)b;
+        size++;
+    }
+
+    /**
+     * Writes <code>len</code> bytes from the specified byte array
+     * starting at offset <code>off</code> to this output stream.
+     *
+     * @param   b     the data.
+     * @param   off   the start offset in the data.
+     * @param   len   the number of bytes to write.
+     */
+    public synchronized void write(byte b[], int off, int len) {
+        if ((off < 0) || (off > b.length) || (len < 0) ||
+            ((off + len) > b.length) || ((off + len) < 0)) {
+            throw new IndexOutOfBoundsException();
+        }
+        size += len;
+        while (len > 0) {
+            byte seg[] = segment();
+            int n = segmentSize - pos;
+            if (n > len) {
+                n = len;
+            }
+            System.arraycopy(b, off, seg, pos, n);
+            pos += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Writes the contents of this stream to another output stream,
+     * one segment at a time, without copying them.
+     *
+     * @param   out   the output stream to write to.
+     * @exception  IOException  if an I/O error occurs.
+     */
+    public synchronized void writeTo(OutputStream out) throws IOException {
+        for (int i = 0; i < current; i++) {
+            out.write(segments[i], 0, segmentSize);
+        }
+        if (current < allocated && pos > 0) {
+            out.write(segments[current], 0, pos);
+        }
+    }
+
+    /**
+     * Discards the contents of this stream. The segments are kept and
+     * reused by later writes.
+     */
+    public synchronized void reset() {
+        current = 0;
+        pos = 0;
+        size = 0;
+    }
+
+    /**
+     * Creates a newly allocated byte array with the contents of this
+     * stream.
+     *
+     * @return  the current contents of this output stream, as a byte array.
+     */
+    public synchronized byte toByteArray()[] {
+        byte result[] = new byte[size];
+        int off = 0;
+        for (int i = 0; i < current; i++) {
+            System.arraycopy(segments[i], 0, result, off, segmentSize);
+            off += segmentSize;
+        }
+        if (current < allocated) {
+            System.arraycopy(segments[current], 0, result, off, pos);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of bytes written to this stream.
+     *
+     * @return  the number of valid bytes in this output stream.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Converts the contents of this stream into a string, translating
+     * bytes into characters according to the platform's default
+     * character encoding.
+     *
+     * @return String translated from the contents of this stream.
+     */
+    public String toString() {
+        return new String(toByteArray());
+    }
+}
@@ -32,5 +32,7 @@ package com.sun.cldchi.jvm;
 class FileDescriptor {
     int handle;
     int valid;
+    int mappedAddress;
+    int mappedLength;
     private native void finalize();
 }
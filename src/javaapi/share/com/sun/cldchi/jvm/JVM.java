@@ -249,6 +249,47 @@ public class JVM {
       System.arraycopy(src, srcOffset, dst, dstOffset, length);
     }
 
+    /**
+     * Decodes bytes in the modified UTF-8 format of
+     * <code>DataInput.readUTF</code> into a new string. The bytes are
+     * decoded in place, without a temporary array.
+     * <p>
+     * The caller is responsible that <code>offset</code> and
+     * <code>length</code> are within the bounds of <code>src</code>.
+     *
+     * @param      src          the source array.
+     * @param      offset       start position in the source array.
+     * @param      length       the number of bytes to decode.
+     * @return     the decoded string, or <code>null</code> if the bytes
+     *             are not valid modified UTF-8.
+     */
+    public static native String decodeUTF(byte[] src, int offset, int length);
+
+    /**
+     * Returns the number of bytes needed to encode a string in the
+     * modified UTF-8 format of <code>DataOutput.writeUTF</code>, not
+     * counting the two length bytes.
+     *
+     * @param      str          the string.
+     * @return     the encoded length of the string.
+     */
+    public static native int utfLength(String str);
+
+    /**
+     * Encodes a string in the modified UTF-8 format of
+     * <code>DataOutput.writeUTF</code>, without the two length bytes.
+     * <p>
+     * The caller is responsible that <code>dst</code> has room for
+     * <code>utfLength(str)</code> bytes from <code>offset</code>.
+     *
+     * @param      str          the string.
+     * @param      dst          the destination array.
+     * @param      offset       start position in the destination array.
+     * @return     the position in the destination array after the last
+     *             byte written.
+     */
+    public static native int encodeUTF(String str, byte[] dst, int offset);
+
     /**
      * Verifies all classes of the given JAR package within the current
      * VM instance. The JAR path should be included into classpath(s) of
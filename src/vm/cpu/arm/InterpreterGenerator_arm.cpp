@@ -1244,9 +1244,18 @@ void InterpreterGenerator::generate_libc_glue() {
   generate_interwork_stub("jvm_fcntl");
   generate_interwork_stub("jvm_recv");
   generate_interwork_stub("jvm_send");
+  generate_interwork_stub("jvm_recvfrom");
+  generate_interwork_stub("jvm_sendto");
+  generate_interwork_stub("jvm_bind");
+  generate_interwork_stub("jvm_listen");
+  generate_interwork_stub("jvm_accept");
+  generate_interwork_stub("jvm_setsockopt");
   generate_interwork_stub("jvm_gethostbyname");
   generate_interwork_stub("jvm_select");
   generate_interwork_stub("jvm_htons");
+  generate_interwork_stub("jvm_ntohs");
+  generate_interwork_stub("jvm_htonl");
+  generate_interwork_stub("jvm_ntohl");
   generate_interwork_stub("jvm_close");
   generate_interwork_stub("jvm_remove");
   generate_interwork_stub("jvm_exit");
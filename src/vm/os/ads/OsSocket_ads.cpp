@@ -65,6 +65,21 @@ Java_com_sun_cldc_io_j2me_socket_Protocol_writeBuf() {
   KNI_ReturnInt(-1);
 }
 
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_socket_Protocol_writeGathered() {
+  KNI_ReturnInt(-1);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_socket_Protocol_listen0() {
+  KNI_ReturnInt(-1);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_socket_Protocol_accept0() {
+  KNI_ReturnInt(-1);
+}
+
 jint Java_com_sun_cldc_io_j2me_socket_Protocol_available0(Thread *) {
   return (jint) 0;
 }
@@ -72,4 +87,37 @@ jint Java_com_sun_cldc_io_j2me_socket_Protocol_available0(Thread *) {
 void Java_com_sun_cldc_io_j2me_socket_Protocol_close0(Thread *) {
 }
 
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_datagram_Protocol_open0() {
+  KNI_ReturnInt(-1);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_datagram_Protocol_getIpNumber0() {
+  KNI_ReturnInt(0);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_datagram_Protocol_send0() {
+  KNI_ReturnInt(-1);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_datagram_Protocol_receive0() {
+  KNI_ReturnInt(-1);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_datagram_Protocol_sendBatch0() {
+  KNI_ReturnInt(-1);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_datagram_Protocol_receiveBatch0() {
+  KNI_ReturnInt(-1);
+}
+
+void Java_com_sun_cldc_io_j2me_datagram_Protocol_close0(Thread *) {
+}
+
 }
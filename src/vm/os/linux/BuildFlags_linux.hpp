@@ -32,6 +32,27 @@
 // We use BSDSocket.cpp to implement sockets on this platform
 #define USE_BSD_SOCKET 1
 
+// BSDSocket.cpp waits for socket events with a persistent epoll set instead
+// of select(). Override with -DUSE_EPOLL_SOCKETS=0 in your gcc command-line
+// for kernels without epoll support.
+#ifndef USE_EPOLL_SOCKETS
+#define USE_EPOLL_SOCKETS 1
+#endif
+
+// Full collections can mark the heap with several threads. This only
+// compiles the support in: parallel marking is off unless
+// +UseParallelMarking is given, and it never uses more threads than there
+// are online processors, so uniprocessor devices keep the serial marker.
+// Override with -DSUPPORTS_PARALLEL_MARKING=0 in your gcc command-line
+// for toolchains without the __sync atomic builtins.
+#ifndef SUPPORTS_PARALLEL_MARKING
+#ifdef __linux__
+#define SUPPORTS_PARALLEL_MARKING 1
+#else
+#define SUPPORTS_PARALLEL_MARKING 0
+#endif
+#endif
+
 // Override with -DSUPPORTS_TIMER_THREAD=<value> in your gcc command-line.
 #ifndef SUPPORTS_TIMER_THREAD
 #define SUPPORTS_TIMER_THREAD 1
@@ -32,7 +32,15 @@
   product(int, TickInterval, 10,                                              \
           "Set the delay interval for servicing compiler generation")         \
   product(int, ExecutionLoops, 1,                                             \
-          "the number of times we run the VM (for measuring start-up time)")
+          "the number of times we run the VM (for measuring start-up time)")  \
+  product(bool, ReleaseFreedHeapPages, true,                                  \
+          "Return the pages of a shrunk memory chunk to the OS")              \
+  product(int, ReleaseFreedHeapPagesThreshold, 256 * 1024,                    \
+          "Minimum number of freed bytes to return to the OS at once. "       \
+          "The same amount is kept resident above the chunk size")            \
+  product(bool, UseTransparentHugePages, false,                               \
+          "Map the object heap and marking bitvector chunks so that the "     \
+          "kernel can back them with transparent huge pages")
 
 #define PLATFORM_RUNTIME_FLAGS(develop, product)         \
         PLATFORM_RUNTIME_FLAGS_GENERIC(develop, product)
@@ -920,6 +920,122 @@ jlong Os::elapsed_frequency() {
 
 #endif // NEED_CLOCK_TICKS
 
+#if USE_PARALLEL_MARKING
+
+// The helper threads of Os::run_gc_workers(). They are started on demand
+// and then sleep on gc_workers_start between collections. Each call is a
+// round: the caller bumps gc_round, and helper <i> takes part in it if
+// i < gc_round_workers.
+enum { MAX_GC_WORKERS = 16 };
+
+static pthread_mutex_t gc_workers_lock  = PTHREAD_MUTEX_INITIALIZER;
+static pthread_cond_t  gc_workers_start = PTHREAD_COND_INITIALIZER;
+static pthread_cond_t  gc_workers_done  = PTHREAD_COND_INITIALIZER;
+static pthread_t       gc_worker_threads[MAX_GC_WORKERS];
+static int             gc_worker_first_round[MAX_GC_WORKERS];
+static int             gc_worker_count;
+static int             gc_workers_busy;
+static int             gc_round;
+static int             gc_round_workers;
+static bool            gc_workers_stopping;
+static void          (*gc_work)(int worker, int worker_count);
+
+static void* gc_worker_routine(void* parameter) {
+  const int worker = (int)(size_t)parameter;
+
+  // Signals are handled by the VM thread only
+  sigset_t signals;
+  ::sigfillset(&signals);
+  ::pthread_sigmask(SIG_BLOCK, &signals, NULL);
+
+  ::pthread_mutex_lock(&gc_workers_lock);
+  int round = gc_worker_first_round[worker];
+  for (;;) {
+    while (!gc_workers_stopping && round == gc_round) {
+      ::pthread_cond_wait(&gc_workers_start, &gc_workers_lock);
+    }
+    if (gc_workers_stopping) {
+      break;
+    }
+    round = gc_round;
+    if (worker < gc_round_workers) {
+      void (*work)(int, int) = gc_work;
+      const int worker_count = gc_round_workers;
+      ::pthread_mutex_unlock(&gc_workers_lock);
+      work(worker, worker_count);
+      ::pthread_mutex_lock(&gc_workers_lock);
+      if (--gc_workers_busy == 0) {
+        ::pthread_cond_signal(&gc_workers_done);
+      }
+    }
+  }
+  ::pthread_mutex_unlock(&gc_workers_lock);
+  return NULL;
+}
+
+int Os::processor_count() {
+  const long count = ::sysconf(_SC_NPROCESSORS_ONLN);
+  return count > 1 ? (int)count : 1;
+}
+
+void Os::yield_gc_worker() {
+  ::sched_yield();
+}
+
+int Os::run_gc_workers(void do_work(int worker, int worker_count),
+                       int count) {
+  if (count > MAX_GC_WORKERS) {
+    count = MAX_GC_WORKERS;
+  }
+
+  ::pthread_mutex_lock(&gc_workers_lock);
+  while (gc_worker_count + 1 < count) {
+    // Worker 0 is the calling thread, so helper <i> is worker <i>
+    const int worker = gc_worker_count + 1;
+    gc_worker_first_round[worker] = gc_round;
+    if (::pthread_create(&gc_worker_threads[worker], NULL, gc_worker_routine,
+                         (void*)(size_t)worker) != 0) {
+      break;
+    }
+    gc_worker_count++;
+  }
+  const int worker_count = min(count, gc_worker_count + 1);
+  if (worker_count > 1) {
+    gc_work = do_work;
+    gc_round_workers = worker_count;
+    gc_workers_busy = worker_count - 1;
+    gc_round++;
+    ::pthread_cond_broadcast(&gc_workers_start);
+  }
+  ::pthread_mutex_unlock(&gc_workers_lock);
+
+  do_work(0, worker_count);
+
+  if (worker_count > 1) {
+    ::pthread_mutex_lock(&gc_workers_lock);
+    while (gc_workers_busy > 0) {
+      ::pthread_cond_wait(&gc_workers_done, &gc_workers_lock);
+    }
+    ::pthread_mutex_unlock(&gc_workers_lock);
+  }
+  return worker_count;
+}
+
+static void stop_gc_workers() {
+  ::pthread_mutex_lock(&gc_workers_lock);
+  gc_workers_stopping = true;
+  ::pthread_cond_broadcast(&gc_workers_start);
+  ::pthread_mutex_unlock(&gc_workers_lock);
+
+  for (int worker = 1; worker <= gc_worker_count; worker++) {
+    ::pthread_join(gc_worker_threads[worker], NULL);
+  }
+  gc_worker_count = 0;
+  gc_workers_stopping = false;
+}
+
+#endif // USE_PARALLEL_MARKING
+
 #if ENABLE_ARM_VFP
 static void ignoreit() {}
 #endif
@@ -1036,6 +1152,9 @@ void Os::dispose() {
 #if NEED_XSCALE_PMU_CYCLE_COUNTER
   ixs_close_ins_counter();
 #endif
+#if USE_PARALLEL_MARKING
+  stop_gc_workers();
+#endif
 }
 
 extern "C" void arm_flush_icache(address start, int size);
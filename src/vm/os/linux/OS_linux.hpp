@@ -78,6 +78,10 @@ extern "C" {
 #include <semaphore.h>
 #endif
 
+#if USE_PARALLEL_MARKING && !ENABLE_TIMER_THREAD
+#include <pthread.h>
+#endif
+
 #define NEED_XSCALE_PMU_CYCLE_COUNTER \
         (ENABLE_XSCALE_PMU_CYCLE_COUNTER && ARM_EXECUTABLE)
 
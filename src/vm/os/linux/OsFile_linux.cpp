@@ -269,6 +269,47 @@ bool OsFile_UnmapImage(OsFile_MappedImageHandle mapped_image) {
 
 #endif // USE_IMAGE_MAPPING
 
+#if USE_JAR_FILE_MAPPING
+
+address OsFile_MapFile(const PathChar* name, int length) {
+  if (length <= 0) {
+    return NULL;
+  }
+#if USE_UNICODE_FOR_FILENAMES
+  char ascii_name[256];
+  int len = fn_strlen(name);
+  if (len > 255) {
+    len = 255;
+  }
+  for (int i=0; i<len; i++) {
+    ascii_name[i] = (char)name[i];
+  }
+  ascii_name[len] = 0;
+#else
+  const char *ascii_name = name;
+#endif
+
+  int fd = jvm_open(ascii_name, O_RDONLY);
+  if (fd == -1) {
+    return NULL;
+  }
+  address addr = (address)jvm_mmap(NULL, length, PROT_READ, MAP_PRIVATE,
+                                   fd, 0);
+  // we don't need fd anymore, mapping is still preserved
+  jvm_close(fd);
+
+  if (addr == (address)-1) {
+    return NULL;
+  }
+  return addr;
+}
+
+void OsFile_UnmapFile(address mapped_address, int length) {
+  jvm_munmap(mapped_address, length);
+}
+
+#endif // USE_JAR_FILE_MAPPING
+
 #ifdef __cplusplus
 }
 #endif
@@ -69,9 +69,15 @@ void OsMemory_free(void *p) {
 
 #define MAX_CHUNKS 8
 
+// Size of a transparent huge page. It is 2 MB on most configurations;
+// alignment to it also satisfies configurations with smaller ones.
+#define HUGE_PAGE_SIZE (2 * 1024 * 1024)
+
 typedef struct {
   address addr;
   size_t  size, mmaped_size;  
+  size_t  resident_size;  // upper bound of the pages touched so far
+  bool    huge_pages;     // aligned and advised for transparent huge pages
 } ChunkInfo;
 
 static ChunkInfo chunk_info[MAX_CHUNKS];
@@ -94,7 +100,8 @@ static inline ChunkInfo* get_chunk_info(address addr) {
 
 static inline ChunkInfo* alloc_chunk(address addr, 
                                      size_t  initial_size,
-                                     size_t  max_size) {
+                                     size_t  max_size,
+                                     bool    huge_pages) {
   int i;
   bool found = false;
 
@@ -111,6 +118,8 @@ static inline ChunkInfo* alloc_chunk(address addr,
   ci->addr = addr;
   ci->size = initial_size;
   ci->mmaped_size = max_size;
+  ci->resident_size = initial_size;
+  ci->huge_pages = huge_pages;
 
   return ci;
 }
@@ -142,6 +151,34 @@ static inline address anon_mmap(address addr, size_t size) {
                            -1, 0);
 }
 
+// Maps a chunk aligned to HUGE_PAGE_SIZE and asks the kernel to back it
+// with transparent huge pages. Returns MAP_FAILED if the chunk is too
+// small or cannot be mapped; the caller then uses regular pages. If the
+// kernel has transparent huge pages disabled, madvise() fails and the
+// chunk simply stays on regular pages.
+static address huge_page_mmap(size_t size) {
+#ifdef MADV_HUGEPAGE
+  if (size >= HUGE_PAGE_SIZE) {
+    const size_t raw_size = size + HUGE_PAGE_SIZE;
+    address raw = anon_mmap(NULL, raw_size);
+    if (raw != MAP_FAILED) {
+      address chunk = (address)align_size_up((juint)raw, HUGE_PAGE_SIZE);
+      if (chunk > raw) {
+        jvm_munmap(raw, chunk - raw);
+      }
+      if (raw + raw_size > chunk + size) {
+        jvm_munmap(chunk + size, (raw + raw_size) - (chunk + size));
+      }
+      (void)madvise(chunk, size, MADV_HUGEPAGE);
+      return chunk;
+    }
+  }
+#else
+  (void)size;
+#endif
+  return (address)MAP_FAILED;
+}
+
 static inline int protect_area(address ptr, size_t size) { 
   return mprotect(ptr, size, PROT_NONE);
 }
@@ -150,13 +187,43 @@ static inline int unprotect_area(address ptr, size_t size) {
   return mprotect(ptr, size, PROT_READ | PROT_WRITE | PROT_EXEC);
 }
 
+// Pages above the committed size stay resident after protect_area(), so
+// hand them back to the OS once enough of them have piled up. The next
+// ReleaseFreedHeapPagesThreshold bytes above the committed size are kept,
+// so that a heap shrinking and growing around the same size does not
+// fault the same pages in and out after every collection.
+static inline void release_tail(ChunkInfo* ci) {
+  if (!ReleaseFreedHeapPages) {
+    return;
+  }
+  const size_t threshold = page_align_up(ReleaseFreedHeapPagesThreshold);
+  size_t keep = ci->size + threshold;
+  if (ci->huge_pages) {
+    // Do not split the huge page the committed size ends in
+    keep = align_size_up(keep, HUGE_PAGE_SIZE);
+  }
+  if (ci->resident_size >= keep + threshold && ci->resident_size > keep) {
+    if (madvise(ci->addr + keep, ci->resident_size - keep,
+                MADV_DONTNEED) == 0) {
+      ci->resident_size = keep;
+    }
+  }
+}
+
 address OsMemory_allocate_chunk(size_t initial_size,
                                 size_t max_size, size_t alignment)
 {
   // make it page aligned
   max_size = page_align_up(max_size);
 
-  address chunk = anon_mmap(NULL, max_size);
+  address chunk = (address)MAP_FAILED;
+  if (UseTransparentHugePages) {
+    chunk = huge_page_mmap(max_size);
+  }
+  const bool huge_pages = (chunk != MAP_FAILED);
+  if (!huge_pages) {
+    chunk = anon_mmap(NULL, max_size);
+  }
   
   if (chunk == MAP_FAILED) {
     return NULL;
@@ -167,7 +234,7 @@ address OsMemory_allocate_chunk(size_t initial_size,
   
   size_t aligned_size = page_align_up(initial_size);
   
-  alloc_chunk(chunk, aligned_size, max_size);
+  alloc_chunk(chunk, aligned_size, max_size, huge_pages);
 
   if (max_size > aligned_size) {
     protect_area(chunk + aligned_size, max_size - aligned_size);
@@ -197,6 +264,11 @@ size_t OsMemory_adjust_chunk(address chunk_ptr, size_t new_committed_size) {
     GUARANTEE(rv == 0, "mprotect must succeed");
 
     ci->size = new_size;
+    if (new_size < old_size) {
+      release_tail(ci);
+    } else if (ci->resident_size < new_size) {
+      ci->resident_size = new_size;
+    }
 
     return old_size;
   }
@@ -206,8 +278,14 @@ size_t OsMemory_adjust_chunk(address chunk_ptr, size_t new_committed_size) {
     return 0;
   }
 
+#ifdef MADV_HUGEPAGE
+  if (ci->huge_pages) {
+    (void)madvise(chunk_ptr + ci->mmaped_size, new_size, MADV_HUGEPAGE);
+  }
+#endif
   ci->mmaped_size += new_size; 
   ci->size = ci->mmaped_size;
+  ci->resident_size = ci->mmaped_size;
   unprotect_area(chunk_ptr, ci->size);
   
   return old_size;
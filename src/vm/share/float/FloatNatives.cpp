@@ -131,6 +131,89 @@ KNI_RETURNTYPE_DOUBLE Java_java_lang_Double_longBitsToDouble() {
 jlong Java_java_lang_Double_doubleToLongBits() {
   return jvm_doubleToLongBits(KNI_GetParameterAsDouble(1));
 }
+
+// static native String doubleToString(double d);
+ReturnOop Java_java_lang_FloatingDecimal_doubleToString(JVM_SINGLE_ARG_TRAPS) {
+  char buf[MAX_DOUBLE_CHARS];
+  const int length =
+      jvm_double_to_chars(double_bits(KNI_GetParameterAsDouble(1)), buf);
+  return Universe::new_string(buf, length JVM_NO_CHECK_AT_BOTTOM);
+}
+
+// static native String floatToString(float f);
+ReturnOop Java_java_lang_FloatingDecimal_floatToString(JVM_SINGLE_ARG_TRAPS) {
+  char buf[MAX_DOUBLE_CHARS];
+  const int length =
+      jvm_float_to_chars(float_bits(KNI_GetParameterAsFloat(1)), buf);
+  return Universe::new_string(buf, length JVM_NO_CHECK_AT_BOTTOM);
+}
+
+static jint put_chars(const char* buf, int length, int dst_index,
+                      int offset_index) {
+  TypeArray::Raw dst = GET_PARAMETER_AS_OOP(dst_index);
+  const int offset = KNI_GetParameterAsInt(offset_index);
+  GUARANTEE(offset >= 0 && offset <= dst().length(), "caller must check");
+  if (length > dst().length() - offset) {
+    return -length;
+  }
+  for (int i = 0; i < length; i++) {
+    dst().char_at_put(offset + i, (jchar)buf[i]);
+  }
+  return offset + length;
+}
+
+// static native int putDoubleChars(double d, char dst[], int offset);
+jint Java_java_lang_FloatingDecimal_putDoubleChars() {
+  char buf[MAX_DOUBLE_CHARS];
+  const int length =
+      jvm_double_to_chars(double_bits(KNI_GetParameterAsDouble(1)), buf);
+  return put_chars(buf, length, 3, 4);
+}
+
+// static native int putFloatChars(float f, char dst[], int offset);
+jint Java_java_lang_FloatingDecimal_putFloatChars() {
+  char buf[MAX_DOUBLE_CHARS];
+  const int length =
+      jvm_float_to_chars(float_bits(KNI_GetParameterAsFloat(1)), buf);
+  return put_chars(buf, length, 2, 3);
+}
+
+// The parse natives return a signaling NaN, which no decimal parses to,
+// when the string has to be left to FloatingDecimal.readJavaFormatString().
+
+// static native long parseDoubleBits(String s);
+jlong Java_java_lang_FloatingDecimal_parseDoubleBits() {
+  String::Raw str = GET_PARAMETER_AS_OOP(1);
+  if (str.is_null()) {
+    return D_L_POS_NAN;
+  }
+  TypeArray::Raw value = str().value();
+  AllocationDisabler raw_pointers_used_below;
+
+  jlong bits;
+  if (!jvm_parse_double(value().char_base_address() + str().offset(),
+                        str().count(), &bits)) {
+    return D_L_POS_NAN;
+  }
+  return bits;
+}
+
+// static native int parseFloatBits(String s);
+jint Java_java_lang_FloatingDecimal_parseFloatBits() {
+  String::Raw str = GET_PARAMETER_AS_OOP(1);
+  if (str.is_null()) {
+    return F_L_POS_NAN;
+  }
+  TypeArray::Raw value = str().value();
+  AllocationDisabler raw_pointers_used_below;
+
+  jint bits;
+  if (!jvm_parse_float(value().char_base_address() + str().offset(),
+                       str().count(), &bits)) {
+    return F_L_POS_NAN;
+  }
+  return bits;
+}
 } // extern C
 
 #endif // ENABLE_FLOAT
@@ -79,6 +79,15 @@ int    ieee754_rem_pio2(double x, double *y);
 
 double ieee754_fmod(double x, double y);
 
+// Longest result of Double.toString(), e.g. "-2.2250738585072014E-308"
+#define MAX_DOUBLE_CHARS 24
+
+int jvm_double_to_chars(jlong bits, char* buf);
+int jvm_float_to_chars(jint bits, char* buf);
+
+bool jvm_parse_double(const jchar* str, int length, jlong* result);
+bool jvm_parse_float(const jchar* str, int length, jint* result);
+
 double jvm_fplib_copysign(double x, double y);
 double jvm_fplib_fabs(double x);
 double jvm_fplib_scalbn(double x, int n);
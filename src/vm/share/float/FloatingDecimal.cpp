@@ -0,0 +1,1305 @@
+/*
+ *   
+ *
+ * Copyright  1990-2007 Sun Microsystems, Inc. All Rights Reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License version
+ * 2 only, as published by the Free Software Foundation.
+ * 
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License version 2 for more details (a copy is
+ * included at /legal/license.txt).
+ * 
+ * You should have received a copy of the GNU General Public License
+ * version 2 along with this work; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA
+ * 
+ * Please contact Sun Microsystems, Inc., 4150 Network Circle, Santa
+ * Clara, CA 95054 or visit www.sun.com if you need additional
+ * information or have any questions.
+ */
+
+/*
+ * Shortest decimal representation of doubles and floats, as required by
+ * Double.toString() and Float.toString().
+ *
+ * Method:
+ *  The Ryu algorithm (Ulf Adams, "Ryu: Fast Float-to-String Conversion",
+ *  PLDI 2018). The value and the two halfway points to its neighbours
+ *  are scaled by a power of ten using 128-bit approximations of the
+ *  powers of five, so that the shortest decimal inside the rounding
+ *  interval is found with 64-bit integer arithmetic only -- no big
+ *  integers and no floating point. Floats go through the same code with
+ *  a narrower significand.
+ *
+ *  The result follows the Java specification: among the shortest
+ *  decimals that round to the argument the closest is chosen (ties to
+ *  an even digit), and a one-digit result is replaced by the closest
+ *  two-digit decimal, so that e.g. Double.MIN_VALUE prints as 4.9E-324.
+ *
+ * The same tables give a fast path for Double.parseDouble() and
+ * Float.parseFloat(), in the manner of Eisel and Lemire: a decimal with
+ * at most 19 significant digits is multiplied by the 125-bit power of
+ * five, and the product is rounded when its top 64 bits are known
+ * exactly and do not lie on a halfway point. The rest -- more digits,
+ * subnormal or overflowing results, ambiguous products and anything
+ * that is not plainly a number -- is left to the Java code.
+ */
+
+#include "incls/_precompiled.incl"
+#include "incls/_FloatingDecimal.cpp.incl"
+
+#if ENABLE_FLOAT
+
+#define POW5_INV_BITCOUNT 125
+#define POW5_BITCOUNT     125
+
+// pow5_inv_split[i] is floor(2^(ceil(log2(5^i)) - 1 + 125) / 5^i) + 1 and
+// pow5_split[i] is the top 125 bits of 5^i, each as { low, high } 64-bit
+// words.
+static const julong pow5_inv_split[342][2] = {
+  { JVM_ULL(0x0000000000000001), JVM_ULL(0x2000000000000000) },
+  { JVM_ULL(0x999999999999999A), JVM_ULL(0x1999999999999999) },
+  { JVM_ULL(0x47AE147AE147AE15), JVM_ULL(0x147AE147AE147AE1) },
+  { JVM_ULL(0x6C8B4395810624DE), JVM_ULL(0x10624DD2F1A9FBE7) },
+  { JVM_ULL(0x7A786C226809D496), JVM_ULL(0x1A36E2EB1C432CA5) },
+  { JVM_ULL(0x61F9F01B866E43AB), JVM_ULL(0x14F8B588E368F084) },
+  { JVM_ULL(0xB4C7F34938583622), JVM_ULL(0x10C6F7A0B5ED8D36) },
+  { JVM_ULL(0x87A6520EC08D236A), JVM_ULL(0x1AD7F29ABCAF4857) },
+  { JVM_ULL(0x9FB841A566D74F88), JVM_ULL(0x15798EE2308C39DF) },
+  { JVM_ULL(0xE62D01511F12A607), JVM_ULL(0x112E0BE826D694B2) },
+  { JVM_ULL(0xD6AE6881CB5109A4), JVM_ULL(0x1B7CDFD9D7BDBAB7) },
+  { JVM_ULL(0xDEF1ED34A2A73AEA), JVM_ULL(0x15FD7FE17964955F) },
+  { JVM_ULL(0x7F27F0F6E885C8BB), JVM_ULL(0x119799812DEA1119) },
+  { JVM_ULL(0x650CB4BE40D60DF8), JVM_ULL(0x1C25C268497681C2) },
+  { JVM_ULL(0xEA70909833DE7193), JVM_ULL(0x16849B86A12B9B01) },
+  { JVM_ULL(0x21F3A6E0297EC143), JVM_ULL(0x1203AF9EE756159B) },
+  { JVM_ULL(0x6985D7CD0F313537), JVM_ULL(0x1CD2B297D889BC2B) },
+  { JVM_ULL(0x2137DFD73F5A90F9), JVM_ULL(0x170EF54646D49689) },
+  { JVM_ULL(0xE75FE645CC4873FA), JVM_ULL(0x12725DD1D243ABA0) },
+  { JVM_ULL(0xA5663D3C7A0D865D), JVM_ULL(0x1D83C94FB6D2AC34) },
+  { JVM_ULL(0x511E976394D79EB1), JVM_ULL(0x179CA10C9242235D) },
+  { JVM_ULL(0xDA7EDF82DD794BC1), JVM_ULL(0x12E3B40A0E9B4F7D) },
+  { JVM_ULL(0x2A6498D1625BAC68), JVM_ULL(0x1E392010175EE596) },
+  { JVM_ULL(0xEEB6E0A781E2F053), JVM_ULL(0x182DB34012B25144) },
+  { JVM_ULL(0x58924D52CE4F26A9), JVM_ULL(0x1357C299A88EA76A) },
+  { JVM_ULL(0x27507BB7B07EA441), JVM_ULL(0x1EF2D0F5DA7DD8AA) },
+  { JVM_ULL(0x52A6C95FC0655034), JVM_ULL(0x18C240C4AECB13BB) },
+  { JVM_ULL(0x0EEBD44C99EAA690), JVM_ULL(0x13CE9A36F23C0FC9) },
+  { JVM_ULL(0xB17953ADC3110A80), JVM_ULL(0x1FB0F6BE50601941) },
+  { JVM_ULL(0xC12DDC8B02740867), JVM_ULL(0x195A5EFEA6B34767) },
+  { JVM_ULL(0x3424B06F3529A052), JVM_ULL(0x14484BFEEBC29F86) },
+  { JVM_ULL(0x901D59F290EE19DB), JVM_ULL(0x1039D66589687F9E) },
+  { JVM_ULL(0x4CFBC31DB4B0295F), JVM_ULL(0x19F623D5A8A73297) },
+  { JVM_ULL(0x3D9635B15D59BAB2), JVM_ULL(0x14C4E977BA1F5BAC) },
+  { JVM_ULL(0x97AB5E277DE16228), JVM_ULL(0x109D8792FB4C4956) },
+  { JVM_ULL(0xF2ABC9D8C9689D0D), JVM_ULL(0x1A95A5B7F87A0EF0) },
+  { JVM_ULL(0x5BBCA17A3ABA173E), JVM_ULL(0x154484932D2E725A) },
+  { JVM_ULL(0xAFCA1AC82EFB45CB), JVM_ULL(0x11039D428A8B8EAE) },
+  { JVM_ULL(0xB2DCF7A6B1920945), JVM_ULL(0x1B38FB9DAA78E44A) },
+  { JVM_ULL(0xF57D92EBC141A104), JVM_ULL(0x15C72FB1552D836E) },
+  { JVM_ULL(0xC46475896767B403), JVM_ULL(0x116C262777579C58) },
+  { JVM_ULL(0x6D6D88DBD8A5ECD2), JVM_ULL(0x1BE03D0BF225C6F4) },
+  { JVM_ULL(0x8ABE071646EB23DB), JVM_ULL(0x164CFDA3281E38C3) },
+  { JVM_ULL(0x6EFE6C11D255B649), JVM_ULL(0x11D7314F534B609C) },
+  { JVM_ULL(0xB197134FB6EF8A0E), JVM_ULL(0x1C8B821885456760) },
+  { JVM_ULL(0x27AC0F72F8BFA1A5), JVM_ULL(0x16D601AD376AB91A) },
+  { JVM_ULL(0xB95672C260994E1E), JVM_ULL(0x1244CE242C5560E1) },
+  { JVM_ULL(0xF5571E03CDC21695), JVM_ULL(0x1D3AE36D13BBCE35) },
+  { JVM_ULL(0x2AAC18030B01ABAB), JVM_ULL(0x17624F8A762FD82B) },
+  { JVM_ULL(0xBBBCE0026F348956), JVM_ULL(0x12B50C6EC4F31355) },
+  { JVM_ULL(0x92C7CCD0B1EDA889), JVM_ULL(0x1DEE7A4AD4B81EEF) },
+  { JVM_ULL(0xDBD30A408E57BA07), JVM_ULL(0x17F1FB6F10934BF2) },
+  { JVM_ULL(0x7CA8D50071DFC806), JVM_ULL(0x1327FC58DA0F6FF5) },
+  { JVM_ULL(0xFAA7BB33E9660CD6), JVM_ULL(0x1EA6608E29B24CBB) },
+  { JVM_ULL(0x9552FC298784D711), JVM_ULL(0x18851A0B548EA3C9) },
+  { JVM_ULL(0xAAA8C9BAD2D0AC0E), JVM_ULL(0x139DAE6F76D88307) },
+  { JVM_ULL(0xDDDADC5E1E1AACE3), JVM_ULL(0x1F62B0B257C0D1A5) },
+  { JVM_ULL(0x7E48B04B4B488A4F), JVM_ULL(0x191BC08EAC9A4151) },
+  { JVM_ULL(0xCB6D59D5D5D3A1D9), JVM_ULL(0x141633A556E1CDDA) },
+  { JVM_ULL(0x3C577B1177DC817B), JVM_ULL(0x1011C2EAABE7D7E2) },
+  { JVM_ULL(0xC6F25E825960CF2A), JVM_ULL(0x19B604AAACA62636) },
+  { JVM_ULL(0x6BF518684780A5BB), JVM_ULL(0x14919D5556EB51C5) },
+  { JVM_ULL(0x232A79ED06008496), JVM_ULL(0x10747DDDDF22A7D1) },
+  { JVM_ULL(0xD1DD8FE1A3340756), JVM_ULL(0x1A53FC9631D10C81) },
+  { JVM_ULL(0xA7E4731AE8F66C45), JVM_ULL(0x150FFD44F4A73D34) },
+  { JVM_ULL(0x531D28E253F8569E), JVM_ULL(0x10D9976A5D52975D) },
+  { JVM_ULL(0xEB61DB03B98D5762), JVM_ULL(0x1AF5BF109550F22E) },
+  { JVM_ULL(0xBC4E48CFC7A445E8), JVM_ULL(0x159165A6DDDA5B58) },
+  { JVM_ULL(0x6371D3D96C836B20), JVM_ULL(0x11411E1F17E1E2AD) },
+  { JVM_ULL(0x9F1C8628AD9F11CD), JVM_ULL(0x1B9B6364F3030448) },
+  { JVM_ULL(0xE5B06B53BE18DB0B), JVM_ULL(0x1615E91D8F359D06) },
+  { JVM_ULL(0xEAF3890FCB4715A2), JVM_ULL(0x11AB20E472914A6B) },
+  { JVM_ULL(0x44B8DB4C7871BC37), JVM_ULL(0x1C45016D841BAA46) },
+  { JVM_ULL(0x03C715D6C6C1635F), JVM_ULL(0x169D9ABE03495505) },
+  { JVM_ULL(0x3638DE456BCDE919), JVM_ULL(0x1217AEFE69077737) },
+  { JVM_ULL(0x56C163A2461641C1), JVM_ULL(0x1CF2B1970E725858) },
+  { JVM_ULL(0xDF011C81D1AB67CE), JVM_ULL(0x17288E1271F51379) },
+  { JVM_ULL(0x7F3416CE4155ECA5), JVM_ULL(0x1286D80EC190DC61) },
+  { JVM_ULL(0x6520247D3556476E), JVM_ULL(0x1DA48CE468E7C702) },
+  { JVM_ULL(0xEA801D30F7783925), JVM_ULL(0x17B6D71D20B96C01) },
+  { JVM_ULL(0xBB99B0F3F92CFA84), JVM_ULL(0x12F8AC174D612334) },
+  { JVM_ULL(0x5F5C4E532847F739), JVM_ULL(0x1E5AACF215683854) },
+  { JVM_ULL(0x7F7D0B75B9D32C2E), JVM_ULL(0x18488A5B44536043) },
+  { JVM_ULL(0x9930D5F7C7DC2358), JVM_ULL(0x136D3B7C36A919CF) },
+  { JVM_ULL(0x8EB4898C72F9D226), JVM_ULL(0x1F152BF9F10E8FB2) },
+  { JVM_ULL(0x722A07A38F2E41B8), JVM_ULL(0x18DDBCC7F40BA628) },
+  { JVM_ULL(0xC1BB394FA5BE9AFA), JVM_ULL(0x13E497065CD61E86) },
+  { JVM_ULL(0x9C5EC2190930F7F6), JVM_ULL(0x1FD424D6FAF030D7) },
+  { JVM_ULL(0x49E56814075A5FF8), JVM_ULL(0x197683DF2F268D79) },
+  { JVM_ULL(0x6E51201005E1E660), JVM_ULL(0x145ECFE5BF520AC7) },
+  { JVM_ULL(0xF1DA800CD181851A), JVM_ULL(0x104BD984990E6F05) },
+  { JVM_ULL(0x4FC400148268D4F5), JVM_ULL(0x1A12F5A0F4E3E4D6) },
+  { JVM_ULL(0xD96999AA01ED772B), JVM_ULL(0x14DBF7B3F71CB711) },
+  { JVM_ULL(0xADEE1488018AC5BC), JVM_ULL(0x10AFF95CC5B09274) },
+  { JVM_ULL(0x497CEDA668DE092C), JVM_ULL(0x1AB328946F80EA54) },
+  { JVM_ULL(0x3ACA57B853E4D424), JVM_ULL(0x155C2076BF9A5510) },
+  { JVM_ULL(0x623B7960431D7683), JVM_ULL(0x1116805EFFAEAA73) },
+  { JVM_ULL(0x9D2BF566D1C8BD9E), JVM_ULL(0x1B5733CB32B110B8) },
+  { JVM_ULL(0x7DBCC452416D647F), JVM_ULL(0x15DF5CA28EF40D60) },
+  { JVM_ULL(0xCAFD69DB678AB6CC), JVM_ULL(0x117F7D4ED8C33DE6) },
+  { JVM_ULL(0xAB2F0FC572778ADF), JVM_ULL(0x1BFF2EE48E052FD7) },
+  { JVM_ULL(0x88F273045B92D580), JVM_ULL(0x1665BF1D3E6A8CAC) },
+  { JVM_ULL(0xD3F528D049424466), JVM_ULL(0x11EAFF4A98553D56) },
+  { JVM_ULL(0xB988414D4203A0A3), JVM_ULL(0x1CAB3210F3BB9557) },
+  { JVM_ULL(0x6139CDD76802E6E9), JVM_ULL(0x16EF5B40C2FC7779) },
+  { JVM_ULL(0xE761717920025254), JVM_ULL(0x125915CD68C9F92D) },
+  { JVM_ULL(0xA568B58E999D5086), JVM_ULL(0x1D5B561574765B7C) },
+  { JVM_ULL(0x5120913EE14AA6D2), JVM_ULL(0x177C44DDF6C515FD) },
+  { JVM_ULL(0xA74D40FF1AA21F0E), JVM_ULL(0x12C9D0B1923744CA) },
+  { JVM_ULL(0x0BAECE64F769CB4A), JVM_ULL(0x1E0FB44F50586E11) },
+  { JVM_ULL(0x3C8BD850C5EE3C3B), JVM_ULL(0x180C903F7379F1A7) },
+  { JVM_ULL(0xCA0979DA37F1C9C9), JVM_ULL(0x133D4032C2C7F485) },
+  { JVM_ULL(0xA9A8C2F6BFE942DB), JVM_ULL(0x1EC866B79E0CBA6F) },
+  { JVM_ULL(0x2153CF2BCCBA9BE3), JVM_ULL(0x18A0522C7E709526) },
+  { JVM_ULL(0x1AA9728970954982), JVM_ULL(0x13B374F06526DDB8) },
+  { JVM_ULL(0xF775840F1A88759D), JVM_ULL(0x1F8587E7083E2F8C) },
+  { JVM_ULL(0x5F9136727BA05E17), JVM_ULL(0x19379FEC0698260A) },
+  { JVM_ULL(0x1940F85B9619E4DF), JVM_ULL(0x142C7FF0054684D5) },
+  { JVM_ULL(0xE100C6AFAB47EA4C), JVM_ULL(0x1023998CD1053710) },
+  { JVM_ULL(0xCE67A44C453FDD47), JVM_ULL(0x19D28F47B4D524E7) },
+  { JVM_ULL(0xD852E9D69DCCB106), JVM_ULL(0x14A8729FC3DDB71F) },
+  { JVM_ULL(0x79DBEE454B0A2738), JVM_ULL(0x1086C219697E2C19) },
+  { JVM_ULL(0x295FE3A211A9D859), JVM_ULL(0x1A71368F0F30468F) },
+  { JVM_ULL(0xBAB31C81A7BB137A), JVM_ULL(0x15275ED8D8F36BA5) },
+  { JVM_ULL(0x6228E39AEC95A92F), JVM_ULL(0x10EC4BE0AD8F8951) },
+  { JVM_ULL(0x9D0E38F7E0EF7517), JVM_ULL(0x1B13AC9AAF4C0EE8) },
+  { JVM_ULL(0xB0D82D931A592A79), JVM_ULL(0x15A956E225D67253) },
+  { JVM_ULL(0x8D79BE0F4847552E), JVM_ULL(0x11544581B7DEC1DC) },
+  { JVM_ULL(0x158F967EDA0BBB7C), JVM_ULL(0x1BBA08CF8C979C94) },
+  { JVM_ULL(0x77A611FF14D62F97), JVM_ULL(0x162E6D72D6DFB076) },
+  { JVM_ULL(0xF951A7FF43DE8C79), JVM_ULL(0x11BEBDF578B2F391) },
+  { JVM_ULL(0xC21C3FFED2FDAD8E), JVM_ULL(0x1C6463225AB7EC1C) },
+  { JVM_ULL(0x01B0333242648AD8), JVM_ULL(0x16B6B5B5155FF017) },
+  { JVM_ULL(0x0159C28E9B83A246), JVM_ULL(0x122BC490DDE659AC) },
+  { JVM_ULL(0xCEF604175F3903A3), JVM_ULL(0x1D12D41AFCA3C2AC) },
+  { JVM_ULL(0x725E69AC4C2D9C83), JVM_ULL(0x17424348CA1C9BBD) },
+  { JVM_ULL(0xF5185489D68AE39C), JVM_ULL(0x129B69070816E2FD) },
+  { JVM_ULL(0xEE8D540FBDAB05C6), JVM_ULL(0x1DC574D80CF16B2F) },
+  { JVM_ULL(0xBED77672FE226B05), JVM_ULL(0x17D12A4670C1228C) },
+  { JVM_ULL(0xFF12C528CB4EBC04), JVM_ULL(0x130DBB6B8D674ED6) },
+  { JVM_ULL(0xCB513B74787DF9A0), JVM_ULL(0x1E7C5F127BD87E24) },
+  { JVM_ULL(0x090DC929F9FE614D), JVM_ULL(0x18637F41FCAD31B7) },
+  { JVM_ULL(0xA0D7D42194CB810A), JVM_ULL(0x1382CC34CA2427C5) },
+  { JVM_ULL(0x67BFB9CF5478CE77), JVM_ULL(0x1F37AD21436D0C6F) },
+  { JVM_ULL(0x1FCC94A5DD2D71F9), JVM_ULL(0x18F9574DCF8A7059) },
+  { JVM_ULL(0x7FD6DD517DBDF4C7), JVM_ULL(0x13FAAC3E3FA1F37A) },
+  { JVM_ULL(0xFFBE2EE8C92FEE0B), JVM_ULL(0x1FF779FD329CB8C3) },
+  { JVM_ULL(0x6631BF20A0F324D6), JVM_ULL(0x1992C7FDC216FA36) },
+  { JVM_ULL(0xB827CC1A1A5C1D78), JVM_ULL(0x14756CCB01ABFB5E) },
+  { JVM_ULL(0x935309AE7B7CE460), JVM_ULL(0x105DF0A267BCC918) },
+  { JVM_ULL(0x1EEB42B0C594A099), JVM_ULL(0x1A2FE76A3F9474F4) },
+  { JVM_ULL(0xE58902270476E6E1), JVM_ULL(0x14F31F8832DD2A5C) },
+  { JVM_ULL(0xB7A0CE859D2BEBE7), JVM_ULL(0x10C27FA028B0EEB0) },
+  { JVM_ULL(0x59014A6F61DFDFD8), JVM_ULL(0x1AD0CC33744E4AB4) },
+  { JVM_ULL(0xE0CDD525E7E64CAD), JVM_ULL(0x1573D68F903EA229) },
+  { JVM_ULL(0x4D7177518651D6F1), JVM_ULL(0x11297872D9CBB4EE) },
+  { JVM_ULL(0x7BE8BEE8D6E957E8), JVM_ULL(0x1B758D848FAC54B0) },
+  { JVM_ULL(0xFCBA3253DF211320), JVM_ULL(0x15F7A46A0C89DD59) },
+  { JVM_ULL(0x63C8284318E74280), JVM_ULL(0x1192E9EE706E4AAE) },
+  { JVM_ULL(0x060D0D3827D86A66), JVM_ULL(0x1C1E43171A4A1117) },
+  { JVM_ULL(0x6B3DA42CECAD21EB), JVM_ULL(0x167E9C127B6E7412) },
+  { JVM_ULL(0x88FE1CF0BD574E56), JVM_ULL(0x11FEE341FC585CDB) },
+  { JVM_ULL(0x419694B462254A23), JVM_ULL(0x1CCB0536608D615F) },
+  { JVM_ULL(0x67ABAA29E81DD4E9), JVM_ULL(0x1708D0F84D3DE77F) },
+  { JVM_ULL(0xB95621BB2017DD87), JVM_ULL(0x126D73F9D764B932) },
+  { JVM_ULL(0xC223692B668C95A5), JVM_ULL(0x1D7BECC2F23AC1EA) },
+  { JVM_ULL(0xCE82BA891ED6DE1D), JVM_ULL(0x179657025B6234BB) },
+  { JVM_ULL(0xA53562074BDF1818), JVM_ULL(0x12DEAC01E2B4F6FC) },
+  { JVM_ULL(0x3B889CD87964F359), JVM_ULL(0x1E3113363787F194) },
+  { JVM_ULL(0xFC6D4A46C783F5E1), JVM_ULL(0x18274291C6065ADC) },
+  { JVM_ULL(0x30576E9F06032B1A), JVM_ULL(0x13529BA7D19EAF17) },
+  { JVM_ULL(0x1A257DCB3CD1DE90), JVM_ULL(0x1EEA92A61C311825) },
+  { JVM_ULL(0x481DFE3C30A7E540), JVM_ULL(0x18BBA884E35A79B7) },
+  { JVM_ULL(0xD34B31C9C0865100), JVM_ULL(0x13C9539D82AEC7C5) },
+  { JVM_ULL(0x5211E942CDA3B4CD), JVM_ULL(0x1FA885C8D117A609) },
+  { JVM_ULL(0x74DB21023E1C90A4), JVM_ULL(0x19539E3A40DFB807) },
+  { JVM_ULL(0xF715B401CB4A0D50), JVM_ULL(0x1442E4FB67196005) },
+  { JVM_ULL(0xF8DE299B09080AA7), JVM_ULL(0x103583FC527AB337) },
+  { JVM_ULL(0x8E304291A80CDDD7), JVM_ULL(0x19EF3993B72AB859) },
+  { JVM_ULL(0x3E8D020E200A4B13), JVM_ULL(0x14BF6142F8EEF9E1) },
+  { JVM_ULL(0x653D9B3E80083C0F), JVM_ULL(0x10991A9BFA58C7E7) },
+  { JVM_ULL(0x6EC8F864000D2CE4), JVM_ULL(0x1A8E90F9908E0CA5) },
+  { JVM_ULL(0x8BD3F9E999A423EA), JVM_ULL(0x153EDA614071A3B7) },
+  { JVM_ULL(0x3CA994BAE1501CBB), JVM_ULL(0x10FF151A99F482F9) },
+  { JVM_ULL(0xC775BAC49BB3612B), JVM_ULL(0x1B31BB5DC320D18E) },
+  { JVM_ULL(0xD2C4956A16291A89), JVM_ULL(0x15C162B168E70E0B) },
+  { JVM_ULL(0xDBD0778811BA7BA1), JVM_ULL(0x11678227871F3E6F) },
+  { JVM_ULL(0x2C80BF401C5D929B), JVM_ULL(0x1BD8D03F3E9863E6) },
+  { JVM_ULL(0xBD33CC3349E47549), JVM_ULL(0x16470CFF6546B651) },
+  { JVM_ULL(0xCA8FD68F6E505DD4), JVM_ULL(0x11D270CC51055EA7) },
+  { JVM_ULL(0x4419574BE3B3C953), JVM_ULL(0x1C83E7AD4E6EFDD9) },
+  { JVM_ULL(0x0347790982F63AA9), JVM_ULL(0x16CFEC8AA52597E1) },
+  { JVM_ULL(0xCF6C60D468C4FBBA), JVM_ULL(0x123FF06EEA847980) },
+  { JVM_ULL(0xE57A34870E07F92A), JVM_ULL(0x1D331A4B10D3F59A) },
+  { JVM_ULL(0x512E906C0B399422), JVM_ULL(0x175C1508DA432AE2) },
+  { JVM_ULL(0xDA8BA6BCD5C7A9B5), JVM_ULL(0x12B010D3E1CF5581) },
+  { JVM_ULL(0x90DF712E22D90F87), JVM_ULL(0x1DE6815302E5559C) },
+  { JVM_ULL(0xDA4C5A8B4F140C6C), JVM_ULL(0x17EB9AA8CF1DDE16) },
+  { JVM_ULL(0xAEA37BA2A5A9A38A), JVM_ULL(0x1322E220A5B17E78) },
+  { JVM_ULL(0x7DD25F6AA2A905A9), JVM_ULL(0x1E9E369AA2B59727) },
+  { JVM_ULL(0x97DB7F888220D154), JVM_ULL(0x187E92154EF7AC1F) },
+  { JVM_ULL(0x797C6606CE80A777), JVM_ULL(0x139874DDD8C6234C) },
+  { JVM_ULL(0x8F2D700AE4010BF1), JVM_ULL(0x1F5A549627A36BAD) },
+  { JVM_ULL(0x0C2459A25000D65A), JVM_ULL(0x191510781FB5EFBE) },
+  { JVM_ULL(0x701D1481D99A4515), JVM_ULL(0x1410D9F9B2F7F2FE) },
+  { JVM_ULL(0xC017439B147B6A77), JVM_ULL(0x100D7B2E28C65BFE) },
+  { JVM_ULL(0xCCF205C4ED9243F2), JVM_ULL(0x19AF2B7D0E0A2CCA) },
+  { JVM_ULL(0x0A5B37D0BE0E9CC2), JVM_ULL(0x148C22CA71A1BD6F) },
+  { JVM_ULL(0x0848F973CB3EE3CE), JVM_ULL(0x10701BD527B4978C) },
+  { JVM_ULL(0xDA0E5BEC78649FB0), JVM_ULL(0x1A4CF9550C5425AC) },
+  { JVM_ULL(0x7B3EAFF060507FC0), JVM_ULL(0x150A6110D6A9B7BD) },
+  { JVM_ULL(0x95CBBFF380406633), JVM_ULL(0x10D51A73DEEE2C97) },
+  { JVM_ULL(0xEFAC665266CD7052), JVM_ULL(0x1AEE90B964B04758) },
+  { JVM_ULL(0x2623850EB8A459DB), JVM_ULL(0x158BA6FAB6F36C47) },
+  { JVM_ULL(0x1E82D0D893B6AE49), JVM_ULL(0x113C85955F29236C) },
+  { JVM_ULL(0xFD9E1AF41F8AB075), JVM_ULL(0x1B9408EEFEA838AC) },
+  { JVM_ULL(0x97B1AF29B2D559F7), JVM_ULL(0x16100725988693BD) },
+  { JVM_ULL(0xAC8E25BAF5777B2C), JVM_ULL(0x11A66C1E139EDC97) },
+  { JVM_ULL(0x7A7D092B2258C513), JVM_ULL(0x1C3D79C9B8FE2DBF) },
+  { JVM_ULL(0x61FDA0EF4EAD6A76), JVM_ULL(0x169794A160CB57CC) },
+  { JVM_ULL(0xE7FE1A590BBDEEC5), JVM_ULL(0x1212DD4DE7091309) },
+  { JVM_ULL(0xA6635D5B45FCB13A), JVM_ULL(0x1CEAFBAFD80E84DC) },
+  { JVM_ULL(0x851C4AAF6B308DC8), JVM_ULL(0x172262F3133ED0B0) },
+  { JVM_ULL(0xD0E36EF2BC26D7D4), JVM_ULL(0x1281E8C275CBDA26) },
+  { JVM_ULL(0xB49F17EAC6A48C86), JVM_ULL(0x1D9CA79D894629D7) },
+  { JVM_ULL(0x2A18DFEF0550706B), JVM_ULL(0x17B08617A104EE46) },
+  { JVM_ULL(0x54E0B3259DD9F389), JVM_ULL(0x12F39E794D9D8B6B) },
+  { JVM_ULL(0x87CDEB6F62F65274), JVM_ULL(0x1E5297287C2F4578) },
+  { JVM_ULL(0xD30B22BF825EA85D), JVM_ULL(0x18421286C9BF6AC6) },
+  { JVM_ULL(0x0F3C1BCC684BB9E4), JVM_ULL(0x13680ED23AFF889F) },
+  { JVM_ULL(0x18602C7A4079296D), JVM_ULL(0x1F0CE4839198DA98) },
+  { JVM_ULL(0x46B356C833942124), JVM_ULL(0x18D71D360E13E213) },
+  { JVM_ULL(0x388F78A029434DB6), JVM_ULL(0x13DF4A91A4DCB4DC) },
+  { JVM_ULL(0x5A7F2766A86BAF8A), JVM_ULL(0x1FCBAA82A1612160) },
+  { JVM_ULL(0x153285EBB9EFBFA2), JVM_ULL(0x196FBB9BB44DB44D) },
+  { JVM_ULL(0xAA8ED189618C994E), JVM_ULL(0x145962E2F6A4903D) },
+  { JVM_ULL(0xEED8A7A11AD6E10C), JVM_ULL(0x1047824F2BB6D9CA) },
+  { JVM_ULL(0x7E27729B5E249B45), JVM_ULL(0x1A0C03B1DF8AF611) },
+  { JVM_ULL(0xFE85F549181D4904), JVM_ULL(0x14D6695B193BF80D) },
+  { JVM_ULL(0xCB9E5DD4134AA0D0), JVM_ULL(0x10AB877C142FF9A4) },
+  { JVM_ULL(0xDF63C9535211014D), JVM_ULL(0x1AAC0BF9B9E65C3A) },
+  { JVM_ULL(0x191CA10F74DA6771), JVM_ULL(0x15566FFAFB1EB02F) },
+  { JVM_ULL(0xADB080D92A4852C1), JVM_ULL(0x1111F32F2F4BC025) },
+  { JVM_ULL(0x15E7348EAA0D5134), JVM_ULL(0x1B4FEB7EB212CD09) },
+  { JVM_ULL(0xAB1F5D3EEE710DC4), JVM_ULL(0x15D98932280F0A6D) },
+  { JVM_ULL(0xBC1917658B8DA49D), JVM_ULL(0x117AD428200C0857) },
+  { JVM_ULL(0x2CF4F23C127C3A94), JVM_ULL(0x1BF7B9D9CCE00D59) },
+  { JVM_ULL(0xF0C3F4FCDB969543), JVM_ULL(0x165FC7E170B33DE0) },
+  { JVM_ULL(0x5A365D9716121103), JVM_ULL(0x11E6398126F5CB1A) },
+  { JVM_ULL(0x9056FC24F01CE804), JVM_ULL(0x1CA38F350B22DE90) },
+  { JVM_ULL(0xD9DF301D8CE3ECD0), JVM_ULL(0x16E93F5DA2824BA6) },
+  { JVM_ULL(0xE17F59B13D8323DA), JVM_ULL(0x125432B14ECEA2EB) },
+  { JVM_ULL(0x68CBC2B52F38395C), JVM_ULL(0x1D53844EE47DD179) },
+  { JVM_ULL(0x53D6355DBF602DE3), JVM_ULL(0x177603725064A794) },
+  { JVM_ULL(0xA9782AB165E68B1C), JVM_ULL(0x12C4CF8EA6B6EC76) },
+  { JVM_ULL(0x0F26AAB56FD744FA), JVM_ULL(0x1E07B27DD78B13F1) },
+  { JVM_ULL(0x3F52222ABFDF6A62), JVM_ULL(0x18062864AC6F4327) },
+  { JVM_ULL(0x65DB4E88997F884E), JVM_ULL(0x1338205089F29C1F) },
+  { JVM_ULL(0x6FC54A7428CC0D4A), JVM_ULL(0x1EC033B40FEA9365) },
+  { JVM_ULL(0x596AA1F68709A43B), JVM_ULL(0x1899C2F673220F84) },
+  { JVM_ULL(0xADEEE7F86C07B696), JVM_ULL(0x13AE3591F5B4D936) },
+  { JVM_ULL(0x497E3FF3E00C5756), JVM_ULL(0x1F7D228322BAF524) },
+  { JVM_ULL(0xD464FFF64CD6AC45), JVM_ULL(0x1930E868E89590E9) },
+  { JVM_ULL(0x4383FFF83D7889D1), JVM_ULL(0x14272053ED4473EE) },
+  { JVM_ULL(0xCF9CCCC69793A174), JVM_ULL(0x101F4D0FF1038FF1) },
+  { JVM_ULL(0x7F6147A425B90252), JVM_ULL(0x19CBAE7FE805B31C) },
+  { JVM_ULL(0xCC4DD2E9B7C7350F), JVM_ULL(0x14A2F1FFECD15C16) },
+  { JVM_ULL(0x3D0B0F215FD290D9), JVM_ULL(0x10825B3323DAB012) },
+  { JVM_ULL(0x61AB4B689950E7C1), JVM_ULL(0x1A6A2B85062AB350) },
+  { JVM_ULL(0x4E22A2BA1440B967), JVM_ULL(0x1521BC6A6B555C40) },
+  { JVM_ULL(0x0B4EE894DD009453), JVM_ULL(0x10E7C9EEBC4449CD) },
+  { JVM_ULL(0x1217DA87C800ED51), JVM_ULL(0x1B0C764AC6D3A948) },
+  { JVM_ULL(0xDB46486CA000BDDA), JVM_ULL(0x15A391D56BDC876C) },
+  { JVM_ULL(0x490506BD4CCD64AF), JVM_ULL(0x114FA7DDEFE39F8A) },
+  { JVM_ULL(0xA8080AC87AE23AB1), JVM_ULL(0x1BB2A62FE638FF43) },
+  { JVM_ULL(0x5339A239FBE82EF4), JVM_ULL(0x162884F31E93FF69) },
+  { JVM_ULL(0x75C7B4FB2FECF25D), JVM_ULL(0x11BA03F5B20FFF87) },
+  { JVM_ULL(0x22D92191E647EA2E), JVM_ULL(0x1C5CD322B67FFF3F) },
+  { JVM_ULL(0xB57A8141850654F2), JVM_ULL(0x16B0A8E891FFFF65) },
+  { JVM_ULL(0xC4620101373843F5), JVM_ULL(0x1226ED86DB3332B7) },
+  { JVM_ULL(0x3A366801F1F39FEE), JVM_ULL(0x1D0B15A491EB8459) },
+  { JVM_ULL(0xFB5EB99B27F6198B), JVM_ULL(0x173C115074BC69E0) },
+  { JVM_ULL(0x2F7EFAE2865E7AD6), JVM_ULL(0x129674405D6387E7) },
+  { JVM_ULL(0xE597F7D0D6FD9156), JVM_ULL(0x1DBD86CD6238D971) },
+  { JVM_ULL(0x8479930D78CADAAB), JVM_ULL(0x17CAD23DE82D7AC1) },
+  { JVM_ULL(0xD06142712D6F1556), JVM_ULL(0x1308A831868AC89A) },
+  { JVM_ULL(0x4D686A4EAF182222), JVM_ULL(0x1E74404F3DAADA91) },
+  { JVM_ULL(0xA453883EF279B4E8), JVM_ULL(0x185D003F6488AEDA) },
+  { JVM_ULL(0xE9DC6CFF28615D87), JVM_ULL(0x137D99CC506D58AE) },
+  { JVM_ULL(0xA960AE650D6895A4), JVM_ULL(0x1F2F5C7A1A488DE4) },
+  { JVM_ULL(0xBAB3BEB73DED4483), JVM_ULL(0x18F2B061AEA07183) },
+  { JVM_ULL(0x2EF6322C318A9D36), JVM_ULL(0x13F559E7BEE6C136) },
+  { JVM_ULL(0xE4BD1D13827761F0), JVM_ULL(0x1FEEF63F97D79B89) },
+  { JVM_ULL(0x83CA7DA9352C4E5A), JVM_ULL(0x198BF832DFDFAFA1) },
+  { JVM_ULL(0x9CA1FE20F756A515), JVM_ULL(0x146FF9C24CB2F2E7) },
+  { JVM_ULL(0x4A1B31B3F9121DAA), JVM_ULL(0x1059949B708F28B9) },
+  { JVM_ULL(0x435EB5ECC1B695DD), JVM_ULL(0x1A28EDC580E50DF5) },
+  { JVM_ULL(0x35E55E57015EDE4A), JVM_ULL(0x14ED8B04671DA4C4) },
+  { JVM_ULL(0xC4B77EAC0118B1D5), JVM_ULL(0x10BE08D0527E1D69) },
+  { JVM_ULL(0xA12597799B5AB622), JVM_ULL(0x1AC9A7B3B7302F0F) },
+  { JVM_ULL(0x4DB7AC6149155E81), JVM_ULL(0x156E1FC2F8F358D9) },
+  { JVM_ULL(0xD7C6238107444B9B), JVM_ULL(0x1124E63593F5E0AD) },
+  { JVM_ULL(0x593D059B3ED3AC2B), JVM_ULL(0x1B6E3D2286563449) },
+  { JVM_ULL(0xE0FD9E15CBDC89BC), JVM_ULL(0x15F1CA820511C36D) },
+  { JVM_ULL(0xB3FE18116FE3A163), JVM_ULL(0x118E3B9B37416924) },
+  { JVM_ULL(0x866359B57FD29BD1), JVM_ULL(0x1C16C5C525357507) },
+  { JVM_ULL(0xD1E91491330EE30E), JVM_ULL(0x16789E3750F790D2) },
+  { JVM_ULL(0x74BA76DA8F3F1C0B), JVM_ULL(0x11FA182C40C60D75) },
+  { JVM_ULL(0xEDF72490E531C678), JVM_ULL(0x1CC359E067A348BB) },
+  { JVM_ULL(0x8B2C1D40B75B052D), JVM_ULL(0x1702AE4D1FB5D3C9) },
+  { JVM_ULL(0x6F567DCD5F7C0424), JVM_ULL(0x12688B70E62B0FD4) },
+  { JVM_ULL(0x7EF0C94898C66D06), JVM_ULL(0x1D74124E3D11B2ED) },
+  { JVM_ULL(0x98C0A106E09EBD9F), JVM_ULL(0x17900EA4FDA7C257) },
+  { JVM_ULL(0x470080D24D4BCAE6), JVM_ULL(0x12D9A550CAEC9B79) },
+  { JVM_ULL(0xD800CE1D487944A2), JVM_ULL(0x1E29088144ADC58E) },
+  { JVM_ULL(0x1333D8176D2DD082), JVM_ULL(0x1820D39A9D57D13F) },
+  { JVM_ULL(0xA8F646792424A6CE), JVM_ULL(0x134D76154AACA765) },
+  { JVM_ULL(0x74BD3D8EA03AA47D), JVM_ULL(0x1EE25688777AA56F) },
+  { JVM_ULL(0x5D64313EE6955064), JVM_ULL(0x18B51206C5FBB78C) },
+  { JVM_ULL(0x4AB68DCBEBAAA6B7), JVM_ULL(0x13C40E6BD1962C70) },
+  { JVM_ULL(0x1124161312AAA457), JVM_ULL(0x1FA01712E8F0471A) },
+  { JVM_ULL(0xDA8344DC0EEEE9DF), JVM_ULL(0x194CDF4253F36C14) },
+  { JVM_ULL(0xE2029D7CD8BF2180), JVM_ULL(0x143D7F6843292343) },
+  { JVM_ULL(0x4E687DFD7A328133), JVM_ULL(0x103132B9CF541C36) },
+  { JVM_ULL(0x4A40C9959050CEB8), JVM_ULL(0x19E851294BB9C6BD) },
+  { JVM_ULL(0x0833D477A6A70BC6), JVM_ULL(0x14B9DA876FC7D231) },
+  { JVM_ULL(0xA02976C61EEC096B), JVM_ULL(0x1094AED2BFD30E8D) },
+  { JVM_ULL(0x004257A364ACDBDF), JVM_ULL(0x1A877E1DFFB81749) },
+  { JVM_ULL(0xCD01DFB5EA23E319), JVM_ULL(0x153931B1996012A0) },
+  { JVM_ULL(0x70CE4C91881CB5AE), JVM_ULL(0x10FA8E27ADE6754D) },
+  { JVM_ULL(0x1AE3ADB5A69455E2), JVM_ULL(0x1B2A7D0C4970BBAF) },
+  { JVM_ULL(0x7BE957C4854377E8), JVM_ULL(0x15BB973D078D62F2) },
+  { JVM_ULL(0xC987796A0435F987), JVM_ULL(0x1162DF64060AB58E) },
+  { JVM_ULL(0x75A58F1006BCC271), JVM_ULL(0x1BD1656CD67788E4) },
+  { JVM_ULL(0xF7B7A5A66BCA3527), JVM_ULL(0x16411DF0AB92D3E9) },
+  { JVM_ULL(0x5FC61E1EBCA1C41F), JVM_ULL(0x11CDB18D560F0FEE) },
+  { JVM_ULL(0xFFA363646102D365), JVM_ULL(0x1C7C4F4889B1B316) },
+  { JVM_ULL(0x32E91C504D9BDC51), JVM_ULL(0x16C9D906D48E28DF) },
+  { JVM_ULL(0x8F20E37371497D0E), JVM_ULL(0x123B140576D820B2) },
+  { JVM_ULL(0x7E9B0585820F2E7C), JVM_ULL(0x1D2B533BF159CDEA) },
+  { JVM_ULL(0xCBAF379E01A5BECA), JVM_ULL(0x1755DC2FF447D7EE) },
+  { JVM_ULL(0x0958F94B348498A1), JVM_ULL(0x12AB168CC36CACBF) }
+};
+
+static const julong pow5_split[327][2] = {
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x1000000000000000) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x1400000000000000) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x1900000000000000) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x1F40000000000000) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x1388000000000000) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x186A000000000000) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x1E84800000000000) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x1312D00000000000) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x17D7840000000000) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x1DCD650000000000) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x12A05F2000000000) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x174876E800000000) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x1D1A94A200000000) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x12309CE540000000) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x16BCC41E90000000) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x1C6BF52634000000) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x11C37937E0800000) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x16345785D8A00000) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x1BC16D674EC80000) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x1158E460913D0000) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x15AF1D78B58C4000) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x1B1AE4D6E2EF5000) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x10F0CF064DD59200) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x152D02C7E14AF680) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x1A784379D99DB420) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x108B2A2C28029094) },
+  { JVM_ULL(0x0000000000000000), JVM_ULL(0x14ADF4B7320334B9) },
+  { JVM_ULL(0x4000000000000000), JVM_ULL(0x19D971E4FE8401E7) },
+  { JVM_ULL(0x8800000000000000), JVM_ULL(0x1027E72F1F128130) },
+  { JVM_ULL(0xAA00000000000000), JVM_ULL(0x1431E0FAE6D7217C) },
+  { JVM_ULL(0xD480000000000000), JVM_ULL(0x193E5939A08CE9DB) },
+  { JVM_ULL(0xC9A0000000000000), JVM_ULL(0x1F8DEF8808B02452) },
+  { JVM_ULL(0xBE04000000000000), JVM_ULL(0x13B8B5B5056E16B3) },
+  { JVM_ULL(0xAD85000000000000), JVM_ULL(0x18A6E32246C99C60) },
+  { JVM_ULL(0xD8E6400000000000), JVM_ULL(0x1ED09BEAD87C0378) },
+  { JVM_ULL(0x878FE80000000000), JVM_ULL(0x13426172C74D822B) },
+  { JVM_ULL(0x6973E20000000000), JVM_ULL(0x1812F9CF7920E2B6) },
+  { JVM_ULL(0x03D0DA8000000000), JVM_ULL(0x1E17B84357691B64) },
+  { JVM_ULL(0x8262889000000000), JVM_ULL(0x12CED32A16A1B11E) },
+  { JVM_ULL(0x22FB2AB400000000), JVM_ULL(0x178287F49C4A1D66) },
+  { JVM_ULL(0xABB9F56100000000), JVM_ULL(0x1D6329F1C35CA4BF) },
+  { JVM_ULL(0xCB54395CA0000000), JVM_ULL(0x125DFA371A19E6F7) },
+  { JVM_ULL(0xBE2947B3C8000000), JVM_ULL(0x16F578C4E0A060B5) },
+  { JVM_ULL(0x2DB399A0BA000000), JVM_ULL(0x1CB2D6F618C878E3) },
+  { JVM_ULL(0xFC90400474400000), JVM_ULL(0x11EFC659CF7D4B8D) },
+  { JVM_ULL(0x7BB4500591500000), JVM_ULL(0x166BB7F0435C9E71) },
+  { JVM_ULL(0xDAA16406F5A40000), JVM_ULL(0x1C06A5EC5433C60D) },
+  { JVM_ULL(0xA8A4DE8459868000), JVM_ULL(0x118427B3B4A05BC8) },
+  { JVM_ULL(0xD2CE16256FE82000), JVM_ULL(0x15E531A0A1C872BA) },
+  { JVM_ULL(0x87819BAECBE22800), JVM_ULL(0x1B5E7E08CA3A8F69) },
+  { JVM_ULL(0xF4B1014D3F6D5900), JVM_ULL(0x111B0EC57E6499A1) },
+  { JVM_ULL(0x71DD41A08F48AF40), JVM_ULL(0x1561D276DDFDC00A) },
+  { JVM_ULL(0x0E549208B31ADB10), JVM_ULL(0x1ABA4714957D300D) },
+  { JVM_ULL(0x28F4DB456FF0C8EA), JVM_ULL(0x10B46C6CDD6E3E08) },
+  { JVM_ULL(0x33321216CBECFB24), JVM_ULL(0x14E1878814C9CD8A) },
+  { JVM_ULL(0xBFFE969C7EE839ED), JVM_ULL(0x1A19E96A19FC40EC) },
+  { JVM_ULL(0xF7FF1E21CF512434), JVM_ULL(0x105031E2503DA893) },
+  { JVM_ULL(0xF5FEE5AA43256D41), JVM_ULL(0x14643E5AE44D12B8) },
+  { JVM_ULL(0x337E9F14D3EEC892), JVM_ULL(0x197D4DF19D605767) },
+  { JVM_ULL(0x005E46DA08EA7AB6), JVM_ULL(0x1FDCA16E04B86D41) },
+  { JVM_ULL(0xA03AEC4845928CB2), JVM_ULL(0x13E9E4E4C2F34448) },
+  { JVM_ULL(0xC849A75A56F72FDE), JVM_ULL(0x18E45E1DF3B0155A) },
+  { JVM_ULL(0x7A5C1130ECB4FBD6), JVM_ULL(0x1F1D75A5709C1AB1) },
+  { JVM_ULL(0xEC798ABE93F11D65), JVM_ULL(0x13726987666190AE) },
+  { JVM_ULL(0xA797ED6E38ED64BF), JVM_ULL(0x184F03E93FF9F4DA) },
+  { JVM_ULL(0x517DE8C9C728BDEF), JVM_ULL(0x1E62C4E38FF87211) },
+  { JVM_ULL(0xD2EEB17E1C7976B5), JVM_ULL(0x12FDBB0E39FB474A) },
+  { JVM_ULL(0x87AA5DDDA397D462), JVM_ULL(0x17BD29D1C87A191D) },
+  { JVM_ULL(0xE994F5550C7DC97B), JVM_ULL(0x1DAC74463A989F64) },
+  { JVM_ULL(0x11FD195527CE9DED), JVM_ULL(0x128BC8ABE49F639F) },
+  { JVM_ULL(0xD67C5FAA71C24568), JVM_ULL(0x172EBAD6DDC73C86) },
+  { JVM_ULL(0x8C1B77950E32D6C2), JVM_ULL(0x1CFA698C95390BA8) },
+  { JVM_ULL(0x57912ABD28DFC639), JVM_ULL(0x121C81F7DD43A749) },
+  { JVM_ULL(0xAD75756C7317B7C8), JVM_ULL(0x16A3A275D494911B) },
+  { JVM_ULL(0x98D2D2C78FDDA5BA), JVM_ULL(0x1C4C8B1349B9B562) },
+  { JVM_ULL(0x9F83C3BCB9EA8794), JVM_ULL(0x11AFD6EC0E14115D) },
+  { JVM_ULL(0x0764B4ABE8652979), JVM_ULL(0x161BCCA7119915B5) },
+  { JVM_ULL(0x493DE1D6E27E73D7), JVM_ULL(0x1BA2BFD0D5FF5B22) },
+  { JVM_ULL(0x6DC6AD264D8F0866), JVM_ULL(0x1145B7E285BF98F5) },
+  { JVM_ULL(0xC938586FE0F2CA80), JVM_ULL(0x159725DB272F7F32) },
+  { JVM_ULL(0x7B866E8BD92F7D20), JVM_ULL(0x1AFCEF51F0FB5EFF) },
+  { JVM_ULL(0xAD34051767BDAE34), JVM_ULL(0x10DE1593369D1B5F) },
+  { JVM_ULL(0x9881065D41AD19C1), JVM_ULL(0x15159AF804446237) },
+  { JVM_ULL(0x7EA147F492186032), JVM_ULL(0x1A5B01B605557AC5) },
+  { JVM_ULL(0x6F24CCF8DB4F3C1F), JVM_ULL(0x1078E111C3556CBB) },
+  { JVM_ULL(0x4AEE003712230B27), JVM_ULL(0x14971956342AC7EA) },
+  { JVM_ULL(0xDDA98044D6ABCDF0), JVM_ULL(0x19BCDFABC13579E4) },
+  { JVM_ULL(0x0A89F02B062B60B6), JVM_ULL(0x10160BCB58C16C2F) },
+  { JVM_ULL(0xCD2C6C35C7B638E4), JVM_ULL(0x141B8EBE2EF1C73A) },
+  { JVM_ULL(0x8077874339A3C71D), JVM_ULL(0x1922726DBAAE3909) },
+  { JVM_ULL(0xE0956914080CB8E4), JVM_ULL(0x1F6B0F092959C74B) },
+  { JVM_ULL(0x6C5D61AC8507F38E), JVM_ULL(0x13A2E965B9D81C8F) },
+  { JVM_ULL(0x4774BA17A649F072), JVM_ULL(0x188BA3BF284E23B3) },
+  { JVM_ULL(0x1951E89D8FDC6C8F), JVM_ULL(0x1EAE8CAEF261ACA0) },
+  { JVM_ULL(0x0FD3316279E9C3D9), JVM_ULL(0x132D17ED577D0BE4) },
+  { JVM_ULL(0x13C7FDBB186434CF), JVM_ULL(0x17F85DE8AD5C4EDD) },
+  { JVM_ULL(0x58B9FD29DE7D4203), JVM_ULL(0x1DF67562D8B36294) },
+  { JVM_ULL(0xB7743E3A2B0E4942), JVM_ULL(0x12BA095DC7701D9C) },
+  { JVM_ULL(0xE5514DC8B5D1DB92), JVM_ULL(0x17688BB5394C2503) },
+  { JVM_ULL(0xDEA5A13AE3465277), JVM_ULL(0x1D42AEA2879F2E44) },
+  { JVM_ULL(0x0B2784C4CE0BF38A), JVM_ULL(0x1249AD2594C37CEB) },
+  { JVM_ULL(0xCDF165F6018EF06D), JVM_ULL(0x16DC186EF9F45C25) },
+  { JVM_ULL(0x416DBF7381F2AC88), JVM_ULL(0x1C931E8AB871732F) },
+  { JVM_ULL(0x88E497A83137ABD5), JVM_ULL(0x11DBF316B346E7FD) },
+  { JVM_ULL(0xEB1DBD923D8596CA), JVM_ULL(0x1652EFDC6018A1FC) },
+  { JVM_ULL(0x25E52CF6CCE6FC7D), JVM_ULL(0x1BE7ABD3781ECA7C) },
+  { JVM_ULL(0x97AF3C1A40105DCE), JVM_ULL(0x1170CB642B133E8D) },
+  { JVM_ULL(0xFD9B0B20D0147542), JVM_ULL(0x15CCFE3D35D80E30) },
+  { JVM_ULL(0x3D01CDE904199292), JVM_ULL(0x1B403DCC834E11BD) },
+  { JVM_ULL(0x462120B1A28FFB9B), JVM_ULL(0x1108269FD210CB16) },
+  { JVM_ULL(0xD7A968DE0B33FA82), JVM_ULL(0x154A3047C694FDDB) },
+  { JVM_ULL(0xCD93C3158E00F923), JVM_ULL(0x1A9CBC59B83A3D52) },
+  { JVM_ULL(0xC07C59ED78C09BB6), JVM_ULL(0x10A1F5B813246653) },
+  { JVM_ULL(0xB09B7068D6F0C2A3), JVM_ULL(0x14CA732617ED7FE8) },
+  { JVM_ULL(0xDCC24C830CACF34C), JVM_ULL(0x19FD0FEF9DE8DFE2) },
+  { JVM_ULL(0xC9F96FD1E7EC180F), JVM_ULL(0x103E29F5C2B18BED) },
+  { JVM_ULL(0x3C77CBC661E71E13), JVM_ULL(0x144DB473335DEEE9) },
+  { JVM_ULL(0x8B95BEB7FA60E598), JVM_ULL(0x1961219000356AA3) },
+  { JVM_ULL(0x6E7B2E65F8F91EFE), JVM_ULL(0x1FB969F40042C54C) },
+  { JVM_ULL(0xC50CFCFFBB9BB35F), JVM_ULL(0x13D3E2388029BB4F) },
+  { JVM_ULL(0xB6503C3FAA82A037), JVM_ULL(0x18C8DAC6A0342A23) },
+  { JVM_ULL(0xA3E44B4F95234844), JVM_ULL(0x1EFB1178484134AC) },
+  { JVM_ULL(0xE66EAF11BD360D2B), JVM_ULL(0x135CEAEB2D28C0EB) },
+  { JVM_ULL(0xE00A5AD62C839075), JVM_ULL(0x183425A5F872F126) },
+  { JVM_ULL(0x980CF18BB7A47493), JVM_ULL(0x1E412F0F768FAD70) },
+  { JVM_ULL(0x5F0816F752C6C8DC), JVM_ULL(0x12E8BD69AA19CC66) },
+  { JVM_ULL(0xF6CA1CB527787B13), JVM_ULL(0x17A2ECC414A03F7F) },
+  { JVM_ULL(0xF47CA3E2715699D7), JVM_ULL(0x1D8BA7F519C84F5F) },
+  { JVM_ULL(0xF8CDE66D86D62026), JVM_ULL(0x127748F9301D319B) },
+  { JVM_ULL(0xF7016008E88BA830), JVM_ULL(0x17151B377C247E02) },
+  { JVM_ULL(0xB4C1B80B22AE923C), JVM_ULL(0x1CDA62055B2D9D83) },
+  { JVM_ULL(0x50F91306F5AD1B65), JVM_ULL(0x12087D4358FC8272) },
+  { JVM_ULL(0xE53757C8B318623F), JVM_ULL(0x168A9C942F3BA30E) },
+  { JVM_ULL(0x9E852DBADFDE7ACF), JVM_ULL(0x1C2D43B93B0A8BD2) },
+  { JVM_ULL(0xA3133C94CBEB0CC1), JVM_ULL(0x119C4A53C4E69763) },
+  { JVM_ULL(0x8BD80BB9FEE5CFF1), JVM_ULL(0x16035CE8B6203D3C) },
+  { JVM_ULL(0xAECE0EA87E9F43EE), JVM_ULL(0x1B843422E3A84C8B) },
+  { JVM_ULL(0x4D40C9294F238A75), JVM_ULL(0x1132A095CE492FD7) },
+  { JVM_ULL(0x2090FB73A2EC6D12), JVM_ULL(0x157F48BB41DB7BCD) },
+  { JVM_ULL(0x68B53A508BA78856), JVM_ULL(0x1ADF1AEA12525AC0) },
+  { JVM_ULL(0x417144725748B536), JVM_ULL(0x10CB70D24B7378B8) },
+  { JVM_ULL(0x51CD958EED1AE283), JVM_ULL(0x14FE4D06DE5056E6) },
+  { JVM_ULL(0xE640FAF2A8619B24), JVM_ULL(0x1A3DE04895E46C9F) },
+  { JVM_ULL(0xEFE89CD7A93D00F7), JVM_ULL(0x1066AC2D5DAEC3E3) },
+  { JVM_ULL(0xEBE2C40D938C4134), JVM_ULL(0x14805738B51A74DC) },
+  { JVM_ULL(0x26DB7510F86F5181), JVM_ULL(0x19A06D06E2611214) },
+  { JVM_ULL(0x9849292A9B4592F1), JVM_ULL(0x100444244D7CAB4C) },
+  { JVM_ULL(0xBE5B73754216F7AD), JVM_ULL(0x1405552D60DBD61F) },
+  { JVM_ULL(0xADF25052929CB598), JVM_ULL(0x1906AA78B912CBA7) },
+  { JVM_ULL(0x996EE4673743E2FF), JVM_ULL(0x1F485516E7577E91) },
+  { JVM_ULL(0xFFE54EC0828A6DDF), JVM_ULL(0x138D352E5096AF1A) },
+  { JVM_ULL(0xBFDEA270A32D0957), JVM_ULL(0x18708279E4BC5AE1) },
+  { JVM_ULL(0x2FD64B0CCBF84BAD), JVM_ULL(0x1E8CA3185DEB719A) },
+  { JVM_ULL(0x5DE5EEE7FF7B2F4C), JVM_ULL(0x1317E5EF3AB32700) },
+  { JVM_ULL(0x755F6AA1FF59FB1F), JVM_ULL(0x17DDDF6B095FF0C0) },
+  { JVM_ULL(0x92B7454A7F3079E7), JVM_ULL(0x1DD55745CBB7ECF0) },
+  { JVM_ULL(0x5BB28B4E8F7E4C30), JVM_ULL(0x12A5568B9F52F416) },
+  { JVM_ULL(0xF29F2E22335DDF3C), JVM_ULL(0x174EAC2E8727B11B) },
+  { JVM_ULL(0xEF46F9AAC035570B), JVM_ULL(0x1D22573A28F19D62) },
+  { JVM_ULL(0xD58C5C0AB8215667), JVM_ULL(0x123576845997025D) },
+  { JVM_ULL(0x4AEF730D6629AC01), JVM_ULL(0x16C2D4256FFCC2F5) },
+  { JVM_ULL(0x9DAB4FD0BFB41701), JVM_ULL(0x1C73892ECBFBF3B2) },
+  { JVM_ULL(0xA28B11E277D08E60), JVM_ULL(0x11C835BD3F7D784F) },
+  { JVM_ULL(0x8B2DD65B15C4B1F9), JVM_ULL(0x163A432C8F5CD663) },
+  { JVM_ULL(0x6DF94BF1DB35DE77), JVM_ULL(0x1BC8D3F7B3340BFC) },
+  { JVM_ULL(0xC4BBCF772901AB0A), JVM_ULL(0x115D847AD000877D) },
+  { JVM_ULL(0x35EAC354F34215CD), JVM_ULL(0x15B4E5998400A95D) },
+  { JVM_ULL(0x8365742A30129B40), JVM_ULL(0x1B221EFFE500D3B4) },
+  { JVM_ULL(0xD21F689A5E0BA108), JVM_ULL(0x10F5535FEF208450) },
+  { JVM_ULL(0x06A742C0F58E894A), JVM_ULL(0x1532A837EAE8A565) },
+  { JVM_ULL(0x4851137132F22B9D), JVM_ULL(0x1A7F5245E5A2CEBE) },
+  { JVM_ULL(0xED32AC26BFD75B42), JVM_ULL(0x108F936BAF85C136) },
+  { JVM_ULL(0xA87F57306FCD3212), JVM_ULL(0x14B378469B673184) },
+  { JVM_ULL(0xD29F2CFC8BC07E97), JVM_ULL(0x19E056584240FDE5) },
+  { JVM_ULL(0xA3A37C1DD7584F1E), JVM_ULL(0x102C35F729689EAF) },
+  { JVM_ULL(0x8C8C5B254D2E62E6), JVM_ULL(0x14374374F3C2C65B) },
+  { JVM_ULL(0x6FAF71EEA079FB9F), JVM_ULL(0x1945145230B377F2) },
+  { JVM_ULL(0x0B9B4E6A48987A87), JVM_ULL(0x1F965966BCE055EF) },
+  { JVM_ULL(0x674111026D5F4C94), JVM_ULL(0x13BDF7E0360C35B5) },
+  { JVM_ULL(0xC111554308B71FBA), JVM_ULL(0x18AD75D8438F4322) },
+  { JVM_ULL(0x7155AA93CAE4E7A8), JVM_ULL(0x1ED8D34E547313EB) },
+  { JVM_ULL(0x26D58A9C5ECF10C9), JVM_ULL(0x13478410F4C7EC73) },
+  { JVM_ULL(0xF08AED437682D4FB), JVM_ULL(0x1819651531F9E78F) },
+  { JVM_ULL(0xECADA89454238A3A), JVM_ULL(0x1E1FBE5A7E786173) },
+  { JVM_ULL(0x73EC895CB4963664), JVM_ULL(0x12D3D6F88F0B3CE8) },
+  { JVM_ULL(0x90E7ABB3E1BBC3FD), JVM_ULL(0x1788CCB6B2CE0C22) },
+  { JVM_ULL(0x352196A0DA2AB4FD), JVM_ULL(0x1D6AFFE45F818F2B) },
+  { JVM_ULL(0x0134FE24885AB11E), JVM_ULL(0x1262DFEEBBB0F97B) },
+  { JVM_ULL(0xC1823DADAA715D65), JVM_ULL(0x16FB97EA6A9D37D9) },
+  { JVM_ULL(0x31E2CD19150DB4BF), JVM_ULL(0x1CBA7DE5054485D0) },
+  { JVM_ULL(0x1F2DC02FAD2890F7), JVM_ULL(0x11F48EAF234AD3A2) },
+  { JVM_ULL(0xA6F9303B9872B535), JVM_ULL(0x1671B25AEC1D888A) },
+  { JVM_ULL(0x50B77C4A7E8F6282), JVM_ULL(0x1C0E1EF1A724EAAD) },
+  { JVM_ULL(0x5272ADAE8F199D91), JVM_ULL(0x1188D357087712AC) },
+  { JVM_ULL(0x670F591A32E004F6), JVM_ULL(0x15EB082CCA94D757) },
+  { JVM_ULL(0x40D32F60BF980633), JVM_ULL(0x1B65CA37FD3A0D2D) },
+  { JVM_ULL(0x4883FD9C77BF03E0), JVM_ULL(0x111F9E62FE44483C) },
+  { JVM_ULL(0x5AA4FD0395AEC4D8), JVM_ULL(0x156785FBBDD55A4B) },
+  { JVM_ULL(0x314E3C447B1A760E), JVM_ULL(0x1AC1677AAD4AB0DE) },
+  { JVM_ULL(0xDED0E5AACCF089C9), JVM_ULL(0x10B8E0ACAC4EAE8A) },
+  { JVM_ULL(0x96851F15802CAC3B), JVM_ULL(0x14E718D7D7625A2D) },
+  { JVM_ULL(0xFC2666DAE037D74A), JVM_ULL(0x1A20DF0DCD3AF0B8) },
+  { JVM_ULL(0x9D980048CC22E68E), JVM_ULL(0x10548B68A044D673) },
+  { JVM_ULL(0x84FE005AFF2BA032), JVM_ULL(0x1469AE42C8560C10) },
+  { JVM_ULL(0xA63D8071BEF6883E), JVM_ULL(0x198419D37A6B8F14) },
+  { JVM_ULL(0xCFCCE08E2EB42A4E), JVM_ULL(0x1FE52048590672D9) },
+  { JVM_ULL(0x21E00C58DD309A70), JVM_ULL(0x13EF342D37A407C8) },
+  { JVM_ULL(0x2A580F6F147CC10D), JVM_ULL(0x18EB0138858D09BA) },
+  { JVM_ULL(0xB4EE134AD99BF150), JVM_ULL(0x1F25C186A6F04C28) },
+  { JVM_ULL(0x7114CC0EC80176D2), JVM_ULL(0x137798F428562F99) },
+  { JVM_ULL(0xCD59FF127A01D486), JVM_ULL(0x18557F31326BBB7F) },
+  { JVM_ULL(0xC0B07ED7188249A8), JVM_ULL(0x1E6ADEFD7F06AA5F) },
+  { JVM_ULL(0xD86E4F466F516E09), JVM_ULL(0x1302CB5E6F642A7B) },
+  { JVM_ULL(0xCE89E3180B25C98B), JVM_ULL(0x17C37E360B3D351A) },
+  { JVM_ULL(0x822C5BDE0DEF3BEE), JVM_ULL(0x1DB45DC38E0C8261) },
+  { JVM_ULL(0xF15BB96AC8B58575), JVM_ULL(0x1290BA9A38C7D17C) },
+  { JVM_ULL(0x2DB2A7C57AE2E6D2), JVM_ULL(0x1734E940C6F9C5DC) },
+  { JVM_ULL(0x391F51B6D99BA086), JVM_ULL(0x1D022390F8B83753) },
+  { JVM_ULL(0x03B3931248014454), JVM_ULL(0x1221563A9B732294) },
+  { JVM_ULL(0x04A077D6DA019569), JVM_ULL(0x16A9ABC9424FEB39) },
+  { JVM_ULL(0x45C895CC9081FAC3), JVM_ULL(0x1C5416BB92E3E607) },
+  { JVM_ULL(0x8B9D5D9FDA513CBA), JVM_ULL(0x11B48E353BCE6FC4) },
+  { JVM_ULL(0xAE84B507D0E58BE8), JVM_ULL(0x1621B1C28AC20BB5) },
+  { JVM_ULL(0x1A25E249C51EEEE3), JVM_ULL(0x1BAA1E332D728EA3) },
+  { JVM_ULL(0xF057AD6E1B33554D), JVM_ULL(0x114A52DFFC679925) },
+  { JVM_ULL(0x6C6D98C9A2002AA1), JVM_ULL(0x159CE797FB817F6F) },
+  { JVM_ULL(0x4788FEFC0A803549), JVM_ULL(0x1B04217DFA61DF4B) },
+  { JVM_ULL(0x0CB59F5D8690214E), JVM_ULL(0x10E294EEBC7D2B8F) },
+  { JVM_ULL(0xCFE30734E83429A1), JVM_ULL(0x151B3A2A6B9C7672) },
+  { JVM_ULL(0x83DBC9022241340A), JVM_ULL(0x1A6208B50683940F) },
+  { JVM_ULL(0xB2695DA15568C086), JVM_ULL(0x107D457124123C89) },
+  { JVM_ULL(0x1F03B509AAC2F0A7), JVM_ULL(0x149C96CD6D16CBAC) },
+  { JVM_ULL(0x26C4A24C1573ACD1), JVM_ULL(0x19C3BC80C85C7E97) },
+  { JVM_ULL(0x783AE56F8D684C03), JVM_ULL(0x101A55D07D39CF1E) },
+  { JVM_ULL(0x16499ECB70C25F03), JVM_ULL(0x1420EB449C8842E6) },
+  { JVM_ULL(0x9BDC067E4CF2F6C4), JVM_ULL(0x19292615C3AA539F) },
+  { JVM_ULL(0x82D3081DE02FB476), JVM_ULL(0x1F736F9B3494E887) },
+  { JVM_ULL(0xB1C3E512AC1DD0C9), JVM_ULL(0x13A825C100DD1154) },
+  { JVM_ULL(0xDE34DE57572544FC), JVM_ULL(0x18922F31411455A9) },
+  { JVM_ULL(0x55C215ED2CEE963B), JVM_ULL(0x1EB6BAFD91596B14) },
+  { JVM_ULL(0xB5994DB43C151DE5), JVM_ULL(0x133234DE7AD7E2EC) },
+  { JVM_ULL(0xE2FFA1214B1A655E), JVM_ULL(0x17FEC216198DDBA7) },
+  { JVM_ULL(0xDBBF89699DE0FEB6), JVM_ULL(0x1DFE729B9FF15291) },
+  { JVM_ULL(0x2957B5E202AC9F31), JVM_ULL(0x12BF07A143F6D39B) },
+  { JVM_ULL(0xF3ADA35A8357C6FE), JVM_ULL(0x176EC98994F48881) },
+  { JVM_ULL(0x70990C31242DB8BD), JVM_ULL(0x1D4A7BEBFA31AAA2) },
+  { JVM_ULL(0x865FA79EB69C9376), JVM_ULL(0x124E8D737C5F0AA5) },
+  { JVM_ULL(0xE7F791866443B854), JVM_ULL(0x16E230D05B76CD4E) },
+  { JVM_ULL(0xA1F575E7FD54A669), JVM_ULL(0x1C9ABD04725480A2) },
+  { JVM_ULL(0xA53969B0FE54E801), JVM_ULL(0x11E0B622C774D065) },
+  { JVM_ULL(0x0E87C41D3DEA2202), JVM_ULL(0x1658E3AB7952047F) },
+  { JVM_ULL(0xD229B5248D64AA82), JVM_ULL(0x1BEF1C9657A6859E) },
+  { JVM_ULL(0x435A1136D85EEA91), JVM_ULL(0x117571DDF6C81383) },
+  { JVM_ULL(0x143095848E76A536), JVM_ULL(0x15D2CE55747A1864) },
+  { JVM_ULL(0x193CBAE5B2144E83), JVM_ULL(0x1B4781EAD1989E7D) },
+  { JVM_ULL(0x2FC5F4CF8F4CB112), JVM_ULL(0x110CB132C2FF630E) },
+  { JVM_ULL(0xBBB77203731FDD56), JVM_ULL(0x154FDD7F73BF3BD1) },
+  { JVM_ULL(0x2AA54E844FE7D4AC), JVM_ULL(0x1AA3D4DF50AF0AC6) },
+  { JVM_ULL(0xDAA75112B1F0E4EB), JVM_ULL(0x10A6650B926D66BB) },
+  { JVM_ULL(0xD15125575E6D1E26), JVM_ULL(0x14CFFE4E7708C06A) },
+  { JVM_ULL(0x85A56EAD360865B0), JVM_ULL(0x1A03FDE214CAF085) },
+  { JVM_ULL(0x7387652C41C53F8E), JVM_ULL(0x10427EAD4CFED653) },
+  { JVM_ULL(0x50693E7752368F71), JVM_ULL(0x14531E58A03E8BE8) },
+  { JVM_ULL(0x64838E1526C4334E), JVM_ULL(0x1967E5EEC84E2EE2) },
+  { JVM_ULL(0xFDA4719A70754022), JVM_ULL(0x1FC1DF6A7A61BA9A) },
+  { JVM_ULL(0xDE86C70086494815), JVM_ULL(0x13D92BA28C7D14A0) },
+  { JVM_ULL(0x162878C0A7DB9A1A), JVM_ULL(0x18CF768B2F9C59C9) },
+  { JVM_ULL(0x5BB296F0D1D280A1), JVM_ULL(0x1F03542DFB83703B) },
+  { JVM_ULL(0x194F9E5683239064), JVM_ULL(0x1362149CBD322625) },
+  { JVM_ULL(0x5FA385EC23EC747E), JVM_ULL(0x183A99C3EC7EAFAE) },
+  { JVM_ULL(0xF78C67672CE7919D), JVM_ULL(0x1E494034E79E5B99) },
+  { JVM_ULL(0x3AB7C0A07C10BB02), JVM_ULL(0x12EDC82110C2F940) },
+  { JVM_ULL(0x4965B0C89B14E9C3), JVM_ULL(0x17A93A2954F3B790) },
+  { JVM_ULL(0x5BBF1CFAC1DA2433), JVM_ULL(0x1D9388B3AA30A574) },
+  { JVM_ULL(0xB957721CB92856A0), JVM_ULL(0x127C35704A5E6768) },
+  { JVM_ULL(0xE7AD4EA3E7726C48), JVM_ULL(0x171B42CC5CF60142) },
+  { JVM_ULL(0xA198A24CE14F075A), JVM_ULL(0x1CE2137F74338193) },
+  { JVM_ULL(0x44FF65700CD16498), JVM_ULL(0x120D4C2FA8A030FC) },
+  { JVM_ULL(0x563F3ECC1005BDBE), JVM_ULL(0x16909F3B92C83D3B) },
+  { JVM_ULL(0x2BCF0E7F14072D2E), JVM_ULL(0x1C34C70A777A4C8A) },
+  { JVM_ULL(0x5B61690F6C847C3D), JVM_ULL(0x11A0FC668AAC6FD6) },
+  { JVM_ULL(0xF239C35347A59B4C), JVM_ULL(0x16093B802D578BCB) },
+  { JVM_ULL(0xEEC83428198F021F), JVM_ULL(0x1B8B8A6038AD6EBE) },
+  { JVM_ULL(0x553D20990FF96153), JVM_ULL(0x1137367C236C6537) },
+  { JVM_ULL(0x2A8C68BF53F7B9A8), JVM_ULL(0x1585041B2C477E85) },
+  { JVM_ULL(0x752F82EF28F5A812), JVM_ULL(0x1AE64521F7595E26) },
+  { JVM_ULL(0x093DB1D57999890B), JVM_ULL(0x10CFEB353A97DAD8) },
+  { JVM_ULL(0x0B8D1E4AD7FFEB4E), JVM_ULL(0x1503E602893DD18E) },
+  { JVM_ULL(0x8E7065DD8DFFE622), JVM_ULL(0x1A44DF832B8D45F1) },
+  { JVM_ULL(0xF9063FAA78BFEFD5), JVM_ULL(0x106B0BB1FB384BB6) },
+  { JVM_ULL(0xB747CF9516EFEBCA), JVM_ULL(0x1485CE9E7A065EA4) },
+  { JVM_ULL(0xE519C37A5CABE6BD), JVM_ULL(0x19A742461887F64D) },
+  { JVM_ULL(0xAF301A2C79EB7036), JVM_ULL(0x1008896BCF54F9F0) },
+  { JVM_ULL(0xDAFC20B798664C43), JVM_ULL(0x140AABC6C32A386C) },
+  { JVM_ULL(0x11BB28E57E7FDF54), JVM_ULL(0x190D56B873F4C688) },
+  { JVM_ULL(0x1629F31EDE1FD72A), JVM_ULL(0x1F50AC6690F1F82A) },
+  { JVM_ULL(0x4DDA37F34AD3E67A), JVM_ULL(0x13926BC01A973B1A) },
+  { JVM_ULL(0xE150C5F01D88E019), JVM_ULL(0x187706B0213D09E0) },
+  { JVM_ULL(0x19A4F76C24EB181F), JVM_ULL(0x1E94C85C298C4C59) },
+  { JVM_ULL(0xB0071AA39712EF13), JVM_ULL(0x131CFD3999F7AFB7) },
+  { JVM_ULL(0x9C08E14C7CD7AAD8), JVM_ULL(0x17E43C8800759BA5) },
+  { JVM_ULL(0x030B199F9C0D958E), JVM_ULL(0x1DDD4BAA0093028F) },
+  { JVM_ULL(0x61E6F003C1887D79), JVM_ULL(0x12AA4F4A405BE199) },
+  { JVM_ULL(0xBA60AC04B1EA9CD7), JVM_ULL(0x1754E31CD072D9FF) },
+  { JVM_ULL(0xA8F8D705DE65440D), JVM_ULL(0x1D2A1BE4048F907F) },
+  { JVM_ULL(0xC99B8663AAFF4A88), JVM_ULL(0x123A516E82D9BA4F) },
+  { JVM_ULL(0xBC0267FC95BF1D2A), JVM_ULL(0x16C8E5CA239028E3) },
+  { JVM_ULL(0xAB0301FBBB2EE474), JVM_ULL(0x1C7B1F3CAC74331C) },
+  { JVM_ULL(0xEAE1E13D54FD4EC9), JVM_ULL(0x11CCF385EBC89FF1) },
+  { JVM_ULL(0x659A598CAA3CA27B), JVM_ULL(0x1640306766BAC7EE) },
+  { JVM_ULL(0xFF00EFEFD4CBCB1A), JVM_ULL(0x1BD03C81406979E9) },
+  { JVM_ULL(0x3F6095F5E4FF5EF0), JVM_ULL(0x116225D0C841EC32) },
+  { JVM_ULL(0xCF38BB735E3F36AC), JVM_ULL(0x15BAAF44FA52673E) },
+  { JVM_ULL(0x8306EA5035CF0457), JVM_ULL(0x1B295B1638E7010E) },
+  { JVM_ULL(0x11E4527221A162B6), JVM_ULL(0x10F9D8EDE39060A9) },
+  { JVM_ULL(0x565D670EAA09BB64), JVM_ULL(0x15384F295C7478D3) },
+  { JVM_ULL(0x2BF4C0D2548C2A3D), JVM_ULL(0x1A8662F3B3919708) },
+  { JVM_ULL(0x1B78F88374D79A66), JVM_ULL(0x1093FDD8503AFE65) },
+  { JVM_ULL(0x625736A4520D8100), JVM_ULL(0x14B8FD4E6449BDFE) },
+  { JVM_ULL(0xFAED044D6690E140), JVM_ULL(0x19E73CA1FD5C2D7D) },
+  { JVM_ULL(0xBCD422B0601A8CC8), JVM_ULL(0x103085E53E599C6E) },
+  { JVM_ULL(0x6C092B5C78212FFA), JVM_ULL(0x143CA75E8DF0038A) },
+  { JVM_ULL(0x070B763396297BF8), JVM_ULL(0x194BD136316C046D) },
+  { JVM_ULL(0x48CE53C07BB3DAF6), JVM_ULL(0x1F9EC583BDC70588) },
+  { JVM_ULL(0x2D80F4584D5068DA), JVM_ULL(0x13C33B72569C6375) },
+  { JVM_ULL(0x78E1316E60A48310), JVM_ULL(0x18B40A4EEC437C52) },
+  { JVM_ULL(0x17197DC9F8CDA3D4), JVM_ULL(0x1EE10CE2A7545B67) }
+};
+
+// ceil(log2(5^e)), or 1 for e == 0; valid for 0 <= e <= 3528.
+inline static int pow5bits(int e) {
+  return (int)(((juint)e * 1217359) >> 19) + 1;
+}
+
+// floor(log10(2^e)); valid for 0 <= e <= 1650.
+inline static juint log10_pow2(int e) {
+  return ((juint)e * 78913) >> 18;
+}
+
+// floor(log10(5^e)); valid for 0 <= e <= 2620.
+inline static juint log10_pow5(int e) {
+  return ((juint)e * 732923) >> 20;
+}
+
+static bool multiple_of_pow5(julong value, juint p) {
+  juint count = 0;
+  while (value % 5 == 0) {
+    value /= 5;
+    count++;
+  }
+  return count >= p;
+}
+
+inline static bool multiple_of_pow2(julong value, juint p) {
+  return (value & ((JVM_ULL(1) << p) - 1)) == 0;
+}
+
+// Returns the high 64 bits of the 128-bit product a * b, and the low
+// 64 bits in *lo. Written with 32-bit halves, as not every compiler
+// we support has a 128-bit integer type.
+static julong umul128_high(julong a, julong b, julong* lo) {
+  const juint a_lo = (juint)a;
+  const juint a_hi = (juint)(a >> 32);
+  const juint b_lo = (juint)b;
+  const juint b_hi = (juint)(b >> 32);
+
+  const julong b00 = (julong)a_lo * b_lo;
+  const julong b01 = (julong)a_lo * b_hi;
+  const julong b10 = (julong)a_hi * b_lo;
+  const julong b11 = (julong)a_hi * b_hi;
+
+  const julong mid1 = b10 + (b00 >> 32);
+  const julong mid2 = b01 + (juint)mid1;
+
+  *lo = (mid2 << 32) | (juint)b00;
+  return b11 + (mid1 >> 32) + (mid2 >> 32);
+}
+
+// Returns (m * mul) >> j, where mul is a 128-bit table entry, m has at
+// most 55 bits and 64 < j < 128.
+static julong mul_shift(julong m, const julong* mul, int j) {
+  julong low1;
+  julong high1 = umul128_high(m, mul[1], &low1);
+  julong low0;
+  const julong high0 = umul128_high(m, mul[0], &low0);
+  const julong sum = high0 + low1;
+  if (sum < high0) {
+    high1++;
+  }
+  const int dist = j - 64;
+  GUARANTEE(dist > 0 && dist < 64, "sanity");
+  return (high1 << (64 - dist)) | (sum >> dist);
+}
+
+/*
+ * Computes the decimal digits of the positive value m2 * 2^e2, with m2
+ * taken as 4 * m2 for the halfway points. mm_shift is 0 if the lower
+ * neighbour is closer than the upper one (m2 is a power of two), else 1.
+ * Returns the digits as an integer and the decimal exponent in *exp10.
+ */
+static julong to_decimal(julong m2, int e2, juint mm_shift, int* exp10) {
+  const bool accept_bounds = (m2 & 1) == 0;
+  const julong mv = 4 * m2;
+  const julong mp = mv + 2;
+  const julong mm = mv - 1 - mm_shift;
+
+  julong vr, vp, vm;
+  juint q;
+  int e10;
+  bool vm_is_trailing_zeros = false;
+  bool vr_is_trailing_zeros = false;
+  if (e2 >= 0) {
+    q = log10_pow2(e2) - (e2 > 3);
+    e10 = (int)q;
+    const int k = POW5_INV_BITCOUNT + pow5bits((int)q) - 1;
+    const int i = -e2 + (int)q + k;
+    vr = mul_shift(mv, pow5_inv_split[q], i);
+    vp = mul_shift(mp, pow5_inv_split[q], i);
+    vm = mul_shift(mm, pow5_inv_split[q], i);
+    if (q <= 21) {
+      // Only one of mp, mv and mm can be a multiple of 5, if any.
+      if (mv % 5 == 0) {
+        vr_is_trailing_zeros = multiple_of_pow5(mv, q);
+      } else if (accept_bounds) {
+        vm_is_trailing_zeros = multiple_of_pow5(mm, q);
+      } else {
+        vp -= multiple_of_pow5(mp, q);
+      }
+    }
+  } else {
+    q = log10_pow5(-e2) - (-e2 > 1);
+    e10 = (int)q + e2;
+    const int i = -e2 - (int)q;
+    const int k = pow5bits(i) - POW5_BITCOUNT;
+    const int j = (int)q - k;
+    vr = mul_shift(mv, pow5_split[i], j);
+    vp = mul_shift(mp, pow5_split[i], j);
+    vm = mul_shift(mm, pow5_split[i], j);
+    if (q <= 1) {
+      // mv has at least q trailing zero bits, and so do mp and mm.
+      vr_is_trailing_zeros = true;
+      if (accept_bounds) {
+        vm_is_trailing_zeros = (mm_shift == 1);
+      } else {
+        vp--;
+      }
+    } else if (q < 63) {
+      vr_is_trailing_zeros = multiple_of_pow2(mv, q);
+    }
+  }
+
+  // Remember the value before digits are removed, in case the one-digit
+  // rule below needs to round it again.
+  const julong vr_all = vr;
+  const bool vr_all_exact = vr_is_trailing_zeros;
+  const int e10_all = e10;
+
+  // Remove digits while the interval still holds a shorter decimal.
+  int removed = 0;
+  int last_removed_digit = 0;
+  julong output;
+  if (vm_is_trailing_zeros || vr_is_trailing_zeros) {
+    // Rare case: a bound or the value itself is exact at this scale.
+    while (vp / 10 > vm / 10) {
+      vm_is_trailing_zeros &= (vm % 10 == 0);
+      vr_is_trailing_zeros &= (last_removed_digit == 0);
+      last_removed_digit = (int)(vr % 10);
+      vr /= 10;
+      vp /= 10;
+      vm /= 10;
+      removed++;
+    }
+    if (vm_is_trailing_zeros) {
+      while (vm % 10 == 0) {
+        vr_is_trailing_zeros &= (last_removed_digit == 0);
+        last_removed_digit = (int)(vr % 10);
+        vr /= 10;
+        vp /= 10;
+        vm /= 10;
+        removed++;
+      }
+    }
+    if (vr_is_trailing_zeros && last_removed_digit == 5 && vr % 2 == 0) {
+      // Exactly halfway: round to even.
+      last_removed_digit = 4;
+    }
+    output = vr + ((vr == vm && (!accept_bounds || !vm_is_trailing_zeros))
+                   || last_removed_digit >= 5);
+  } else {
+    bool round_up = false;
+    while (vp / 10 > vm / 10) {
+      round_up = (vr % 10 >= 5);
+      vr /= 10;
+      vp /= 10;
+      vm /= 10;
+      removed++;
+    }
+    output = vr + (vr == vm || round_up);
+  }
+  e10 += removed;
+
+  if (output < 10) {
+    // Java wants the closest decimal of one or two digits. The closest
+    // two-digit decimal is never farther than the one-digit result, so
+    // it is within the rounding interval too.
+    vr = vr_all;
+    e10 = e10_all;
+    bool exact = vr_all_exact;
+    if (vr < 100) {
+      // Only the smallest subnormals get here. Rounding needs one more
+      // digit, so scale again by a ten times smaller power of ten.
+      GUARANTEE(e2 < 0 && q > 64, "inexact at this scale");
+      const int i = -e2 - (int)q + 1;
+      const int j = (int)q - 1 - (pow5bits(i) - POW5_BITCOUNT);
+      vr = mul_shift(mv, pow5_split[i], j);
+      e10--;
+      exact = false;
+    }
+    last_removed_digit = 0;
+    while (vr >= 100) {
+      exact &= (last_removed_digit == 0);
+      last_removed_digit = (int)(vr % 10);
+      vr /= 10;
+      e10++;
+    }
+    if (last_removed_digit > 5 ||
+        (last_removed_digit == 5 && (!exact || vr % 2 != 0))) {
+      vr++;
+    }
+    if (vr % 10 == 0) {
+      vr /= 10;
+      e10++;
+    }
+    output = vr;
+  }
+
+  *exp10 = e10;
+  return output;
+}
+
+/*
+ * Formats the digits as Double.toString() does: plain notation with at
+ * least one fractional digit for 10^-3 <= |d| < 10^7, otherwise
+ * computerized scientific notation.
+ */
+static int format_decimal(bool negative, julong output, int e10, char* buf) {
+  char digits[20];
+  int n = 0;
+  do {
+    digits[n++] = (char)('0' + (int)(output % 10));
+    output /= 10;
+  } while (output != 0);
+  // digits[] is in reverse order; the value is 0.d1d2...dn * 10^(exp + 1)
+  const int exp = e10 + n - 1;
+
+  char* p = buf;
+  if (negative) {
+    *p++ = '-';
+  }
+  if (exp >= -3 && exp < 7) {
+    if (exp >= 0) {
+      int i = n - 1;
+      for (int k = 0; k <= exp; k++) {
+        *p++ = (i >= 0) ? digits[i--] : '0';
+      }
+      *p++ = '.';
+      if (i < 0) {
+        *p++ = '0';
+      }
+      while (i >= 0) {
+        *p++ = digits[i--];
+      }
+    } else {
+      *p++ = '0';
+      *p++ = '.';
+      for (int k = -1; k > exp; k--) {
+        *p++ = '0';
+      }
+      for (int i = n - 1; i >= 0; i--) {
+        *p++ = digits[i];
+      }
+    }
+  } else {
+    *p++ = digits[n - 1];
+    *p++ = '.';
+    if (n == 1) {
+      *p++ = '0';
+    }
+    for (int i = n - 2; i >= 0; i--) {
+      *p++ = digits[i];
+    }
+    *p++ = 'E';
+    int e = exp;
+    if (e < 0) {
+      *p++ = '-';
+      e = -e;
+    }
+    if (e >= 100) {
+      *p++ = (char)('0' + e / 100);
+      e %= 100;
+      *p++ = (char)('0' + e / 10);
+    } else if (e >= 10) {
+      *p++ = (char)('0' + e / 10);
+    }
+    *p++ = (char)('0' + e % 10);
+  }
+  return (int)(p - buf);
+}
+
+static int format_special(bool negative, bool is_nan, bool is_zero, char* buf) {
+  const char* s;
+  if (is_nan) {
+    s = "NaN";
+  } else if (is_zero) {
+    s = negative ? "-0.0" : "0.0";
+  } else {
+    s = negative ? "-Infinity" : "Infinity";
+  }
+  char* p = buf;
+  while (*s != 0) {
+    *p++ = *s++;
+  }
+  return (int)(p - buf);
+}
+
+/*
+ * Scans a decimal as accepted by Double.parseDouble(), with its digits
+ * as an integer w and its exponent q. Returns false if the string is
+ * malformed or has more than 19 significant digits.
+ */
+static bool scan_decimal(const jchar* p, int length, bool* negative,
+                         julong* w, int* q) {
+  const jchar* end = p + length;
+  // Same as String.trim()
+  while (p < end && *p <= ' ') {
+    p++;
+  }
+  while (p < end && end[-1] <= ' ') {
+    end--;
+  }
+
+  *negative = false;
+  if (p < end && (*p == '-' || *p == '+')) {
+    *negative = (*p == '-');
+    p++;
+  }
+
+  julong value = 0;
+  int n_digits = 0;
+  int exp10 = 0;
+  bool seen_digit = false;
+  bool seen_point = false;
+  for (; p < end; p++) {
+    const jchar c = *p;
+    if (c >= '0' && c <= '9') {
+      seen_digit = true;
+      if (value == 0 && c == '0') {
+        // A leading zero only moves the point
+        if (seen_point) {
+          exp10--;
+        }
+      } else if (n_digits < 19) {
+        value = value * 10 + (c - '0');
+        n_digits++;
+        if (seen_point) {
+          exp10--;
+        }
+      } else if (c != '0') {
+        return false;
+      } else if (!seen_point) {
+        exp10++;
+      }
+    } else if (c == '.' && !seen_point) {
+      seen_point = true;
+    } else {
+      break;
+    }
+  }
+  if (!seen_digit) {
+    return false;
+  }
+
+  if (p < end && (*p == 'e' || *p == 'E')) {
+    p++;
+    bool exp_negative = false;
+    if (p < end && (*p == '-' || *p == '+')) {
+      exp_negative = (*p == '-');
+      p++;
+    }
+    const jchar* exp_start = p;
+    int exp = 0;
+    while (p < end && *p >= '0' && *p <= '9') {
+      if (exp > 99999) {
+        return false;
+      }
+      exp = exp * 10 + (*p - '0');
+      p++;
+    }
+    if (p == exp_start) {
+      return false;
+    }
+    exp10 += exp_negative ? -exp : exp;
+  }
+
+  if (p < end) {
+    const jchar c = *p;
+    if (p != end - 1 ||
+        (c != 'f' && c != 'F' && c != 'd' && c != 'D')) {
+      return false;
+    }
+  }
+
+  *w = value;
+  *q = exp10;
+  return true;
+}
+
+/*
+ * Rounds w * 10^q, for w != 0, to mantissa_bits + 1 significant bits.
+ * Returns false if that cannot be decided from a 64-bit approximation,
+ * or if the result is subnormal or too large. On success, *bits holds
+ * the IEEE bits without the sign, for an exponent bias of bias.
+ */
+static bool to_binary(julong w, int q, int mantissa_bits, int bias,
+                      julong* bits) {
+  if (q < -341 || q > 308) {
+    return false;
+  }
+
+  int lz = 0;
+  while ((w & (JVM_ULL(1) << 63)) == 0) {
+    w <<= 1;
+    lz++;
+  }
+
+  // The value is p * 2^exp2 for the 189-bit product p = w * table[i].
+  // With an inexact table entry, the true product lies in [p, p + w)
+  // for positive q, and in (p - w, p) for negative q.
+  const julong* mul;
+  int exp2;
+  bool exact = false;
+  if (q >= 0) {
+    mul = pow5_split[q];
+    exp2 = pow5bits(q) - POW5_BITCOUNT + q - lz;
+    exact = (pow5bits(q) <= POW5_BITCOUNT);
+  } else {
+    mul = pow5_inv_split[-q];
+    exp2 = -(pow5bits(-q) - 1 + POW5_INV_BITCOUNT) + q - lz;
+  }
+  julong p0;
+  const julong a1 = umul128_high(w, mul[0], &p0);
+  julong b0;
+  const julong b1 = umul128_high(w, mul[1], &b0);
+  julong p1 = a1 + b0;
+  const julong p2 = b1 + (p1 < a1);
+
+  // Take the top 64 bits u of p; the product has 188 or 189 bits.
+  const int shift = ((p2 >> 60) != 0) ? 3 : 4;
+  const julong u = (p2 << shift) | (p1 >> (64 - shift));
+  const julong mid = p1 & ((JVM_ULL(1) << (64 - shift)) - 1);
+  exp2 += 128 - shift + 63;
+  if (!exact) {
+    // The error could carry into, or borrow from, u.
+    if ((q >= 0 && mid == (JVM_ULL(1) << (64 - shift)) - 1) ||
+        (q < 0 && mid == 0)) {
+      return false;
+    }
+  }
+
+  const int round_bits = 63 - mantissa_bits;
+  const julong half = JVM_ULL(1) << (round_bits - 1);
+  const julong rest = u & ((half << 1) - 1);
+  julong mantissa = u >> round_bits;
+  if (rest > half) {
+    mantissa++;
+  } else if (rest == half) {
+    if (exact && mid == 0 && p0 == 0) {
+      // Halfway: round to even
+      mantissa += (mantissa & 1);
+    } else if (q >= 0 && mid == 0 && p0 == 0) {
+      return false;
+    } else {
+      // Above halfway. For negative q, mid != 0 implies p - w > u * 2^s.
+      mantissa++;
+    }
+  }
+  if ((mantissa >> (mantissa_bits + 1)) != 0) {
+    mantissa >>= 1;
+    exp2++;
+  }
+
+  const int biased_exp = exp2 + bias;
+  if (biased_exp <= 0 || biased_exp >= 2 * bias + 1) {
+    return false;
+  }
+  *bits = ((julong)biased_exp << mantissa_bits) |
+          (mantissa & ((JVM_ULL(1) << mantissa_bits) - 1));
+  return true;
+}
+
+#ifdef __cplusplus
+extern "C" {
+#endif
+
+int jvm_double_to_chars(jlong bits, char* buf) {
+  const bool negative = (bits < 0);
+  const julong ieee_mantissa = (julong)bits & JVM_ULL(0x000FFFFFFFFFFFFF);
+  const juint ieee_exponent = (juint)((bits >> 52) & 0x7FF);
+
+  if (ieee_exponent == 0x7FF || (ieee_exponent == 0 && ieee_mantissa == 0)) {
+    return format_special(negative, ieee_mantissa != 0 && ieee_exponent != 0,
+                          ieee_exponent == 0, buf);
+  }
+
+  julong m2;
+  int e2;
+  if (ieee_exponent == 0) {
+    m2 = ieee_mantissa;
+    e2 = 1 - 1023 - 52 - 2;
+  } else {
+    m2 = ieee_mantissa | (JVM_ULL(1) << 52);
+    e2 = (int)ieee_exponent - 1023 - 52 - 2;
+  }
+  const juint mm_shift = (ieee_mantissa != 0 || ieee_exponent <= 1);
+  int e10;
+  const julong output = to_decimal(m2, e2, mm_shift, &e10);
+  return format_decimal(negative, output, e10, buf);
+}
+
+int jvm_float_to_chars(jint bits, char* buf) {
+  const bool negative = (bits < 0);
+  const juint ieee_mantissa = (juint)bits & 0x007FFFFF;
+  const juint ieee_exponent = ((juint)bits >> 23) & 0xFF;
+
+  if (ieee_exponent == 0xFF || (ieee_exponent == 0 && ieee_mantissa == 0)) {
+    return format_special(negative, ieee_mantissa != 0 && ieee_exponent != 0,
+                          ieee_exponent == 0, buf);
+  }
+
+  juint m2;
+  int e2;
+  if (ieee_exponent == 0) {
+    m2 = ieee_mantissa;
+    e2 = 1 - 127 - 23 - 2;
+  } else {
+    m2 = ieee_mantissa | (1 << 23);
+    e2 = (int)ieee_exponent - 127 - 23 - 2;
+  }
+  const juint mm_shift = (ieee_mantissa != 0 || ieee_exponent <= 1);
+  int e10;
+  const julong output = to_decimal(m2, e2, mm_shift, &e10);
+  return format_decimal(negative, output, e10, buf);
+}
+
+bool jvm_parse_double(const jchar* str, int length, jlong* result) {
+  bool negative;
+  julong w;
+  int q;
+  if (!scan_decimal(str, length, &negative, &w, &q)) {
+    return false;
+  }
+  julong bits = 0;
+  if (w != 0 && !to_binary(w, q, 52, 1023, &bits)) {
+    return false;
+  }
+  if (negative) {
+    bits |= JVM_ULL(1) << 63;
+  }
+  *result = (jlong)bits;
+  return true;
+}
+
+bool jvm_parse_float(const jchar* str, int length, jint* result) {
+  bool negative;
+  julong w;
+  int q;
+  if (!scan_decimal(str, length, &negative, &w, &q)) {
+    return false;
+  }
+  julong bits = 0;
+  if (w != 0 && !to_binary(w, q, 23, 127, &bits)) {
+    return false;
+  }
+  if (negative) {
+    bits |= (julong)1 << 31;
+  }
+  *result = (jint)bits;
+  return true;
+}
+
+#ifdef __cplusplus
+}
+#endif
+
+#endif // ENABLE_FLOAT
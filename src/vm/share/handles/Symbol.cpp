@@ -289,6 +289,70 @@ void Symbol::put_unicode_char(utf8 &p, jchar ch) {
   }
 }
 
+int Symbol::utf8_length(const jchar* chars, int length) {
+  int result = length;
+  for (const jchar* end = chars + length; chars < end; chars++) {
+    const jchar ch = *chars;
+    if ((ch == 0) || (ch > 0x7f)) {
+      result += (ch <= 0x7FF) ? 1 : 2;
+    }
+  }
+  return result;
+}
+
+void Symbol::put_unicode_chars(utf8 &p, const jchar* chars, int length) {
+  for (const jchar* end = chars + length; chars < end; chars++) {
+    const jchar ch = *chars;
+    if ((ch != 0) && (ch <=0x7f)) {
+      *p++ = (jubyte) ch;
+    } else {
+      put_unicode_char(p, ch);
+    }
+  }
+}
+
+int Symbol::get_unicode_chars(const jubyte* p, int length, jchar* chars) {
+  const jubyte* const end = p + length;
+  int count = 0;
+
+  while (p < end) {
+    const jubyte ch1 = *p++;
+    jchar value;
+    switch (ch1 >> 4) {
+    case 0x0: case 0x1: case 0x2: case 0x3:
+    case 0x4: case 0x5: case 0x6: case 0x7:
+      /* 0xxxxxxx */
+      value = ch1;
+      break;
+    case 0xC: case 0xD:
+      /* 110xxxxx  10xxxxxx */
+      if (p >= end || (p[0] & 0xC0) != 0x80) {
+        return -1;
+      }
+      value = (jchar) (((ch1 & 0x1F) << 6) | (p[0] & 0x3F));
+      p += 1;
+      break;
+    case 0xE:
+      /* 1110xxxx 10xxxxxx 10xxxxxx */
+      if (p + 1 >= end || (p[0] & 0xC0) != 0x80 || (p[1] & 0xC0) != 0x80) {
+        return -1;
+      }
+      value = (jchar) (((ch1 & 0x0F) << 12) | ((p[0] & 0x3F) << 6) |
+                       (p[1] & 0x3F));
+      p += 2;
+      break;
+    default:
+      /* 10xxxxxx, 1111xxxx */
+      return -1;
+    }
+    if (chars != NULL) {
+      chars[count] = value;
+    }
+    count++;
+  }
+  return count;
+}
+
 ReturnOop Symbol::copy_string_to_byte_array(OopDesc* str, bool slashify JVM_TRAPS) {
   // Speculatively allocate 4 bytes per jchar, in any case more than
   // the maximum possible space needed for UTF-8 conversion.
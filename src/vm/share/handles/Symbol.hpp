@@ -74,6 +74,14 @@ class Symbol: public Oop {
   }
   static ReturnOop copy_string_to_byte_array(OopDesc* string, bool slashify JVM_TRAPS);
 
+  // Modified UTF-8 conversion of raw characters, in the format of
+  // DataInput.readUTF() and DataOutput.writeUTF().
+  static int utf8_length(const jchar* chars, int length);
+  static void put_unicode_chars(utf8 &p, const jchar* chars, int length);
+  // Returns the number of chars decoded, or -1 if the bytes are malformed.
+  // If <chars> is NULL the chars are only counted.
+  static int get_unicode_chars(const jubyte* p, int length, jchar* chars);
+
   // Returns unbounded equality hash value
   juint hash(void) const;
 
@@ -417,6 +417,7 @@ private:
   template(class_list,                           ObjArray)            \
   template(mirror_list,                          ObjArray)            \
   template(blocked_threads_buffer,               TypeArray)           \
+  template(scheduler_timers,                     ObjArray)            \
   template(gc_block_stackmap,                    TypeArray)           \
   template(inlined_stackmaps,                    StackmapList)        \
   template(verifier_stackmap_cache,              TypeArray)           \
@@ -304,6 +304,175 @@ jint Java_com_sun_cldc_isolate_Link_nativeCreateLinkId() {
   return ++_linkIdGenerator;
 }
 
+// private native void open0(Isolate receiver, int capacity);
+void Java_com_sun_cldc_isolate_Link_open0(JVM_SINGLE_ARG_TRAPS) {
+  UsingFastOops fast_oops;
+  LinkObj::Fast link = GET_PARAMETER_AS_OOP(0);
+  IsolateObj::Fast isolate = GET_PARAMETER_AS_OOP(1);
+  const jint capacity = KNI_GetParameterAsInt(2);
+
+  Task::Fast receiver_task = isolate().task();
+  if (receiver_task.is_null() ||
+      receiver_task().status() != Task::TASK_STARTED) {
+    Throw::isolate_state_exception(isolate_not_started JVM_THROW);
+  }
+  const int receiver = receiver_task().task_id();
+
+  // The receiving end and its queue are allocated by the receiver, so
+  // that the receiver pays for the links it is given.
+  LinkObj::Fast peer;
+  ObjArray::Fast messages;
+  {
+    InstanceClass::Fast link_class = link().blueprint();
+    const int prev = ObjectHeap::on_task_switch( receiver );
+    peer = Universe::new_instance(&link_class JVM_NO_CHECK);
+    if (peer.not_null()) {
+      messages = Universe::new_obj_array(capacity JVM_NO_CHECK);
+    }
+    ObjectHeap::on_task_switch( prev );
+    JVM_DELAYED_CHECK;
+  }
+
+  const int sender = Task::current_id();
+  link().set_sender(sender);
+  link().set_receiver(receiver);
+  link().set_peer(&peer);
+  peer().set_id(link().id());
+  peer().set_sender(sender);
+  peer().set_receiver(receiver);
+  peer().set_peer(&link);
+  peer().set_messages(&messages);
+
+  Task::current()->add_link(&link);
+  receiver_task().add_link(&peer);
+
+  // Wake up threads of the receiver waiting in Link.acceptLink()
+  IsolateObj::Fast primary = receiver_task().primary_isolate_obj();
+  Scheduler::notify(&primary, /*all=*/true, /*must_be_owner=*/false
+                    JVM_NO_CHECK_AT_BOTTOM);
+}
+
+// Returns the oldest receiving end of the current task that has not been
+// accepted yet, or waits on the primary Isolate object of the current task
+// and returns NULL.
+//
+// private static native Link accept0(Isolate self) 
+//     throws InterruptedException;
+ReturnOop Java_com_sun_cldc_isolate_Link_accept0(JVM_SINGLE_ARG_TRAPS) {
+  UsingFastOops fast_oops;
+  LinkObj::Fast link, found;
+
+  for (link = Task::current()->links(); link.not_null(); link = link().next()) {
+    if (link().is_receiving_end() && !link().is_accepted()) {
+      found = link.obj();
+    }
+  }
+  if (found.not_null()) {
+    found().set_is_accepted(1);
+    if (found().is_closed()) {
+      // Only kept in the list to be accepted
+      found().remove_from_task();
+    }
+    return found.obj();
+  }
+
+  IsolateObj::Fast self = GET_PARAMETER_AS_OOP(1);
+  Scheduler::wait(&self, 0 JVM_NO_CHECK_AT_BOTTOM_0);
+  return NULL;
+}
+
+// Queues a message in the receiving end, or waits on the sending end
+// for room in the queue and returns false.
+//
+// private synchronized native boolean send0(byte[] data) 
+//     throws InterruptedException;
+jint Java_com_sun_cldc_isolate_Link_send0(JVM_SINGLE_ARG_TRAPS) {
+  UsingFastOops fast_oops;
+  LinkObj::Fast link = GET_PARAMETER_AS_OOP(0);
+  TypeArray::Fast data = GET_PARAMETER_AS_OOP(1);
+
+  if (link().is_closed()) {
+    Throw::isolate_state_exception(link_closed JVM_THROW_0);
+  }
+
+  LinkObj::Fast peer = link().peer();
+  ObjArray::Fast messages = peer().messages();
+  const int capacity = messages().length();
+  const int count = peer().count();
+  if (count < capacity) {
+    // Queued messages count against the memory limit of the receiver
+    const int receiver = link().receiver();
+    const unsigned limit = ObjectHeap::get_task_memory_limit( receiver );
+    const unsigned used = ObjectHeap::get_task_memory_estimate( receiver ) +
+                          unsigned(peer().pending_bytes());
+    const jint length = data().length();
+    if (used <= limit && unsigned(length) <= limit - used) {
+      // The message is handed over by reference
+      int tail = peer().head() + count;
+      if (tail >= capacity) {
+        tail -= capacity;
+      }
+      messages().obj_at_put(tail, &data);
+      peer().set_count(count + 1);
+      peer().set_pending_bytes(peer().pending_bytes() + length);
+      Scheduler::notify(&peer, /*all=*/true, /*must_be_owner=*/false
+                        JVM_NO_CHECK_AT_BOTTOM_0);
+      return true;
+    }
+    if (count == 0) {
+      // The message would not fit even in an empty queue
+      Throw::isolate_resource_error(link_message_too_large JVM_THROW_0);
+    }
+  }
+
+  Scheduler::wait(&link, 0 JVM_NO_CHECK_AT_BOTTOM_0);
+  return false;
+}
+
+// Takes the next message from the receiving end, or waits for a message
+// and returns NULL.
+//
+// private synchronized native byte[] receive0() 
+//     throws InterruptedException;
+ReturnOop Java_com_sun_cldc_isolate_Link_receive0(JVM_SINGLE_ARG_TRAPS) {
+  UsingFastOops fast_oops;
+  LinkObj::Fast link = GET_PARAMETER_AS_OOP(0);
+
+  const int count = link().count();
+  if (count == 0) {
+    if (link().is_closed()) {
+      Throw::isolate_state_exception(link_closed JVM_THROW_0);
+    }
+    Scheduler::wait(&link, 0 JVM_NO_CHECK_AT_BOTTOM_0);
+    return NULL;
+  }
+
+  ObjArray::Fast messages = link().messages();
+  const int head = link().head();
+  TypeArray::Fast data = messages().obj_at(head);
+  messages().obj_at_clear(head);
+  link().set_head(head + 1 < messages().length() ? head + 1 : 0);
+  link().set_count(count - 1);
+  link().set_pending_bytes(link().pending_bytes() - data().length());
+
+  // Wake up senders waiting for room in the queue
+  LinkObj::Fast peer = link().peer();
+  if (peer.not_null()) {
+    Scheduler::notify(&peer, /*all=*/true, /*must_be_owner=*/false
+                      JVM_CHECK_0);
+  }
+  return data.obj();
+}
+
+// private native void close0();
+void Java_com_sun_cldc_isolate_Link_close0(JVM_SINGLE_ARG_TRAPS) {
+  UsingFastOops fast_oops;
+  LinkObj::Fast link = GET_PARAMETER_AS_OOP(0);
+  if (!link().is_closed()) {
+    link().close(JVM_SINGLE_ARG_NO_CHECK_AT_BOTTOM);
+  }
+}
+
 void Java_com_sun_cldc_isolate_Isolate_setProfile(JVM_SINGLE_ARG_TRAPS) {
 #if ENABLE_MULTIPLE_PROFILES_SUPPORT
   UsingFastOops fast_oops;  
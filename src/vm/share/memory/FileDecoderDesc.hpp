@@ -36,6 +36,12 @@ private:
   Buffer*     _distance_buffer;
 
   OsFile_Handle  _file_handle;
+#if USE_JAR_FILE_MAPPING
+  // Read-only mapping of the JAR file, or NULL. Like _file_handle, it is
+  // refreshed from the active JarFileParser before each read.
+  address        _mapped_address;
+  int            _mapped_length;
+#endif
   int            _file_pos;
   int            _file_size;
   int            _bytes_remain;
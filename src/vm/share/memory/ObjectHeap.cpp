@@ -803,6 +803,13 @@ size_t    ObjectHeap::_old_gen_size_before;
 size_t    ObjectHeap::_young_gen_size_before;
 #endif
 
+jlong     ObjectHeap::_adaptive_collect_start_time;
+jlong     ObjectHeap::_adaptive_collect_end_time;
+int       ObjectHeap::_adaptive_pause_average;
+int       ObjectHeap::_adaptive_cost_average;
+int       ObjectHeap::_adaptive_survival_average;
+int       ObjectHeap::_adaptive_gc_time_average;
+
 #ifndef PRODUCT
 OopDesc** ObjectHeap::_heap_start_bitvector_verify;
 int       ObjectHeap::_excessive_gc_countdown;
@@ -1663,6 +1670,9 @@ void ObjectHeap::dispose( void ) {
     MemoryMonitor::notify_heap_disposed();
   }
 #endif
+#if USE_INCREMENTAL_MARKING
+  abort_incremental_marking(NULL);
+#endif
 
   _inline_allocation_top = NULL;
   set_inline_allocation_end(NULL);
@@ -1705,6 +1715,11 @@ void ObjectHeap::dispose( void ) {
   _near_mask         = 0;
   _slice_offset_mask = 0;
   _young_generation_target_size = 0;
+  _adaptive_collect_end_time = 0;
+  _adaptive_pause_average = 0;
+  _adaptive_cost_average = 0;
+  _adaptive_survival_average = 0;
+  _adaptive_gc_time_average = 0;
 
   _marking_stack_start   = NULL;
   _marking_stack_top     = NULL;
@@ -2078,8 +2093,7 @@ bool ObjectHeap::adjust_heap_size(size_t target_heap_size) {
   _bitvector_base =
       _bitvector_start - (((uintptr_t)_heap_start >> 2) / BitsPerByte);
 
-  _young_generation_target_size = 
-     align_size_up(_heap_size/YoungGenerationTarget, BytesPerWord);
+  set_young_generation_target_size(_heap_size);
   if (is_new_heap) {
     LargeObject::initialize((LargeObject*)heap_top);
     // set allocation area to cover entire heap while bootstrapping, see
@@ -2398,6 +2412,19 @@ inline void ObjectHeap::mark_objects( const bool is_full_collect ) {
   }
 #endif
 
+#if USE_PARALLEL_MARKING
+  const int marking_threads = is_full_collect ? parallel_marking_threads() : 1;
+  _defer_marking = marking_threads > 1;
+  _parallel_marking_threads = 0;
+#endif
+
+#if USE_INCREMENTAL_MARKING
+  if( is_full_collect && _incremental_marking_active ) {
+    // Remark the objects already marked at thread switches
+    finish_incremental_marking();
+  }
+#endif
+
   // Mark roots
   roots_do_to( mark_root_and_stack, !is_full_collect, upb );
 
@@ -2408,6 +2435,13 @@ inline void ObjectHeap::mark_objects( const bool is_full_collect ) {
     // Mark "young generation" objects referred from "old generation"
     mark_remembered_set();
   }
+#if USE_PARALLEL_MARKING
+  if( _defer_marking ) {
+    // Follow the roots marked above with several threads. The rest of
+    // the marking is done by this thread only.
+    mark_in_parallel( marking_threads );
+  }
+#endif
 #if USE_SOFT_REFERENCES
   // Mark soft referenced objects
   mark_soft_refs(is_full_collect);
@@ -2505,6 +2539,669 @@ void ObjectHeap::check_marking_stack_overflow() {
   }
 }
 
+#if USE_PARALLEL_MARKING
+// Parallel marking of full collections.
+//
+// The roots are marked and pushed on the marking stack without being
+// followed (see mark_root_and_stack()). The free space above them is then
+// split between the marking threads: each thread claims roots one at a
+// time, pushes the objects it marks on its own deque and pops them from
+// the bottom, and steals from the top of the other deques when it runs
+// out of work. Marking bits are set with an atomic OR.
+//
+// Execution stacks, compiled methods and debugger ref nodes are not
+// scanned by the marking threads, because walking them is not
+// thread-safe. They are queued and scanned by the VM thread after the
+// round, which pushes new roots for another round if needed.
+//
+// An object that does not fit in a deque stays marked but unscanned, and
+// is picked up by check_marking_stack_overflow() as in serial marking.
+
+enum {
+  MaxMarkingThreads   = 16,
+  MinMarkingDequeSize = 256,
+  IdleMarkingSpins    = 64     // Failed scans before an idle thread yields
+};
+
+class MarkingDeque {
+ public:
+  void initialize(OopDesc** base, const int capacity) {
+    GUARANTEE(is_power_of_2(capacity), "Capacity must be a power of 2");
+    _base   = base;
+    _mask   = capacity - 1;
+    _top    = 0;
+    _bottom = 0;
+  }
+
+  bool is_empty(void) const {
+    return _bottom - _top <= 0;
+  }
+
+  // Called by the owner only
+  bool push(OopDesc* obj) {
+    const int bottom = _bottom;
+    if (bottom - _top > _mask) {
+      return false;
+    }
+    _base[bottom & _mask] = obj;
+    __sync_synchronize();
+    _bottom = bottom + 1;
+    return true;
+  }
+
+  // Called by the owner only
+  OopDesc* pop(void) {
+    const int bottom = _bottom - 1;
+    _bottom = bottom;
+    __sync_synchronize();
+    const int top = _top;
+    if (bottom < top) {
+      _bottom = top;
+      return NULL;
+    }
+    OopDesc* obj = _base[bottom & _mask];
+    if (bottom > top) {
+      return obj;
+    }
+    // Last entry: a thief may be taking it as well
+    if (!__sync_bool_compare_and_swap(&_top, top, top + 1)) {
+      obj = NULL;
+    }
+    _bottom = top + 1;
+    return obj;
+  }
+
+  OopDesc* steal(void) {
+    const int top = _top;
+    __sync_synchronize();
+    const int bottom = _bottom;
+    if (bottom - top <= 0) {
+      return NULL;
+    }
+    OopDesc* obj = _base[top & _mask];
+    if (!__sync_bool_compare_and_swap(&_top, top, top + 1)) {
+      return NULL;
+    }
+    return obj;
+  }
+
+ private:
+  OopDesc**    _base;
+  int          _mask;
+  volatile int _top;          // Next entry to steal
+  volatile int _bottom;       // Next free entry
+  int          _padding[12];  // Keep deques in separate cache lines
+};
+
+bool ObjectHeap::_defer_marking;
+int  ObjectHeap::_parallel_marking_threads;
+
+static MarkingDeque  marking_deques[MaxMarkingThreads];
+static __thread MarkingDeque* current_marking_deque;
+
+static OopDesc**     marking_roots;
+static int           marking_root_count;
+static volatile int  marking_roots_claimed;
+static volatile int  idle_marking_threads;
+
+static OopDesc**     deferred_objects;
+static int           deferred_capacity;
+static volatile int  deferred_count;
+
+int ObjectHeap::parallel_marking_threads( void ) {
+  if( !UseParallelMarking || TraceGC ) {
+    return 1;
+  }
+#if ENABLE_REMOTE_TRACER
+  if( RemoteTracePort > 0 ) {
+    return 1;
+  }
+#endif
+  // More threads than processors would only make the idle ones compete
+  // with the busy ones, so a uniprocessor always marks serially.
+  const int processors = Os::processor_count();
+  int count = ParallelMarkingThreads;
+  if( count <= 0 || count > processors ) {
+    count = processors;
+  }
+  return min(count, MaxMarkingThreads);
+}
+
+inline bool ObjectHeap::atomic_test_and_set_bit_for(OopDesc** p,
+                                                    address bitvector_base) {
+  const unsigned i = oop_index(p);
+  unsigned* const word = &bitvector_word( i, bitvector_base );
+  const unsigned mask = bitvector_bit_mask( i );
+  if( *word & mask ) {
+    return true;
+  }
+  return (__sync_fetch_and_or(word, mask) & mask) != 0;
+}
+
+void ObjectHeap::parallel_mark_and_push(OopDesc** p) {
+  OopDesc** const obj = (OopDesc**) *p;
+  if( _collection_area_start <= obj && obj < mark_area_end()
+      && !atomic_test_and_set_bit_for(obj, _bitvector_base) ) {
+    if( !current_marking_deque->push((OopDesc*)obj) ) {
+      _marking_stack_overflow = true;
+    }
+  }
+}
+
+void ObjectHeap::parallel_scan(OopDesc* obj) {
+  GUARANTEE(test_bit_for((OopDesc**) obj), "Pushed objects should be marked");
+  // Follow near pointer
+  parallel_mark_and_push(&(obj->_klass));
+
+  FarClassDesc* const blueprint = obj->blueprint();
+  const jint instance_size = blueprint->instance_size_as_jint();
+  if( instance_size > 0 ) {
+    // Java object instance, see continue_marking()
+    OopDesc** const collection_area_start = _collection_area_start;
+    OopDesc** const heap_top              = mark_area_end();
+    address   const bitvector_base        = _bitvector_base;
+    MarkingDeque* const deque             = current_marking_deque;
+
+    const jbyte* map = (jbyte*)blueprint->embedded_oop_map();
+    OopDesc** p = (OopDesc**)obj;
+    for (;;) {
+      const jint entry = (jint)(*map++);
+      if (entry > 0) {
+        p += entry;
+        OopDesc** const o = (OopDesc**)*p;
+        if (collection_area_start <= o && o < heap_top &&
+            !atomic_test_and_set_bit_for(o, bitvector_base) &&
+            !deque->push((OopDesc*)o)) {
+          _marking_stack_overflow = true;
+        }
+      } else if (entry == 0) {
+        break;
+      } else {
+        GUARANTEE((entry & 0xff) == OopMapEscape, "sanity")
+        p += (OopMapEscape - 1);
+      }
+    }
+    return;
+  }
+
+  switch( instance_size ) {
+  case InstanceSize::size_execution_stack:
+  case InstanceSize::size_refnode:
+#if USE_COMPILER_STRUCTURES
+  case InstanceSize::size_compiled_method:
+#endif
+    {
+      // Leave it to the VM thread
+      const int i = __sync_fetch_and_add(&deferred_count, 1);
+      if( i < deferred_capacity ) {
+        deferred_objects[i] = obj;
+      } else {
+        _marking_stack_overflow = true;
+      }
+    }
+    return;
+  }
+  obj->oops_do_for(blueprint, parallel_mark_and_push);
+}
+
+static OopDesc* steal_marking_work(const int worker, const int worker_count) {
+  for( int i = 1; i < worker_count; i++ ) {
+    OopDesc* obj = marking_deques[(worker + i) % worker_count].steal();
+    if( obj != NULL ) {
+      return obj;
+    }
+  }
+  return NULL;
+}
+
+// Returns true when all marking threads are out of work. Returns false if
+// another thread still has work that may be stolen. An idle thread yields
+// the processor every IdleMarkingSpins scans, so that it doesn't keep a
+// busy thread from running when there are fewer processors than threads.
+static bool marking_threads_done(const int worker_count) {
+  __sync_fetch_and_add(&idle_marking_threads, 1);
+  for( int spins = 1; ; spins++ ) {
+    if( idle_marking_threads == worker_count ) {
+      return true;
+    }
+    for( int i = 0; i < worker_count; i++ ) {
+      if( !marking_deques[i].is_empty() ) {
+        __sync_fetch_and_sub(&idle_marking_threads, 1);
+        return false;
+      }
+    }
+    if( spins % IdleMarkingSpins == 0 ) {
+      Os::yield_gc_worker();
+    }
+  }
+}
+
+void ObjectHeap::parallel_marking_worker(int worker, int worker_count) {
+  MarkingDeque* const deque = marking_deques + worker;
+  current_marking_deque = deque;
+
+  for (;;) {
+    OopDesc* obj;
+    while( (obj = deque->pop()) != NULL ) {
+      parallel_scan(obj);
+    }
+    const int root = __sync_fetch_and_add(&marking_roots_claimed, 1);
+    if( root < marking_root_count ) {
+      parallel_scan(marking_roots[root]);
+      continue;
+    }
+    obj = steal_marking_work(worker, worker_count);
+    if( obj != NULL ) {
+      parallel_scan(obj);
+      continue;
+    }
+    if( marking_threads_done(worker_count) ) {
+      break;
+    }
+  }
+  current_marking_deque = NULL;
+}
+
+void ObjectHeap::mark_in_parallel(int thread_count) {
+  while( _marking_stack_top > _marking_stack_start ) {
+    OopDesc** const roots_end = _marking_stack_top;
+    const int free_words = _marking_stack_end - roots_end;
+
+    deferred_capacity = free_words / 8;
+    int capacity = (free_words - deferred_capacity) / thread_count;
+    if( capacity < MinMarkingDequeSize ) {
+      // No room for the deques, the roots left are followed below
+      break;
+    }
+    while( !is_power_of_2(capacity) ) {
+      capacity &= capacity - 1;
+    }
+
+    deferred_objects = _marking_stack_end - deferred_capacity;
+    deferred_count = 0;
+    OopDesc** base = roots_end;
+    for( int i = 0; i < thread_count; i++ ) {
+      marking_deques[i].initialize(base, capacity);
+      base += capacity;
+    }
+    marking_roots = _marking_stack_start;
+    marking_root_count = roots_end - _marking_stack_start;
+    marking_roots_claimed = 0;
+    idle_marking_threads = 0;
+
+    _parallel_marking_threads =
+        Os::run_gc_workers(parallel_marking_worker, thread_count);
+
+    // Scan the objects left to this thread. The objects they refer to
+    // become the roots of the next round.
+    const int count = min(deferred_count, deferred_capacity);
+    OopDesc** const marking_stack_end = _marking_stack_end;
+    _marking_stack_top = _marking_stack_start;
+    _marking_stack_end = deferred_objects;
+    for( int i = 0; i < count; i++ ) {
+      OopDesc* obj = deferred_objects[i];
+      obj->oops_do_for(obj->blueprint(), mark_root_and_stack);
+    }
+    _marking_stack_end = marking_stack_end;
+  }
+
+  _defer_marking = false;
+  continue_marking();
+}
+#endif // USE_PARALLEL_MARKING
+
+#if USE_INCREMENTAL_MARKING
+// Incremental marking of the old generation.
+//
+// Once the old generation takes IncrementalMarkingThreshold percent of the
+// heap, a young collection marks the old objects referred to by the roots
+// in a separate bit vector. The objects reachable from them are marked
+// at thread switches, IncrementalMarkingStep objects at a time. Objects
+// promoted by later young collections are marked as a whole, as they are
+// found in the old generation.
+//
+// While marking is active, the write barrier records every pointer store
+// into the old generation, not only those of younger objects. Before a
+// collection consumes the write barrier bits, the objects the recorded
+// slots point to are marked as well (see harvest_write_barrier()).
+//
+// When there is nothing left to mark, the next collection is a full one.
+// It copies the incremental marks into the bit vector, rescans the
+// objects that may have changed without the write barrier, and marks
+// from the roots as usual, which only has to follow what was changed
+// meanwhile. Compaction is done as before.
+//
+// Only instances, arrays and symbols are taken as completely marked. The
+// other objects are changed by the VM directly, or are execution stacks
+// that can only be walked during a collection, so they are rescanned.
+// Any change of the heap layout makes the marking be given up.
+
+class IncrementalMarkingStack {
+ public:
+  bool is_empty(void) const {
+    return _top == 0;
+  }
+  int length(void) const {
+    return _top;
+  }
+  OopDesc* at(const int index) const {
+    return _base[index];
+  }
+  OopDesc* pop(void) {
+    return _base[--_top];
+  }
+  bool push(OopDesc* obj) {
+    if( _top == _capacity && !grow() ) {
+      return false;
+    }
+    _base[_top++] = obj;
+    return true;
+  }
+  void dispose(void) {
+    if( _base != NULL ) {
+      OsMemory_free(_base);
+    }
+    _base = NULL;
+    _top = 0;
+    _capacity = 0;
+  }
+
+ private:
+  bool grow(void) {
+    const int capacity = _capacity ? _capacity * 2 : 1024;
+    OopDesc** const base =
+      (OopDesc**)OsMemory_allocate(capacity * sizeof(OopDesc*));
+    if( base == NULL ) {
+      return false;
+    }
+    if( _base != NULL ) {
+      jvm_memcpy(base, _base, _top * sizeof(OopDesc*));
+      OsMemory_free(_base);
+    }
+    _base = base;
+    _capacity = capacity;
+    return true;
+  }
+
+  OopDesc** _base;
+  int       _top;
+  int       _capacity;
+};
+
+// Objects marked but not scanned yet
+static IncrementalMarkingStack incremental_grey_objects;
+// Objects to be scanned again by the full collection
+static IncrementalMarkingStack incremental_rescan_objects;
+
+bool      ObjectHeap::_incremental_marking_active;
+bool      ObjectHeap::_incremental_marking_complete;
+bool      ObjectHeap::_incremental_marking_overflow;
+bool      ObjectHeap::_incremental_rescan;
+address   ObjectHeap::_incremental_bitvector;
+address   ObjectHeap::_incremental_bitvector_base;
+OopDesc** ObjectHeap::_incremental_heap_start;
+OopDesc** ObjectHeap::_incremental_marking_limit;
+OopDesc** ObjectHeap::_incremental_scan_top;
+
+void ObjectHeap::start_incremental_marking(void) {
+  OopDesc** const heap_start = align_down(_heap_start);
+  const size_t size =
+    align_size_up((_heap_capacity / BytesPerWord + BitsPerWord) / BitsPerByte,
+                  BytesPerWord);
+  address const bitvector = (address)OsMemory_allocate(size);
+  if( bitvector == NULL ) {
+    return;
+  }
+  jvm_memset(bitvector, 0, size);
+
+  _incremental_bitvector = bitvector;
+  _incremental_bitvector_base = bitvector -
+    ((uintptr_t)heap_start >> (LogBytesPerWord + LogBitsPerByte));
+  _incremental_heap_start = _heap_start;
+  _incremental_marking_limit = DERIVED(OopDesc**, _heap_start, _heap_capacity);
+  _incremental_scan_top = _old_generation_end;
+  _incremental_marking_overflow = false;
+  _incremental_marking_complete = false;
+  _incremental_marking_active = true;
+
+#if ENABLE_COMPILER
+  const int upb = CompiledMethodCache::upb;
+#else
+  const int upb = -1;
+#endif
+  roots_do_to( incremental_mark_and_push, false, upb );
+  ROM::oops_do( incremental_mark_and_push, true, false );
+
+  if( _incremental_marking_overflow ) {
+    abort_incremental_marking("out of memory");
+    return;
+  }
+  if( VerboseGC ) {
+    TTY_TRACE_CR(("[incremental marking started, %d roots]",
+                  incremental_grey_objects.length()));
+  }
+}
+
+void ObjectHeap::abort_incremental_marking(const char* reason) {
+  if( !_incremental_marking_active ) {
+    return;
+  }
+  if( VerboseGC && reason != NULL ) {
+    TTY_TRACE_CR(("[incremental marking aborted, %s]", reason));
+  }
+  incremental_grey_objects.dispose();
+  incremental_rescan_objects.dispose();
+  OsMemory_free(_incremental_bitvector);
+  _incremental_bitvector = NULL;
+  _incremental_bitvector_base = NULL;
+  _incremental_marking_complete = false;
+  _incremental_marking_active = false;
+}
+
+bool ObjectHeap::incremental_marking_valid(void) {
+  return !_incremental_marking_overflow
+      && _heap_start == _incremental_heap_start
+      && _incremental_scan_top <= _old_generation_end
+      && _old_generation_end <= _incremental_marking_limit;
+}
+
+void ObjectHeap::incremental_mark_and_push(OopDesc** p) {
+  OopDesc** const obj = (OopDesc**)*p;
+  if( _heap_start <= obj && obj < _old_generation_end ) {
+    if( !test_and_set_bit_for(obj, _incremental_bitvector_base) &&
+        !incremental_grey_objects.push((OopDesc*)obj) ) {
+      _incremental_marking_overflow = true;
+    }
+  } else if( _old_generation_end <= obj && obj < mark_area_end() ) {
+    // Young objects are found by the full collection
+    _incremental_rescan = true;
+  }
+}
+
+void ObjectHeap::incremental_scan(OopDesc* obj) {
+  FarClassDesc* const blueprint = obj->blueprint();
+  const jint instance_size = blueprint->instance_size_as_jint();
+  bool java_object;
+
+  switch( instance_size ) {
+  case InstanceSize::size_execution_stack:
+  case InstanceSize::size_compiled_method:
+    // Frames can only be walked during a collection
+    if( !incremental_rescan_objects.push(obj) ) {
+      _incremental_marking_overflow = true;
+    }
+    return;
+  case InstanceSize::size_obj_array:
+  case InstanceSize::size_type_array_1:
+  case InstanceSize::size_type_array_2:
+  case InstanceSize::size_type_array_4:
+  case InstanceSize::size_type_array_8:
+    java_object = true;
+    break;
+  default:
+    java_object = instance_size > 0;
+  }
+
+  const bool rescan = !java_object &&
+                      instance_size != InstanceSize::size_symbol;
+  bool stack_locked = false;
+  if( java_object ) {
+    // The near of a locked object is a stack lock
+    JavaNear::Raw near = obj->klass();
+    stack_locked = near().is_locked();
+  }
+
+  _incremental_rescan = false;
+  if( !stack_locked ) {
+    incremental_mark_and_push(&obj->_klass);
+  }
+  obj->oops_do_for(blueprint, incremental_mark_and_push);
+  if( (rescan || stack_locked || _incremental_rescan) &&
+      !incremental_rescan_objects.push(obj) ) {
+    _incremental_marking_overflow = true;
+  }
+}
+
+void ObjectHeap::incremental_marking_step(void) {
+  if( _incremental_marking_complete ) {
+    return;
+  }
+  if( !incremental_marking_valid() ) {
+    abort_incremental_marking("heap changed");
+    return;
+  }
+
+  OopDesc** p = _incremental_scan_top;
+  OopDesc** const old_generation_end = _old_generation_end;
+  for( int budget = IncrementalMarkingStep; budget > 0; budget-- ) {
+    if( !incremental_grey_objects.is_empty() ) {
+      incremental_scan(incremental_grey_objects.pop());
+    } else if( p < old_generation_end ) {
+      // Promoted objects are taken as live
+      OopDesc* const obj = (OopDesc*)p;
+      p = DERIVED(OopDesc**, p, obj->object_size());
+      if( !test_and_set_bit_for((OopDesc**)obj, _incremental_bitvector_base) ) {
+        incremental_scan(obj);
+      }
+    } else {
+      _incremental_marking_complete = true;
+      break;
+    }
+  }
+  _incremental_scan_top = p;
+
+  if( _incremental_marking_overflow ) {
+    abort_incremental_marking("out of memory");
+  } else if( _incremental_marking_complete && VerboseGC ) {
+    TTY_TRACE_CR(("[incremental marking done, %d objects to rescan]",
+                  incremental_rescan_objects.length()));
+  }
+}
+
+void ObjectHeap::harvest_write_barrier(const bool is_full_collect) {
+  OopDesc** const start = _heap_start;
+  OopDesc** const end   = _old_generation_end;
+  OopDesc** const heap_top = mark_area_end();
+
+  OopDesc** p = align_down(start);
+  juint* bitp = get_bitvectorword_for_aligned(p);
+  for( ; p < end; bitp++, p += BitsPerWord ) {
+    juint bitword = *bitp;
+    for( int i = 0; bitword != 0; ) {
+      if( (bitword & 0xFF) == 0 ) {
+        bitword >>= 8;
+        i += 8;
+        continue;
+      }
+      OopDesc** const slot = p + i;
+      if( (bitword & 1) && start <= slot && slot < end ) {
+        OopDesc** const obj = (OopDesc**)*slot;
+        if( start <= obj && obj < end ) {
+          if( !test_and_set_bit_for(obj, _incremental_bitvector_base) &&
+              !incremental_grey_objects.push((OopDesc*)obj) ) {
+            _incremental_marking_overflow = true;
+          }
+        } else if( is_full_collect && end <= obj && obj < heap_top ) {
+          // Marked from the remark, see finish_incremental_marking()
+          if( !incremental_grey_objects.push((OopDesc*)obj) ) {
+            _incremental_marking_overflow = true;
+          }
+        }
+      }
+      bitword >>= 1;
+      i++;
+    }
+  }
+}
+
+void ObjectHeap::incremental_marking_prologue(const bool is_full_collect) {
+  if( _incremental_marking_active ) {
+    if( !incremental_marking_valid() ) {
+      abort_incremental_marking("heap changed");
+      return;
+    }
+    // The write barrier bits are about to be consumed (young collection)
+    // or cleared (full collection)
+    harvest_write_barrier(is_full_collect);
+    if( _incremental_marking_overflow ) {
+      abort_incremental_marking("out of memory");
+    }
+  } else if( !is_full_collect && UseIncrementalMarking &&
+             !YoungGenerationAtEndOfHeap && !GenerateROMImage ) {
+    const size_t old_size = DISTANCE(_heap_start, _old_generation_end);
+    if( old_size >= _heap_size / 100 * IncrementalMarkingThreshold ) {
+      start_incremental_marking();
+    }
+  }
+}
+
+void ObjectHeap::finish_incremental_marking(void) {
+  GUARANTEE(_collection_area_start == _heap_start, "Full collections only");
+
+  // Take over the incremental marks
+  {
+    OopDesc** p = align_down(_heap_start);
+    juint* bitp = get_bitvectorword_for_aligned(p);
+    juint* incremental_bitp = DERIVED(juint*, _incremental_bitvector_base,
+      ((uintptr_t)p) >> (LogBytesPerWord + LogBitsPerByte));
+    for( ; p < _old_generation_end; p += BitsPerWord ) {
+      *bitp++ |= *incremental_bitp++;
+    }
+  }
+
+  // Follow the objects that may have changed without the write barrier
+  {
+    const int count = incremental_rescan_objects.length();
+    for( int i = 0; i < count; i++ ) {
+      mark_and_stack_root_and_interior_pointers(
+        (OopDesc**)incremental_rescan_objects.at(i));
+    }
+  }
+
+  // Follow the objects left unscanned
+  while( !incremental_grey_objects.is_empty() ) {
+    OopDesc* obj = incremental_grey_objects.pop();
+    if( (OopDesc**)obj < _old_generation_end ) {
+      mark_and_stack_root_and_interior_pointers((OopDesc**)obj);
+    } else {
+      mark_root_and_stack(&obj);
+    }
+  }
+  {
+    OopDesc** p = _incremental_scan_top;
+    OopDesc** const old_generation_end = _old_generation_end;
+    while( p < old_generation_end ) {
+      if( !test_and_set_bit_for(p) ) {
+        mark_and_stack_root_and_interior_pointers(p);
+      }
+      p = DERIVED(OopDesc**, p, ((OopDesc*)p)->object_size());
+    }
+  }
+
+  abort_incremental_marking(NULL);
+}
+#endif // USE_INCREMENTAL_MARKING
+
 void ObjectHeap::mark_forward_pointer(OopDesc** p) {
   GUARANTEE(p >= _collection_area_start && p < _inline_allocation_top,"Sanity");
   OopDesc** obj = (OopDesc**)(*p);
@@ -3447,6 +4144,12 @@ void ObjectHeap::collect(size_t min_free_after_collection JVM_TRAPS) {
   GUARANTEE(AllocationDisabler::allocation_okay(),
             "Allocation must be enabled");
 
+#if USE_INCREMENTAL_MARKING
+  if( _incremental_marking_complete ) {
+    force_full_collect();
+  }
+#endif
+
 #if ENABLE_ISOLATES
   #define DETECT_QUOTA_VIOLATIONS \
     violations = detect_out_of_memory_tasks(min_free_after_collection);
@@ -3632,6 +4335,10 @@ inline void ObjectHeap::internal_collect_prologue(size_t min_free_after_collecti
   _young_gen_size_before =
       DISTANCE(_young_generation_start, _inline_allocation_top);
 #endif
+
+  if (UseAdaptiveYoungGeneration) {
+    _adaptive_collect_start_time = Os::elapsed_counter();
+  }
 }
 
 inline void ObjectHeap::setup_marking_stack(void) {
@@ -3724,6 +4431,11 @@ inline void ObjectHeap::internal_collect_epilogue(bool is_full_collect,
     }
 
     TTY_TRACE((", %d hrticks", (int)elapsed));
+#if USE_PARALLEL_MARKING
+    if (_parallel_marking_threads > 1) {
+      TTY_TRACE((", %d marking threads", _parallel_marking_threads));
+    }
+#endif
 
     TTY_TRACE_CR(("]"));
     TTY_TRACE_CR(("Heap 0x%x-0x%x, 0x%x, 0x%x-0x%x",
@@ -3764,6 +4476,108 @@ inline void ObjectHeap::internal_collect_epilogue(bool is_full_collect,
   EventLogger::end(EventLogger::GC);
 }
 
+// Bounds of the young generation target size chosen by
+// adapt_young_generation_size() for a heap of heap_size bytes.
+size_t ObjectHeap::clamp_young_generation_target_size(size_t target,
+                                                      size_t heap_size) {
+  const size_t min_target = max(heap_size / 32, (size_t)(8 * 1024));
+  target = max(target, min_target);
+  target = min(target, heap_size / 2);
+  return align_up(target);
+}
+
+// Sets the young generation target size when the heap is resized. With
+// UseAdaptiveYoungGeneration the size chosen by
+// adapt_young_generation_size() is kept, only clamped to the bounds for
+// the new heap size.
+void ObjectHeap::set_young_generation_target_size(size_t heap_size) {
+  if (UseAdaptiveYoungGeneration && _young_generation_target_size != 0) {
+    _young_generation_target_size =
+        clamp_young_generation_target_size(_young_generation_target_size,
+                                           heap_size);
+  } else {
+    _young_generation_target_size =
+        align_size_up(heap_size / YoungGenerationTarget, BytesPerWord);
+  }
+}
+
+// Sizes the young generation for the next young GC after the one that
+// has just finished.  The pause of a young GC is dominated by marking and
+// moving the survivors, so it is estimated as the cost per KB of survivors
+// times the expected survivors, i.e. the young generation size times the
+// survival rate.  MaxGCPauseMillis bounds the young generation from above.
+// If more than GCTimePercentage of the run time goes into young GCs the
+// young generation is grown towards that bound, so that it is collected
+// less often and objects get more time to die before the collection.
+void ObjectHeap::adapt_young_generation_size(size_t young_size,
+                                             size_t survived) {
+  const jlong now = Os::elapsed_counter();
+  const jlong frequency = Os::elapsed_frequency();
+  const jlong pause_ticks = now - _adaptive_collect_start_time;
+
+  const int pause = (int)(pause_ticks * 1000 * 1000 / frequency);
+  _adaptive_pause_average = _adaptive_pause_average == 0 ? pause :
+      (3 * _adaptive_pause_average + pause) / 4;
+
+  // With few survivors the pause is dominated by the fixed costs (roots,
+  // stacks), which would make the cost per KB meaningless.
+  if (survived >= 1024) {
+    const int cost = (int)((jlong)pause * 1000 / (survived / 1024));
+    _adaptive_cost_average = _adaptive_cost_average == 0 ? cost :
+        (3 * _adaptive_cost_average + cost) / 4;
+  }
+
+  if (young_size > 0) {
+    const int survival = (int)((jlong)survived * 1000 / young_size);
+    _adaptive_survival_average = (3 * _adaptive_survival_average + survival) / 4;
+  }
+
+  if (_adaptive_collect_end_time != 0) {
+    const jlong total_ticks = now - _adaptive_collect_end_time;
+    if (total_ticks > 0) {
+      const int gc_time = (int)(pause_ticks * 1000 / total_ticks);
+      _adaptive_gc_time_average =
+          (3 * _adaptive_gc_time_average + gc_time) / 4;
+    }
+  }
+
+  const size_t old_target = _young_generation_target_size;
+  size_t target = old_target;
+  if (_adaptive_gc_time_average > GCTimePercentage * 10) {
+    target += target / 4;
+  }
+
+  // Largest young generation expected to be collected within the goal
+  const jlong expected_cost =
+      (jlong)_adaptive_cost_average * _adaptive_survival_average;
+  if (expected_cost > 0) {
+    const jlong pause_limit =
+        (jlong)MaxGCPauseMillis * 1000 * 1000 * 1024 * 1000 / expected_cost;
+    if ((jlong)target > pause_limit) {
+      target = (size_t)pause_limit;
+    }
+  }
+
+  // Change the size gradually and keep it within sane bounds
+  target = max(target, old_target / 2);
+  target = clamp_young_generation_target_size(target, _heap_size);
+
+  if (target != old_target) {
+    _young_generation_target_size = target;
+    if (TraceHeapSize) {
+      TTY_TRACE_CR(("young generation target %dK -> %dK "
+                    "(pause %d us avg %d us, survival %d.%d%%, "
+                    "GC time %d.%d%%)",
+                    old_target / 1024, target / 1024,
+                    pause, _adaptive_pause_average,
+                    _adaptive_survival_average / 10,
+                    _adaptive_survival_average % 10,
+                    _adaptive_gc_time_average / 10,
+                    _adaptive_gc_time_average % 10));
+    }
+  }
+}
+
 bool ObjectHeap::internal_collect(size_t min_free_after_collection JVM_TRAPS) {
   LargeObject::verify();
 
@@ -3781,6 +4595,10 @@ bool ObjectHeap::internal_collect(size_t min_free_after_collection JVM_TRAPS) {
   ClassFileParser::gc_prologue();
   TypeSymbol::ParseStream::gc_prologue();
 
+#if USE_INCREMENTAL_MARKING
+  incremental_marking_prologue(is_full_collect);
+#endif
+
   setup_marking_stack();
 
   // Clear bitvector for target collection area (can contain "dirty" bits)
@@ -3804,9 +4622,11 @@ bool ObjectHeap::internal_collect(size_t min_free_after_collection JVM_TRAPS) {
   OopDesc** const old_generation_end = _old_generation_end;
 
   bool reuse_young_generation = false;
+  size_t survived = 0;
   if (_heap_start != _collection_area_start) {
     size_t old_size = DISTANCE(_collection_area_start, _inline_allocation_end);
     size_t new_size = DISTANCE( old_generation_end,    _compaction_top);
+    survived = new_size;
     size_t new_free_if_reuse =
          DISTANCE(_young_generation_start, _collection_area_end) - new_size;
     if (// there is enough free space
@@ -3852,6 +4672,11 @@ bool ObjectHeap::internal_collect(size_t min_free_after_collection JVM_TRAPS) {
   ClassFileParser::gc_epilogue();
   TypeSymbol::ParseStream::gc_epilogue();
 
+  if (UseAdaptiveYoungGeneration && !is_full_collect) {
+    adapt_young_generation_size(
+        DISTANCE(_young_generation_start, _collection_area_end), survived);
+  }
+
   set_collection_area_boundary(min_free_after_collection,
                                reuse_young_generation);
 #if ENABLE_REMOTE_TRACER
@@ -3943,6 +4768,10 @@ bool ObjectHeap::internal_collect(size_t min_free_after_collection JVM_TRAPS) {
   }
 #endif
 
+  if (UseAdaptiveYoungGeneration) {
+    _adaptive_collect_end_time = Os::elapsed_counter();
+  }
+
   set_task_allocation_start( _inline_allocation_top );
   verify_layout();
   return is_full_collect;
@@ -5271,8 +6100,7 @@ inline void* ObjectHeap::set_heap_limit( void* new_heap_limit ) {
       LargeObject::move( -reduction, old_heap_top );
       _heap_top = heap_top;
       _heap_limit = heap_top + MimimumMarkingStackSize;
-      _young_generation_target_size = align_up(
-        DISTANCE(_heap_start, heap_top) / YoungGenerationTarget );
+      set_young_generation_target_size(DISTANCE(_heap_start, heap_top));
       verify_layout();
     }
 
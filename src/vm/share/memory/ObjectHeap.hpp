@@ -44,6 +44,9 @@
 // Flag YoungGenerationTarget specifies how much of the heap should
 // be used as "young generation", and the collector does a mark-compact
 // of this area only, using the "bit card marks" as roots.
+// With UseAdaptiveYoungGeneration the young generation size is instead
+// adjusted after each young GC to meet MaxGCPauseMillis and
+// GCTimePercentage.
 // The young generation is a window sliding up towards the end of the
 // heap. When the free area gets too small the heap is allocated full
 // and a full collection is done.
@@ -735,6 +738,12 @@ public:
 
   static bool is_gc_active(void) { return _is_gc_active; }
   static void force_full_collect(void);
+#if USE_INCREMENTAL_MARKING
+  static bool incremental_marking_active(void) {
+    return _incremental_marking_active;
+  }
+  static void incremental_marking_step(void);
+#endif
   static bool expand_current_compiled_method(int delta);
 
 #if ENABLE_ISOLATES && (USE_IMAGE_MAPPING || USE_LARGE_OBJECT_AREA)
@@ -866,6 +875,40 @@ private:
   static void continue_marking(void);
   static void check_marking_stack_overflow(void);
 
+#if USE_PARALLEL_MARKING
+  // Parallel marking of full collections
+  static bool _defer_marking;
+  static int  _parallel_marking_threads;
+  static int  parallel_marking_threads(void);
+  static void mark_in_parallel(int thread_count);
+  static void parallel_marking_worker(int worker, int worker_count);
+  static void parallel_mark_and_push(OopDesc** p);
+  static void parallel_scan(OopDesc* obj);
+  static inline bool atomic_test_and_set_bit_for(OopDesc** p,
+                                                 address bitvector_base);
+#endif
+
+#if USE_INCREMENTAL_MARKING
+  // Incremental marking of the old generation
+  static bool      _incremental_marking_active;
+  static bool      _incremental_marking_complete;
+  static bool      _incremental_marking_overflow;
+  static bool      _incremental_rescan;
+  static address   _incremental_bitvector;
+  static address   _incremental_bitvector_base;
+  static OopDesc** _incremental_heap_start;
+  static OopDesc** _incremental_marking_limit;
+  static OopDesc** _incremental_scan_top;
+  static void start_incremental_marking(void);
+  static void abort_incremental_marking(const char* reason);
+  static bool incremental_marking_valid(void);
+  static void incremental_marking_prologue(const bool is_full_collect);
+  static void harvest_write_barrier(const bool is_full_collect);
+  static void finish_incremental_marking(void);
+  static void incremental_mark_and_push(OopDesc** p);
+  static void incremental_scan(OopDesc* obj);
+#endif
+
 #if ENABLE_ISOLATES && ENABLE_COMPILER
   static void cleanup_compiled_method_cache( void );
 #endif
@@ -972,8 +1015,12 @@ private:
   static void try_to_grow(int requested_free_memory, const bool is_full_collect);
   static bool internal_collect(size_t min_free_after_collection JVM_TRAPS);
   static void internal_collect_prologue(size_t min_free_after_collection);
-  static void internal_collect_epilogue(bool is_full_collect, 
+  static void internal_collect_epilogue(bool is_full_collect,
                                         bool reuse_young_generation);
+  static void adapt_young_generation_size(size_t young_size, size_t survived);
+  static size_t clamp_young_generation_target_size(size_t target,
+                                                   size_t heap_size);
+  static void set_young_generation_target_size(size_t heap_size);
   // Compiler area
 #if ENABLE_COMPILER
   static size_t reduce_compiler_usage(size_t requested);
@@ -1084,6 +1131,17 @@ private:
   static size_t _young_gen_size_before;
 #endif
 
+  // UseAdaptiveYoungGeneration: start and end of the last collection in
+  // hrticks, and running averages of the young GC pause (microseconds),
+  // its cost per KB of survivors (nanoseconds), the survival rate and the
+  // share of run time spent in young GCs (both per mille).
+  static jlong _adaptive_collect_start_time;
+  static jlong _adaptive_collect_end_time;
+  static int   _adaptive_pause_average;
+  static int   _adaptive_cost_average;
+  static int   _adaptive_survival_average;
+  static int   _adaptive_gc_time_average;
+
 #ifndef PRODUCT
   static OopDesc** _heap_start_bitvector_verify;
   static int       _excessive_gc_countdown;
@@ -70,6 +70,10 @@ protected:
   //     the Java method Isolate.isolates() in this Task.
   OopDesc*          _seen_isolates;
 
+  // List of the ends of com.sun.cldc.isolate.Link objects owned by this
+  // Task, chained through Link._next.
+  OopDesc*          _links;
+
   
   OopDesc*          _transport;         // Used by JAVA_DEBUGGER
   OopDesc*          _class_list;
@@ -92,6 +92,8 @@ class ThreadDesc: public ThreadDescPointers {
   jint         _suspend_count;         // used by debugger code
   jint         _int1_value;            // for keeping return values
   jint         _int2_value;            // for keeping return values
+  jint         _timer_index;           // 1-based position in the
+                                       // Scheduler timer heap, 0 if none
   
   friend class Thread;
   friend class Universe;
@@ -76,6 +76,33 @@ extern "C" {
 #define closesocket(x)          jvm_close(x)
 #endif // LINUX
 
+// There's no libc glue for the epoll calls
+#if !USE_UNISTD_SOCKETS || defined(USE_LIBC_GLUE)
+#undef  USE_EPOLL_SOCKETS
+#define USE_EPOLL_SOCKETS 0
+#endif
+
+#if USE_EPOLL_SOCKETS
+#include <sys/epoll.h>
+#endif
+
+// Gathered writes need sendmsg(), which has no libc glue either
+#if USE_UNISTD_SOCKETS && !defined(USE_LIBC_GLUE)
+#define USE_GATHERED_SEND 1
+#include <sys/uio.h>
+#else
+#define USE_GATHERED_SEND 0
+#endif
+
+// Batched datagrams need the Linux sendmmsg() and recvmmsg()
+#ifndef USE_BATCHED_DATAGRAMS
+#if USE_GATHERED_SEND && defined(LINUX)
+#define USE_BATCHED_DATAGRAMS 1
+#else
+#define USE_BATCHED_DATAGRAMS 0
+#endif
+#endif
+
 #if USE_WINSOCK_SOCKETS
 #undef FIELD_OFFSET
 #define WIN32_LEAN_AND_MEAN
@@ -166,6 +193,242 @@ typedef struct {
   int check_flags;     /* Should we check for read/write/exception? */
 } SocketOpenParameter;
 
+struct BlockingSocket {
+  int fd;                   /* The socket that returned EWOULDBLOCK */
+  int check_flags;          /* Should we check for read/write/exception? */
+};
+
+#if USE_EPOLL_SOCKETS
+/*
+ * On Linux, the sockets that block threads are kept in one persistent epoll
+ * set, so JVMSPI_CheckEvents() doesn't need to rebuild fd_sets on each idle
+ * wait and isn't limited to FD_SETSIZE. A socket is armed (EPOLLONESHOT)
+ * with the events its threads wait for when a thread blocks on it, and is
+ * removed from the set when it's closed. If epoll isn't available, or a
+ * socket can't be armed, we fall back to select() for good.
+ */
+#define MAX_EPOLL_EVENTS 64
+
+#define EPOLL_UNINITIALIZED -1
+#define EPOLL_UNAVAILABLE   -2
+
+// Per socket fd: the CHECK_xxx flags it is armed for in the low nibble,
+// and while JVMSPI_CheckEvents() runs, the CHECK_xxx flags reported ready
+// by epoll_wait() in the high nibble.
+#define EPOLL_READY_SHIFT 4
+
+static int epoll_fd = EPOLL_UNINITIALIZED;
+static struct epoll_event epoll_events[MAX_EPOLL_EVENTS];
+static unsigned char* epoll_socket_flags = NULL;
+static int epoll_socket_flags_size = 0;
+
+static void epoll_disable() {
+  if (epoll_fd >= 0) {
+    jvm_close(epoll_fd);
+  }
+  epoll_fd = EPOLL_UNAVAILABLE;
+}
+
+static bool epoll_initialize() {
+  if (epoll_fd == EPOLL_UNINITIALIZED) {
+    epoll_fd = epoll_create(MAX_EPOLL_EVENTS);
+    if (epoll_fd < 0) {
+      epoll_fd = EPOLL_UNAVAILABLE;
+    }
+  }
+  return epoll_fd >= 0;
+}
+
+static bool epoll_grow_socket_flags(int fd) {
+  if (fd < epoll_socket_flags_size) {
+    return true;
+  }
+  int new_size = epoll_socket_flags_size * 2;
+  if (new_size <= fd) {
+    new_size = fd + 64;
+  }
+  unsigned char* new_flags = (unsigned char*)jvm_malloc(new_size);
+  if (new_flags == NULL) {
+    return false;
+  }
+  jvm_memset(new_flags, 0, new_size);
+  if (epoll_socket_flags != NULL) {
+    jvm_memcpy(new_flags, epoll_socket_flags, epoll_socket_flags_size);
+    jvm_free(epoll_socket_flags);
+  }
+  epoll_socket_flags = new_flags;
+  epoll_socket_flags_size = new_size;
+  return true;
+}
+
+// Arms the socket for the events a thread is about to block on, in addition
+// to those other threads blocked on the same socket are waiting for.
+static void epoll_register_socket(int fd, int check_flags) {
+  if (!epoll_initialize()) {
+    return;
+  }
+  if (!epoll_grow_socket_flags(fd)) {
+    // The blocked thread would never be woken up; use select() instead.
+    epoll_disable();
+    return;
+  }
+  int armed = (epoll_socket_flags[fd] | check_flags) & 0x0f;
+  struct epoll_event event;
+  event.events = EPOLLONESHOT; // EPOLLERR and EPOLLHUP are always reported
+  if (armed & CHECK_READ) {
+    event.events |= EPOLLIN;
+  }
+  if (armed & (CHECK_WRITE | CHECK_EXCEPTION)) {
+    event.events |= EPOLLOUT;
+  }
+  event.data.u64 = 0;
+  event.data.fd = fd;
+  if (epoll_ctl(epoll_fd, EPOLL_CTL_MOD, fd, &event) < 0 &&
+      (GET_LAST_ERROR() != ENOENT ||
+       epoll_ctl(epoll_fd, EPOLL_CTL_ADD, fd, &event) < 0)) {
+    epoll_disable();
+    return;
+  }
+  epoll_socket_flags[fd] = (epoll_socket_flags[fd] & 0xf0) | armed;
+}
+
+static void epoll_unregister_socket(int fd) {
+  if (epoll_fd >= 0 && fd < epoll_socket_flags_size) {
+    struct epoll_event event; // ignored, but must be non-NULL before 2.6.9
+    epoll_ctl(epoll_fd, EPOLL_CTL_DEL, fd, &event);
+    epoll_socket_flags[fd] = 0;
+  }
+}
+
+/*
+ * Waits for socket events using the epoll set and unblocks the threads whose
+ * sockets are ready. Returns false if the caller should use select() instead.
+ */
+static bool check_events_epoll(JVMSPI_BlockedThreadInfo *blocked_threads,
+                               int blocked_threads_count,
+                               jlong timeout_milli_seconds) {
+  bool debugger_active = JVM_IsDebuggerActive();
+  if (!debugger_active && blocked_threads_count == 0) {
+    // Nothing to wait for, let the select() code just sleep
+    return false;
+  }
+  if (!epoll_initialize()) {
+    return false;
+  }
+
+  int dbg_socket_fd = -1;
+#if ENABLE_JAVA_DEBUGGER
+  if (debugger_active) {
+    dbg_socket_fd = JVM_GetDebuggerSocketFd();
+    if (dbg_socket_fd != -1) {
+      // Level-triggered and never disarmed; it goes away when closed
+      struct epoll_event event;
+      event.events = EPOLLIN;
+      event.data.u64 = 0;
+      event.data.fd = dbg_socket_fd;
+      if (epoll_ctl(epoll_fd, EPOLL_CTL_ADD, dbg_socket_fd, &event) < 0 &&
+          GET_LAST_ERROR() != EEXIST) {
+        epoll_disable();
+        return false;
+      }
+    }
+  }
+#endif
+
+  int timeout;
+  if (timeout_milli_seconds < 0) {
+    GUARANTEE(blocked_threads_count > 0,
+              "can't sleep forever with no event sources!");
+    timeout = -1;
+  } else if (timeout_milli_seconds > (jlong)0x7fffffff) {
+    timeout = 0x7fffffff;
+  } else {
+    timeout = (int)timeout_milli_seconds;
+  }
+
+  int num_ready = epoll_wait(epoll_fd, epoll_events, MAX_EPOLL_EVENTS,
+                             timeout);
+  if (num_ready <= 0) {
+    // Timed out, or interrupted by a signal (e.g., the timer tick)
+    return true;
+  }
+
+  // [1] Record what's ready. A reported socket is disarmed (EPOLLONESHOT).
+  int i;
+  bool debugger_ready = false;
+  for (i = 0; i < num_ready; i++) {
+    int fd = epoll_events[i].data.fd;
+    if (fd == dbg_socket_fd) {
+      debugger_ready = true;
+      continue;
+    }
+    unsigned int events = epoll_events[i].events;
+    int ready = 0;
+    if (events & (EPOLLIN | EPOLLERR | EPOLLHUP)) {
+      ready |= CHECK_READ;
+    }
+    if (events & (EPOLLOUT | EPOLLERR | EPOLLHUP)) {
+      ready |= CHECK_WRITE;
+    }
+    if (events & EPOLLERR) {
+      ready |= CHECK_EXCEPTION;
+    }
+    GUARANTEE(fd < epoll_socket_flags_size, "socket must have been armed");
+    epoll_socket_flags[fd] = (unsigned char)(ready << EPOLL_READY_SHIFT);
+  }
+
+  // [2] Unblock the threads whose sockets are ready, and re-arm the
+  // reported sockets for the threads that are still waiting on them.
+  // This is a single pass over the blocked threads, with a system call
+  // only for the ready sockets.
+  for (i = 0; i < blocked_threads_count; i++) {
+    BlockingSocket *socket =
+        (BlockingSocket *)blocked_threads[i].reentry_data;
+    int fd = socket->fd;
+    if (fd < 0 || fd >= epoll_socket_flags_size) {
+      continue;
+    }
+    int ready = epoll_socket_flags[fd] >> EPOLL_READY_SHIFT;
+    if (ready == 0) {
+      continue;
+    }
+    if ((ready & socket->check_flags) == 0) {
+      epoll_register_socket(fd, socket->check_flags);
+      continue;
+    }
+    if (ready & socket->check_flags & CHECK_EXCEPTION) {
+      // This happens only if a connect() call failed. Let's close
+      // the socket and make sure open0() returns -1.
+      epoll_unregister_socket(fd);
+      jvm_shutdown(fd, 2);
+      closesocket(fd);
+      socket->fd = -1;
+    }
+    SNI_UnblockThread(blocked_threads[i].thread_id);
+  }
+
+  // [3] Forget the ready flags
+  for (i = 0; i < num_ready; i++) {
+    int fd = epoll_events[i].data.fd;
+    if (fd != dbg_socket_fd && fd < epoll_socket_flags_size) {
+      epoll_socket_flags[fd] &= 0x0f;
+    }
+  }
+
+#if ENABLE_JAVA_DEBUGGER
+  if (debugger_ready) {
+    JVM_ProcessDebuggerCmds();
+  }
+#else
+  (void)debugger_ready;
+#endif
+  return true;
+}
+#else
+#define epoll_register_socket(fd, check_flags)
+#define epoll_unregister_socket(fd)
+#endif // USE_EPOLL_SOCKETS
+
 static jboolean set_blocking_flags(int *fd, jboolean is_blocking) {
 #if USE_UNISTD_SOCKETS
   int flags = jvm_fcntl(*fd, F_GETFL);
@@ -198,6 +461,50 @@ static jboolean set_blocking_flags(int *fd, jboolean is_blocking) {
 #endif
 }
 
+#if USE_UNISTD_SOCKETS
+typedef socklen_t socket_addrlen_t;
+#else
+typedef int socket_addrlen_t;
+#endif
+
+// Blocks the calling thread until the socket is ready for check_flags.
+// The native method is called again when the thread is woken up.
+static void block_on_socket(int fd, int check_flags) {
+  if (SNI_GetReentryData(NULL) == NULL) {
+    BlockingSocket *socket =
+        (BlockingSocket *)SNI_AllocateReentryData(sizeof(*socket));
+    socket->fd = fd;
+    socket->check_flags = check_flags;
+  }
+  epoll_register_socket(fd, check_flags);
+  SNI_BlockThread();
+}
+
+// Wakes up the threads blocked on a socket that is being closed. Their
+// native method is called again and sees that the socket was closed
+// (see socket_closed_while_blocked()), instead of waiting for events that
+// never come on a socket that is no longer in the epoll set, or having
+// select() fail on the closed fd.
+static void unblock_socket_threads(int fd) {
+  int count;
+  JVMSPI_BlockedThreadInfo *blocked_threads = SNI_GetBlockedThreads(&count);
+  for (int i = 0; i < count; i++) {
+    BlockingSocket *socket =
+        (BlockingSocket *)blocked_threads[i].reentry_data;
+    if (socket != NULL && socket->fd == fd) {
+      socket->fd = -1;
+      SNI_UnblockThread(blocked_threads[i].thread_id);
+    }
+  }
+}
+
+// Returns true if the calling native method was blocked on a socket that
+// has since been closed by unblock_socket_threads().
+static bool socket_closed_while_blocked() {
+  BlockingSocket *socket = (BlockingSocket *)SNI_GetReentryData(NULL);
+  return socket != NULL && socket->fd < 0;
+}
+
 KNIEXPORT KNI_RETURNTYPE_INT
 Java_com_sun_cldc_io_j2me_socket_Protocol_open0() {
   init_sockets();
@@ -242,6 +549,7 @@ Java_com_sun_cldc_io_j2me_socket_Protocol_open0() {
         // When the socket is ready for connect, it becomes *writable*
         // (according to BSD socket spec of select())
         p->check_flags = CHECK_WRITE | CHECK_EXCEPTION;
+        epoll_register_socket(p->fd, p->check_flags);
         SNI_BlockThread();
       } else {
         jvm_shutdown(p->fd, 2);
@@ -260,13 +568,11 @@ Java_com_sun_cldc_io_j2me_socket_Protocol_open0() {
   }
 }
 
-struct BlockingSocket {
-  int fd;                   /* The socket that returned EWOULDBLOCK */
-  int check_flags;          /* Should we check for read/write/exception? */
-};
-
 KNIEXPORT KNI_RETURNTYPE_INT
 Java_com_sun_cldc_io_j2me_socket_Protocol_readBuf() {
+  if (socket_closed_while_blocked()) {
+    KNI_ReturnInt(-1);
+  }
   int result;
   int fd = KNI_GetParameterAsInt(1);
   int offset = KNI_GetParameterAsInt(3);
@@ -291,13 +597,7 @@ Java_com_sun_cldc_io_j2me_socket_Protocol_readBuf() {
   else if (result < 0) {
     int err_code = GET_LAST_ERROR();
     if (err_code == EWOULDBLOCK) {
-      if (SNI_GetReentryData(NULL) == NULL) {
-        BlockingSocket *socket =
-            (BlockingSocket *)SNI_AllocateReentryData(sizeof(*socket));
-        socket->fd = fd;
-        socket->check_flags = CHECK_READ;
-      }
-      SNI_BlockThread();
+      block_on_socket(fd, CHECK_READ);
     }
   }
 
@@ -306,6 +606,9 @@ Java_com_sun_cldc_io_j2me_socket_Protocol_readBuf() {
 
 KNIEXPORT KNI_RETURNTYPE_INT
 Java_com_sun_cldc_io_j2me_socket_Protocol_readByte() {
+  if (socket_closed_while_blocked()) {
+    KNI_ReturnInt(-1);
+  }
   jint result = -1;
   unsigned char byte;
 
@@ -327,13 +630,7 @@ Java_com_sun_cldc_io_j2me_socket_Protocol_readByte() {
   else {
     int err_code = GET_LAST_ERROR();
     if (err_code == EWOULDBLOCK) {
-      if (SNI_GetReentryData(NULL) == NULL) {
-        BlockingSocket *socket =
-            (BlockingSocket *)SNI_AllocateReentryData(sizeof(*socket));
-        socket->fd = fd;
-        socket->check_flags = CHECK_READ;
-      }
-      SNI_BlockThread();
+      block_on_socket(fd, CHECK_READ);
     } else {
       result = -1;
     }
@@ -344,6 +641,9 @@ Java_com_sun_cldc_io_j2me_socket_Protocol_readByte() {
 
 KNIEXPORT KNI_RETURNTYPE_INT
 Java_com_sun_cldc_io_j2me_socket_Protocol_writeBuf() {
+  if (socket_closed_while_blocked()) {
+    KNI_ReturnInt(-1);
+  }
   int result;
   int fd = KNI_GetParameterAsInt(1);
   int offset = KNI_GetParameterAsInt(3);
@@ -360,13 +660,60 @@ Java_com_sun_cldc_io_j2me_socket_Protocol_writeBuf() {
   if (result < 0) {
     int err_code = GET_LAST_ERROR();
     if (err_code == EWOULDBLOCK) {
-      if (SNI_GetReentryData(NULL) == NULL) {
-        BlockingSocket *socket =
-            (BlockingSocket *) SNI_AllocateReentryData(sizeof(*socket));
-        socket->fd = fd;
-        socket->check_flags = CHECK_WRITE;
-      }
-      SNI_BlockThread();
+      block_on_socket(fd, CHECK_WRITE);
+    }
+  }
+
+  KNI_ReturnInt(result);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_socket_Protocol_writeGathered() {
+  if (socket_closed_while_blocked()) {
+    KNI_ReturnInt(-1);
+  }
+  int result;
+  int fd = KNI_GetParameterAsInt(1);
+  int offset1 = KNI_GetParameterAsInt(3);
+  int length1 = KNI_GetParameterAsInt(4);
+  int offset2 = KNI_GetParameterAsInt(6);
+  int length2 = KNI_GetParameterAsInt(7);
+
+  KNI_StartHandles(2);
+  KNI_DeclareHandle(buffer1_object);
+  KNI_DeclareHandle(buffer2_object);
+  KNI_GetParameterAsObject(2, buffer1_object);
+  KNI_GetParameterAsObject(5, buffer2_object);
+  char *buffer1 = (char *) SNI_GetRawArrayPointer(buffer1_object) + offset1;
+  char *buffer2 = (char *) SNI_GetRawArrayPointer(buffer2_object) + offset2;
+
+#if USE_GATHERED_SEND
+  struct iovec iov[2];
+  iov[0].iov_base = buffer1;
+  iov[0].iov_len = length1;
+  iov[1].iov_base = buffer2;
+  iov[1].iov_len = length2;
+  struct msghdr msg;
+  jvm_memset(&msg, 0, sizeof(msg));
+  msg.msg_iov = iov;
+  msg.msg_iovlen = 2;
+  result = sendmsg(fd, &msg, 0);
+#else
+  // Two calls; only the first one may block the thread
+  result = jvm_send(fd, buffer1, length1, 0);
+  if (result == length1 && length2 > 0) {
+    int result2 = jvm_send(fd, buffer2, length2, 0);
+    if (result2 > 0) {
+      result += result2;
+    }
+  }
+#endif
+  KNI_EndHandles();
+
+  if (result < 0) {
+    int err_code = GET_LAST_ERROR();
+    if (err_code == EWOULDBLOCK) {
+      block_on_socket(fd, CHECK_WRITE);
     }
   }
 
@@ -375,6 +722,9 @@ Java_com_sun_cldc_io_j2me_socket_Protocol_writeBuf() {
 
 KNIEXPORT KNI_RETURNTYPE_INT
 Java_com_sun_cldc_io_j2me_socket_Protocol_writeByte() {
+  if (socket_closed_while_blocked()) {
+    KNI_ReturnInt(-1);
+  }
   int fd = KNI_GetParameterAsInt(1);
   char byte = (char) KNI_GetParameterAsInt(2);
 
@@ -384,13 +734,7 @@ Java_com_sun_cldc_io_j2me_socket_Protocol_writeByte() {
   if (result < 0) {
     int err_code = GET_LAST_ERROR();
     if (err_code == EWOULDBLOCK) {
-      if (SNI_GetReentryData(NULL) == NULL) {
-        BlockingSocket *socket =
-            (BlockingSocket *)SNI_AllocateReentryData(sizeof(*socket));
-        socket->fd = fd;
-        socket->check_flags = CHECK_WRITE;
-      }
-      SNI_BlockThread();
+      block_on_socket(fd, CHECK_WRITE);
     }
   }
 
@@ -400,6 +744,13 @@ Java_com_sun_cldc_io_j2me_socket_Protocol_writeByte() {
 void JVMSPI_CheckEvents(JVMSPI_BlockedThreadInfo * blocked_threads,
                         int blocked_threads_count, jlong timeout_milli_seconds)
 {
+#if USE_EPOLL_SOCKETS
+  if (check_events_epoll(blocked_threads, blocked_threads_count,
+                         timeout_milli_seconds)) {
+    return;
+  }
+#endif
+
   fd_set read_fds;
   fd_set write_fds;
   fd_set except_fds;
@@ -529,16 +880,421 @@ Java_com_sun_cldc_io_j2me_socket_Protocol_available0() {
   return (jint) 0; // IMPL_NOTE: use select() .....
 }
 
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_socket_Protocol_listen0() {
+  init_sockets();
+
+  int port = KNI_GetParameterAsInt(1);
+  int backlog = KNI_GetParameterAsInt(2);
+  int fd = jvm_socket(AF_INET, SOCK_STREAM, 0);
+  if (fd < 0) {
+    KNI_ReturnInt(-1);
+  }
+
+#if USE_UNISTD_SOCKETS
+  // Allow a server to restart while its old connections are in TIME_WAIT
+  int reuse = 1;
+  jvm_setsockopt(fd, SOL_SOCKET, SO_REUSEADDR, (char *) &reuse,
+                 sizeof(reuse));
+#endif
+
+  struct sockaddr_in local_sin;
+  jvm_memset(&local_sin, 0, sizeof(local_sin));
+  local_sin.sin_family = AF_INET;
+  local_sin.sin_addr.s_addr = jvm_htonl(INADDR_ANY);
+  local_sin.sin_port = jvm_htons(port);
+  if (jvm_bind(fd, (struct sockaddr *) &local_sin, sizeof(local_sin)) < 0 ||
+      jvm_listen(fd, backlog) < 0) {
+    closesocket(fd);
+    KNI_ReturnInt(-1);
+  }
+
+  // accept0() relies on this: it blocks the thread, not the VM
+  if (!set_blocking_flags(&fd, /*is_blocking*/ KNI_FALSE)) {
+    KNI_ReturnInt(-1);
+  }
+  KNI_ReturnInt(fd);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_socket_Protocol_accept0() {
+  if (socket_closed_while_blocked()) {
+    KNI_ThrowNew("java/io/IOException", NULL);
+    KNI_ReturnInt(-1);
+  }
+
+  int fd = KNI_GetParameterAsInt(1);
+  struct sockaddr_in remote_sin;
+  socket_addrlen_t remote_length = sizeof(remote_sin);
+
+  int result = jvm_accept(fd, (struct sockaddr *) &remote_sin,
+                          &remote_length);
+  if (result >= 0) {
+    // The connection must be non-blocking like those from open0(). On
+    // Linux it doesn't inherit O_NONBLOCK from the server socket.
+    set_blocking_flags(&result, /*is_blocking*/ KNI_FALSE);
+  } else {
+    int err_code = GET_LAST_ERROR();
+#if USE_UNISTD_SOCKETS
+    // The pending connection was reset before we could accept it
+    if (err_code == ECONNABORTED) {
+      err_code = EWOULDBLOCK;
+    }
+#endif
+    if (err_code == EWOULDBLOCK) {
+      block_on_socket(fd, CHECK_READ);
+    }
+  }
+
+  KNI_ReturnInt(result);
+}
+
 KNIEXPORT KNI_RETURNTYPE_VOID
 Java_com_sun_cldc_io_j2me_socket_Protocol_close0() {
   jint sock = KNI_GetParameterAsInt(1);
 
   // NOTE: this would block the VM. A real implementation should
   // make this a async native method.
+  epoll_unregister_socket(sock);
+  unblock_socket_threads(sock);
   jvm_shutdown(sock, 2);
   closesocket(sock);
 }
 
+/*
+ * Datagram (UDP) protocol, see datagram/Protocol.java. Like the stream
+ * sockets above, the sockets are non-blocking and a native method that
+ * would block blocks the calling thread instead, to be woken up by
+ * JVMSPI_CheckEvents(). On Linux, sendBatch0() and receiveBatch0() move up
+ * to MAX_DATAGRAM_BATCH datagrams per system call with sendmmsg() and
+ * recvmmsg(); elsewhere they loop over sendto() and recvfrom().
+ */
+#define MAX_DATAGRAM_BATCH 32
+
+// Ints per datagram in the batch parameter array: offset, length,
+// IP number and port
+#define DATAGRAM_PARAMS 4
+
+static void init_datagram_address(struct sockaddr_in *addr,
+                                  jint ip_number, jint port) {
+  jvm_memset(addr, 0, sizeof(*addr));
+  addr->sin_family = AF_INET;
+  addr->sin_addr.s_addr = jvm_htonl(ip_number);
+  addr->sin_port = jvm_htons(port);
+}
+
+static int datagram_recvfrom(int fd, char *buffer, int length,
+                             struct sockaddr_in *from) {
+  socket_addrlen_t from_length = sizeof(*from);
+  int result = jvm_recvfrom(fd, buffer, length, 0, (struct sockaddr *)from,
+                            &from_length);
+#if USE_WINSOCK_SOCKETS
+  if (result < 0 && GET_LAST_ERROR() == WSAEMSGSIZE) {
+    // The datagram was truncated, which is not an error for us
+    result = length;
+  }
+#endif
+  return result;
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_datagram_Protocol_open0() {
+  init_sockets();
+
+  int fd = jvm_socket(AF_INET, SOCK_DGRAM, 0);
+  if (fd < 0) {
+    KNI_ReturnInt(-1);
+  }
+
+  struct sockaddr_in local_sin;
+  init_datagram_address(&local_sin, INADDR_ANY, KNI_GetParameterAsInt(1));
+  if (jvm_bind(fd, (struct sockaddr *) &local_sin, sizeof(local_sin)) < 0) {
+    closesocket(fd);
+    KNI_ReturnInt(-1);
+  }
+  if (!set_blocking_flags(&fd, /*is_blocking*/ KNI_FALSE)) {
+    KNI_ReturnInt(-1);
+  }
+  KNI_ReturnInt(fd);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_datagram_Protocol_getIpNumber0() {
+  init_sockets();
+
+  jint result = 0;
+  struct hostent *phostent;
+  KNI_StartHandles(1);
+  KNI_DeclareHandle(hostname_object);
+  KNI_GetParameterAsObject(1, hostname_object);
+
+  // hostname is always NUL terminated. See datagram/Protocol.java for detail.
+  // NOTE: this would block the VM.
+  char *hostname = (char*) SNI_GetRawArrayPointer(hostname_object);
+  phostent = (struct hostent*)jvm_gethostbyname(hostname);
+  KNI_EndHandles();
+
+  if (phostent != NULL && phostent->h_length == sizeof(struct in_addr)) {
+    struct in_addr addr;
+    jvm_memcpy((char *) &addr, phostent->h_addr, sizeof(addr));
+    result = jvm_ntohl(addr.s_addr);
+  }
+  KNI_ReturnInt(result);
+}
+
+// Returns true if [offset, offset + length) lies within the byte array.
+// The Java code checks the range before calling the natives, this only
+// makes sure that no memory outside the array is ever touched.
+static bool in_array_range(jobject array, int offset, int length) {
+  return offset >= 0 && length >= 0 &&
+         length <= KNI_GetArrayLength(array) - offset;
+}
+
+// Returns the number of leading datagrams of a batch whose buffer and
+// parameters are valid, at most count.
+static int valid_datagram_count(jobject buffers_object, jobject params_object,
+                                jobject buffer_object, int first, int count) {
+  if (first < 0 || count < 0 ||
+      first + count > KNI_GetArrayLength(buffers_object) ||
+      (first + count) * DATAGRAM_PARAMS > KNI_GetArrayLength(params_object)) {
+    return 0;
+  }
+  jint *params = (jint *) SNI_GetRawArrayPointer(params_object) +
+                 first * DATAGRAM_PARAMS;
+  int i;
+  for (i = 0; i < count; i++) {
+    jint *p = params + i * DATAGRAM_PARAMS;
+    KNI_GetObjectArrayElement(buffers_object, first + i, buffer_object);
+    if (!in_array_range(buffer_object, p[0], p[1])) {
+      break;
+    }
+  }
+  return i;
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_datagram_Protocol_send0() {
+  if (socket_closed_while_blocked()) {
+    KNI_ReturnInt(-1);
+  }
+  int result = -1;
+  int fd = KNI_GetParameterAsInt(1);
+  int offset = KNI_GetParameterAsInt(5);
+  int length = KNI_GetParameterAsInt(6);
+
+  struct sockaddr_in destination_sin;
+  init_datagram_address(&destination_sin, KNI_GetParameterAsInt(2),
+                        KNI_GetParameterAsInt(3));
+
+  KNI_StartHandles(1);
+  KNI_DeclareHandle(buffer_object);
+  KNI_GetParameterAsObject(4, buffer_object);
+  const bool valid = in_array_range(buffer_object, offset, length);
+  if (valid) {
+    char *buffer = (char *) SNI_GetRawArrayPointer(buffer_object) + offset;
+    result = jvm_sendto(fd, buffer, length, 0,
+                        (struct sockaddr *) &destination_sin,
+                        sizeof(destination_sin));
+  }
+  KNI_EndHandles();
+
+  if (valid && result < 0 && GET_LAST_ERROR() == EWOULDBLOCK) {
+    block_on_socket(fd, CHECK_WRITE);
+  }
+  KNI_ReturnInt(result);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_datagram_Protocol_receive0() {
+  if (socket_closed_while_blocked()) {
+    KNI_ReturnInt(-1);
+  }
+  int result = -1;
+  int fd = KNI_GetParameterAsInt(1);
+  int offset = KNI_GetParameterAsInt(4);
+  int length = KNI_GetParameterAsInt(5);
+  struct sockaddr_in from;
+
+  KNI_StartHandles(2);
+  KNI_DeclareHandle(peer_object);
+  KNI_DeclareHandle(buffer_object);
+  KNI_GetParameterAsObject(2, peer_object);
+  KNI_GetParameterAsObject(3, buffer_object);
+  const bool valid = in_array_range(buffer_object, offset, length) &&
+                     KNI_GetArrayLength(peer_object) >= 2;
+  if (valid) {
+    char *buffer = (char *) SNI_GetRawArrayPointer(buffer_object) + offset;
+    result = datagram_recvfrom(fd, buffer, length, &from);
+    if (result >= 0) {
+      jint *peer = (jint *) SNI_GetRawArrayPointer(peer_object);
+      peer[0] = jvm_ntohl(from.sin_addr.s_addr);
+      peer[1] = jvm_ntohs(from.sin_port);
+    }
+  }
+  KNI_EndHandles();
+
+  if (valid && result < 0 && GET_LAST_ERROR() == EWOULDBLOCK) {
+    block_on_socket(fd, CHECK_READ);
+  }
+  KNI_ReturnInt(result);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_datagram_Protocol_sendBatch0() {
+  if (socket_closed_while_blocked()) {
+    KNI_ReturnInt(-1);
+  }
+  int result;
+  int fd = KNI_GetParameterAsInt(1);
+  int first = KNI_GetParameterAsInt(4);
+  int count = KNI_GetParameterAsInt(5);
+  if (count > MAX_DATAGRAM_BATCH) {
+    count = MAX_DATAGRAM_BATCH;
+  }
+
+  KNI_StartHandles(3);
+  KNI_DeclareHandle(buffers_object);
+  KNI_DeclareHandle(params_object);
+  KNI_DeclareHandle(buffer_object);
+  KNI_GetParameterAsObject(2, buffers_object);
+  KNI_GetParameterAsObject(3, params_object);
+  count = valid_datagram_count(buffers_object, params_object, buffer_object,
+                               first, count);
+  const bool valid = count > 0;
+  jint *params = (jint *) SNI_GetRawArrayPointer(params_object) +
+                 (valid ? first * DATAGRAM_PARAMS : 0);
+  int i;
+
+  if (!valid) {
+    result = -1;
+  } else {
+#if USE_BATCHED_DATAGRAMS
+    struct mmsghdr msgs[MAX_DATAGRAM_BATCH];
+    struct iovec iov[MAX_DATAGRAM_BATCH];
+    struct sockaddr_in addrs[MAX_DATAGRAM_BATCH];
+    jvm_memset(msgs, 0, count * sizeof(msgs[0]));
+    for (i = 0; i < count; i++) {
+      jint *p = params + i * DATAGRAM_PARAMS;
+      KNI_GetObjectArrayElement(buffers_object, first + i, buffer_object);
+      iov[i].iov_base = (char *) SNI_GetRawArrayPointer(buffer_object) + p[0];
+      iov[i].iov_len = p[1];
+      init_datagram_address(&addrs[i], p[2], p[3]);
+      msgs[i].msg_hdr.msg_name = &addrs[i];
+      msgs[i].msg_hdr.msg_namelen = sizeof(addrs[i]);
+      msgs[i].msg_hdr.msg_iov = &iov[i];
+      msgs[i].msg_hdr.msg_iovlen = 1;
+    }
+    result = sendmmsg(fd, msgs, count, 0);
+#else
+    for (i = 0; i < count; i++) {
+      jint *p = params + i * DATAGRAM_PARAMS;
+      KNI_GetObjectArrayElement(buffers_object, first + i, buffer_object);
+      char *buffer = (char *) SNI_GetRawArrayPointer(buffer_object) + p[0];
+      struct sockaddr_in destination_sin;
+      init_datagram_address(&destination_sin, p[2], p[3]);
+      if (jvm_sendto(fd, buffer, p[1], 0, (struct sockaddr *) &destination_sin,
+                     sizeof(destination_sin)) < 0) {
+        break;
+      }
+    }
+    // Report the error only if nothing was sent; the next call will hit it
+    result = (i == 0 && count > 0) ? -1 : i;
+#endif
+  }
+  KNI_EndHandles();
+
+  if (valid && result < 0 && GET_LAST_ERROR() == EWOULDBLOCK) {
+    block_on_socket(fd, CHECK_WRITE);
+  }
+  KNI_ReturnInt(result);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_datagram_Protocol_receiveBatch0() {
+  if (socket_closed_while_blocked()) {
+    KNI_ReturnInt(-1);
+  }
+  int result;
+  int fd = KNI_GetParameterAsInt(1);
+  int count = KNI_GetParameterAsInt(4);
+  if (count > MAX_DATAGRAM_BATCH) {
+    count = MAX_DATAGRAM_BATCH;
+  }
+
+  KNI_StartHandles(3);
+  KNI_DeclareHandle(buffers_object);
+  KNI_DeclareHandle(params_object);
+  KNI_DeclareHandle(buffer_object);
+  KNI_GetParameterAsObject(2, buffers_object);
+  KNI_GetParameterAsObject(3, params_object);
+  count = valid_datagram_count(buffers_object, params_object, buffer_object,
+                               0, count);
+  const bool valid = count > 0;
+  jint *params = (jint *) SNI_GetRawArrayPointer(params_object);
+  int i;
+
+  if (!valid) {
+    result = -1;
+  } else {
+#if USE_BATCHED_DATAGRAMS
+    struct mmsghdr msgs[MAX_DATAGRAM_BATCH];
+    struct iovec iov[MAX_DATAGRAM_BATCH];
+    struct sockaddr_in addrs[MAX_DATAGRAM_BATCH];
+    jvm_memset(msgs, 0, count * sizeof(msgs[0]));
+    for (i = 0; i < count; i++) {
+      jint *p = params + i * DATAGRAM_PARAMS;
+      KNI_GetObjectArrayElement(buffers_object, i, buffer_object);
+      iov[i].iov_base = (char *) SNI_GetRawArrayPointer(buffer_object) + p[0];
+      iov[i].iov_len = p[1];
+      msgs[i].msg_hdr.msg_name = &addrs[i];
+      msgs[i].msg_hdr.msg_namelen = sizeof(addrs[i]);
+      msgs[i].msg_hdr.msg_iov = &iov[i];
+      msgs[i].msg_hdr.msg_iovlen = 1;
+    }
+    // The socket is non-blocking, so this returns what's already queued
+    result = recvmmsg(fd, msgs, count, 0, NULL);
+    for (i = 0; i < result; i++) {
+      jint *p = params + i * DATAGRAM_PARAMS;
+      p[1] = msgs[i].msg_len;
+      p[2] = jvm_ntohl(addrs[i].sin_addr.s_addr);
+      p[3] = jvm_ntohs(addrs[i].sin_port);
+    }
+#else
+    for (i = 0; i < count; i++) {
+      jint *p = params + i * DATAGRAM_PARAMS;
+      KNI_GetObjectArrayElement(buffers_object, i, buffer_object);
+      char *buffer = (char *) SNI_GetRawArrayPointer(buffer_object) + p[0];
+      struct sockaddr_in from;
+      int n = datagram_recvfrom(fd, buffer, p[1], &from);
+      if (n < 0) {
+        break;
+      }
+      p[1] = n;
+      p[2] = jvm_ntohl(from.sin_addr.s_addr);
+      p[3] = jvm_ntohs(from.sin_port);
+    }
+    // Report the error only if nothing was received; the next call will
+    // hit it again
+    result = (i == 0 && count > 0) ? -1 : i;
+#endif
+  }
+  KNI_EndHandles();
+
+  if (valid && result < 0 && GET_LAST_ERROR() == EWOULDBLOCK) {
+    block_on_socket(fd, CHECK_READ);
+  }
+  KNI_ReturnInt(result);
+}
+
+KNIEXPORT KNI_RETURNTYPE_VOID
+Java_com_sun_cldc_io_j2me_datagram_Protocol_close0() {
+  jint sock = KNI_GetParameterAsInt(1);
+
+  epoll_unregister_socket(sock);
+  unblock_socket_threads(sock);
+  closesocket(sock);
+}
+
 #else  /* USE_BSD_SOCKET */
 
 extern "C" {
@@ -568,6 +1324,21 @@ Java_com_sun_cldc_io_j2me_socket_Protocol_writeBuf() {
   KNI_ReturnInt(-1);
 }
 
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_socket_Protocol_writeGathered() {
+  KNI_ReturnInt(-1);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_socket_Protocol_listen0() {
+  KNI_ReturnInt(-1);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_socket_Protocol_accept0() {
+  KNI_ReturnInt(-1);
+}
+
 jint Java_com_sun_cldc_io_j2me_socket_Protocol_available0(Thread *) {
   return (jint) 0;
 }
@@ -575,6 +1346,39 @@ jint Java_com_sun_cldc_io_j2me_socket_Protocol_available0(Thread *) {
 void Java_com_sun_cldc_io_j2me_socket_Protocol_close0(Thread *) {
 }
 
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_datagram_Protocol_open0() {
+  KNI_ReturnInt(-1);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_datagram_Protocol_getIpNumber0() {
+  KNI_ReturnInt(0);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_datagram_Protocol_send0() {
+  KNI_ReturnInt(-1);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_datagram_Protocol_receive0() {
+  KNI_ReturnInt(-1);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_datagram_Protocol_sendBatch0() {
+  KNI_ReturnInt(-1);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_datagram_Protocol_receiveBatch0() {
+  KNI_ReturnInt(-1);
+}
+
+void Java_com_sun_cldc_io_j2me_datagram_Protocol_close0(Thread *) {
+}
+
 void JVMSPI_CheckEvents(JVMSPI_BlockedThreadInfo *blocked_threads,
                         int blocked_threads_count,
                         jlong timeout) {
@@ -1375,6 +1375,22 @@ int Java_com_sun_cldc_io_ResourceInputStream_bytesRemain() {
   return fd().bytes_remain();
 }
 
+// static native int entryLength(Object fileDecoder);
+int Java_com_sun_cldc_io_ResourceInputStream_entryLength() {
+  FileDecoder::Raw fd = GET_PARAMETER_AS_OOP(1);
+  return fd().file_size();
+}
+
+// static native int entryOffset(Object fileDecoder);
+int Java_com_sun_cldc_io_ResourceInputStream_entryOffset() {
+  FileDecoder::Raw fd = GET_PARAMETER_AS_OOP(1);
+  if (fd().is_inflater()) {
+    // Compressed or romized resource, the bytes aren't in a file as such
+    return -1;
+  }
+  return fd().file_pos() - (fd().file_size() - fd().bytes_remain());
+}
+
 // static native int readByte(Object fileDecoder);
 int Java_com_sun_cldc_io_ResourceInputStream_readByte(JVM_SINGLE_ARG_TRAPS) {
   UsingFastOops fast_oops;
@@ -1406,6 +1422,165 @@ ReturnOop Java_com_sun_cldc_io_ResourceInputStream_clone(JVM_SINGLE_ARG_TRAPS) {
   return ObjectHeap::clone(GET_PARAMETER_AS_OOP(1) JVM_NO_CHECK_AT_BOTTOM);
 }
 
+// com.sun.cldc.i18n.j2me natives
+
+// Decodes UTF-8 bytes into UTF-16 chars. Malformed and truncated sequences
+// are replaced by U+FFFD; each one consumes at least one byte, so the result
+// never has more chars than the input has bytes. If dst is NULL the chars
+// are only counted.
+static int utf8_decode(const jubyte* src, int len, jchar* dst) {
+  const jubyte* const end = src + len;
+  int count = 0;
+
+  while (src < end) {
+    // Fast path for runs of ASCII
+    if (*src < 0x80) {
+      if (dst != NULL) {
+        do {
+          dst[count++] = (jchar)*src++;
+        } while (src < end && *src < 0x80);
+      } else {
+        do {
+          count++;
+          src++;
+        } while (src < end && *src < 0x80);
+      }
+      continue;
+    }
+
+    const juint c = *src++;
+    int need;
+    juint cp, min;
+    if ((c & 0xE0) == 0xC0) {
+      need = 1; cp = c & 0x1F; min = 0x80;
+    } else if ((c & 0xF0) == 0xE0) {
+      need = 2; cp = c & 0x0F; min = 0x800;
+    } else if ((c & 0xF8) == 0xF0) {
+      need = 3; cp = c & 0x07; min = 0x10000;
+    } else {
+      // Stray continuation byte or invalid lead byte
+      need = 0; cp = 0xFFFD; min = 0;
+    }
+
+    for (; need > 0 && src < end && (*src & 0xC0) == 0x80; need--) {
+      cp = (cp << 6) | (*src++ & 0x3F);
+    }
+    if (need > 0 || cp < min || cp > 0x10FFFF ||
+        (cp >= 0xD800 && cp <= 0xDFFF)) {
+      cp = 0xFFFD;
+    }
+
+    if (cp >= 0x10000) {
+      if (dst != NULL) {
+        cp -= 0x10000;
+        dst[count]     = (jchar)(0xD800 + (cp >> 10));
+        dst[count + 1] = (jchar)(0xDC00 + (cp & 0x3FF));
+      }
+      count += 2;
+    } else {
+      if (dst != NULL) {
+        dst[count] = (jchar)cp;
+      }
+      count++;
+    }
+  }
+  return count;
+}
+
+// Encodes UTF-16 chars as UTF-8. A surrogate pair becomes one 4-byte
+// sequence, an unpaired surrogate becomes '?'. At most 3 bytes are stored
+// per char. If dst is NULL the bytes are only counted.
+static int utf8_encode(const jchar* src, int len, jubyte* dst) {
+  const jchar* const end = src + len;
+  int count = 0;
+
+  while (src < end) {
+    juint c = *src++;
+    if (c < 0x80) {
+      if (dst != NULL) {
+        dst[count] = (jubyte)c;
+      }
+      count++;
+    } else if (c < 0x800) {
+      if (dst != NULL) {
+        dst[count]     = (jubyte)(0xC0 | (c >> 6));
+        dst[count + 1] = (jubyte)(0x80 | (c & 0x3F));
+      }
+      count += 2;
+    } else if (c < 0xD800 || c > 0xDFFF) {
+      if (dst != NULL) {
+        dst[count]     = (jubyte)(0xE0 | (c >> 12));
+        dst[count + 1] = (jubyte)(0x80 | ((c >> 6) & 0x3F));
+        dst[count + 2] = (jubyte)(0x80 | (c & 0x3F));
+      }
+      count += 3;
+    } else if (c <= 0xDBFF && src < end && *src >= 0xDC00 && *src <= 0xDFFF) {
+      c = ((c - 0xD800) << 10) + (*src++ - 0xDC00) + 0x10000;
+      if (dst != NULL) {
+        dst[count]     = (jubyte)(0xF0 | (c >> 18));
+        dst[count + 1] = (jubyte)(0x80 | ((c >> 12) & 0x3F));
+        dst[count + 2] = (jubyte)(0x80 | ((c >> 6) & 0x3F));
+        dst[count + 3] = (jubyte)(0x80 | (c & 0x3F));
+      }
+      count += 4;
+    } else {
+      if (dst != NULL) {
+        dst[count] = (jubyte)'?';
+      }
+      count++;
+    }
+  }
+  return count;
+}
+
+// public static native int decode(byte src[], int srcOff, int srcLen,
+//                                 char dst[], int dstOff);
+jint Java_com_sun_cldc_i18n_j2me_UTF_18_1Reader_decode() {
+  TypeArray::Raw src = GET_PARAMETER_AS_OOP(1);
+  const int src_off = KNI_GetParameterAsInt(2);
+  const int src_len = KNI_GetParameterAsInt(3);
+  TypeArray::Raw dst = GET_PARAMETER_AS_OOP(4);
+  const int dst_off = KNI_GetParameterAsInt(5);
+  AllocationDisabler raw_pointers_used_below;
+
+  return utf8_decode(src().ubyte_base_address() + src_off, src_len,
+                     dst().char_base_address() + dst_off);
+}
+
+// public static native int decodedLength(byte src[], int srcOff, int srcLen);
+jint Java_com_sun_cldc_i18n_j2me_UTF_18_1Reader_decodedLength() {
+  TypeArray::Raw src = GET_PARAMETER_AS_OOP(1);
+  const int src_off = KNI_GetParameterAsInt(2);
+  const int src_len = KNI_GetParameterAsInt(3);
+  AllocationDisabler raw_pointers_used_below;
+
+  return utf8_decode(src().ubyte_base_address() + src_off, src_len, NULL);
+}
+
+// public static native int encode(char src[], int srcOff, int srcLen,
+//                                 byte dst[], int dstOff);
+jint Java_com_sun_cldc_i18n_j2me_UTF_18_1Writer_encode() {
+  TypeArray::Raw src = GET_PARAMETER_AS_OOP(1);
+  const int src_off = KNI_GetParameterAsInt(2);
+  const int src_len = KNI_GetParameterAsInt(3);
+  TypeArray::Raw dst = GET_PARAMETER_AS_OOP(4);
+  const int dst_off = KNI_GetParameterAsInt(5);
+  AllocationDisabler raw_pointers_used_below;
+
+  return utf8_encode(src().char_base_address() + src_off, src_len,
+                     dst().ubyte_base_address() + dst_off);
+}
+
+// public static native int encodedLength(char src[], int srcOff, int srcLen);
+jint Java_com_sun_cldc_i18n_j2me_UTF_18_1Writer_encodedLength() {
+  TypeArray::Raw src = GET_PARAMETER_AS_OOP(1);
+  const int src_off = KNI_GetParameterAsInt(2);
+  const int src_len = KNI_GetParameterAsInt(3);
+  AllocationDisabler raw_pointers_used_below;
+
+  return utf8_encode(src().char_base_address() + src_off, src_len, NULL);
+}
+
 #if ENABLE_CLDC_11
 
 // native void initializeWeakReference(Object referent);
@@ -1572,6 +1747,53 @@ jlong Java_com_sun_cldchi_jvm_JVM_monotonicTimeMillis() {
   return Os::monotonic_time_millis();
 }
 
+// public static native String decodeUTF(byte src[], int offset, int length);
+ReturnOop Java_com_sun_cldchi_jvm_JVM_decodeUTF(JVM_SINGLE_ARG_TRAPS) {
+  UsingFastOops fast_oops;
+  TypeArray::Fast src = GET_PARAMETER_AS_OOP(1);
+  const int offset = KNI_GetParameterAsInt(2);
+  const int length = KNI_GetParameterAsInt(3);
+  GUARANTEE(offset >= 0 && length >= 0 && offset + length <= src().length(),
+            "caller must check bounds");
+
+  const int count = Symbol::get_unicode_chars(
+                      src().ubyte_base_address() + offset, length, NULL);
+  if (count < 0) {
+    return NULL;
+  }
+  TypeArray::Fast chars = Universe::new_char_array_raw(count JVM_CHECK_0);
+  Symbol::get_unicode_chars(src().ubyte_base_address() + offset, length,
+                            chars().char_base_address());
+  return Universe::new_string(&chars, 0, count JVM_NO_CHECK_AT_BOTTOM);
+}
+
+// public static native int utfLength(String str);
+jint Java_com_sun_cldchi_jvm_JVM_utfLength() {
+  String::Raw str = GET_PARAMETER_AS_OOP(1);
+  TypeArray::Raw value = str().value();
+  AllocationDisabler raw_pointers_used_below;
+
+  return Symbol::utf8_length(value().char_base_address() + str().offset(),
+                             str().count());
+}
+
+// public static native int encodeUTF(String str, byte dst[], int offset);
+jint Java_com_sun_cldchi_jvm_JVM_encodeUTF() {
+  String::Raw str = GET_PARAMETER_AS_OOP(1);
+  TypeArray::Raw dst = GET_PARAMETER_AS_OOP(2);
+  const int offset = KNI_GetParameterAsInt(3);
+  TypeArray::Raw value = str().value();
+  AllocationDisabler raw_pointers_used_below;
+
+  const jchar* chars = value().char_base_address() + str().offset();
+  GUARANTEE(offset >= 0 && offset + Symbol::utf8_length(chars, str().count())
+            <= dst().length(), "caller must check bounds");
+  utf8 start = (utf8)dst().ubyte_base_address() + offset;
+  utf8 p = start;
+  Symbol::put_unicode_chars(p, chars, str().count());
+  return offset + (p - start);
+}
+
 } // extern "C"
 
 #if (!ROMIZING) || (!defined(PRODUCT))
@@ -206,6 +206,37 @@ Java_com_sun_cldc_io_j2me_socket_Protocol_writeBuf() {
   KNI_ReturnInt(result);
 }
 
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_socket_Protocol_writeGathered() {
+  void *handle = (void*)KNI_GetParameterAsInt(1);
+  int offset1 = KNI_GetParameterAsInt(3);
+  int length1 = KNI_GetParameterAsInt(4);
+  int offset2 = KNI_GetParameterAsInt(6);
+  int length2 = KNI_GetParameterAsInt(7);
+  int result;
+
+  // PCSL has no gathered write, so this is two writes
+  KNI_StartHandles(2);
+  {
+    KNI_DeclareHandle(buffer1_object);
+    KNI_DeclareHandle(buffer2_object);
+    KNI_GetParameterAsObject(2, buffer1_object);
+    KNI_GetParameterAsObject(5, buffer2_object);
+    char *buffer1 = (char *) SNI_GetRawArrayPointer(buffer1_object) + offset1;
+    result = do_pcsl_write(handle, buffer1, length1);
+    if (result == length1 && length2 > 0) {
+      char *buffer2 =
+          (char *) SNI_GetRawArrayPointer(buffer2_object) + offset2;
+      int result2 = do_pcsl_write(handle, buffer2, length2);
+      if (result2 > 0) {
+        result += result2;
+      }
+    }
+  }
+  KNI_EndHandles();
+  KNI_ReturnInt(result);
+}
+
 KNIEXPORT KNI_RETURNTYPE_INT
 Java_com_sun_cldc_io_j2me_socket_Protocol_writeByte() {
   void *handle = (void*)KNI_GetParameterAsInt(1);
@@ -214,6 +245,17 @@ Java_com_sun_cldc_io_j2me_socket_Protocol_writeByte() {
   return do_pcsl_write(handle, &byte, 1);
 }
 
+// Server sockets are not used by CLDC TCK
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_socket_Protocol_listen0() {
+  KNI_ReturnInt(-1);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_socket_Protocol_accept0() {
+  KNI_ReturnInt(-1);
+}
+
 KNIEXPORT KNI_RETURNTYPE_INT
 Java_com_sun_cldc_io_j2me_socket_Protocol_available0() {
   // unsupported. Not used by CLDC TCK
@@ -233,6 +275,41 @@ Java_com_sun_cldc_io_j2me_socket_Protocol_close0() {
 }
 
 
+// Datagrams are not used by CLDC TCK
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_datagram_Protocol_open0() {
+  KNI_ReturnInt(-1);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_datagram_Protocol_getIpNumber0() {
+  KNI_ReturnInt(0);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_datagram_Protocol_send0() {
+  KNI_ReturnInt(-1);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_datagram_Protocol_receive0() {
+  KNI_ReturnInt(-1);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_datagram_Protocol_sendBatch0() {
+  KNI_ReturnInt(-1);
+}
+
+KNIEXPORT KNI_RETURNTYPE_INT
+Java_com_sun_cldc_io_j2me_datagram_Protocol_receiveBatch0() {
+  KNI_ReturnInt(-1);
+}
+
+KNIEXPORT KNI_RETURNTYPE_VOID
+Java_com_sun_cldc_io_j2me_datagram_Protocol_close0() {
+}
+
 /*
  * This function is called by the VM periodically. It has to check if
  * any of the blocked threads are ready for execution, and call
@@ -96,10 +96,25 @@ int FileDecoder::get_bytes(ArrayPointer* destination, int count JVM_TRAPS) {
 }
 
 int FileDecoder::get_bytes_raw(address dest_address, int count) {
+  int pos = file_pos();
+#if USE_JAR_FILE_MAPPING
+  address mapping = mapped_address();
+  if (mapping != NULL) {
+    // Copy straight out of the JAR file mapping, without a seek and
+    // a read through the stdio buffer.
+    int available = mapped_length() - pos;
+    if (count > available) {
+      count = available > 0 ? available : 0;
+    }
+    jvm_memcpy(dest_address, mapping + pos, count);
+    set_file_pos(pos + count);
+    return count;
+  }
+#endif
+
   OsFile_Handle handle = file_handle();
   GUARANTEE(handle != NULL, "What are we reading from?");
 
-  int pos = file_pos();
   OsFile_seek(handle, pos, SEEK_SET);
   int bytes_read = OsFile_read(handle, dest_address, 1, count);
   set_file_pos(pos + bytes_read);
@@ -119,6 +134,9 @@ ReturnOop FileDecoder::get_jar_parser_if_needed(JVM_SINGLE_ARG_TRAPS) {
       // FileDecoder may be GC'ed already. We might get a new
       // JarFileParser here, thus we switch to its file handle.
       set_file_handle(result().handle());
+#if USE_JAR_FILE_MAPPING
+      set_mapping(result().mapped_address(), result().mapped_length());
+#endif
     } else if (!CURRENT_HAS_PENDING_EXCEPTION) {
       // This happens when system may have too many open files. This is 
       // probably happening when a ResourceInputStream has been idle for
@@ -42,6 +42,14 @@ protected:
   static int file_handle_offset() {
     return FIELD_OFFSET(FileDecoderDesc, _file_handle);
   }
+#if USE_JAR_FILE_MAPPING
+  static int mapped_address_offset() {
+    return FIELD_OFFSET(FileDecoderDesc, _mapped_address);
+  }
+  static int mapped_length_offset() {
+    return FIELD_OFFSET(FileDecoderDesc, _mapped_length);
+  }
+#endif
   static int file_pos_offset() {
     return FIELD_OFFSET(FileDecoderDesc, _file_pos);
   }
@@ -70,6 +78,20 @@ public:
     int_field_put(file_handle_offset(), (int) value);
   }
 
+#if USE_JAR_FILE_MAPPING
+  address mapped_address() {
+    guarantee_jar_file_handle();
+    return (address) int_field(mapped_address_offset());
+  }
+  int mapped_length() {
+    return int_field(mapped_length_offset());
+  }
+  void set_mapping(address value, int length) {
+    int_field_put(mapped_address_offset(), (int) value);
+    int_field_put(mapped_length_offset(), length);
+  }
+#endif
+
   ReturnOop jar_file_name() {
     return obj_field(jar_file_name_offset());
   }
@@ -91,6 +91,13 @@ void oop_write_barrier(OopDesc** addr, OopDesc* value) {
     ObjectHeap::set_bit_for(addr);
     GUARANTEE(ObjectHeap::test_bit_for(addr), "sanity check");
   }
+#if USE_INCREMENTAL_MARKING
+  // Incremental marking needs to see stores of older objects as well
+  else if (ObjectHeap::incremental_marking_active() &&
+           addr < old_generation_end && heap_start <= addr) {
+    ObjectHeap::set_bit_for(addr);
+  }
+#endif
 }
 #endif
 
@@ -420,6 +427,17 @@ void ObjectHeap::mark_root_and_stack(OopDesc** p) {
     if (RemoteTracePort > 0) {
       RemoteTracer::update_stats((OopDesc*)obj);
     }
+#endif
+#if USE_PARALLEL_MARKING
+    if( _defer_marking ) {
+      // The marking threads follow the root later, see mark_in_parallel()
+      if( _marking_stack_top == _marking_stack_end ) {
+        _marking_stack_overflow = true;
+      } else {
+        *_marking_stack_top++ = (OopDesc*)obj;
+      }
+      return;
+    }
 #endif
     // No marking stack overflow is possible here
     *_marking_stack_top++ = (OopDesc*)obj;
@@ -255,6 +255,17 @@ ReturnOop JarFileParser::get(const JvmPathChar* jar_file_name1,
   desc().set_handle(fh);
   bf().set_file_pointer(fh);
   bf().set_file_size(fh == NULL ? 0 : OsFile_length(fh));
+#if USE_JAR_FILE_MAPPING
+  {
+    const int file_size = bf().file_size();
+    address mapping = OsFile_MapFile(jar_file_name1 != NULL ? jar_file_name1 :
+                        (JvmPathChar *)jar_file_name2->byte_base_address(),
+                        file_size);
+    if (mapping != NULL) {
+      desc().set_mapping(mapping, file_size);
+    }
+  }
+#endif
   parser().set_file_descriptor(&desc);
   parser().set_enable_entry_cache(enable_entry_cache);
   parser().set_pathname(&stored_name);
@@ -364,6 +375,19 @@ OsFile_Handle JarFileParser::handle() const {
   return desc().handle();
 }
 
+#if USE_JAR_FILE_MAPPING
+address JarFileParser::mapped_address() const {
+  FileDescriptor::Raw desc = file_descriptor();
+  GUARANTEE(desc().valid(), "sanity");
+  return desc().mapped_address();
+}
+
+jint JarFileParser::mapped_length() const {
+  FileDescriptor::Raw desc = file_descriptor();
+  return desc().mapped_length();
+}
+#endif
+
 void JarFileParser::dispose() const {
   FileDescriptor::Raw desc = file_descriptor();
   desc().dispose();
@@ -1460,8 +1484,10 @@ ReturnOop FileDescriptor::allocate(JVM_SINGLE_ARG_TRAPS) {
   if (!UseROM && Universe::before_main()) {
     // Just put in a dummy object with enough space to hold all the fields
     // of a FileDescriptor. This will be fixed up in
-    // JarFileParser::fix_bootstrap().
-    return Universe::new_byte_array_raw(4 JVM_NO_CHECK_AT_BOTTOM);
+    // JarFileParser::fix_bootstrap(). The array length takes the space
+    // of the first field, so the object sizes match.
+    return Universe::new_byte_array_raw(3 * sizeof(jobject)
+                                        JVM_NO_CHECK_AT_BOTTOM);
   } else {
     return Universe::new_instance(Universe::file_descriptor_class()
                                   JVM_NO_CHECK_AT_BOTTOM);
@@ -1475,6 +1501,12 @@ void FileDescriptor::set_handle(OsFile_Handle value) {
 
 void FileDescriptor::dispose() {
   if (valid()) {
+#if USE_JAR_FILE_MAPPING
+    if (mapped_address() != NULL) {
+      OsFile_UnmapFile(mapped_address(), mapped_length());
+      set_mapping(NULL, 0);
+    }
+#endif
     OsFile_close(handle());
     set_valid(false);
 #ifdef AZZERT
@@ -36,6 +36,12 @@ public:
   static int valid_offset() {
     return header_size() + sizeof(jobject);
   }
+  static int mapped_address_offset() {
+    return header_size() + 2 * sizeof(jobject);
+  }
+  static int mapped_length_offset() {
+    return header_size() + 3 * sizeof(jobject);
+  }
 
 public:
   jint valid() const {
@@ -50,6 +56,19 @@ public:
   }
   void set_handle(OsFile_Handle value);
 
+  // The read-only mapping of the whole file, or NULL if the file
+  // isn't mapped (see OsFile_MapFile).
+  address mapped_address() const {
+    return (address)int_field(mapped_address_offset());
+  }
+  jint mapped_length() const {
+    return int_field(mapped_length_offset());
+  }
+  void set_mapping(address value, jint length) {
+    int_field_put(mapped_address_offset(), (int)value);
+    int_field_put(mapped_length_offset(), length);
+  }
+
   static ReturnOop allocate(JVM_SINGLE_ARG_TRAPS);
   void dispose();
 };
@@ -231,6 +250,10 @@ public:
 #endif
 
   OsFile_Handle handle() const;
+#if USE_JAR_FILE_MAPPING
+  address mapped_address() const;
+  jint mapped_length() const;
+#endif
 
   static ReturnOop get(const JvmPathChar* jar_file_name,
                        bool enable_entry_cache JVM_TRAPS) {
@@ -0,0 +1,91 @@
+/*
+ *   
+ *
+ * Copyright  1990-2007 Sun Microsystems, Inc. All Rights Reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License version
+ * 2 only, as published by the Free Software Foundation.
+ * 
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License version 2 for more details (a copy is
+ * included at /legal/license.txt).
+ * 
+ * You should have received a copy of the GNU General Public License
+ * version 2 along with this work; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA
+ * 
+ * Please contact Sun Microsystems, Inc., 4150 Network Circle, Santa
+ * Clara, CA 95054 or visit www.sun.com if you need additional
+ * information or have any questions.
+ */
+
+
+# include "incls/_precompiled.incl"
+# include "incls/_LinkObj.cpp.incl"
+
+void LinkObj::close(JVM_SINGLE_ARG_TRAPS) {
+  UsingFastOops fast_oops;
+  LinkObj::Fast other = peer();
+
+  set_is_closed(1);
+  remove_from_task();
+  if (other.not_null()) {
+    other().set_is_closed(1);
+    other().remove_from_task();
+    // The receiving end keeps its pending messages, so that they can
+    // still be received after the link has been closed.
+    other().set_peer((OopDesc*)NULL);
+    set_peer((OopDesc*)NULL);
+  }
+  Scheduler::notify(this, /*all=*/true, /*must_be_owner=*/false JVM_CHECK);
+  if (other.not_null()) {
+    Scheduler::notify(&other, /*all=*/true, /*must_be_owner=*/false
+                      JVM_NO_CHECK_AT_BOTTOM);
+  }
+}
+
+void LinkObj::remove_from_task( void ) {
+  if (is_receiving_end() && !is_accepted()) {
+    // Still to be returned by Link.acceptLink(), which removes it
+    return;
+  }
+  UsingFastOops fast_oops;
+  Task::Fast task = Task::get_task(is_receiving_end() ? receiver() : sender());
+  if (task.is_null()) {
+    return;
+  }
+  LinkObj::Fast link = task().links();
+  LinkObj::Fast prev;
+  while (link.not_null()) {
+    if (link.equals(this)) {
+      LinkObj::Raw next = link().next();
+      if (prev.is_null()) {
+        task().set_links(&next);
+      } else {
+        prev().set_next(&next);
+      }
+      set_next((OopDesc*)NULL);
+      return;
+    }
+    prev = link.obj();
+    link = link().next();
+  }
+}
+
+void LinkObj::close_task_links(Task* task JVM_TRAPS) {
+  UsingFastOops fast_oops;
+  LinkObj::Fast link = task->links();
+  LinkObj::Fast next;
+
+  task->clear_links();
+  for (; link.not_null(); link = next.obj()) {
+    next = link().next();
+    link().set_next((OopDesc*)NULL);
+    link().close(JVM_SINGLE_ARG_CHECK);
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ *   
+ *
+ * Copyright  1990-2007 Sun Microsystems, Inc. All Rights Reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER
+ * 
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License version
+ * 2 only, as published by the Free Software Foundation.
+ * 
+ * This program is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License version 2 for more details (a copy is
+ * included at /legal/license.txt).
+ * 
+ * You should have received a copy of the GNU General Public License
+ * version 2 along with this work; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA
+ * 
+ * Please contact Sun Microsystems, Inc., 4150 Network Circle, Santa
+ * Clara, CA 95054 or visit www.sun.com if you need additional
+ * information or have any questions.
+ */
+
+
+// Interface to com.sun.cldc.isolate.Link objects
+//
+// Each end of a link is a Link object owned by the task at that end, and
+// is kept in the link list of its task (see Task::links()). The two ends
+// refer to each other through the peer field, which is never visible to
+// Java code. The queue of pending messages is kept in the receiving end
+// and is only modified by native code, where thread switch cannot happen.
+
+class LinkObj : public Instance {
+public:
+  HANDLE_DEFINITION(LinkObj, Instance);
+
+  #define FIELD(name, index, kind, inner, outer)                              \
+    static int name##_offset() { return header_size() + index * sizeof(jint);}\
+    inner name(void) const { return kind##_field(name##_offset()); }          \
+    void set_##name(outer value) { kind##_field_put(name##_offset(), value);}
+
+  #define INT_FIELD(name, index)   FIELD(name, index, int, jint, const jint)
+
+  #define OBJ_FIELD(name, index, type) \
+    FIELD(name, index, obj, ReturnOop, type*)                                 \
+    void set_##name(OopDesc* value) { obj_field_put(name##_offset(), value);}
+
+  INT_FIELD ( id,                   0 )
+  INT_FIELD ( sender,               1 )
+  INT_FIELD ( receiver,             2 )
+  INT_FIELD ( is_closed,            3 )
+  INT_FIELD ( is_accepted,          4 )
+  OBJ_FIELD ( peer,                 5, LinkObj    )
+  OBJ_FIELD ( next,                 6, LinkObj    )
+  OBJ_FIELD ( messages,             7, ObjArray   )
+  INT_FIELD ( head,                 8 )
+  INT_FIELD ( count,                9 )
+  INT_FIELD ( pending_bytes,       10 )
+
+  #undef FIELD
+  #undef INT_FIELD
+  #undef OBJ_FIELD
+
+  bool is_receiving_end( void ) const {
+    return messages() != NULL;
+  }
+
+  // Closes both ends of this link, removes them from the link lists of
+  // their tasks and wakes up all threads waiting on either end.
+  void close(JVM_SINGLE_ARG_TRAPS);
+
+  // Removes this end from the link list of the task that owns it, unless
+  // it is a receiving end that has not been accepted yet.
+  void remove_from_task( void );
+
+  // Closes all links of a terminating task, which also detaches the other
+  // ends from the objects of this task.
+  static void close_task_links(class Task* task JVM_TRAPS);
+};
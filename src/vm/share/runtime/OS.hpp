@@ -99,6 +99,23 @@ class Os {
   static void initialize();
   static void dispose();
 
+#if USE_PARALLEL_MARKING
+  // Returns the number of processors that are currently online.
+  static int processor_count();
+
+  // Calls do_work(0, n) on the calling thread and do_work(1, n) ...
+  // do_work(n - 1, n) on helper threads, and returns n when all of the
+  // calls have returned. n is at most count, and is 1 if no helper
+  // thread can be started. The helper threads are kept for later calls
+  // and are stopped by dispose().
+  static int run_gc_workers(void do_work(int worker, int worker_count),
+                            int count);
+
+  // Lets another thread run on this processor. Called by an idle GC
+  // worker that is waiting for the others.
+  static void yield_gc_worker();
+#endif
+
 #if ENABLE_DYNAMIC_NATIVE_METHODS || ENABLE_JVMPI_PROFILE
   static void* loadLibrary(const char* libName);
   static void* getSymbol(void* handle, const char* name);
@@ -106,6 +106,20 @@ bool OsFile_UnmapImage(OsFile_MappedImageHandle  mapped_image);
 
 #endif // USE_IMAGE_MAPPING
 
+#if USE_JAR_FILE_MAPPING
+
+/*
+ * Map the first <length> bytes of the given file read-only, for reading
+ * JAR file entries by JarFileParser.cpp and FileDecoder.cpp.
+ *
+ * Returns the address of the first byte of the file, or NULL if the file
+ * cannot be mapped. The caller then reads the file with OsFile_read().
+ */
+address OsFile_MapFile(const JvmPathChar* name, int length);
+void OsFile_UnmapFile(address mapped_address, int length);
+
+#endif // USE_JAR_FILE_MAPPING
+
 #ifdef __cplusplus
 }
 #endif
@@ -42,6 +42,7 @@ OopDesc*   Scheduler::_gc_global_head;
 OopDesc*   Scheduler::_gc_current_thread = NULL;
 
 int        Scheduler::_estimated_event_readiness = 0;
+int        Scheduler::_timer_count = 0;
 bool       Scheduler::_timer_has_ticked = false;
 bool       Scheduler::_slave_mode_yielding = false;
 jlong      Scheduler::_slave_mode_timeout = -2;
@@ -492,6 +493,7 @@ ReturnOop Scheduler::add_sync_thread(Thread* thread, Thread *pending_waiters,
 }
 
 void Scheduler::remove_waiting_thread(Thread* thread) {
+  remove_from_timers(thread);
   Thread::Raw list;
   JavaOop obj = thread->wait_obj();
   if (obj.is_null()) {
@@ -553,16 +555,124 @@ void Scheduler::add_to_sleeping(Thread* thread) {
   thread->set_status((thread->status() &
                         ~THREAD_NOT_ACTIVE_MASK) | THREAD_SLEEPING);
 #endif
-  // First list is the sleep queue.
-  Thread::Raw current = Universe::scheduler_waiting();
-  Thread::Raw next = current().next();
-  while(next.not_null()) {
-    current = next;
-    next = next().next();
-  }
-  current().set_next(thread);
-  thread->clear_next();
+  // First list is the sleep queue. The order of sleepers doesn't matter,
+  // the timer heap decides who wakes up first.
+  Thread* sleep_queue = Universe::scheduler_waiting();
+  Thread::Raw next = sleep_queue->next();
+  thread->set_next(&next);
+  sleep_queue->set_next(thread);
   thread->clear_wait_obj();
+  add_to_timers(thread);
+}
+
+// Threads with a non-zero wakeup_time are also kept in a binary min-heap
+// ordered by wakeup_time, so the earliest deadline is always at the top.
+// Each thread records its 1-based heap position in timer_index (0 if it's
+// not queued), which lets notify() and interrupt() cancel a timeout
+// without searching. Universe::scheduler_timers() is grown together with
+// the blocked threads buffer, so inserting never allocates.
+
+void Scheduler::add_to_timers(Thread* thread) {
+  GUARANTEE(thread->timer_index() == 0, "Thread already in timer heap");
+  GUARANTEE(thread->wakeup_time() != 0, "Thread has no timeout");
+  GUARANTEE(_timer_count < Universe::scheduler_timers()->length(),
+            "Timer heap should have been allocated");
+  _timer_count++;
+  timers_sift_up(thread, _timer_count);
+}
+
+void Scheduler::remove_from_timers(Thread* thread) {
+  const int index = thread->timer_index();
+  if (index == 0) {
+    return;
+  }
+  thread->set_timer_index(0);
+
+  ObjArray* timers = Universe::scheduler_timers();
+  GUARANTEE(thread->equals(timers->obj_at(index - 1)), "Timer heap corrupt");
+  Thread::Raw last = timers->obj_at(_timer_count - 1);
+  timers->obj_at_clear(_timer_count - 1);
+  _timer_count--;
+  if (index <= _timer_count) {
+    // Move the last entry into the hole and restore the heap order
+    Thread::Raw parent;
+    if (index > 1) {
+      parent = timers->obj_at(index / 2 - 1);
+    }
+    if (parent.not_null() && parent().wakeup_time() > last().wakeup_time()) {
+      timers_sift_up(&last, index);
+    } else {
+      timers_sift_down(&last, index);
+    }
+  }
+}
+
+void Scheduler::timers_sift_up(Thread* thread, int index) {
+  ObjArray* timers = Universe::scheduler_timers();
+  const jlong wakeup = thread->wakeup_time();
+  Thread::Raw parent;
+  while (index > 1) {
+    parent = timers->obj_at(index / 2 - 1);
+    if (parent().wakeup_time() <= wakeup) {
+      break;
+    }
+    timers->obj_at_put(index - 1, &parent);
+    parent().set_timer_index(index);
+    index /= 2;
+  }
+  timers->obj_at_put(index - 1, thread);
+  thread->set_timer_index(index);
+}
+
+void Scheduler::timers_sift_down(Thread* thread, int index) {
+  ObjArray* timers = Universe::scheduler_timers();
+  const jlong wakeup = thread->wakeup_time();
+  Thread::Raw child, right;
+  for (;;) {
+    int child_index = index * 2;
+    if (child_index > _timer_count) {
+      break;
+    }
+    child = timers->obj_at(child_index - 1);
+    if (child_index < _timer_count) {
+      right = timers->obj_at(child_index);
+      if (right().wakeup_time() < child().wakeup_time()) {
+        child = right.obj();
+        child_index++;
+      }
+    }
+    if (wakeup <= child().wakeup_time()) {
+      break;
+    }
+    timers->obj_at_put(index - 1, &child);
+    child().set_timer_index(index);
+    index = child_index;
+  }
+  timers->obj_at_put(index - 1, thread);
+  thread->set_timer_index(index);
+}
+
+// Grow the timer heap so it can hold target_count threads. If the
+// allocation fails the old heap is kept and the OOME is left pending.
+void Scheduler::allocate_timers(int target_count JVM_TRAPS) {
+  ObjArray* timers = Universe::scheduler_timers();
+  const int current_count = timers->is_null() ? 0 : timers->length();
+  GUARANTEE(current_count < target_count, "Timer heap only grows");
+  if (target_count - current_count < 4) {
+    target_count = current_count + 4;
+  }
+
+  UsingFastOops fast_oops;
+  // scheduler_timers is shared between isolates
+  const int task = ObjectHeap::start_system_allocation();
+  ObjArray::Fast new_timers = Universe::new_obj_array(target_count JVM_NO_CHECK);
+  ObjectHeap::finish_system_allocation( task );
+  if (new_timers.not_null()) {
+    for (int i = 0; i < _timer_count; i++) {
+      new_timers().obj_at_put(i, timers->obj_at(i));
+    }
+    *timers = new_timers;
+  }
 }
 
 #if ENABLE_ISOLATES
@@ -687,31 +797,24 @@ void Scheduler::wake_up_timed_out_sleepers(JVM_SINGLE_ARG_TRAPS) {
     }
   }
 
-  // Wake up all sleeping threads that have timed out.
+  // Wake up all sleeping threads that have timed out. The timer heap
+  // keeps the earliest deadline at the top, so we stop at the first
+  // thread that is not due yet.
   jlong time = Os::monotonic_time_millis();
-  GUARANTEE(Universe::scheduler_waiting() != NULL, "Sleep queue at front");
   UsingFastOops fast_oops;
-  Thread::Fast this_waiting, next_waiting;
-  Thread::Fast this_thread, next_thread;
-  this_waiting = Universe::scheduler_waiting();
-  while (!this_waiting.is_null()) {
-    next_waiting = this_waiting().next_waiting();
-    this_thread = this_waiting;
-    while (!this_thread.is_null()) {
-      next_thread = this_thread().next();
-      if ((this_thread().wakeup_time()) != 0 && 
-          (time >= this_thread().wakeup_time())) {
-        if (TraceThreadsExcessive) {
-          TTY_TRACE_CR(("wakeup_timed_out_sleepers: signaling thread 0x%x"
-                        " (id=%d)", (int)this_thread().obj(),
-                        this_thread().id()));
-        }
-        remove_waiting_thread(&this_thread);
-        notify_wakeup(&this_thread JVM_CHECK);
-      }
-      this_thread = next_thread;
+  Thread::Fast this_thread;
+  while (_timer_count > 0) {
+    this_thread = Universe::scheduler_timers()->obj_at(0);
+    if (time < this_thread().wakeup_time()) {
+      break;
     }
-    this_waiting = next_waiting;
+    if (TraceThreadsExcessive) {
+      TTY_TRACE_CR(("wakeup_timed_out_sleepers: signaling thread 0x%x"
+                    " (id=%d)", (int)this_thread().obj(),
+                    this_thread().id()));
+    }
+    remove_waiting_thread(&this_thread);
+    notify_wakeup(&this_thread JVM_CHECK);
   }
 }
 
@@ -723,6 +826,7 @@ bool Scheduler::initialize() {
   _async_count = 0;
   _exit_async_pending = 0;
   _priority_queue_valid = 0;
+  _timer_count = 0;
 #if ENABLE_ISOLATES
   if (TaskPriorityScale < 0 || TaskPriorityScale >= TASK_PRIORITY_SCALE_MAX) {
     TaskPriorityScale = TASK_PRIORITY_SCALE_MAX - 1;
@@ -915,7 +1019,11 @@ void Scheduler::wait_for(Thread* thread, jlong timeout) {
       wakeup = max_jlong;
     }
   }
+  remove_from_timers(thread);
   thread->set_wakeup_time(wakeup);
+  if (wakeup != 0) {
+    add_to_timers(thread);
+  }
 
   if (Thread::current()->equals(thread)) {
     yield();
@@ -1083,8 +1191,6 @@ void Scheduler::yield() {
       slave_mode_wait_for_event_or_timer(0);
     }
   } else {
-    Thread::Raw wait_thrd;
-    Thread::Raw t;
     if (TraceThreadsExcessive) {
       TTY_TRACE_CR(("yield: no runnable threads"));
     }
@@ -1092,18 +1198,10 @@ void Scheduler::yield() {
       // All threads are waiting for something. Let's sleep until one
       // of them wakes up.
       jlong min_wakeup_time = max_jlong;
-      bool sleeper_found = false;
-      wait_thrd = Universe::scheduler_waiting();
-      while (!wait_thrd.is_null()) {
-        t = wait_thrd.obj();
-        while (!t.is_null()) {
-          if (t().wakeup_time() != 0) {
-            min_wakeup_time = min(min_wakeup_time, t().wakeup_time());
-            sleeper_found = true;
-          }
-          t = t().next();
-        }
-        wait_thrd = wait_thrd().next_waiting();
+      const bool sleeper_found = (_timer_count > 0);
+      if (sleeper_found) {
+        Thread::Raw t = Universe::scheduler_timers()->obj_at(0);
+        min_wakeup_time = t().wakeup_time();
       }
 
       // Must check here before calling wait_for_event... since slave mode
@@ -1403,6 +1501,13 @@ void Scheduler::allocate_blocked_threads_buffer(int target_count JVM_TRAPS) {
   GUARANTEE(!_jvm_in_quick_native_method,
             "SNI functions not allowed in quick native methods");
 
+  // Any live thread may also sleep or do a timed wait. The timer heap
+  // never shrinks, so this allocates only when a thread is being started.
+  if (Universe::scheduler_timers()->is_null() ||
+      Universe::scheduler_timers()->length() < target_count) {
+    allocate_timers(target_count JVM_CHECK);
+  }
+
   int current_count = 0;
   const int unit_size = sizeof(JVMSPI_BlockedThreadInfo);
   if (!Universe::blocked_threads_buffer()->is_null()) {
@@ -2055,6 +2160,11 @@ extern "C" void switch_thread(Thread* thread) {
       "Should not switch threads when throwing exception from quick native");
   
   SETUP_ERROR_CHECKER_ARG;
+#if USE_INCREMENTAL_MARKING
+  if (ObjectHeap::incremental_marking_active()) {
+    ObjectHeap::incremental_marking_step();
+  }
+#endif
   if (Scheduler::_yield_on_thread_switch) {
     // We need to call yield() after Scheduler::block_current_thread() is
     // called. yield() may cause JVMSPI_CheckEvent() to be called, and the
@@ -170,6 +170,14 @@ private:
   static void remove_waiting_thread(Thread* thread);
   static void add_to_sleeping(Thread* thread);
   static void wake_up_timed_out_sleepers(JVM_SINGLE_ARG_TRAPS);
+
+  // Binary min-heap of sleeping and timed-waiting threads, ordered by
+  // wakeup_time and stored in Universe::scheduler_timers().
+  static void add_to_timers(Thread* thread);
+  static void remove_from_timers(Thread* thread);
+  static void timers_sift_up(Thread* thread, int index);
+  static void timers_sift_down(Thread* thread, int index);
+  static void allocate_timers(int target_count JVM_TRAPS);
   static void check_blocked_threads(jlong timeout);
   static bool wait_for_event_or_timer(bool sleeper_found,
                                       jlong min_wakeup_time);
@@ -219,6 +227,7 @@ private:
   static jlong    _slave_mode_timeout;
   static bool     _timer_has_ticked;
   static int      _estimated_event_readiness;
+  static int      _timer_count;
 
 #if ENABLE_PERFORMANCE_COUNTERS
   static jlong    _slave_mode_yield_start_time;
@@ -542,6 +542,7 @@ void Task::terminate_current_isolate(Thread *thread JVM_TRAPS) {
   UsingFastOops fast_oops;
   IsolateObj::Fast isolate_obj = primary_isolate_obj();
   isolate_obj().mark_equivalent_isolates_as_terminated(JVM_SINGLE_ARG_CHECK);
+  LinkObj::close_task_links(this JVM_CHECK);
 
   // This is a bit extreme. We could just flush the caches associated
   // with the current task, but most likely this doesn't matter.  
@@ -1045,6 +1046,7 @@ void Task::iterate_oopmaps(oopmaps_doer do_map, void *param) {
   OOPMAP_ENTRY_4(do_map, param, T_OBJECT, special_thread);
   OOPMAP_ENTRY_4(do_map, param, T_OBJECT, primary_isolate_obj);
   OOPMAP_ENTRY_4(do_map, param, T_OBJECT, seen_isolates);
+  OOPMAP_ENTRY_4(do_map, param, T_OBJECT, links);
   OOPMAP_ENTRY_4(do_map, param, T_OBJECT, transport);
   OOPMAP_ENTRY_4(do_map, param, T_OBJECT, class_list);
 
@@ -276,6 +276,10 @@ private:
     return FIELD_OFFSET(TaskDesc, _seen_isolates);
   }
 
+  static int links_offset() {
+    return FIELD_OFFSET(TaskDesc, _links);
+  }
+
   static int class_count_offset() {
     return FIELD_OFFSET(TaskDesc, _class_count);
   }
@@ -571,6 +575,24 @@ public:
     set_seen_isolates(iso);
   }
 
+  ReturnOop links( void ) const {
+    return obj_field(links_offset());
+  }
+  void clear_links( void ) {
+    obj_field_clear(links_offset());
+  }
+  void set_links(Oop* value) {
+    obj_field_put(links_offset(), value);
+  }
+  void set_links(OopDesc* value) {
+    obj_field_put(links_offset(), value);
+  }
+  void add_link(LinkObj *link) {
+    LinkObj::Raw head = links();
+    link->set_next(&head);
+    set_links(link);
+  }
+
   ReturnOop transport(void) const {
     return obj_field(transport_offset());
   }
@@ -956,6 +956,7 @@ void Thread::iterate_oopmaps(oopmaps_doer do_map, void *param) {
   OOPMAP_ENTRY_4(do_map, param, T_INT,    suspend_count);
   OOPMAP_ENTRY_4(do_map, param, T_INT,    int1_value);
   OOPMAP_ENTRY_4(do_map, param, T_INT,    int2_value);
+  OOPMAP_ENTRY_4(do_map, param, T_INT,    timer_index);
   OOPMAP_ENTRY_4(do_map, param, T_INT,    task_id);
   OOPMAP_ENTRY_4(do_map, param, T_OBJECT, profiler_info);
 #if ENABLE_JNI
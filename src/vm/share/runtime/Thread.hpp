@@ -125,6 +125,9 @@ class Thread: public Oop {
   static jint int2_value_offset() {
     return FIELD_OFFSET(ThreadDesc, _int2_value);
   }
+  static jint timer_index_offset() {
+    return FIELD_OFFSET(ThreadDesc, _timer_index);
+  }
   static jint async_info_offset() {
     return FIELD_OFFSET(ThreadDesc, _async_info);
   }
@@ -408,6 +411,14 @@ class Thread: public Oop {
     long_field_put(wakeup_time_offset(), value);
   }
 
+  // Accessors for the position in the Scheduler timer heap (0 = not queued)
+  jint timer_index() const {
+    return int_field(timer_index_offset());
+  }
+  void set_timer_index(jint value) {
+    int_field_put(timer_index_offset(), value);
+  }
+
   // Accessors for stack_pointer
   jint stack_pointer() {
     return int_field(stack_pointer_offset());
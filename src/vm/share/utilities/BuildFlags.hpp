@@ -964,6 +964,12 @@
 // SUPPORTS_PROFILER_CONTROL          Is the Os::profiler_control() API
 //                                    implemented?
 //
+// SUPPORTS_PARALLEL_MARKING          Does this OS port implement the
+//                                    Os::run_gc_workers() and
+//                                    Os::yield_gc_worker() APIs, and does
+//                                    its compiler provide the GCC atomic
+//                                    builtins and __thread variables?
+//
 // HOST_LITTLE_ENDIAN                 Is the development host a little-endian
 //                                    architecture?
 
@@ -987,6 +993,10 @@
 #define SUPPORTS_MONOTONIC_CLOCK 0
 #endif
 
+#ifndef SUPPORTS_PARALLEL_MARKING
+#define SUPPORTS_PARALLEL_MARKING 0
+#endif
+
 #ifndef SUPPORTS_DIRECTORIES
 #define SUPPORTS_DIRECTORIES 1
 #endif
@@ -1062,6 +1072,50 @@
 #  endif
 #endif
 
+// USE_JAR_FILE_MAPPING               Map the JAR files on the classpath
+//                                    read-only, so that stored (uncompressed)
+//                                    entries are copied straight out of the
+//                                    mapping instead of with seek and read.
+//                                    Compressed entries are inflated from
+//                                    the mapping as well.
+
+#ifndef USE_JAR_FILE_MAPPING
+#if SUPPORTS_MEMORY_MAPPED_FILES && ENABLE_MEMORY_MAPPED_FILES
+#  define USE_JAR_FILE_MAPPING  1
+#else
+#  define USE_JAR_FILE_MAPPING  0
+#endif
+#endif
+
+// USE_PARALLEL_MARKING               Let full collections trace the heap
+//                                    with several threads, each with its
+//                                    own part of the marking stack (see
+//                                    ParallelMarkingThreads). Young
+//                                    collections are always marked by the
+//                                    VM thread.
+
+#ifndef USE_PARALLEL_MARKING
+#if SUPPORTS_PARALLEL_MARKING && !ENABLE_THUMB_LIBC_GLUE
+#  define USE_PARALLEL_MARKING  1
+#else
+#  define USE_PARALLEL_MARKING  0
+#endif
+#endif
+
+// USE_INCREMENTAL_MARKING            Let the old generation be marked in
+//                                    small steps at thread switches, so
+//                                    that full collections only remark
+//                                    and compact (see UseIncrementalMarking).
+//                                    Not available with isolates.
+
+#ifndef USE_INCREMENTAL_MARKING
+#if !ENABLE_ISOLATES
+#  define USE_INCREMENTAL_MARKING  1
+#else
+#  define USE_INCREMENTAL_MARKING  0
+#endif
+#endif
+
 // USE_DEBUG_PRINTING                 Include code to print various internal
 //                                    data structures and symbolic definitions
 //                                    in the VM. This feature can be turned off
@@ -1675,6 +1675,9 @@ typedef class OopDesc* ReturnOop;
                                    "Romization must be done in a fresh VM " \
                                    "(or fresh Task in MVM mode") \
  template(isolate_already_started, "Isolate already started") \
+ template(link_closed,             "Link closed") \
+ template(link_message_too_large,  "Link message exceeds receiver memory " \
+                                   "limit") \
  /* MethodTrap-specific messages */ \
  template(no_more_free_slots,      "No more free slots") \
  template(invalid_method,          "Invalid method name") \
@@ -2405,8 +2408,20 @@ extern int   jvm_shutdown(int s, int how);
 extern void* jvm_gethostbyname(const char *name);
 extern int   jvm_connect(int  sockfd, const void* serv_addr, int addrlen);
 extern unsigned short  jvm_htons(unsigned short hostshort);
+extern unsigned short  jvm_ntohs(unsigned short netshort);
+extern unsigned int    jvm_htonl(unsigned int hostlong);
+extern unsigned int    jvm_ntohl(unsigned int netlong);
+extern int   jvm_bind(int sockfd, const void* my_addr, int addrlen);
+extern int   jvm_listen(int s, int backlog);
+extern int   jvm_accept(int s, void *addr, void *addrlen);
+extern int   jvm_setsockopt(int s, int level, int optname, const void *optval,
+                            int optlen);
 extern int   jvm_recv(int s, void *buf, int len, int flags);
 extern int   jvm_send(int s, const void *msg, int len, int flags);
+extern int   jvm_recvfrom(int s, void *buf, int len, int flags,
+                          void *from, void *fromlen);
+extern int   jvm_sendto(int s, const void *msg, int len, int flags,
+                        const void *to, int tolen);
 extern int   jvm_select(int n, void *readfds, void *writefds, void *exceptfds,
                         void *timeout);
 
@@ -2498,6 +2513,13 @@ extern void  jvm_slow_sort(void *base, int nmemb, int size,
 #define jvm_gethostbyname gethostbyname
 #define jvm_connect     connect
 #define jvm_htons       htons
+#define jvm_ntohs       ntohs
+#define jvm_htonl       htonl
+#define jvm_ntohl       ntohl
+#define jvm_bind        bind
+#define jvm_listen      listen
+#define jvm_accept      accept
+#define jvm_setsockopt  setsockopt
 #define jvm_fcntl       fcntl
 #define jvm_open        open
 #define jvm_close       close
@@ -2505,6 +2527,8 @@ extern void  jvm_slow_sort(void *base, int nmemb, int size,
 #define jvm_shutdown    shutdown
 #define jvm_recv        recv
 #define jvm_send        send
+#define jvm_recvfrom    recvfrom
+#define jvm_sendto      sendto
 #define jvm_select      select
 #define jvm_mmap        mmap
 #define jvm_munmap      munmap
@@ -201,6 +201,18 @@ private:
   develop(bool, YoungGenerationAtEndOfHeap, false,                          \
           "Put young generation at end of the heap")                        \
                                                                             \
+  product(bool, UseAdaptiveYoungGeneration, false,                          \
+          "Resize the young generation after each young GC to meet "        \
+          "MaxGCPauseMillis and GCTimePercentage")                          \
+                                                                            \
+  product(int, MaxGCPauseMillis, 10,                                        \
+          "Pause time goal of young GCs in milliseconds, used if "          \
+          "UseAdaptiveYoungGeneration is set")                              \
+                                                                            \
+  product(int, GCTimePercentage, 5,                                         \
+          "Goal for the share of run time spent in young GCs, used if "     \
+          "UseAdaptiveYoungGeneration is set")                              \
+                                                                            \
   develop(int, MimimumMarkingStackSize, 2 * 1024,                           \
           "Minimum number of elements available on marking stack")          \
                                                                             \
@@ -419,6 +431,36 @@ private:
 #define MEMORY_MONITOR_RUNTIME_FLAGS(develop, product)
 #endif
 
+#if USE_PARALLEL_MARKING
+#define PARALLEL_MARKING_RUNTIME_FLAGS(develop, product)                    \
+  product(bool, UseParallelMarking, false,                                  \
+          "Mark the heap with several threads in full collections")         \
+                                                                            \
+  product(int, ParallelMarkingThreads, 0,                                   \
+          "Number of threads that mark the heap when UseParallelMarking "   \
+          "is set, at most one per online processor. 0 means one thread "   \
+          "per online processor")
+#else
+#define PARALLEL_MARKING_RUNTIME_FLAGS(develop, product)
+#endif
+
+#if USE_INCREMENTAL_MARKING
+#define INCREMENTAL_MARKING_RUNTIME_FLAGS(develop, product)                 \
+  product(bool, UseIncrementalMarking, false,                               \
+          "Mark the old generation in small steps at thread switches, so "  \
+          "that full collections only need to remark and compact")          \
+                                                                            \
+  product(int, IncrementalMarkingThreshold, 50,                             \
+          "Start incremental marking after a young collection once the "    \
+          "old generation takes this percentage of the heap")               \
+                                                                            \
+  product(int, IncrementalMarkingStep, 2000,                                \
+          "Maximum number of objects marked at a thread switch when "       \
+          "UseIncrementalMarking is set")
+#else
+#define INCREMENTAL_MARKING_RUNTIME_FLAGS(develop, product)
+#endif
+
 #if ENABLE_METHOD_EXECUTION_TRACE
 #define METHOD_EXECUTION_TRACE_RUNTIME_FLAGS(develop, product)              \
   product(bool, UseMethodExecutionTrace, false,                             \
@@ -981,6 +1023,8 @@ private:
       PROFILER_RUNTIME_FLAGS(develop, product)              \
       EVENT_LOGGER_RUNTIME_FLAGS(develop, product)          \
       MEMORY_MONITOR_RUNTIME_FLAGS(develop, product)        \
+      PARALLEL_MARKING_RUNTIME_FLAGS(develop, product)      \
+      INCREMENTAL_MARKING_RUNTIME_FLAGS(develop, product)   \
       METHOD_EXECUTION_TRACE_RUNTIME_FLAGS(develop, product)\
       ROM_GENERATOR_FLAGS(develop, product)                 \
       PERFORMANCE_COUNTERS_RUNTIME_FLAGS(develop, product)  \